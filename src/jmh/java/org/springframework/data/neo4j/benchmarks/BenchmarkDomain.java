@@ -0,0 +1,252 @@
+/*
+ * Copyright 2011-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.benchmarks;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.data.neo4j.core.mapping.Neo4jMappingContext;
+import org.springframework.data.neo4j.core.schema.DynamicLabels;
+import org.springframework.data.neo4j.core.schema.GeneratedValue;
+import org.springframework.data.neo4j.core.schema.Id;
+import org.springframework.data.neo4j.core.schema.Node;
+import org.springframework.data.neo4j.core.schema.Relationship;
+import org.springframework.data.neo4j.core.schema.RelationshipId;
+import org.springframework.data.neo4j.core.schema.RelationshipProperties;
+import org.springframework.data.neo4j.core.schema.TargetNode;
+
+/**
+ * The domain used throughout the benchmarks. It covers the shapes that dominate mapping and save costs: Entities with
+ * many properties, deep trees of the same type, dynamic labels and relationships with properties.
+ *
+ * @author agent
+ */
+public final class BenchmarkDomain {
+
+	/**
+	 * @return A fully initialized mapping context containing all entities of the benchmark domain
+	 */
+	public static Neo4jMappingContext createMappingContext() {
+
+		Neo4jMappingContext mappingContext = new Neo4jMappingContext();
+		mappingContext.setInitialEntitySet(Set.of(WideEntity.class, TreeNode.class, DynamicLabelsEntity.class,
+				Actor.class, Movie.class, Role.class));
+		mappingContext.initialize();
+		return mappingContext;
+	}
+
+	/**
+	 * @param index Used to make the values distinct
+	 * @return A new wide entity with all properties populated
+	 */
+	public static WideEntity newWideEntity(int index) {
+
+		WideEntity entity = new WideEntity();
+		entity.string1 = "s1-" + index;
+		entity.string2 = "s2-" + index;
+		entity.string3 = "s3-" + index;
+		entity.string4 = "s4-" + index;
+		entity.string5 = "s5-" + index;
+		entity.string6 = "s6-" + index;
+		entity.string7 = "s7-" + index;
+		entity.string8 = "s8-" + index;
+		entity.string9 = "s9-" + index;
+		entity.string10 = "s10-" + index;
+		entity.long1 = index;
+		entity.long2 = index + 2L;
+		entity.long3 = index + 3L;
+		entity.long4 = index + 4L;
+		entity.long5 = index + 5L;
+		entity.long6 = index + 6L;
+		entity.long7 = index + 7L;
+		entity.long8 = index + 8L;
+		entity.long9 = index + 9L;
+		entity.long10 = index + 10L;
+		entity.double1 = index / 1.0;
+		entity.double2 = index / 2.0;
+		entity.double3 = index / 3.0;
+		entity.double4 = index / 4.0;
+		entity.double5 = index / 5.0;
+		entity.bool1 = index % 2 == 0;
+		entity.bool2 = index % 3 == 0;
+		entity.bool3 = index % 5 == 0;
+		entity.date = LocalDate.of(2024, 1, 1).plusDays(index % 365);
+		entity.tags = List.of("a", "b", "c");
+		return entity;
+	}
+
+	/**
+	 * @param depth   The number of levels below the root
+	 * @param breadth The number of children of each node
+	 * @return The root of a new tree
+	 */
+	public static TreeNode newTree(int depth, int breadth) {
+
+		TreeNode node = new TreeNode();
+		node.name = "d" + depth;
+		node.children = new ArrayList<>();
+		if (depth > 0) {
+			for (int i = 0; i < breadth; ++i) {
+				node.children.add(newTree(depth - 1, breadth));
+			}
+		}
+		return node;
+	}
+
+	/**
+	 * @param numberOfMovies The number of movies the actor played in
+	 * @return A new actor with roles in as many new movies
+	 */
+	public static Actor newActor(int numberOfMovies) {
+
+		Actor actor = new Actor();
+		actor.name = "Actor";
+		actor.roles = new ArrayList<>();
+		for (int i = 0; i < numberOfMovies; ++i) {
+			Movie movie = new Movie();
+			movie.title = "Movie " + i;
+			Role role = new Role();
+			role.movie = movie;
+			role.name = "Role " + i;
+			actor.roles.add(role);
+		}
+		return actor;
+	}
+
+	/**
+	 * An entity with lots of simple properties.
+	 */
+	@Node
+	public static class WideEntity {
+
+		@Id @GeneratedValue
+		public String id;
+
+		public String string1;
+		public String string2;
+		public String string3;
+		public String string4;
+		public String string5;
+		public String string6;
+		public String string7;
+		public String string8;
+		public String string9;
+		public String string10;
+
+		public long long1;
+		public long long2;
+		public long long3;
+		public long long4;
+		public long long5;
+		public long long6;
+		public long long7;
+		public long long8;
+		public long long9;
+		public long long10;
+
+		public double double1;
+		public double double2;
+		public double double3;
+		public double double4;
+		public double double5;
+
+		public boolean bool1;
+		public boolean bool2;
+		public boolean bool3;
+
+		public LocalDate date;
+
+		public List<String> tags;
+	}
+
+	/**
+	 * A self-referencing entity, used to build deep relationship trees.
+	 */
+	@Node
+	public static class TreeNode {
+
+		@Id @GeneratedValue
+		public String id;
+
+		public String name;
+
+		@Relationship("CHILD")
+		public List<TreeNode> children;
+	}
+
+	/**
+	 * An entity with additional labels that are not known upfront.
+	 */
+	@Node
+	public static class DynamicLabelsEntity {
+
+		@Id @GeneratedValue
+		public String id;
+
+		public String name;
+
+		@DynamicLabels
+		public Set<String> labels = new HashSet<>();
+	}
+
+	/**
+	 * The source of relationships with properties.
+	 */
+	@Node
+	public static class Actor {
+
+		@Id @GeneratedValue
+		public String id;
+
+		public String name;
+
+		@Relationship("ACTED_IN")
+		public List<Role> roles;
+	}
+
+	/**
+	 * The target of relationships with properties.
+	 */
+	@Node
+	public static class Movie {
+
+		@Id @GeneratedValue
+		public String id;
+
+		public String title;
+	}
+
+	/**
+	 * The relationship with properties between {@link Actor actors} and {@link Movie movies}.
+	 */
+	@RelationshipProperties
+	public static class Role {
+
+		@RelationshipId
+		public String id;
+
+		@TargetNode
+		public Movie movie;
+
+		public String name;
+	}
+
+	private BenchmarkDomain() {
+	}
+}
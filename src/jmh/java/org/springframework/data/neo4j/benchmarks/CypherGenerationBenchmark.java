@@ -0,0 +1,101 @@
+/*
+ * Copyright 2011-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.UnaryOperator;
+
+import org.neo4j.cypherdsl.core.renderer.Renderer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.neo4j.benchmarks.BenchmarkDomain.Actor;
+import org.springframework.data.neo4j.benchmarks.BenchmarkDomain.DynamicLabelsEntity;
+import org.springframework.data.neo4j.benchmarks.BenchmarkDomain.TreeNode;
+import org.springframework.data.neo4j.benchmarks.BenchmarkDomain.WideEntity;
+import org.springframework.data.neo4j.core.mapping.CypherGenerator;
+import org.springframework.data.neo4j.core.mapping.Neo4jMappingContext;
+import org.springframework.data.neo4j.core.mapping.Neo4jPersistentEntity;
+
+/**
+ * Measures generating and rendering the statements used for saving and loading entities, without any caching applied.
+ *
+ * @author agent
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CypherGenerationBenchmark {
+
+	private final CypherGenerator cypherGenerator = CypherGenerator.INSTANCE;
+
+	private final Renderer renderer = Renderer.getDefaultRenderer();
+
+	private Neo4jPersistentEntity<?> wideEntity;
+
+	private Neo4jPersistentEntity<?> dynamicLabelsEntity;
+
+	private Neo4jPersistentEntity<?> treeNode;
+
+	private Neo4jPersistentEntity<?> actor;
+
+	@Setup
+	public void setup() {
+
+		Neo4jMappingContext mappingContext = BenchmarkDomain.createMappingContext();
+		this.wideEntity = mappingContext.getRequiredPersistentEntity(WideEntity.class);
+		this.dynamicLabelsEntity = mappingContext.getRequiredPersistentEntity(DynamicLabelsEntity.class);
+		this.treeNode = mappingContext.getRequiredPersistentEntity(TreeNode.class);
+		this.actor = mappingContext.getRequiredPersistentEntity(Actor.class);
+	}
+
+	@Benchmark
+	public String prepareSaveOfWideEntity() {
+		return renderer.render(cypherGenerator.prepareSaveOf(wideEntity, UnaryOperator.identity(), true));
+	}
+
+	@Benchmark
+	public String lookupOfDynamicLabels() {
+		return renderer.render(cypherGenerator.createStatementReturningDynamicLabels(dynamicLabelsEntity));
+	}
+
+	@Benchmark
+	public String prepareSaveOfMultipleInstances() {
+		return renderer.render(cypherGenerator.prepareSaveOfMultipleInstancesOf(wideEntity));
+	}
+
+	@Benchmark
+	public String prepareMatchOfDeepRelationshipTree() {
+		return renderer.render(cypherGenerator.prepareMatchOf(treeNode)
+				.returning(cypherGenerator.createReturnStatementForMatch(treeNode)).build());
+	}
+
+	@Benchmark
+	public String prepareMatchWithRelationshipProperties() {
+		return renderer.render(cypherGenerator.prepareMatchOf(actor)
+				.returning(cypherGenerator.createReturnStatementForMatch(actor)).build());
+	}
+}
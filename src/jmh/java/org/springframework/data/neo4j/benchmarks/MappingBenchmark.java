@@ -0,0 +1,100 @@
+/*
+ * Copyright 2011-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.neo4j.driver.Record;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.neo4j.benchmarks.BenchmarkDomain.Actor;
+import org.springframework.data.neo4j.benchmarks.BenchmarkDomain.DynamicLabelsEntity;
+import org.springframework.data.neo4j.benchmarks.BenchmarkDomain.TreeNode;
+import org.springframework.data.neo4j.benchmarks.BenchmarkDomain.WideEntity;
+import org.springframework.data.neo4j.core.mapping.Neo4jMappingContext;
+
+/**
+ * Measures reading synthetic records into entities. Each invocation uses a converter with fresh mapping state, the
+ * same way each query does.
+ *
+ * @author agent
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MappingBenchmark {
+
+	@Param({ "3" })
+	int treeDepth;
+
+	@Param({ "4" })
+	int treeBreadth;
+
+	@Param({ "25" })
+	int numberOfRelationships;
+
+	private Neo4jMappingContext mappingContext;
+
+	private Record wideEntity;
+
+	private Record tree;
+
+	private Record dynamicLabels;
+
+	private Record actorWithRoles;
+
+	@Setup
+	public void setup() {
+
+		this.mappingContext = BenchmarkDomain.createMappingContext();
+		this.wideEntity = SyntheticRecords.wideEntity();
+		this.tree = SyntheticRecords.tree(treeDepth, treeBreadth);
+		this.dynamicLabels = SyntheticRecords.dynamicLabels(5);
+		this.actorWithRoles = SyntheticRecords.actorWithRoles(numberOfRelationships);
+	}
+
+	@Benchmark
+	public WideEntity readWideEntity() {
+		return mappingContext.getEntityConverter().read(WideEntity.class, wideEntity);
+	}
+
+	@Benchmark
+	public TreeNode readDeepRelationshipTree() {
+		return mappingContext.getEntityConverter().read(TreeNode.class, tree);
+	}
+
+	@Benchmark
+	public DynamicLabelsEntity readDynamicLabels() {
+		return mappingContext.getEntityConverter().read(DynamicLabelsEntity.class, dynamicLabels);
+	}
+
+	@Benchmark
+	public Actor readRelationshipProperties() {
+		return mappingContext.getEntityConverter().read(Actor.class, actorWithRoles);
+	}
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2011-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.benchmarks;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.neo4j.benchmarks.BenchmarkDomain.Actor;
+import org.springframework.data.neo4j.benchmarks.BenchmarkDomain.TreeNode;
+import org.springframework.data.neo4j.benchmarks.BenchmarkDomain.WideEntity;
+import org.springframework.data.neo4j.core.mapping.Neo4jMappingContext;
+import org.springframework.data.neo4j.core.mapping.NestedRelationshipProcessingStateMachine;
+import org.springframework.data.neo4j.core.mapping.RelationshipDescription;
+
+/**
+ * Measures the parts of saving an entity that happen on the client: Binding entities to parameters and keeping track
+ * of the relationships already processed while cascading through a tree.
+ *
+ * @author agent
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SaveOrchestrationBenchmark {
+
+	@Param({ "3" })
+	int treeDepth;
+
+	@Param({ "4" })
+	int treeBreadth;
+
+	private Neo4jMappingContext mappingContext;
+
+	private WideEntity wideEntity;
+
+	private Actor actor;
+
+	private TreeNode tree;
+
+	private RelationshipDescription childRelationship;
+
+	@Setup
+	public void setup() {
+
+		this.mappingContext = BenchmarkDomain.createMappingContext();
+		this.wideEntity = BenchmarkDomain.newWideEntity(42);
+		this.actor = BenchmarkDomain.newActor(25);
+		this.tree = BenchmarkDomain.newTree(treeDepth, treeBreadth);
+		this.childRelationship = mappingContext.getRequiredPersistentEntity(TreeNode.class).getRelationships()
+				.iterator().next();
+	}
+
+	@Benchmark
+	public Map<String, Object> bindWideEntity() {
+		return mappingContext.getRequiredBinderFunctionFor(WideEntity.class).apply(wideEntity);
+	}
+
+	@Benchmark
+	public Map<String, Object> bindEntityWithRelationshipProperties() {
+		Function<Actor, Map<String, Object>> binderFunction = mappingContext.getRequiredBinderFunctionFor(Actor.class);
+		return binderFunction.apply(actor);
+	}
+
+	@Benchmark
+	public NestedRelationshipProcessingStateMachine processDeepRelationshipTree() {
+
+		NestedRelationshipProcessingStateMachine stateMachine = new NestedRelationshipProcessingStateMachine(
+				mappingContext, tree, "0");
+		process(stateMachine, tree, "0", new long[] {1});
+		return stateMachine;
+	}
+
+	/**
+	 * Drives the state machine the same way the templates do when cascading the save of a node to its children.
+	 */
+	private void process(NestedRelationshipProcessingStateMachine stateMachine, TreeNode node, String elementId, long[] ids) {
+
+		NestedRelationshipProcessingStateMachine.ProcessState state = stateMachine.getStateOf(elementId,
+				childRelationship, node.children);
+		if (state == NestedRelationshipProcessingStateMachine.ProcessState.PROCESSED_BOTH) {
+			return;
+		}
+		stateMachine.markRelationshipAsProcessed(elementId, childRelationship);
+		for (TreeNode child : node.children) {
+			if (stateMachine.hasProcessedValue(child)) {
+				continue;
+			}
+			String childElementId = Long.toString(ids[0]++);
+			stateMachine.markEntityAsProcessed(child, childElementId);
+			process(stateMachine, child, childElementId, ids);
+		}
+	}
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2011-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.benchmarks;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.neo4j.driver.Record;
+import org.neo4j.driver.Value;
+import org.neo4j.driver.Values;
+import org.neo4j.driver.internal.InternalNode;
+import org.neo4j.driver.internal.InternalRecord;
+import org.neo4j.driver.internal.InternalRelationship;
+import org.neo4j.driver.internal.value.NodeValue;
+import org.neo4j.driver.internal.value.RelationshipValue;
+import org.springframework.data.neo4j.core.mapping.Constants;
+
+/**
+ * Creates records in the shapes SDN queries return, built from driver values only, so that mapping can be measured
+ * without a server.
+ *
+ * @author agent
+ */
+public final class SyntheticRecords {
+
+	private static final String ROOT = Constants.NAME_OF_ROOT_NODE.getValue();
+
+	/**
+	 * @return A record with a single node containing 30 properties of various types
+	 */
+	public static Record wideEntity() {
+
+		Map<String, Value> properties = new HashMap<>();
+		for (int i = 1; i <= 10; ++i) {
+			properties.put("string" + i, Values.value("s" + i));
+			properties.put("long" + i, Values.value((long) i));
+		}
+		for (int i = 1; i <= 5; ++i) {
+			properties.put("double" + i, Values.value(i / 3.0));
+		}
+		for (int i = 1; i <= 3; ++i) {
+			properties.put("bool" + i, Values.value(i % 2 == 0));
+		}
+		properties.put("date", Values.value(LocalDate.of(2024, 1, 1)));
+		properties.put("tags", Values.value(List.of("a", "b", "c")));
+
+		Value node = new NodeValue(new InternalNode(1L, List.of("WideEntity"), properties));
+		return new InternalRecord(List.of(ROOT), new Value[] {node});
+	}
+
+	/**
+	 * @param depth   The number of levels below the root
+	 * @param breadth The number of children of each node
+	 * @return A record containing the root of a tree together with all related nodes and relationships, in the shape
+	 * used for domains that may contain cycles
+	 */
+	public static Record tree(int depth, int breadth) {
+
+		AtomicLong ids = new AtomicLong();
+		List<Value> nodes = new ArrayList<>();
+		List<Value> relationships = new ArrayList<>();
+
+		Value root = treeNode(ids.getAndIncrement(), depth);
+		addChildren(ids, 0L, depth, breadth, nodes, relationships);
+
+		return new InternalRecord(
+				List.of(ROOT, Constants.NAME_OF_SYNTHESIZED_RELATIONS, Constants.NAME_OF_SYNTHESIZED_RELATED_NODES),
+				new Value[] {root, Values.value(relationships), Values.value(nodes)});
+	}
+
+	private static void addChildren(AtomicLong ids, long parentId, int depth, int breadth, List<Value> nodes, List<Value> relationships) {
+
+		if (depth == 0) {
+			return;
+		}
+		for (int i = 0; i < breadth; ++i) {
+			long childId = ids.getAndIncrement();
+			nodes.add(treeNode(childId, depth - 1));
+			relationships.add(new RelationshipValue(new InternalRelationship(1_000_000L + childId, parentId, childId, "CHILD")));
+			addChildren(ids, childId, depth - 1, breadth, nodes, relationships);
+		}
+	}
+
+	private static Value treeNode(long id, int depth) {
+		return new NodeValue(new InternalNode(id, List.of("TreeNode"), Map.of("name", Values.value("d" + depth))));
+	}
+
+	/**
+	 * @param numberOfDynamicLabels The number of labels in addition to the static one
+	 * @return A record with a single node having dynamic labels
+	 */
+	public static Record dynamicLabels(int numberOfDynamicLabels) {
+
+		List<String> labels = new ArrayList<>();
+		labels.add("DynamicLabelsEntity");
+		for (int i = 0; i < numberOfDynamicLabels; ++i) {
+			labels.add("Label" + i);
+		}
+
+		Value node = new NodeValue(new InternalNode(1L, labels, Map.of("name", Values.value("n"))));
+		return new InternalRecord(List.of(ROOT), new Value[] {node});
+	}
+
+	/**
+	 * @param numberOfMovies The number of movies the actor played in
+	 * @return A record containing an actor together with the movies and the relationships having properties
+	 */
+	public static Record actorWithRoles(int numberOfMovies) {
+
+		List<Value> movies = new ArrayList<>();
+		List<Value> roles = new ArrayList<>();
+		for (int i = 1; i <= numberOfMovies; ++i) {
+			movies.add(new NodeValue(new InternalNode(i, List.of("Movie"), Map.of("title", Values.value("Movie " + i)))));
+			roles.add(new RelationshipValue(new InternalRelationship(1_000L + i, 0L, i, "ACTED_IN",
+					Map.of("name", Values.value("Role " + i)))));
+		}
+
+		Value actor = new NodeValue(new InternalNode(0L, List.of("Actor"), Map.of("name", Values.value("Actor"))));
+		return new InternalRecord(
+				List.of(ROOT, Constants.NAME_OF_SYNTHESIZED_RELATIONS, Constants.NAME_OF_SYNTHESIZED_RELATED_NODES),
+				new Value[] {actor, Values.value(roles), Values.value(movies)});
+	}
+
+	private SyntheticRecords() {
+	}
+}
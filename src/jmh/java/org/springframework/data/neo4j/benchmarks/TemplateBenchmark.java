@@ -0,0 +1,159 @@
+/*
+ * Copyright 2011-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.benchmarks;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.neo4j.driver.AuthTokens;
+import org.neo4j.driver.Driver;
+import org.neo4j.driver.GraphDatabase;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.neo4j.benchmarks.BenchmarkDomain.Actor;
+import org.springframework.data.neo4j.benchmarks.BenchmarkDomain.TreeNode;
+import org.springframework.data.neo4j.benchmarks.BenchmarkDomain.WideEntity;
+import org.springframework.data.neo4j.core.BulkSaveOptions;
+import org.springframework.data.neo4j.core.Neo4jClient;
+import org.springframework.data.neo4j.core.Neo4jTemplate;
+import org.springframework.data.neo4j.core.mapping.Neo4jMappingContext;
+import org.springframework.data.neo4j.core.transaction.Neo4jTransactionManager;
+import org.testcontainers.containers.Neo4jContainer;
+
+/**
+ * End-to-end benchmarks of the imperative template against a real database. Uses the same environment variables as
+ * the integration tests: When both {@code SDN_NEO4J_URL} and {@code SDN_NEO4J_PASSWORD} are set, that instance is used
+ * (and its content <strong>will</strong> be erased), otherwise a Neo4j container is started, based on
+ * {@code SDN_NEO4J_VERSION}.
+ *
+ * @author agent
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class TemplateBenchmark {
+
+	@Param({ "100" })
+	int numberOfEntities;
+
+	@Param({ "3" })
+	int treeDepth;
+
+	@Param({ "4" })
+	int treeBreadth;
+
+	private Neo4jContainer<?> neo4jContainer;
+
+	private Driver driver;
+
+	private Neo4jTemplate template;
+
+	private String treeId;
+
+	private String actorId;
+
+	@Setup(Level.Trial)
+	public void setup() {
+
+		String neo4jUrl = Optional.ofNullable(System.getenv("SDN_NEO4J_URL")).orElse("");
+		String neo4jPassword = Optional.ofNullable(System.getenv("SDN_NEO4J_PASSWORD")).orElse("").trim();
+
+		if (!(neo4jUrl.isEmpty() || neo4jPassword.isEmpty())) {
+			this.driver = GraphDatabase.driver(neo4jUrl, AuthTokens.basic("neo4j", neo4jPassword));
+		} else {
+			String imageVersion = Optional.ofNullable(System.getenv("SDN_NEO4J_VERSION")).orElse("5");
+			this.neo4jContainer = new Neo4jContainer<>("neo4j:" + imageVersion).withoutAuthentication();
+			this.neo4jContainer.start();
+			this.driver = GraphDatabase.driver(neo4jContainer.getBoltUrl(), AuthTokens.none());
+		}
+
+		Neo4jMappingContext mappingContext = BenchmarkDomain.createMappingContext();
+		this.template = new Neo4jTemplate(Neo4jClient.create(driver), mappingContext, new Neo4jTransactionManager(driver));
+
+		try (var session = driver.session()) {
+			session.run("MATCH (n) DETACH DELETE n").consume();
+		}
+		this.treeId = template.save(BenchmarkDomain.newTree(treeDepth, treeBreadth)).id;
+		this.actorId = template.save(BenchmarkDomain.newActor(25)).id;
+	}
+
+	@TearDown(Level.Iteration)
+	public void deleteSavedEntities() {
+
+		template.deleteAll(WideEntity.class);
+		try (var session = driver.session()) {
+			session.run("""
+					MATCH (n:TreeNode)
+					WHERE NOT EXISTS { MATCH (r:TreeNode)-[:CHILD*0..]->(n) WHERE elementId(r) = $treeId }
+					DETACH DELETE n""", Map.of("treeId", treeId)).consume();
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+
+		this.driver.close();
+		if (this.neo4jContainer != null) {
+			this.neo4jContainer.stop();
+		}
+	}
+
+	@Benchmark
+	public List<WideEntity> saveAll() {
+		return template.saveAll(newWideEntities());
+	}
+
+	@Benchmark
+	public List<WideEntity> saveAllInBatches() {
+		return template.saveAllInBatches(newWideEntities(), BulkSaveOptions.defaults());
+	}
+
+	@Benchmark
+	public Optional<TreeNode> findDeepRelationshipTree() {
+		return template.findById(treeId, TreeNode.class);
+	}
+
+	@Benchmark
+	public Optional<Actor> findRelationshipProperties() {
+		return template.findById(actorId, Actor.class);
+	}
+
+	@Benchmark
+	public TreeNode saveDeepRelationshipTree() {
+		return template.save(BenchmarkDomain.newTree(treeDepth, treeBreadth));
+	}
+
+	private List<WideEntity> newWideEntities() {
+		return IntStream.range(0, numberOfEntities).mapToObj(BenchmarkDomain::newWideEntity).toList();
+	}
+}
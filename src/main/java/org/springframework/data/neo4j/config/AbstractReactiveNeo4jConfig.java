@@ -15,6 +15,7 @@
  */
 package org.springframework.data.neo4j.config;
 
+import io.micrometer.observation.ObservationRegistry;
 import org.apiguardian.api.API;
 import org.neo4j.driver.Driver;
 import org.springframework.beans.factory.ObjectProvider;
@@ -51,6 +52,9 @@ public abstract class AbstractReactiveNeo4jConfig extends Neo4jConfigurationSupp
 	@Autowired
 	private ObjectProvider<Neo4jBookmarkManager> bookmarkManagerProviders;
 
+	@Autowired
+	private ObjectProvider<ObservationRegistry> observationRegistryProviders;
+
 	/**
 	 * The driver to be used for interacting with Neo4j.
 	 *
@@ -71,6 +75,7 @@ public abstract class AbstractReactiveNeo4jConfig extends Neo4jConfigurationSupp
 				.withDatabaseSelectionProvider(databaseSelectionProvider)
 				.withUserSelectionProvider(getUserSelectionProvider())
 				.withNeo4jBookmarkManager(getBootBookmarkManager())
+				.withObservationRegistry(this.observationRegistryProviders.getIfAvailable())
 				.build();
 	}
 
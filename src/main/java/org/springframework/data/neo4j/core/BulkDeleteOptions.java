@@ -0,0 +1,104 @@
+/*
+ * Copyright 2011-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.core;
+
+import java.util.Objects;
+
+import org.apiguardian.api.API;
+import org.springframework.util.Assert;
+
+/**
+ * Options for deleting a large number of nodes via {@link Neo4jOperations#deleteAllInBatches(Class, BulkDeleteOptions)}
+ * and {@link Neo4jOperations#deleteAllByIdInBatches(Iterable, Class, BulkDeleteOptions)}. The nodes are deleted on the
+ * server with {@code CALL { } IN TRANSACTIONS}, committing every {@link #getRowsPerTransaction()} nodes in an inner
+ * transaction of its own. Such statements are only allowed in implicit transactions, so bulk deletes never participate
+ * in an ongoing Spring transaction and nodes deleted by already committed inner transactions stay deleted if a later
+ * one fails.
+ *
+ * @author agent
+ * @since 7.4
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "7.4")
+public final class BulkDeleteOptions {
+
+	/**
+	 * The default number of nodes deleted in one inner transaction, the same as the server uses.
+	 */
+	public static final int DEFAULT_ROWS_PER_TRANSACTION = 1_000;
+
+	private static final BulkDeleteOptions DEFAULTS = new BulkDeleteOptions(DEFAULT_ROWS_PER_TRANSACTION);
+
+	/**
+	 * @return Options using the {@link #DEFAULT_ROWS_PER_TRANSACTION default number of rows} per inner transaction.
+	 */
+	public static BulkDeleteOptions defaults() {
+
+		return DEFAULTS;
+	}
+
+	/**
+	 * @param rowsPerTransaction The number of nodes to delete in one inner transaction, must be greater than 0
+	 * @return Options using the given number of rows per inner transaction.
+	 */
+	public static BulkDeleteOptions ofRowsPerTransaction(int rowsPerTransaction) {
+
+		return DEFAULTS.withRowsPerTransaction(rowsPerTransaction);
+	}
+
+	private final int rowsPerTransaction;
+
+	private BulkDeleteOptions(int rowsPerTransaction) {
+		this.rowsPerTransaction = rowsPerTransaction;
+	}
+
+	/**
+	 * @param newRowsPerTransaction The number of nodes to delete in one inner transaction, must be greater than 0
+	 * @return New options with the given number of rows per inner transaction
+	 */
+	public BulkDeleteOptions withRowsPerTransaction(int newRowsPerTransaction) {
+
+		Assert.isTrue(newRowsPerTransaction > 0, "The number of rows per transaction must be greater than 0");
+		return newRowsPerTransaction == this.rowsPerTransaction ? this : new BulkDeleteOptions(newRowsPerTransaction);
+	}
+
+	public int getRowsPerTransaction() {
+		return rowsPerTransaction;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (o == null || getClass() != o.getClass()) {
+			return false;
+		}
+		BulkDeleteOptions that = (BulkDeleteOptions) o;
+		return rowsPerTransaction == that.rowsPerTransaction;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(rowsPerTransaction);
+	}
+
+	@Override
+	public String toString() {
+		return "BulkDeleteOptions{" +
+				"rowsPerTransaction=" + rowsPerTransaction +
+				'}';
+	}
+}
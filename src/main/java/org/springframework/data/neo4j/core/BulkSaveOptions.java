@@ -0,0 +1,121 @@
+/*
+ * Copyright 2011-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.core;
+
+import java.util.Objects;
+
+import org.apiguardian.api.API;
+import org.springframework.util.Assert;
+
+/**
+ * Options for saving a large number of entities of the same type via
+ * {@link Neo4jOperations#saveAllInBatches(Iterable, BulkSaveOptions)}. The input is split into chunks of
+ * {@link #getBatchSize()} entities, each chunk being written with one {@code UNWIND} based statement per
+ * entity type. By default all chunks participate in the same (possibly already ongoing) transaction. With
+ * {@link #withCommitPerBatch(boolean)} each chunk is committed in a new transaction of its own, so that an error
+ * only rolls back the chunk it occurred in.
+ *
+ * @author agent
+ * @since 7.4
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "7.4")
+public final class BulkSaveOptions {
+
+	/**
+	 * The default number of entities written in one batch.
+	 */
+	public static final int DEFAULT_BATCH_SIZE = 1_000;
+
+	private static final BulkSaveOptions DEFAULTS = new BulkSaveOptions(DEFAULT_BATCH_SIZE, false);
+
+	/**
+	 * @return Options using the {@link #DEFAULT_BATCH_SIZE default batch size} and a single transaction.
+	 */
+	public static BulkSaveOptions defaults() {
+
+		return DEFAULTS;
+	}
+
+	/**
+	 * @param batchSize The number of entities to write in one batch, must be greater than 0
+	 * @return Options using the given batch size and a single transaction.
+	 */
+	public static BulkSaveOptions ofBatchSize(int batchSize) {
+
+		return DEFAULTS.withBatchSize(batchSize);
+	}
+
+	private final int batchSize;
+
+	private final boolean commitPerBatch;
+
+	private BulkSaveOptions(int batchSize, boolean commitPerBatch) {
+		this.batchSize = batchSize;
+		this.commitPerBatch = commitPerBatch;
+	}
+
+	/**
+	 * @param newBatchSize The number of entities to write in one batch, must be greater than 0
+	 * @return New options with the given batch size
+	 */
+	public BulkSaveOptions withBatchSize(int newBatchSize) {
+
+		Assert.isTrue(newBatchSize > 0, "The batch size must be greater than 0");
+		return newBatchSize == this.batchSize ? this : new BulkSaveOptions(newBatchSize, this.commitPerBatch);
+	}
+
+	/**
+	 * @param newCommitPerBatch Set to {@literal true} to commit each batch in a new transaction
+	 * @return New options with the given transactional behaviour
+	 */
+	public BulkSaveOptions withCommitPerBatch(boolean newCommitPerBatch) {
+
+		return newCommitPerBatch == this.commitPerBatch ? this : new BulkSaveOptions(this.batchSize, newCommitPerBatch);
+	}
+
+	public int getBatchSize() {
+		return batchSize;
+	}
+
+	public boolean isCommitPerBatch() {
+		return commitPerBatch;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (o == null || getClass() != o.getClass()) {
+			return false;
+		}
+		BulkSaveOptions that = (BulkSaveOptions) o;
+		return batchSize == that.batchSize && commitPerBatch == that.commitPerBatch;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(batchSize, commitPerBatch);
+	}
+
+	@Override
+	public String toString() {
+		return "BulkSaveOptions{" +
+				"batchSize=" + batchSize +
+				", commitPerBatch=" + commitPerBatch +
+				'}';
+	}
+}
@@ -0,0 +1,197 @@
+/*
+ * Copyright 2011-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.core;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+import org.neo4j.driver.Bookmark;
+import org.springframework.data.neo4j.core.transaction.Neo4jBookmarksUpdatedEvent;
+import org.springframework.lang.Nullable;
+
+/**
+ * Default implementation of the {@link EntityCache}. Instances are stored under the configured domain type they belong
+ * to, expire after a fixed time and an arbitrary entry is evicted when the cache is full. Entries are stamped with the
+ * generation at which loading them started and become stale once the bookmarks changed after that generation.
+ *
+ * @author agent
+ * @since 7.4
+ */
+final class DefaultEntityCache implements EntityCache {
+
+	private final List<Class<?>> domainTypes;
+
+	private final int maximumSize;
+
+	private final long timeToLiveInNanos;
+
+	private final LongSupplier nanoTime;
+
+	private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+
+	/**
+	 * The generation of the last eviction per cached domain type.
+	 */
+	private final Map<Class<?>, Long> evictions = new ConcurrentHashMap<>();
+
+	private final Map<Class<?>, Optional<Class<?>>> cachedTypes = new ConcurrentHashMap<>();
+
+	private final Map<Class<?>, List<Class<?>>> relatedTypes = new ConcurrentHashMap<>();
+
+	private final AtomicLong generation = new AtomicLong();
+
+	/**
+	 * Entries loaded before this generation are stale, as the bookmarks changed afterward.
+	 */
+	private final AtomicLong validFrom = new AtomicLong();
+
+	private final AtomicReference<Set<Bookmark>> lastBookmarks = new AtomicReference<>(Set.of());
+
+	DefaultEntityCache(Collection<Class<?>> domainTypes, int maximumSize, Duration timeToLive) {
+		this(domainTypes, maximumSize, timeToLive, System::nanoTime);
+	}
+
+	DefaultEntityCache(Collection<Class<?>> domainTypes, int maximumSize, Duration timeToLive, LongSupplier nanoTime) {
+
+		this.domainTypes = List.copyOf(domainTypes);
+		this.maximumSize = maximumSize;
+		this.timeToLiveInNanos = timeToLive.toNanos();
+		this.nanoTime = nanoTime;
+	}
+
+	@Override
+	public boolean supports(Class<?> domainType) {
+		return !getRelatedTypes(domainType).isEmpty();
+	}
+
+	@Override
+	@Nullable
+	public <T> T get(Class<T> domainType, Object id) {
+
+		for (Class<?> cachedType : getRelatedTypes(domainType)) {
+			Key key = new Key(cachedType, id);
+			Entry entry = entries.get(key);
+			if (entry == null) {
+				continue;
+			}
+			if (entry.expiresAt() - nanoTime.getAsLong() <= 0 || entry.generation() < validFrom.get()) {
+				entries.remove(key, entry);
+			} else if (domainType.isInstance(entry.instance())) {
+				return domainType.cast(entry.instance());
+			}
+		}
+		return null;
+	}
+
+	@Override
+	public long currentGeneration() {
+		return generation.get();
+	}
+
+	@Override
+	public void put(Object id, Object instance, long generationAtLoad) {
+
+		Class<?> cachedType = getCachedType(instance.getClass()).orElse(null);
+		if (cachedType == null || generationAtLoad < validFrom.get() || evictions.getOrDefault(cachedType, -1L) >= generationAtLoad) {
+			return;
+		}
+
+		if (entries.size() >= maximumSize) {
+			evictOne();
+		}
+		entries.put(new Key(cachedType, id), new Entry(instance, generationAtLoad, nanoTime.getAsLong() + timeToLiveInNanos));
+	}
+
+	@Override
+	public void evict(Class<?> domainType, @Nullable Collection<?> ids) {
+
+		List<Class<?>> types = getRelatedTypes(domainType);
+		if (types.isEmpty()) {
+			return;
+		}
+
+		long evictedAt = generation.getAndIncrement();
+		for (Class<?> cachedType : types) {
+			evictions.merge(cachedType, evictedAt, Math::max);
+			if (ids == null) {
+				entries.keySet().removeIf(key -> key.type() == cachedType);
+			} else {
+				ids.forEach(id -> entries.remove(new Key(cachedType, id)));
+			}
+		}
+	}
+
+	@Override
+	public void clear() {
+		entries.clear();
+	}
+
+	/**
+	 * Read-only transactions don't change the bookmarks, so only writes make the entries loaded so far stale.
+	 */
+	@Override
+	public void onApplicationEvent(Neo4jBookmarksUpdatedEvent event) {
+
+		Set<Bookmark> bookmarks = Set.copyOf(event.getBookmarks());
+		if (!bookmarks.equals(lastBookmarks.getAndSet(bookmarks))) {
+			validFrom.accumulateAndGet(generation.incrementAndGet(), Math::max);
+		}
+	}
+
+	int size() {
+		return entries.size();
+	}
+
+	/**
+	 * {@return the configured type the given type belongs to, if any}
+	 */
+	private Optional<Class<?>> getCachedType(Class<?> type) {
+		return cachedTypes.computeIfAbsent(type,
+				k -> domainTypes.stream().filter(domainType -> domainType.isAssignableFrom(k)).findFirst());
+	}
+
+	/**
+	 * {@return the configured types that are super- or subtypes of the given type}
+	 */
+	private List<Class<?>> getRelatedTypes(Class<?> type) {
+		return relatedTypes.computeIfAbsent(type, k -> domainTypes.stream()
+				.filter(domainType -> domainType.isAssignableFrom(k) || k.isAssignableFrom(domainType))
+				.toList());
+	}
+
+	private void evictOne() {
+		Iterator<Key> keys = entries.keySet().iterator();
+		if (keys.hasNext()) {
+			keys.next();
+			keys.remove();
+		}
+	}
+
+	record Key(Class<?> type, Object id) {
+	}
+
+	record Entry(Object instance, long generation, long expiresAt) {
+	}
+}
@@ -15,16 +15,25 @@
  */
 package org.springframework.data.neo4j.core;
 
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
+import org.neo4j.driver.AccessMode;
 import org.neo4j.driver.Bookmark;
 import org.neo4j.driver.Driver;
 import org.neo4j.driver.Query;
@@ -44,11 +53,16 @@ import org.springframework.core.convert.support.DefaultConversionService;
 import org.springframework.dao.DataAccessException;
 import org.springframework.dao.support.PersistenceExceptionTranslator;
 import org.springframework.data.neo4j.core.convert.Neo4jConversions;
+import org.springframework.data.neo4j.core.observation.DefaultQueryObservationConvention;
+import org.springframework.data.neo4j.core.observation.Neo4jObservation;
+import org.springframework.data.neo4j.core.observation.QueryObservationContext;
+import org.springframework.data.neo4j.core.observation.QueryObservationConvention;
 import org.springframework.data.neo4j.core.support.BookmarkManagerReference;
 import org.springframework.data.neo4j.core.transaction.Neo4jBookmarkManager;
 import org.springframework.data.neo4j.core.transaction.Neo4jTransactionManager;
 import org.springframework.data.neo4j.core.transaction.Neo4jTransactionUtils;
 import org.springframework.lang.Nullable;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 
@@ -71,12 +85,17 @@ final class DefaultNeo4jClient implements Neo4jClient, ApplicationContextAware {
 	// Local bookmark manager when using outside managed transactions
 	private final BookmarkManagerReference bookmarkManager;
 
+	private final ObservationRegistry observationRegistry;
+	private @Nullable final QueryObservationConvention observationConvention;
+
 	DefaultNeo4jClient(Builder builder) {
 
 		this.driver = builder.driver;
 		this.databaseSelectionProvider = builder.databaseSelectionProvider;
 		this.userSelectionProvider = builder.userSelectionProvider;
 		this.bookmarkManager =  new BookmarkManagerReference(Neo4jBookmarkManager::create, builder.bookmarkManager);
+		this.observationRegistry = Optional.ofNullable(builder.observationRegistry).orElse(ObservationRegistry.NOOP);
+		this.observationConvention = builder.observationConvention;
 
 		this.conversionService = new DefaultConversionService();
 		Optional.ofNullable(builder.neo4jConversions).orElseGet(Neo4jConversions::new).registerConvertersIn((ConverterRegistry) conversionService);
@@ -84,15 +103,28 @@ final class DefaultNeo4jClient implements Neo4jClient, ApplicationContextAware {
 
 	@Override
 	public QueryRunner getQueryRunner(DatabaseSelection databaseSelection, UserSelection impersonatedUser) {
+		return getQueryRunner(databaseSelection, impersonatedUser, null, null, false);
+	}
 
-		QueryRunner queryRunner = Neo4jTransactionManager.retrieveTransaction(driver, databaseSelection, impersonatedUser);
-		Collection<Bookmark> lastBookmarks = bookmarkManager.resolve().getBookmarks();
+	/**
+	 * @param accessMode The access mode of a session that needs to be opened outside a managed transaction, defaults to
+	 *                   {@link AccessMode#WRITE}
+	 * @param fetchSize  The fetch size of a session that needs to be opened outside a managed transaction, defaults to
+	 *                   the fetch size configured with the driver
+	 * @param implicitTransaction Set to {@literal true} to always open a new session, ignoring any ongoing transaction
+	 */
+	private QueryRunner getQueryRunner(DatabaseSelection databaseSelection, UserSelection impersonatedUser,
+			@Nullable AccessMode accessMode, @Nullable Long fetchSize, boolean implicitTransaction) {
+
+		QueryRunner queryRunner = implicitTransaction ? null : Neo4jTransactionManager.retrieveTransaction(driver, databaseSelection, impersonatedUser);
+		Collection<Bookmark> lastBookmarks = bookmarkManager.resolve().getBookmarks(databaseSelection);
 
 		if (queryRunner == null) {
-			queryRunner = driver.session(Neo4jTransactionUtils.sessionConfig(false, lastBookmarks, databaseSelection, impersonatedUser));
+			queryRunner = driver.session(Neo4jTransactionUtils.sessionConfig(accessMode == AccessMode.READ, lastBookmarks, databaseSelection, impersonatedUser, fetchSize));
 		}
 
-		return new DelegatingQueryRunner(queryRunner, lastBookmarks, bookmarkManager.resolve()::updateBookmarks);
+		return new DelegatingQueryRunner(queryRunner, lastBookmarks,
+				(usedBookmarks, newBookmarks) -> bookmarkManager.resolve().updateBookmarks(databaseSelection, usedBookmarks, newBookmarks));
 	}
 
 	@Override
@@ -101,6 +133,19 @@ final class DefaultNeo4jClient implements Neo4jClient, ApplicationContextAware {
 		this.bookmarkManager.setApplicationContext(applicationContext);
 	}
 
+	/**
+	 * An explicit hint always wins, otherwise queries that fetch records from within a read-only transaction definition
+	 * (for example from the read operations of the template) are routed as reads.
+	 */
+	@Nullable
+	private static AccessMode inferAccessModeForFetching(@Nullable AccessMode accessMode) {
+
+		if (accessMode != null) {
+			return accessMode;
+		}
+		return TransactionSynchronizationManager.isCurrentTransactionReadOnly() ? AccessMode.READ : null;
+	}
+
 	private static class DelegatingQueryRunner implements QueryRunner {
 
 		private final QueryRunner delegate;
@@ -193,8 +238,9 @@ final class DefaultNeo4jClient implements Neo4jClient, ApplicationContextAware {
 
 		private final NamedParameters parameters;
 
-		protected final Result runWith(QueryRunner statementRunner) {
+		protected final Result runWith(QueryRunner statementRunner, QueryObservationContext observationContext) {
 			String statementTemplate = cypherSupplier.get();
+			observationContext.setCypher(statementTemplate);
 
 			if (cypherLog.isDebugEnabled()) {
 				cypherLog.debug(() -> String.format("Executing:%s%s", System.lineSeparator(), statementTemplate));
@@ -222,6 +268,35 @@ final class DefaultNeo4jClient implements Neo4jClient, ApplicationContextAware {
 		return resolved == null ? ex : resolved;
 	}
 
+	/**
+	 * Closes the given query runner, adding any failure while doing so as suppressed exception to {@code cause}.
+	 */
+	private static void closeQuietly(QueryRunner queryRunner, RuntimeException cause) {
+		try {
+			queryRunner.close();
+		} catch (Exception e) {
+			cause.addSuppressed(e);
+		}
+	}
+
+	/**
+	 * Runs the given action inside a {@link Neo4jObservation#QUERY query observation}. The action is expected to
+	 * populate the context while executing the statement and consuming the result.
+	 *
+	 * @param databaseSelection The selected database
+	 * @param action            The action to observe
+	 * @param <R>               The type of the result
+	 * @return The result of the action
+	 */
+	private <R> R observe(DatabaseSelection databaseSelection, Function<QueryObservationContext, R> action) {
+
+		QueryObservationContext observationContext = new QueryObservationContext();
+		observationContext.setDatabaseName(databaseSelection.getValue());
+		return Neo4jObservation.QUERY
+				.observation(observationConvention, DefaultQueryObservationConvention.INSTANCE, () -> observationContext, observationRegistry)
+				.observe(() -> action.apply(observationContext));
+	}
+
 	private DatabaseSelection resolveTargetDatabaseName(@Nullable String parameterTargetDatabase) {
 
 		String value = Neo4jClient.verifyDatabaseName(parameterTargetDatabase);
@@ -253,6 +328,14 @@ final class DefaultNeo4jClient implements Neo4jClient, ApplicationContextAware {
 
 		private UserSelection userSelection;
 
+		@Nullable
+		private AccessMode accessMode;
+
+		@Nullable
+		private Long fetchSize;
+
+		private boolean implicitTransaction;
+
 		DefaultRunnableSpec(Supplier<String> cypherSupplier) {
 
 			this.databaseSelection = resolveTargetDatabaseName(null);
@@ -288,27 +371,56 @@ final class DefaultNeo4jClient implements Neo4jClient, ApplicationContextAware {
 		@Override
 		public <T> MappingSpec<T> fetchAs(Class<T> targetClass) {
 
-			return new DefaultRecordFetchSpec<>(databaseSelection, userSelection, runnableStatement,
+			return new DefaultRecordFetchSpec<>(databaseSelection, userSelection, accessMode, fetchSize, implicitTransaction, runnableStatement,
 					new SingleValueMappingFunction<>(conversionService, targetClass));
 		}
 
 		@Override
 		public RecordFetchSpec<Map<String, Object>> fetch() {
 
-			return new DefaultRecordFetchSpec<>(databaseSelection, userSelection, runnableStatement, (t, r) -> r.asMap());
+			return new DefaultRecordFetchSpec<>(databaseSelection, userSelection, accessMode, fetchSize, implicitTransaction, runnableStatement, (t, r) -> r.asMap());
+		}
+
+		@Override
+		public RunnableSpec withAccessMode(AccessMode newAccessMode) {
+
+			Assert.notNull(newAccessMode, "The access mode is required");
+
+			this.accessMode = newAccessMode;
+			return this;
+		}
+
+		@Override
+		public RunnableSpec withFetchSize(long newFetchSize) {
+
+			Assert.isTrue(newFetchSize > 0 || newFetchSize == -1, "The fetch size must be positive or -1 to fetch all records at once");
+
+			this.fetchSize = newFetchSize;
+			return this;
+		}
+
+		@Override
+		public RunnableSpec inImplicitTransaction() {
+
+			this.implicitTransaction = true;
+			return this;
 		}
 
 		@Override
 		public ResultSummary run() {
 
-			try (QueryRunner statementRunner = getQueryRunner(databaseSelection, userSelection)) {
-				Result result = runnableStatement.runWith(statementRunner);
-				return ResultSummaries.process(result.consume());
-			} catch (RuntimeException e) {
-				throw potentiallyConvertRuntimeException(e, persistenceExceptionTranslator);
-			} catch (Exception e) {
-				throw new RuntimeException(e);
-			}
+			return observe(databaseSelection, observationContext -> {
+				try (QueryRunner statementRunner = getQueryRunner(databaseSelection, userSelection, accessMode, fetchSize, implicitTransaction)) {
+					Result result = runnableStatement.runWith(statementRunner, observationContext);
+					ResultSummary resultSummary = ResultSummaries.process(result.consume());
+					observationContext.setResultSummary(resultSummary);
+					return resultSummary;
+				} catch (RuntimeException e) {
+					throw potentiallyConvertRuntimeException(e, persistenceExceptionTranslator);
+				} catch (Exception e) {
+					throw new RuntimeException(e);
+				}
+			});
 		}
 
 		class DefaultOngoingBindSpec<T> implements OngoingBindSpec<T, RunnableSpec> {
@@ -358,6 +470,21 @@ final class DefaultNeo4jClient implements Neo4jClient, ApplicationContextAware {
 				return DefaultRunnableSpec.this.run();
 			}
 
+			@Override
+			public RunnableSpec withAccessMode(AccessMode newAccessMode) {
+				return DefaultRunnableSpec.this.withAccessMode(newAccessMode);
+			}
+
+			@Override
+			public RunnableSpec withFetchSize(long newFetchSize) {
+				return DefaultRunnableSpec.this.withFetchSize(newFetchSize);
+			}
+
+			@Override
+			public RunnableSpec inImplicitTransaction() {
+				return DefaultRunnableSpec.this.inImplicitTransaction();
+			}
+
 			@Override
 			public <T> OngoingBindSpec<T, RunnableSpec> bind(T value) {
 				return DefaultRunnableSpec.this.bind(value);
@@ -393,6 +520,21 @@ final class DefaultNeo4jClient implements Neo4jClient, ApplicationContextAware {
 				return DefaultRunnableSpec.this.run();
 			}
 
+			@Override
+			public RunnableSpec withAccessMode(AccessMode newAccessMode) {
+				return DefaultRunnableSpec.this.withAccessMode(newAccessMode);
+			}
+
+			@Override
+			public RunnableSpec withFetchSize(long newFetchSize) {
+				return DefaultRunnableSpec.this.withFetchSize(newFetchSize);
+			}
+
+			@Override
+			public RunnableSpec inImplicitTransaction() {
+				return DefaultRunnableSpec.this.inImplicitTransaction();
+			}
+
 			@Override
 			public <T> OngoingBindSpec<T, RunnableSpec> bind(T value) {
 				return DefaultRunnableSpec.this.bind(value);
@@ -412,17 +554,31 @@ final class DefaultNeo4jClient implements Neo4jClient, ApplicationContextAware {
 		@Nullable
 		private final UserSelection impersonatedUser;
 
+		@Nullable
+		private final AccessMode accessMode;
+
+		@Nullable
+		private final Long fetchSize;
+
+		private final boolean implicitTransaction;
+
 		private final RunnableStatement runnableStatement;
 
 		private BiFunction<TypeSystem, Record, T> mappingFunction;
 
 		DefaultRecordFetchSpec(DatabaseSelection databaseSelection,
 				@Nullable UserSelection impersonatedUser,
+				@Nullable AccessMode accessMode,
+				@Nullable Long fetchSize,
+				boolean implicitTransaction,
 				RunnableStatement runnableStatement,
 				BiFunction<TypeSystem, Record, T> mappingFunction) {
 
 			this.databaseSelection = databaseSelection;
 			this.impersonatedUser = impersonatedUser;
+			this.accessMode = accessMode;
+			this.fetchSize = fetchSize;
+			this.implicitTransaction = implicitTransaction;
 			this.runnableStatement = runnableStatement;
 			this.mappingFunction = mappingFunction;
 		}
@@ -438,56 +594,149 @@ final class DefaultNeo4jClient implements Neo4jClient, ApplicationContextAware {
 		@Override
 		public Optional<T> one() {
 
-			try (QueryRunner statementRunner = getQueryRunner(this.databaseSelection, this.impersonatedUser)) {
-				Result result = runnableStatement.runWith(statementRunner);
-				Optional<T> optionalValue = result.hasNext() ?
-						Optional.ofNullable(mappingFunction.apply(TypeSystem.getDefault(), result.single())) :
-						Optional.empty();
-				ResultSummaries.process(result.consume());
-				return optionalValue;
-			} catch (RuntimeException e) {
-				throw potentiallyConvertRuntimeException(e, persistenceExceptionTranslator);
-			} catch (Exception e) {
-				throw new RuntimeException(e);
-			}
+			return observe(this.databaseSelection, observationContext -> {
+				try (QueryRunner statementRunner = getQueryRunner(this.databaseSelection, this.impersonatedUser, inferAccessModeForFetching(this.accessMode), this.fetchSize, this.implicitTransaction)) {
+					Result result = runnableStatement.runWith(statementRunner, observationContext);
+					Optional<T> optionalValue = result.hasNext() ?
+							Optional.ofNullable(partialMappingFunction(TypeSystem.getDefault(), observationContext).apply(result.single())) :
+							Optional.empty();
+					observationContext.setResultSummary(ResultSummaries.process(result.consume()));
+					return optionalValue;
+				} catch (RuntimeException e) {
+					throw potentiallyConvertRuntimeException(e, persistenceExceptionTranslator);
+				} catch (Exception e) {
+					throw new RuntimeException(e);
+				}
+			});
 		}
 
 		@Override
 		public Optional<T> first() {
 
-			try (QueryRunner statementRunner = getQueryRunner(this.databaseSelection, this.impersonatedUser)) {
-				Result result = runnableStatement.runWith(statementRunner);
-				Optional<T> optionalValue = result.stream().map(partialMappingFunction(TypeSystem.getDefault())).filter(Objects::nonNull).findFirst();
-				ResultSummaries.process(result.consume());
-				return optionalValue;
-			} catch (RuntimeException e) {
-				throw potentiallyConvertRuntimeException(e, persistenceExceptionTranslator);
-			} catch (Exception e) {
-				throw new RuntimeException(e);
-			}
+			return observe(this.databaseSelection, observationContext -> {
+				try (QueryRunner statementRunner = getQueryRunner(this.databaseSelection, this.impersonatedUser, inferAccessModeForFetching(this.accessMode), this.fetchSize, this.implicitTransaction)) {
+					Result result = runnableStatement.runWith(statementRunner, observationContext);
+					Optional<T> optionalValue = result.stream().map(partialMappingFunction(TypeSystem.getDefault(), observationContext)).filter(Objects::nonNull).findFirst();
+					observationContext.setResultSummary(ResultSummaries.process(result.consume()));
+					return optionalValue;
+				} catch (RuntimeException e) {
+					throw potentiallyConvertRuntimeException(e, persistenceExceptionTranslator);
+				} catch (Exception e) {
+					throw new RuntimeException(e);
+				}
+			});
 		}
 
 		@Override
 		public Collection<T> all() {
 
-			try (QueryRunner statementRunner = getQueryRunner(this.databaseSelection, this.impersonatedUser)) {
-				Result result = runnableStatement.runWith(statementRunner);
-				Collection<T> values = result.stream().map(partialMappingFunction(TypeSystem.getDefault())).filter(Objects::nonNull).collect(Collectors.toList());
-				ResultSummaries.process(result.consume());
-				return values;
+			return observe(this.databaseSelection, observationContext -> {
+				try (QueryRunner statementRunner = getQueryRunner(this.databaseSelection, this.impersonatedUser, inferAccessModeForFetching(this.accessMode), this.fetchSize, this.implicitTransaction)) {
+					Result result = runnableStatement.runWith(statementRunner, observationContext);
+					Collection<T> values = result.stream().map(partialMappingFunction(TypeSystem.getDefault(), observationContext)).filter(Objects::nonNull).collect(Collectors.toList());
+					observationContext.setResultSummary(ResultSummaries.process(result.consume()));
+					return values;
+				} catch (RuntimeException e) {
+					throw potentiallyConvertRuntimeException(e, persistenceExceptionTranslator);
+				} catch (Exception e) {
+					throw new RuntimeException(e);
+				}
+			});
+		}
+
+		@Override
+		public Stream<T> stream() {
+
+			// The observation can't be scoped here, as the stream is consumed lazily. It stops when the stream is closed.
+			QueryObservationContext observationContext = new QueryObservationContext();
+			observationContext.setDatabaseName(this.databaseSelection.getValue());
+			Observation observation = Neo4jObservation.QUERY
+					.observation(observationConvention, DefaultQueryObservationConvention.INSTANCE, () -> observationContext, observationRegistry)
+					.start();
+
+			QueryRunner statementRunner = null;
+			try {
+				// Obtaining the runner may already fail, that must be recorded and must stop the observation, too
+				statementRunner = getQueryRunner(this.databaseSelection, this.impersonatedUser, inferAccessModeForFetching(this.accessMode), this.fetchSize, this.implicitTransaction);
+				return stream(statementRunner, observationContext, observation);
 			} catch (RuntimeException e) {
+				if (statementRunner != null) {
+					closeQuietly(statementRunner, e);
+				}
+				observation.error(e);
+				observation.stop();
 				throw potentiallyConvertRuntimeException(e, persistenceExceptionTranslator);
-			} catch (Exception e) {
-				throw new RuntimeException(e);
 			}
 		}
 
 		/**
-		 * @param typeSystem The actual type system
+		 * Runs the statement with the given runner and streams the mapped records. Closing the stream closes the runner
+		 * and stops the observation.
+		 *
+		 * @param statementRunner    The runner to use
+		 * @param observationContext The context of the started observation
+		 * @param observation        The started observation
+		 * @return A stream of mapped records
+		 */
+		private Stream<T> stream(QueryRunner statementRunner, QueryObservationContext observationContext, Observation observation) {
+
+			Result result = runnableStatement.runWith(statementRunner, observationContext);
+			Iterator<Record> records = new Iterator<>() {
+				@Override
+				public boolean hasNext() {
+					try {
+						return result.hasNext();
+					} catch (RuntimeException e) {
+						observation.error(e);
+						throw potentiallyConvertRuntimeException(e, persistenceExceptionTranslator);
+					}
+				}
+
+				@Override
+				public Record next() {
+					try {
+						return result.next();
+					} catch (RuntimeException e) {
+						observation.error(e);
+						throw potentiallyConvertRuntimeException(e, persistenceExceptionTranslator);
+					}
+				}
+			};
+			return StreamSupport.stream(Spliterators.spliteratorUnknownSize(records, Spliterator.ORDERED | Spliterator.NONNULL), false)
+					.map(partialMappingFunction(TypeSystem.getDefault(), observationContext))
+					.filter(Objects::nonNull)
+					.onClose(() -> {
+						try (statementRunner) {
+							observationContext.setResultSummary(ResultSummaries.process(result.consume()));
+						} catch (RuntimeException e) {
+							observation.error(e);
+							throw potentiallyConvertRuntimeException(e, persistenceExceptionTranslator);
+						} catch (Exception e) {
+							observation.error(e);
+							throw new RuntimeException(e);
+						} finally {
+							observation.stop();
+						}
+					});
+		}
+
+		/**
+		 * @param typeSystem         The actual type system
+		 * @param observationContext The context in which the time spent on mapping is recorded
 		 * @return The partially evaluated mapping function
 		 */
-		private Function<Record, T> partialMappingFunction(TypeSystem typeSystem) {
-			return r -> mappingFunction.apply(typeSystem, r);
+		private Function<Record, T> partialMappingFunction(TypeSystem typeSystem, QueryObservationContext observationContext) {
+			if (observationRegistry.isNoop()) {
+				return r -> mappingFunction.apply(typeSystem, r);
+			}
+			return r -> {
+				long start = System.nanoTime();
+				try {
+					return mappingFunction.apply(typeSystem, r);
+				} finally {
+					observationContext.recordMapping(System.nanoTime() - start);
+				}
+			};
 		}
 	}
 
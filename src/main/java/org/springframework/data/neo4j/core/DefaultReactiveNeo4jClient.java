@@ -15,6 +15,9 @@
  */
 package org.springframework.data.neo4j.core;
 
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.neo4j.driver.AccessMode;
 import org.neo4j.driver.Bookmark;
 import org.neo4j.driver.Driver;
 import org.neo4j.driver.Query;
@@ -34,11 +37,18 @@ import org.springframework.core.convert.converter.ConverterRegistry;
 import org.springframework.core.convert.support.DefaultConversionService;
 import org.springframework.dao.DataAccessException;
 import org.springframework.data.neo4j.core.convert.Neo4jConversions;
+import org.springframework.data.neo4j.core.observation.DefaultQueryObservationConvention;
+import org.springframework.data.neo4j.core.observation.Neo4jObservation;
+import org.springframework.data.neo4j.core.observation.QueryObservationContext;
+import org.springframework.data.neo4j.core.observation.QueryObservationConvention;
+import org.springframework.data.neo4j.core.observation.ReactiveObservationSupport;
 import org.springframework.data.neo4j.core.support.BookmarkManagerReference;
 import org.springframework.data.neo4j.core.transaction.Neo4jBookmarkManager;
 import org.springframework.data.neo4j.core.transaction.Neo4jTransactionUtils;
 import org.springframework.data.neo4j.core.transaction.ReactiveNeo4jTransactionManager;
 import org.springframework.lang.Nullable;
+import org.springframework.transaction.NoTransactionException;
+import org.springframework.transaction.reactive.TransactionSynchronizationManager;
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 
@@ -74,6 +84,9 @@ final class DefaultReactiveNeo4jClient implements ReactiveNeo4jClient, Applicati
 	// Local bookmark manager when using outside managed transactions
 	private final BookmarkManagerReference bookmarkManager;
 
+	private final ObservationRegistry observationRegistry;
+	private @Nullable final QueryObservationConvention observationConvention;
+
 	DefaultReactiveNeo4jClient(Builder builder) {
 
 		this.driver = builder.driver;
@@ -83,21 +96,48 @@ final class DefaultReactiveNeo4jClient implements ReactiveNeo4jClient, Applicati
 		this.conversionService = new DefaultConversionService();
 		Optional.ofNullable(builder.neo4jConversions).orElseGet(Neo4jConversions::new).registerConvertersIn((ConverterRegistry) conversionService);
 		this.bookmarkManager = new BookmarkManagerReference(Neo4jBookmarkManager::createReactive, builder.bookmarkManager);
+		this.observationRegistry = Optional.ofNullable(builder.observationRegistry).orElse(ObservationRegistry.NOOP);
+		this.observationConvention = builder.observationConvention;
 	}
 
 	@Override
 	public Mono<ReactiveQueryRunner> getQueryRunner(Mono<DatabaseSelection> databaseSelection, Mono<UserSelection> userSelection) {
+		return getQueryRunner(databaseSelection, userSelection, Mono.just(AccessMode.WRITE), null);
+	}
+
+	/**
+	 * @param accessMode The access mode of a session that needs to be opened outside a managed transaction
+	 * @param fetchSize  The fetch size of a session that needs to be opened outside a managed transaction, defaults to
+	 *                   the fetch size configured with the driver
+	 */
+	private Mono<ReactiveQueryRunner> getQueryRunner(Mono<DatabaseSelection> databaseSelection, Mono<UserSelection> userSelection,
+			Mono<AccessMode> accessMode, @Nullable Long fetchSize) {
 
 		return databaseSelection.zipWith(userSelection)
 				.flatMap(targetDatabaseAndUser ->
 						ReactiveNeo4jTransactionManager.retrieveReactiveTransaction(driver, targetDatabaseAndUser.getT1(), targetDatabaseAndUser.getT2())
 								.map(ReactiveQueryRunner.class::cast)
-								.zipWith(Mono.just(bookmarkManager.resolve().getBookmarks()))
-								.switchIfEmpty(Mono.fromSupplier(() -> {
-									Collection<Bookmark> lastBookmarks = bookmarkManager.resolve().getBookmarks();
-									return Tuples.of(driver.session(ReactiveSession.class, Neo4jTransactionUtils.sessionConfig(false, lastBookmarks, targetDatabaseAndUser.getT1(), targetDatabaseAndUser.getT2())), lastBookmarks);
-								})))
-				.map(t -> new DelegatingQueryRunner(t.getT1(), t.getT2(), bookmarkManager.resolve()::updateBookmarks));
+								.zipWith(Mono.just(bookmarkManager.resolve().getBookmarks(targetDatabaseAndUser.getT1())))
+								.switchIfEmpty(accessMode.map(mode -> {
+									Collection<Bookmark> lastBookmarks = bookmarkManager.resolve().getBookmarks(targetDatabaseAndUser.getT1());
+									return Tuples.<ReactiveQueryRunner, Collection<Bookmark>>of(driver.session(ReactiveSession.class, Neo4jTransactionUtils.sessionConfig(mode == AccessMode.READ, lastBookmarks, targetDatabaseAndUser.getT1(), targetDatabaseAndUser.getT2(), fetchSize)), lastBookmarks);
+								}))
+								.map(t -> new DelegatingQueryRunner(t.getT1(), t.getT2(), (usedBookmarks, newBookmarks) ->
+										bookmarkManager.resolve().updateBookmarks(targetDatabaseAndUser.getT1(), usedBookmarks, newBookmarks))));
+	}
+
+	/**
+	 * An explicit hint always wins, otherwise queries that fetch records from within a read-only transaction definition
+	 * (for example from the read operations of the template) are routed as reads.
+	 */
+	private static Mono<AccessMode> inferAccessModeForFetching(@Nullable AccessMode accessMode) {
+
+		if (accessMode != null) {
+			return Mono.just(accessMode);
+		}
+		return TransactionSynchronizationManager.forCurrentTransaction()
+				.map(tsm -> tsm.isCurrentTransactionReadOnly() ? AccessMode.READ : AccessMode.WRITE)
+				.onErrorResume(NoTransactionException.class, e -> Mono.just(AccessMode.WRITE));
 	}
 
 	@Override
@@ -158,12 +198,19 @@ final class DefaultReactiveNeo4jClient implements ReactiveNeo4jClient, Applicati
 
 	<T> Mono<T> doInQueryRunnerForMono(Mono<DatabaseSelection> databaseSelection, Mono<UserSelection> userSelection, Function<ReactiveQueryRunner, Mono<T>> func) {
 
-		return Mono.usingWhen(getQueryRunner(databaseSelection, userSelection), func, runner -> ((DelegatingQueryRunner) runner).close());
+		return doInQueryRunnerForMono(databaseSelection, userSelection, Mono.just(AccessMode.WRITE), null, func);
+	}
+
+	<T> Mono<T> doInQueryRunnerForMono(Mono<DatabaseSelection> databaseSelection, Mono<UserSelection> userSelection, Mono<AccessMode> accessMode,
+			@Nullable Long fetchSize, Function<ReactiveQueryRunner, Mono<T>> func) {
+
+		return Mono.usingWhen(getQueryRunner(databaseSelection, userSelection, accessMode, fetchSize), func, runner -> ((DelegatingQueryRunner) runner).close());
 	}
 
-	<T> Flux<T> doInStatementRunnerForFlux(Mono<DatabaseSelection> databaseSelection, Mono<UserSelection> userSelection, Function<ReactiveQueryRunner, Flux<T>> func) {
+	<T> Flux<T> doInStatementRunnerForFlux(Mono<DatabaseSelection> databaseSelection, Mono<UserSelection> userSelection, Mono<AccessMode> accessMode,
+			@Nullable Long fetchSize, Function<ReactiveQueryRunner, Flux<T>> func) {
 
-		return Flux.usingWhen(getQueryRunner(databaseSelection, userSelection), func, runner -> ((DelegatingQueryRunner) runner).close());
+		return Flux.usingWhen(getQueryRunner(databaseSelection, userSelection, accessMode, fetchSize), func, runner -> ((DelegatingQueryRunner) runner).close());
 	}
 
 	@Override
@@ -220,6 +267,12 @@ final class DefaultReactiveNeo4jClient implements ReactiveNeo4jClient, Applicati
 
 		private final NamedParameters parameters = new NamedParameters();
 
+		@Nullable
+		private AccessMode accessMode;
+
+		@Nullable
+		private Long fetchSize;
+
 		DefaultRunnableSpec(Supplier<String> cypherSupplier) {
 			this.databaseSelection = resolveTargetDatabaseName(null);
 			this.userSelection = resolveUser(null);
@@ -254,20 +307,38 @@ final class DefaultReactiveNeo4jClient implements ReactiveNeo4jClient, Applicati
 		@Override
 		public <R> MappingSpec<R> fetchAs(Class<R> targetClass) {
 
-			return new DefaultRecordFetchSpec<>(databaseSelection, userSelection, cypherSupplier, parameters,
+			return new DefaultRecordFetchSpec<>(databaseSelection, userSelection, accessMode, fetchSize, cypherSupplier, parameters,
 					new SingleValueMappingFunction<>(conversionService, targetClass));
 		}
 
 		@Override
 		public RecordFetchSpec<Map<String, Object>> fetch() {
 
-			return new DefaultRecordFetchSpec<>(databaseSelection, userSelection, cypherSupplier, parameters, (t, r) -> r.asMap());
+			return new DefaultRecordFetchSpec<>(databaseSelection, userSelection, accessMode, fetchSize, cypherSupplier, parameters, (t, r) -> r.asMap());
 		}
 
 		@Override
 		public Mono<ResultSummary> run() {
 
-			return new DefaultRecordFetchSpec<>(databaseSelection, userSelection, cypherSupplier, this.parameters, null).run();
+			return new DefaultRecordFetchSpec<>(databaseSelection, userSelection, accessMode, fetchSize, cypherSupplier, this.parameters, null).run();
+		}
+
+		@Override
+		public RunnableSpec withAccessMode(AccessMode newAccessMode) {
+
+			Assert.notNull(newAccessMode, "The access mode is required");
+
+			this.accessMode = newAccessMode;
+			return this;
+		}
+
+		@Override
+		public RunnableSpec withFetchSize(long newFetchSize) {
+
+			Assert.isTrue(newFetchSize > 0 || newFetchSize == -1, "The fetch size must be positive or -1 to fetch all records at once");
+
+			this.fetchSize = newFetchSize;
+			return this;
 		}
 
 		class DefaultOngoingBindSpec<T> implements Neo4jClient.OngoingBindSpec<T, RunnableSpec> {
@@ -317,6 +388,16 @@ final class DefaultReactiveNeo4jClient implements ReactiveNeo4jClient, Applicati
 				return DefaultRunnableSpec.this.run();
 			}
 
+			@Override
+			public RunnableSpec withAccessMode(AccessMode newAccessMode) {
+				return DefaultRunnableSpec.this.withAccessMode(newAccessMode);
+			}
+
+			@Override
+			public RunnableSpec withFetchSize(long newFetchSize) {
+				return DefaultRunnableSpec.this.withFetchSize(newFetchSize);
+			}
+
 			@Override
 			public <T> Neo4jClient.OngoingBindSpec<T, RunnableSpec> bind(T value) {
 				return DefaultRunnableSpec.this.bind(value);
@@ -352,6 +433,16 @@ final class DefaultReactiveNeo4jClient implements ReactiveNeo4jClient, Applicati
 				return DefaultRunnableSpec.this.run();
 			}
 
+			@Override
+			public RunnableSpec withAccessMode(AccessMode newAccessMode) {
+				return DefaultRunnableSpec.this.withAccessMode(newAccessMode);
+			}
+
+			@Override
+			public RunnableSpec withFetchSize(long newFetchSize) {
+				return DefaultRunnableSpec.this.withFetchSize(newFetchSize);
+			}
+
 			@Override
 			public <T> Neo4jClient.OngoingBindSpec<T, RunnableSpec> bind(T value) {
 				return DefaultRunnableSpec.this.bind(value);
@@ -370,17 +461,25 @@ final class DefaultReactiveNeo4jClient implements ReactiveNeo4jClient, Applicati
 
 		private final Mono<UserSelection> userSelection;
 
+		@Nullable
+		private final AccessMode accessMode;
+
+		@Nullable
+		private final Long fetchSize;
+
 		private final Supplier<String> cypherSupplier;
 
 		private final NamedParameters parameters;
 
 		private BiFunction<TypeSystem, Record, T> mappingFunction;
 
-		DefaultRecordFetchSpec(Mono<DatabaseSelection> databaseSelection, Mono<UserSelection> userSelection, Supplier<String> cypherSupplier, NamedParameters parameters,
-				@Nullable BiFunction<TypeSystem, Record, T> mappingFunction) {
+		DefaultRecordFetchSpec(Mono<DatabaseSelection> databaseSelection, Mono<UserSelection> userSelection, @Nullable AccessMode accessMode,
+				@Nullable Long fetchSize, Supplier<String> cypherSupplier, NamedParameters parameters, @Nullable BiFunction<TypeSystem, Record, T> mappingFunction) {
 
 			this.databaseSelection = databaseSelection;
 			this.userSelection = userSelection;
+			this.accessMode = accessMode;
+			this.fetchSize = fetchSize;
 			this.cypherSupplier = cypherSupplier;
 			this.parameters = parameters;
 			this.mappingFunction = mappingFunction;
@@ -393,7 +492,7 @@ final class DefaultReactiveNeo4jClient implements ReactiveNeo4jClient, Applicati
 			return this;
 		}
 
-		Mono<Tuple2<String, Map<String, Object>>> prepareStatement() {
+		Mono<Tuple2<String, Map<String, Object>>> prepareStatement(QueryObservationContext observationContext) {
 			if (cypherLog.isDebugEnabled()) {
 				String cypher = cypherSupplier.get();
 				cypherLog.debug(() -> String.format("Executing:%s%s", System.lineSeparator(), cypher));
@@ -402,47 +501,100 @@ final class DefaultReactiveNeo4jClient implements ReactiveNeo4jClient, Applicati
 					cypherLog.trace(() -> String.format("with parameters:%s%s", System.lineSeparator(), parameters));
 				}
 			}
-			return Mono.fromSupplier(cypherSupplier).zipWith(Mono.just(parameters.get()));
+			return Mono.fromSupplier(cypherSupplier).doOnNext(observationContext::setCypher).zipWith(Mono.just(parameters.get()));
 		}
 
-		Flux<T> executeWith(Tuple2<String, Map<String, Object>> t, ReactiveQueryRunner runner) {
+		Flux<T> executeWith(Tuple2<String, Map<String, Object>> t, ReactiveQueryRunner runner, QueryObservationContext observationContext) {
 
 			return Flux.usingWhen(Flux.from(runner.run(t.getT1(), t.getT2())),
-					result -> Flux.from(result.records()).mapNotNull(r -> mappingFunction.apply(TypeSystem.getDefault(), r)),
-					result -> Flux.from(result.consume()).doOnNext(ResultSummaries::process));
+					result -> limitRate(Flux.from(result.records())).mapNotNull(r -> map(r, observationContext)),
+					result -> Flux.from(result.consume()).map(ResultSummaries::process).doOnNext(observationContext::setResultSummary));
+		}
+
+		/**
+		 * The driver pulls as many records as requested downstream, so an unbounded request would pull all records in
+		 * one batch, regardless of the configured fetch size. Limiting the rate turns any downstream demand into requests
+		 * of the fetch size, replenished when three quarters of a batch have been consumed.
+		 */
+		private Flux<Record> limitRate(Flux<Record> records) {
+			return fetchSize == null || fetchSize <= 0 ? records : records.limitRate((int) Math.min(fetchSize, Integer.MAX_VALUE));
+		}
+
+		@Nullable
+		private T map(Record record, QueryObservationContext observationContext) {
+			if (observationRegistry.isNoop()) {
+				return mappingFunction.apply(TypeSystem.getDefault(), record);
+			}
+			long start = System.nanoTime();
+			try {
+				return mappingFunction.apply(TypeSystem.getDefault(), record);
+			} finally {
+				observationContext.recordMapping(System.nanoTime() - start);
+			}
+		}
+
+		/**
+		 * @param observationContext The context of the ongoing observation
+		 * @return The database selection, recording the selected database in the observation context
+		 */
+		private Mono<DatabaseSelection> observedDatabaseSelection(QueryObservationContext observationContext) {
+			return databaseSelection.doOnNext(selection -> observationContext.setDatabaseName(selection.getValue()));
 		}
 
 		@Override
 		public Mono<T> one() {
 
-			return doInQueryRunnerForMono(databaseSelection, userSelection,
-					(runner) -> prepareStatement().flatMapMany(t -> executeWith(t, runner)).singleOrEmpty()
-					.onErrorMap(RuntimeException.class, DefaultReactiveNeo4jClient.this::potentiallyConvertRuntimeException));
+			return observeMono(observationContext -> doInQueryRunnerForMono(observedDatabaseSelection(observationContext), userSelection, inferAccessModeForFetching(accessMode), fetchSize,
+					(runner) -> prepareStatement(observationContext).flatMapMany(t -> executeWith(t, runner, observationContext)).singleOrEmpty()
+					.onErrorMap(RuntimeException.class, DefaultReactiveNeo4jClient.this::potentiallyConvertRuntimeException)));
 		}
 
 		@Override
 		public Mono<T> first() {
 
-			return doInQueryRunnerForMono(databaseSelection, userSelection,
-					runner -> prepareStatement().flatMapMany(t -> executeWith(t, runner)).next())
-					.onErrorMap(RuntimeException.class, DefaultReactiveNeo4jClient.this::potentiallyConvertRuntimeException);
+			return observeMono(observationContext -> doInQueryRunnerForMono(observedDatabaseSelection(observationContext), userSelection, inferAccessModeForFetching(accessMode), fetchSize,
+					runner -> prepareStatement(observationContext).flatMapMany(t -> executeWith(t, runner, observationContext)).next())
+					.onErrorMap(RuntimeException.class, DefaultReactiveNeo4jClient.this::potentiallyConvertRuntimeException));
 		}
 
 		@Override
 		public Flux<T> all() {
 
-			return doInStatementRunnerForFlux(databaseSelection, userSelection,
-					runner -> prepareStatement().flatMapMany(t -> executeWith(t, runner)))
-					.onErrorMap(RuntimeException.class, DefaultReactiveNeo4jClient.this::potentiallyConvertRuntimeException);
+			return observeFlux(observationContext -> doInStatementRunnerForFlux(observedDatabaseSelection(observationContext), userSelection, inferAccessModeForFetching(accessMode), fetchSize,
+					runner -> prepareStatement(observationContext).flatMapMany(t -> executeWith(t, runner, observationContext)))
+					.onErrorMap(RuntimeException.class, DefaultReactiveNeo4jClient.this::potentiallyConvertRuntimeException));
 		}
 
 		Mono<ResultSummary> run() {
 
-			return doInQueryRunnerForMono(databaseSelection, userSelection, runner -> prepareStatement()
+			return observeMono(observationContext -> doInQueryRunnerForMono(observedDatabaseSelection(observationContext), userSelection,
+					Mono.just(accessMode == null ? AccessMode.WRITE : accessMode), fetchSize, runner -> prepareStatement(observationContext)
 					.flatMap(t -> Flux.from(runner.run(t.getT1(), t.getT2())).single())
-					.flatMap(rxResult -> Flux.from(rxResult.consume()).single().map(ResultSummaries::process)))
-					.onErrorMap(RuntimeException.class, DefaultReactiveNeo4jClient.this::potentiallyConvertRuntimeException);
+					.flatMap(rxResult -> Flux.from(rxResult.consume()).single().map(ResultSummaries::process))
+					.doOnNext(observationContext::setResultSummary))
+					.onErrorMap(RuntimeException.class, DefaultReactiveNeo4jClient.this::potentiallyConvertRuntimeException));
+		}
+	}
+
+	private <R> Mono<R> observeMono(Function<QueryObservationContext, Mono<R>> source) {
+
+		if (observationRegistry.isNoop()) {
+			return source.apply(new QueryObservationContext());
+		}
+		return ReactiveObservationSupport.observeMono(QueryObservationContext::new, this::createObservation, source);
+	}
+
+	private <R> Flux<R> observeFlux(Function<QueryObservationContext, Flux<R>> source) {
+
+		if (observationRegistry.isNoop()) {
+			return source.apply(new QueryObservationContext());
 		}
+		return ReactiveObservationSupport.observeFlux(QueryObservationContext::new, this::createObservation, source);
+	}
+
+	private Observation createObservation(QueryObservationContext observationContext) {
+		return Neo4jObservation.QUERY
+				.observation(observationConvention, DefaultQueryObservationConvention.INSTANCE, () -> observationContext, observationRegistry);
 	}
 
 	/**
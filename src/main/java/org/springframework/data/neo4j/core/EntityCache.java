@@ -0,0 +1,113 @@
+/*
+ * Copyright 2011-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.core;
+
+import java.time.Duration;
+import java.util.Collection;
+
+import org.apiguardian.api.API;
+import org.springframework.context.ApplicationListener;
+import org.springframework.data.neo4j.core.transaction.Neo4jBookmarksUpdatedEvent;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * A second level cache for entities loaded by id through the templates, shared by all transactions. It is meant for
+ * reference data that is read very often but rarely changes. Cached instances are handed out to all callers, hence the
+ * templates only cache entities whose persistent properties are all immutable, including those of their subtypes and of
+ * all entities reachable through relationships. Saving such an entity creates a new instance instead of modifying the
+ * cached one. Collections held by those entities must still be treated as read-only.
+ * <p>
+ * The templates evict instances they save or delete, both immediately and again after the transaction completed.
+ * Entries are stamped with a generation when they are loaded. The generation advances with each eviction and with each
+ * {@link Neo4jBookmarksUpdatedEvent} that carries changed bookmarks. An entry loaded before the bookmarks changed is
+ * stale, as any write committed in the meantime, including those done through custom Cypher, may have changed it. A
+ * load that started before the last eviction of its type is not cached, so that a value read concurrently with a write
+ * cannot replace the evicted one. Changes done by other applications in a cluster are not detected and are only
+ * reflected once an entry expired.
+ * <p>
+ * A cache that is a Spring bean will receive bookmark updates automatically and is picked up by the templates if it is
+ * unique in the application context.
+ *
+ * @author agent
+ * @since 7.4
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "7.4")
+public interface EntityCache extends ApplicationListener<Neo4jBookmarksUpdatedEvent> {
+
+	/**
+	 * Creates a new cache for the given domain types and their subtypes.
+	 *
+	 * @param domainTypes The types to cache
+	 * @param maximumSize The maximum number of cached instances
+	 * @param timeToLive  The time after which a cached instance expires
+	 * @return A new cache
+	 */
+	static EntityCache of(Collection<Class<?>> domainTypes, int maximumSize, Duration timeToLive) {
+
+		Assert.notEmpty(domainTypes, "At least one domain type is required");
+		Assert.isTrue(maximumSize > 0, "The maximum size must be positive");
+		Assert.isTrue(timeToLive != null && !timeToLive.isNegative() && !timeToLive.isZero(), "The time to live must be positive");
+
+		return new DefaultEntityCache(domainTypes, maximumSize, timeToLive);
+	}
+
+	/**
+	 * Checks whether this cache might contain instances of the given type.
+	 *
+	 * @param domainType The domain type
+	 * @return {@literal true} if instances of the given type, its super- or subtypes are cached
+	 */
+	boolean supports(Class<?> domainType);
+
+	/**
+	 * Retrieves an instance.
+	 *
+	 * @param domainType The requested type
+	 * @param id         The id of the instance
+	 * @param <T>        The requested type
+	 * @return The instance or {@literal null} if there is no valid instance of the requested type with the given id
+	 */
+	@Nullable
+	<T> T get(Class<T> domainType, Object id);
+
+	/**
+	 * {@return the current generation, to be retrieved before loading an instance}
+	 */
+	long currentGeneration();
+
+	/**
+	 * Caches an instance, unless the type of the instance has been evicted after the given generation.
+	 *
+	 * @param id         The id of the instance
+	 * @param instance   The instance itself
+	 * @param generation The generation at which loading the instance started
+	 */
+	void put(Object id, Object instance, long generation);
+
+	/**
+	 * Evicts all instances of the given type, its super- and subtypes with one of the given ids.
+	 *
+	 * @param domainType The domain type
+	 * @param ids        The ids to evict, {@literal null} evicts all instances of the given type
+	 */
+	void evict(Class<?> domainType, @Nullable Collection<?> ids);
+
+	/**
+	 * Removes all instances.
+	 */
+	void clear();
+}
@@ -0,0 +1,363 @@
+/*
+ * Copyright 2011-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.core;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.neo4j.core.mapping.Constants;
+import org.springframework.data.neo4j.core.mapping.MappingSupport;
+import org.springframework.data.neo4j.core.mapping.Neo4jMappingContext;
+import org.springframework.data.neo4j.core.mapping.Neo4jPersistentEntity;
+import org.springframework.data.neo4j.core.mapping.Neo4jPersistentProperty;
+import org.springframework.data.neo4j.core.mapping.RelationshipDescription;
+import org.springframework.data.neo4j.core.schema.TargetNode;
+import org.springframework.lang.Nullable;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Keeps the last known persisted state of entity instances. The state of an instance consists of the properties as
+ * they have been written by its binder function and the ids of the nodes its plain relationships point to.
+ * <p>
+ * Snapshots are kept per instance, not per id: Two instances representing the same node each have their own baseline,
+ * and saving one of them never changes the baseline of the other. Instances are referenced weakly, so a snapshot goes
+ * away together with its instance, in which case nothing is compared.
+ * <p>
+ * Snapshots taken or evicted in a transaction that eventually does not commit are discarded, so that a rolled back
+ * transaction does not leave a state behind that isn't in the database.
+ *
+ * @author agent
+ * @since 7.4
+ */
+final class EntitySnapshots {
+
+	private final Neo4jMappingContext mappingContext;
+
+	private final Map<InstanceKey, Snapshot> snapshots = new ConcurrentHashMap<>();
+
+	private final ReferenceQueue<Object> collectedInstances = new ReferenceQueue<>();
+
+	EntitySnapshots(Neo4jMappingContext mappingContext) {
+		this.mappingContext = mappingContext;
+	}
+
+	/**
+	 * Takes a snapshot of the given instance and all entities reachable from it. Instances that are not entities are
+	 * ignored. Only instances that have been loaded completely, that is without a projection and with all their
+	 * relationships, must be passed to this method.
+	 *
+	 * @param instance A freshly and completely loaded instance
+	 */
+	void takeFrom(@Nullable Object instance) {
+		takeFrom(instance, Collections.newSetFromMap(new IdentityHashMap<>()));
+	}
+
+	private void takeFrom(@Nullable Object instance, Set<Object> visited) {
+
+		if (instance == null || !visited.add(instance) || !mappingContext.hasPersistentEntityFor(instance.getClass())) {
+			return;
+		}
+
+		Neo4jPersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(instance.getClass());
+		if (entity.isRelationshipPropertiesEntity()) {
+			Neo4jPersistentProperty targetNode = entity.getPersistentProperty(TargetNode.class);
+			if (targetNode != null) {
+				takeFrom(entity.getPropertyAccessor(instance).getProperty(targetNode), visited);
+			}
+			return;
+		}
+
+		PersistentPropertyAccessor<?> propertyAccessor = entity.getPropertyAccessor(instance);
+		refresh(entity, instance);
+		for (RelationshipDescription relationship : entity.getRelationshipsInHierarchy(path -> true)) {
+			Neo4jPersistentProperty property = entity.getPersistentProperty(relationship.getFieldName());
+			if (property == null) {
+				continue;
+			}
+			for (Object relatedValue : MappingSupport.unifyRelationshipValue(property, propertyAccessor.getProperty(property))) {
+				takeFrom(relatedValue instanceof Map.Entry<?, ?> entry ? entry.getValue() : relatedValue, visited);
+			}
+		}
+	}
+
+	/**
+	 * Replaces the snapshot of the given instance with its current state. Related entities are not touched.
+	 *
+	 * @param entity   The entity of the instance
+	 * @param instance The instance that has just been written
+	 */
+	void refresh(Neo4jPersistentEntity<?> entity, Object instance) {
+
+		expungeCollectedInstances();
+
+		Object id = getId(entity, instance);
+		if (id == null) {
+			return;
+		}
+
+		@SuppressWarnings("unchecked")
+		Function<Object, Map<String, Object>> binderFunction = mappingContext.getRequiredBinderFunctionFor((Class<Object>) instance.getClass());
+		@SuppressWarnings("unchecked")
+		Map<String, Object> properties = (Map<String, Object>) binderFunction.apply(instance).get(Constants.NAME_OF_PROPERTIES_PARAM);
+
+		PersistentPropertyAccessor<?> propertyAccessor = entity.getPropertyAccessor(instance);
+		Map<String, Set<Object>> relatedIds = new HashMap<>();
+		for (RelationshipDescription relationship : entity.getRelationshipsInHierarchy(path -> true)) {
+			Neo4jPersistentProperty property = entity.getPersistentProperty(relationship.getFieldName());
+			if (property == null || relationship.isDynamic() || relationship.hasRelationshipProperties()) {
+				continue;
+			}
+			Set<Object> ids = getRelatedIds(MappingSupport.unifyRelationshipValue(property, propertyAccessor.getProperty(property)));
+			if (ids != null) {
+				relatedIds.put(relationship.getFieldName(), ids);
+			}
+		}
+
+		InstanceKey key = new InstanceKey(instance, collectedInstances);
+		snapshots.put(key, new Snapshot(entity.getType(), id,
+				properties == null ? Map.of() : Collections.unmodifiableMap(new HashMap<>(properties)), relatedIds));
+		registerWithCurrentTransaction(key);
+	}
+
+	/**
+	 * Evicts the snapshot of the given instance, so that it will be fully written the next time it is saved. Other
+	 * instances of the same node are not affected.
+	 *
+	 * @param instance The instance to evict
+	 */
+	void evict(Object instance) {
+
+		InstanceKey key = new InstanceKey(instance, null);
+		if (snapshots.remove(key) != null) {
+			registerWithCurrentTransaction(key);
+		}
+	}
+
+	/**
+	 * Evicts the snapshots of all instances of the given type and its subtypes with one of the given ids, regardless
+	 * which instance they belong to. This is used after nodes have been deleted.
+	 *
+	 * @param domainType The domain type
+	 * @param ids        The ids to evict, {@literal null} evicts all snapshots of the given type
+	 */
+	void evict(Class<?> domainType, @Nullable Collection<?> ids) {
+
+		snapshots.entrySet().removeIf(entry -> {
+			Snapshot snapshot = entry.getValue();
+			boolean evict = domainType.isAssignableFrom(snapshot.type()) && (ids == null || ids.contains(snapshot.id()));
+			if (evict) {
+				registerWithCurrentTransaction(entry.getKey());
+			}
+			return evict;
+		});
+	}
+
+	/**
+	 * Decorates the binder function of the given entity so that it removes all properties from the tree that are
+	 * unchanged compared to the snapshot of the instance being bound. The id and the version property are always kept,
+	 * as the save statement depends on them.
+	 *
+	 * @param entity         The entity to be bound
+	 * @param binderFunction The original binder function
+	 * @param <T>            The type of the entity
+	 * @return A binder function writing only changed properties
+	 */
+	<T> Function<T, Map<String, Object>> removeUnchangedProperties(Neo4jPersistentEntity<?> entity,
+			Function<T, Map<String, Object>> binderFunction) {
+		return removeUnchangedProperties(entity, null, binderFunction);
+	}
+
+	/**
+	 * Decorates the binder function of the given entity so that it removes all properties from the tree that are
+	 * unchanged compared to the snapshot of {@code instanceWithSnapshot}. This is needed when callbacks replaced the
+	 * instance that has been loaded before it is bound.
+	 *
+	 * @param entity               The entity to be bound
+	 * @param instanceWithSnapshot The instance whose snapshot to compare with, {@literal null} to use the instance being
+	 *                             bound
+	 * @param binderFunction       The original binder function
+	 * @param <T>                  The type of the entity
+	 * @return A binder function writing only changed properties
+	 */
+	<T> Function<T, Map<String, Object>> removeUnchangedProperties(Neo4jPersistentEntity<?> entity,
+			@Nullable Object instanceWithSnapshot, Function<T, Map<String, Object>> binderFunction) {
+
+		String idPropertyName = entity.getRequiredIdProperty().getPropertyName();
+		String versionPropertyName = entity.hasVersionProperty() ? entity.getRequiredVersionProperty().getPropertyName() : null;
+
+		return instance -> {
+			Map<String, Object> tree = binderFunction.apply(instance);
+			Snapshot snapshot = getSnapshot(entity, instanceWithSnapshot == null ? instance : instanceWithSnapshot);
+			if (snapshot == null) {
+				return tree;
+			}
+
+			@SuppressWarnings("unchecked")
+			Map<String, Object> properties = (Map<String, Object>) tree.get(Constants.NAME_OF_PROPERTIES_PARAM);
+			if (properties != null) {
+				properties.entrySet().removeIf(e -> !(e.getKey().equals(idPropertyName) || e.getKey().equals(versionPropertyName))
+						&& snapshot.properties().containsKey(e.getKey())
+						&& Objects.equals(snapshot.properties().get(e.getKey()), e.getValue()));
+			}
+			return tree;
+		};
+	}
+
+	/**
+	 * Checks whether a plain relationship of an instance still points to the same nodes as in the snapshot of that
+	 * instance.
+	 *
+	 * @param entity        The entity owning the relationship
+	 * @param instance      The instance owning the relationship, as it has been loaded
+	 * @param relationship  The relationship to check
+	 * @param relatedValues The current values of the relationship
+	 * @return {@literal true} if the relationship can be left as is in the database
+	 */
+	boolean isUnchanged(Neo4jPersistentEntity<?> entity, @Nullable Object instance, RelationshipDescription relationship, Collection<?> relatedValues) {
+
+		if (instance == null || relationship.isDynamic() || relationship.hasRelationshipProperties()) {
+			return false;
+		}
+
+		Snapshot snapshot = getSnapshot(entity, instance);
+		if (snapshot == null) {
+			return false;
+		}
+
+		Set<Object> previousIds = snapshot.relatedIds().get(relationship.getFieldName());
+		return previousIds != null && previousIds.equals(getRelatedIds(relatedValues));
+	}
+
+	/**
+	 * Retrieves the snapshot of the given instance, but only if it still describes the same node: The id might have
+	 * been changed on a mutable instance after the snapshot had been taken.
+	 */
+	@Nullable
+	private Snapshot getSnapshot(Neo4jPersistentEntity<?> entity, Object instance) {
+
+		Snapshot snapshot = snapshots.get(new InstanceKey(instance, null));
+		if (snapshot == null || !Objects.equals(snapshot.id(), getId(entity, instance))) {
+			return null;
+		}
+		return snapshot;
+	}
+
+	private void expungeCollectedInstances() {
+
+		for (Object key; (key = collectedInstances.poll()) != null; ) {
+			snapshots.remove((InstanceKey) key);
+		}
+	}
+
+	@Nullable
+	private Set<Object> getRelatedIds(Collection<?> relatedValues) {
+
+		Set<Object> ids = new HashSet<>();
+		for (Object relatedValue : relatedValues) {
+			if (relatedValue == null) {
+				continue;
+			}
+			Object id = getId(mappingContext.getRequiredPersistentEntity(relatedValue.getClass()), relatedValue);
+			// Unsaved nodes are always a change
+			if (id == null) {
+				return null;
+			}
+			ids.add(id);
+		}
+		return ids;
+	}
+
+	@Nullable
+	private static Object getId(Neo4jPersistentEntity<?> entity, Object instance) {
+		Neo4jPersistentProperty idProperty = entity.getIdProperty();
+		return idProperty == null ? null : entity.getPropertyAccessor(instance).getProperty(idProperty);
+	}
+
+	/**
+	 * Remembers the key as touched by the ongoing transaction (if any), so that it can be evicted when the transaction
+	 * doesn't commit.
+	 */
+	@SuppressWarnings("unchecked")
+	private void registerWithCurrentTransaction(InstanceKey key) {
+
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			return;
+		}
+
+		Set<InstanceKey> touchedKeys = (Set<InstanceKey>) TransactionSynchronizationManager.getResource(this);
+		if (touchedKeys == null) {
+			Set<InstanceKey> newKeys = new HashSet<>();
+			TransactionSynchronizationManager.bindResource(this, newKeys);
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCompletion(int status) {
+					TransactionSynchronizationManager.unbindResourceIfPossible(EntitySnapshots.this);
+					if (status != STATUS_COMMITTED) {
+						newKeys.forEach(snapshots::remove);
+					}
+				}
+			});
+			touchedKeys = newKeys;
+		}
+		touchedKeys.add(key);
+	}
+
+	/**
+	 * Weakly references an instance and compares by identity of the referenced instance. Keys whose instance has been
+	 * collected are only equal to themselves.
+	 */
+	static final class InstanceKey extends WeakReference<Object> {
+
+		private final int hashCode;
+
+		InstanceKey(Object instance, @Nullable ReferenceQueue<Object> queue) {
+			super(instance, queue);
+			this.hashCode = System.identityHashCode(instance);
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (!(o instanceof InstanceKey other)) {
+				return false;
+			}
+			Object instance = get();
+			return instance != null && instance == other.get();
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+	}
+
+	record Snapshot(Class<?> type, Object id, Map<String, Object> properties, Map<String, Set<Object>> relatedIds) {
+	}
+}
@@ -160,6 +160,12 @@ final class FluentOperationSupport implements FluentFindOperation, FluentSaveOpe
 			return doSave(instances);
 		}
 
+		@Override
+		public <T> List<T> all(Iterable<T> instances, BulkSaveOptions options) {
+
+			return template.doSaveInBatches(instances, domainType, options);
+		}
+
 		private <T> List<T> doSave(Iterable<T> instances) {
 			return template.doSave(instances, domainType);
 		}
@@ -67,5 +67,18 @@ public interface FluentSaveOperation {
 		 * after the save operation
 		 */
 		<T> List<T> all(Iterable<T> instances);
+
+		/**
+		 * Saves the instances in batches, see {@link Neo4jOperations#saveAllInBatches(Iterable, BulkSaveOptions)}.
+		 *
+		 * @param instances The instances to be saved
+		 * @param options   The batch size and whether to commit after each batch
+		 * @param <T>       The type of the instances passed to this method. It should be the same as the domain type before
+		 *                  or a projection of the domain type. If they are not related, the results may be undefined.
+		 * @return The saved instances, can also be a new objects, so you are recommended to use those instances
+		 * after the save operation
+		 * @since 7.4
+		 */
+		<T> List<T> all(Iterable<T> instances, BulkSaveOptions options);
 	}
 }
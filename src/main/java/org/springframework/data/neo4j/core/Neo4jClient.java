@@ -15,15 +15,19 @@
  */
 package org.springframework.data.neo4j.core;
 
+import io.micrometer.observation.ObservationRegistry;
+
 import java.util.Collection;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import org.apache.commons.logging.LogFactory;
 import org.apiguardian.api.API;
+import org.neo4j.driver.AccessMode;
 import org.neo4j.driver.Driver;
 import org.neo4j.driver.QueryRunner;
 import org.neo4j.driver.Record;
@@ -31,6 +35,7 @@ import org.neo4j.driver.summary.ResultSummary;
 import org.neo4j.driver.types.TypeSystem;
 import org.springframework.core.log.LogAccessor;
 import org.springframework.data.neo4j.core.convert.Neo4jConversions;
+import org.springframework.data.neo4j.core.observation.QueryObservationConvention;
 import org.springframework.data.neo4j.core.transaction.Neo4jBookmarkManager;
 import org.springframework.lang.Nullable;
 
@@ -83,6 +88,12 @@ public interface Neo4jClient {
 		@Nullable
 		Neo4jBookmarkManager bookmarkManager;
 
+		@Nullable
+		ObservationRegistry observationRegistry;
+
+		@Nullable
+		QueryObservationConvention observationConvention;
+
 		private Builder(Driver driver) {
 			this.driver = driver;
 		}
@@ -139,6 +150,33 @@ public interface Neo4jClient {
 			return this;
 		}
 
+		/**
+		 * Configures the {@link ObservationRegistry} to use. When configured, each statement executed through the client
+		 * is recorded as a {@link org.springframework.data.neo4j.core.observation.Neo4jObservation#QUERY query observation},
+		 * including the consumption of the result and the mapping of the records.
+		 *
+		 * @param observationRegistry The registry to use, can be {@literal null}, in which case nothing is observed
+		 * @return The builder
+		 * @since 7.4
+		 */
+		public Builder withObservationRegistry(@Nullable ObservationRegistry observationRegistry) {
+			this.observationRegistry = observationRegistry;
+			return this;
+		}
+
+		/**
+		 * Configures a custom convention for the query observations.
+		 *
+		 * @param observationConvention The convention to use, can be {@literal null}, in which case the
+		 *                              {@link org.springframework.data.neo4j.core.observation.DefaultQueryObservationConvention default} is used
+		 * @return The builder
+		 * @since 7.4
+		 */
+		public Builder withObservationConvention(@Nullable QueryObservationConvention observationConvention) {
+			this.observationConvention = observationConvention;
+			return this;
+		}
+
 		public Neo4jClient build() {
 			return new DefaultNeo4jClient(this);
 		}
@@ -243,6 +281,41 @@ public interface Neo4jClient {
 		 * @return The native summary of the query.
 		 */
 		ResultSummary run();
+
+		/**
+		 * Hints the access mode of the query, so that it can be routed to the members of a cluster accordingly. The hint
+		 * only applies to sessions opened by the client itself, queries participating in an ongoing transaction use the
+		 * access mode of that transaction. Without a hint, {@link #fetch()} and {@link #fetchAs(Class)} infer
+		 * {@link AccessMode#READ} when called within a read-only transaction definition, all other queries use
+		 * {@link AccessMode#WRITE}.
+		 *
+		 * @param accessMode The access mode to use
+		 * @return A runnable query specification using the given access mode
+		 * @since 7.4
+		 */
+		RunnableSpec withAccessMode(AccessMode accessMode);
+
+		/**
+		 * Configures the number of records fetched from the server per batch. Like {@link #withAccessMode(AccessMode)},
+		 * this only applies to sessions opened by the client itself, the fetch size of sessions opened by a transaction
+		 * manager is configured on the transaction manager or, globally, on the driver.
+		 *
+		 * @param fetchSize The number of records per batch, {@literal -1} to fetch all records at once
+		 * @return A runnable query specification using the given fetch size
+		 * @since 7.4
+		 */
+		RunnableSpec withFetchSize(long fetchSize);
+
+		/**
+		 * Runs the query in an implicit (auto-commit) transaction of a session opened by the client itself. The query does
+		 * not take part in any ongoing transaction, neither in a managed one nor in one synchronized with a foreign
+		 * transaction manager. This is only needed for statements that are not allowed in explicit transactions, such as
+		 * {@code CALL { } IN TRANSACTIONS}.
+		 *
+		 * @return A runnable query specification running in an implicit transaction
+		 * @since 7.4
+		 */
+		RunnableSpec inImplicitTransaction();
 	}
 
 	/**
@@ -385,6 +458,16 @@ public interface Neo4jClient {
 		 * @return All records.
 		 */
 		Collection<T> all();
+
+		/**
+		 * Fetches all records lazily. The records are pulled from the server while the stream is consumed. Outside a
+		 * managed transaction, the stream holds on to a session until it is closed, so it must be closed after use,
+		 * preferably with a try-with-resources block.
+		 *
+		 * @return A stream of all records.
+		 * @since 7.4
+		 */
+		Stream<T> stream();
 	}
 
 	/**
@@ -19,9 +19,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.BiPredicate;
+import java.util.stream.Stream;
 
 import org.apiguardian.api.API;
 import org.neo4j.cypherdsl.core.Statement;
+import org.neo4j.driver.summary.SummaryCounters;
 import org.springframework.dao.IncorrectResultSizeDataAccessException;
 import org.springframework.data.mapping.PropertyPath;
 import org.springframework.data.neo4j.core.mapping.Neo4jPersistentProperty;
@@ -233,6 +235,21 @@ public interface Neo4jOperations {
 	 */
 	<T> List<T> saveAll(Iterable<T> instances);
 
+	/**
+	 * Saves a potentially large number of instances of the same entity in batches. Other than {@link #saveAll(Iterable)},
+	 * the root nodes of versioned entities and of entities with dynamic labels are written with one statement per batch
+	 * as well, instead of one statement per instance. The optimistic lock checks are done for the whole batch and
+	 * an {@link org.springframework.dao.OptimisticLockingFailureException} is thrown if any of them fails.
+	 * Entities using internal ids are still saved one by one.
+	 *
+	 * @param instances the instances to be saved. Must not be {@code null}.
+	 * @param options   the batch size and whether to commit after each batch
+	 * @param <T>       the type of the entity.
+	 * @return the saved instances.
+	 * @since 7.4
+	 */
+	<T> List<T> saveAllInBatches(Iterable<T> instances, BulkSaveOptions options);
+
 	/**
 	 * Saves several instances of an entity, using the provided predicate to shape the stored graph. One can think of the predicate
 	 * as a dynamic projection. If you want to save or update properties of associations (aka related nodes), you must include
@@ -291,6 +308,32 @@ public interface Neo4jOperations {
 	 */
 	void deleteAll(Class<?> domainType);
 
+	/**
+	 * Deletes all entities of a given type on the server in batches, committing each batch in a transaction of its own,
+	 * so that the memory needed is bounded by the size of a batch. Other than {@link #deleteAll(Class)}, this operation
+	 * never participates in an ongoing transaction.
+	 *
+	 * @param domainType type of the entities to be deleted. Must not be {@code null}.
+	 * @param options    the number of nodes deleted per transaction
+	 * @return the counters of the deletion, containing the total number of deleted nodes and relationships
+	 * @since 7.4
+	 */
+	SummaryCounters deleteAllInBatches(Class<?> domainType, BulkDeleteOptions options);
+
+	/**
+	 * Deletes all entities with one of the given ids on the server in batches, committing each batch in a transaction of
+	 * its own. Other than {@link #deleteAllById(Iterable, Class)}, this operation never participates in an ongoing
+	 * transaction.
+	 *
+	 * @param ids        the ids of the entities to be deleted. Must not be {@code null}.
+	 * @param domainType the type of the entity
+	 * @param options    the number of nodes deleted per transaction
+	 * @param <T>        the type of the entity.
+	 * @return the counters of the deletion, containing the total number of deleted nodes and relationships
+	 * @since 7.4
+	 */
+	<T> SummaryCounters deleteAllByIdInBatches(Iterable<?> ids, Class<T> domainType, BulkDeleteOptions options);
+
 	/**
 	 * Takes a prepared query, containing all the information about the cypher template to be used, needed parameters and
 	 * an optional mapping function, and turns it into an executable query.
@@ -336,5 +379,26 @@ public interface Neo4jOperations {
 		 * @throws NoResultException when there is no result
 		 */
 		T getRequiredSingleResult();
+
+		/**
+		 * Returns all results as a lazily populated stream. The stream participates in an ongoing transaction or opens
+		 * a session on its own that stays open until the stream is closed. Callers must close the stream after use.
+		 *
+		 * @return A stream of all results
+		 * @since 7.4
+		 */
+		Stream<T> stream();
+
+		/**
+		 * Returns the total number of results a paged query returned alongside its records. The total is only available
+		 * after the query has been executed, if the query has been created to include it and if it returned at least one
+		 * record.
+		 *
+		 * @return The total number of results of the last execution, if available
+		 * @since 7.4
+		 */
+		default Optional<Long> getTotalCount() {
+			return Optional.empty();
+		}
 	}
 }
@@ -25,18 +25,22 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.apache.commons.logging.LogFactory;
 import org.apiguardian.api.API;
@@ -52,7 +56,7 @@ import org.neo4j.driver.Value;
 import org.neo4j.driver.Values;
 import org.neo4j.driver.exceptions.NoSuchRecordException;
 import org.neo4j.driver.summary.ResultSummary;
-import org.neo4j.driver.types.Entity;
+import org.neo4j.driver.summary.SummaryCounters;
 import org.neo4j.driver.types.MapAccessor;
 import org.neo4j.driver.types.TypeSystem;
 import org.springframework.beans.BeansException;
@@ -66,6 +70,8 @@ import org.springframework.data.mapping.Association;
 import org.springframework.data.mapping.PersistentPropertyAccessor;
 import org.springframework.data.mapping.PropertyPath;
 import org.springframework.data.mapping.callback.EntityCallbacks;
+import org.springframework.data.neo4j.core.RenderedStatementCache.Key;
+import org.springframework.data.neo4j.core.RenderedStatementCache.Operation;
 import org.springframework.data.neo4j.core.TemplateSupport.NodesAndRelationshipsByIdStatementProvider;
 import org.springframework.data.neo4j.core.mapping.AssociationHandlerSupport;
 import org.springframework.data.neo4j.core.mapping.Constants;
@@ -89,7 +95,10 @@ import org.springframework.data.neo4j.core.mapping.RelationshipDescription;
 import org.springframework.data.neo4j.core.mapping.SpringDataCypherDsl;
 import org.springframework.data.neo4j.core.mapping.callback.EventSupport;
 import org.springframework.data.neo4j.core.schema.TargetNode;
+import org.springframework.data.neo4j.core.transaction.Neo4jIdentityMap;
 import org.springframework.data.neo4j.core.transaction.Neo4jTransactionManager;
+import org.springframework.data.neo4j.core.transaction.RetryingTransactionTemplate;
+import org.springframework.data.neo4j.core.transaction.TransactionRetryPolicy;
 import org.springframework.data.neo4j.repository.NoResultException;
 import org.springframework.data.neo4j.repository.query.QueryFragments;
 import org.springframework.data.neo4j.repository.query.QueryFragmentsAndParameters;
@@ -101,6 +110,8 @@ import org.springframework.lang.NonNull;
 import org.springframework.lang.Nullable;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.Assert;
 
@@ -129,6 +140,24 @@ public final class Neo4jTemplate implements
 		}
 	};
 
+	private static final TransactionDefinition requiresNewTransactionDefinition = new TransactionDefinition() {
+		@Override
+		public int getPropagationBehavior() {
+			return PROPAGATION_REQUIRES_NEW;
+		}
+	};
+
+	/**
+	 * {@code CALL { } IN TRANSACTIONS} is only allowed in implicit transactions. Such statements are run with
+	 * {@link Neo4jClient.RunnableSpec#inImplicitTransaction()}, and any ongoing transaction is suspended meanwhile.
+	 */
+	private static final TransactionDefinition notSupportedTransactionDefinition = new TransactionDefinition() {
+		@Override
+		public int getPropagationBehavior() {
+			return PROPAGATION_NOT_SUPPORTED;
+		}
+	};
+
 	private final Neo4jClient neo4jClient;
 
 	private final Neo4jMappingContext neo4jMappingContext;
@@ -143,12 +172,42 @@ public final class Neo4jTemplate implements
 
 	private Renderer renderer;
 
+	private RenderedStatementCache renderedStatementCache;
+
 	private Function<Named, FunctionInvocation> elementIdOrIdFunction;
 
 	private TransactionTemplate transactionTemplate;
 
 	private TransactionTemplate transactionTemplateReadOnly;
 
+	private TransactionTemplate transactionTemplateRequiresNew;
+
+	private TransactionTemplate transactionTemplateNotSupported;
+
+	@Nullable
+	private PlatformTransactionManager transactionManager;
+
+	@Nullable
+	private TransactionRetryPolicy transactionRetryPolicy;
+
+	@Nullable
+	private Long fetchSize;
+
+	private boolean batchCascadingSaves = false;
+
+	private int cyclicGraphLoadingMaxDepth = 0;
+
+	@Nullable
+	private EntitySnapshots entitySnapshots;
+
+	@Nullable
+	private EntityCache entityCache;
+
+	/**
+	 * Only instances of immutable types are shared through the entity cache.
+	 */
+	private final Map<Class<?>, Boolean> immutableTypes = new ConcurrentHashMap<>();
+
 	public Neo4jTemplate(Neo4jClient neo4jClient) {
 		this(neo4jClient, new Neo4jMappingContext());
 	}
@@ -177,6 +236,7 @@ public final class Neo4jTemplate implements
 		this.cypherGenerator = CypherGenerator.INSTANCE;
 		this.eventSupport = EventSupport.useExistingCallbacks(neo4jMappingContext, entityCallbacks);
 		this.renderer = Renderer.getDefaultRenderer();
+		this.renderedStatementCache = new RenderedStatementCache(this.renderer);
 		this.elementIdOrIdFunction = SpringDataCypherDsl.elementIdOrIdFunction.apply(null);
 		setTransactionManager(platformTransactionManager);
 	}
@@ -230,7 +290,9 @@ public final class Neo4jTemplate implements
 		return transactionTemplateReadOnly
 				.execute(tx -> {
 					Neo4jPersistentEntity<?> entityMetaData = neo4jMappingContext.getRequiredPersistentEntity(domainType);
-					return createExecutableQuery(domainType, resultType, QueryFragmentsAndParameters.forFindAll(entityMetaData))
+					Collection<PropertyFilter.ProjectedPath> projectedPaths = TemplateSupport.computeProjectedPaths(
+							neo4jMappingContext, projectionFactory, domainType, resultType);
+					return createExecutableQuery(domainType, resultType, QueryFragmentsAndParameters.forFindAll(entityMetaData, projectedPaths))
 							.getResults();
 				});
 	}
@@ -339,10 +401,20 @@ public final class Neo4jTemplate implements
 				.execute(tx -> {
 					Neo4jPersistentEntity<?> entityMetaData = neo4jMappingContext.getRequiredPersistentEntity(domainType);
 
-					return createExecutableQuery(domainType, null,
+					Neo4jIdentityMap identityMap = getCurrentIdentityMap();
+					EntityCache cache = getEntityCacheForReading(domainType);
+					T knownInstance = getKnownInstance(identityMap, cache, domainType, id);
+					if (knownInstance != null) {
+						return Optional.of(knownInstance);
+					}
+
+					long generation = cache == null ? 0 : cache.currentGeneration();
+					Optional<T> result = createExecutableQuery(domainType, null,
 							QueryFragmentsAndParameters.forFindById(entityMetaData,
 									convertIdValues(entityMetaData.getRequiredIdProperty(), id)))
 							.getSingleResult();
+					result.ifPresent(instance -> remember(identityMap, cache, generation, domainType, getId(entityMetaData, instance), instance));
+					return result;
 				});
 	}
 
@@ -352,13 +424,125 @@ public final class Neo4jTemplate implements
 				.execute(tx -> {
 					Neo4jPersistentEntity<?> entityMetaData = neo4jMappingContext.getRequiredPersistentEntity(domainType);
 
-					return createExecutableQuery(domainType, null,
+					Neo4jIdentityMap identityMap = getCurrentIdentityMap();
+					EntityCache cache = getEntityCacheForReading(domainType);
+					if (identityMap == null && cache == null) {
+						return createExecutableQuery(domainType, null,
+								QueryFragmentsAndParameters.forFindByAllId(
+										entityMetaData, convertIdValues(entityMetaData.getRequiredIdProperty(), ids)))
+								.getResults();
+					}
+
+					List<T> result = new ArrayList<>();
+					Set<Object> knownInstances = Collections.newSetFromMap(new IdentityHashMap<>());
+					Set<Object> missingIds = new LinkedHashSet<>();
+					for (Object id : ids) {
+						T knownInstance = getKnownInstance(identityMap, cache, domainType, id);
+						if (knownInstance == null) {
+							missingIds.add(id);
+						} else if (knownInstances.add(knownInstance)) {
+							result.add(knownInstance);
+						}
+					}
+					if (missingIds.isEmpty()) {
+						return result;
+					}
+
+					long generation = cache == null ? 0 : cache.currentGeneration();
+					List<T> loadedInstances = createExecutableQuery(domainType, null,
 							QueryFragmentsAndParameters.forFindByAllId(
-									entityMetaData, convertIdValues(entityMetaData.getRequiredIdProperty(), ids)))
+									entityMetaData, convertIdValues(entityMetaData.getRequiredIdProperty(), missingIds)))
 							.getResults();
+					for (T instance : loadedInstances) {
+						remember(identityMap, cache, generation, domainType, getId(entityMetaData, instance), instance);
+						result.add(instance);
+					}
+					return result;
 				});
 	}
 
+	/**
+	 * {@return the identity map of the ongoing transaction, if the transaction manager of this template provides one}
+	 */
+	@Nullable
+	private Neo4jIdentityMap getCurrentIdentityMap() {
+		return transactionManager instanceof Neo4jTransactionManager neo4jTransactionManager
+				? neo4jTransactionManager.getCurrentIdentityMap()
+				: null;
+	}
+
+	/**
+	 * {@return the entity cache of this template, if it caches instances of the given type}
+	 */
+	@Nullable
+	private EntityCache getEntityCache(Class<?> domainType) {
+		EntityCache cache = this.entityCache;
+		return cache != null && cache.supports(domainType) ? cache : null;
+	}
+
+	/**
+	 * {@return the entity cache of this template, if it caches instances of the given type and the instances are immutable}
+	 */
+	@Nullable
+	private EntityCache getEntityCacheForReading(Class<?> domainType) {
+		EntityCache cache = getEntityCache(domainType);
+		return cache != null && immutableTypes.computeIfAbsent(domainType,
+				type -> TemplateSupport.isImmutable(neo4jMappingContext.getRequiredPersistentEntity(type))) ? cache : null;
+	}
+
+	@Nullable
+	private static <T> T getKnownInstance(@Nullable Neo4jIdentityMap identityMap, @Nullable EntityCache cache,
+			Class<T> domainType, Object id) {
+
+		T knownInstance = identityMap == null ? null : identityMap.get(domainType, id);
+		if (knownInstance == null && cache != null) {
+			knownInstance = cache.get(domainType, id);
+			if (knownInstance != null && identityMap != null) {
+				identityMap.put(domainType, id, knownInstance);
+			}
+		}
+		return knownInstance;
+	}
+
+	private static void remember(@Nullable Neo4jIdentityMap identityMap, @Nullable EntityCache cache, long generation,
+			Class<?> domainType, @Nullable Object id, Object instance) {
+
+		if (identityMap != null) {
+			identityMap.put(domainType, id, instance);
+		}
+		if (cache != null && id != null) {
+			cache.put(id, instance, generation);
+		}
+	}
+
+	/**
+	 * Evicts instances from the entity cache immediately and again after the ongoing transaction completed, so that
+	 * instances that have been read concurrently before the transaction committed don't stay in the cache.
+	 */
+	private void evictFromEntityCache(Class<?> domainType, @Nullable Collection<?> ids) {
+
+		EntityCache cache = getEntityCache(domainType);
+		if (cache == null) {
+			return;
+		}
+
+		cache.evict(domainType, ids);
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCompletion(int status) {
+					cache.evict(domainType, ids);
+				}
+			});
+		}
+	}
+
+	@Nullable
+	private static Object getId(Neo4jPersistentEntity<?> entityMetaData, Object instance) {
+		Neo4jPersistentProperty idProperty = entityMetaData.getIdProperty();
+		return idProperty == null ? null : entityMetaData.getPropertyAccessor(instance).getProperty(idProperty);
+	}
+
 	private Object convertIdValues(@Nullable Neo4jPersistentProperty idProperty, @Nullable Object idValues) {
 
 		if (idProperty != null && ((Neo4jPersistentEntity<?>) idProperty.getOwner()).isUsingInternalIds()) {
@@ -448,11 +632,17 @@ public final class Neo4jTemplate implements
 				includedProperties, entityMetaData,
 				neo4jMappingContext.getRequiredBinderFunctionFor((Class<T>) entityToBeSaved.getClass())
 		);
-		Optional<Entity> newOrUpdatedNode = neo4jClient
-				.query(() -> renderer.render(cypherGenerator.prepareSaveOf(entityMetaData, dynamicLabels, TemplateSupport.rendererRendersElementId(renderer))))
+		boolean writesWholeEntity = includedProperties == null || includedProperties.isEmpty();
+		if (entitySnapshots != null && !isEntityNew && writesWholeEntity) {
+			binderFunction = new TemplateSupport.FilteredBinderFunction<>(binderFunction.filter,
+					entitySnapshots.removeUnchangedProperties(entityMetaData, instance, binderFunction.binderFunction));
+		}
+		Optional<MapAccessor> newOrUpdatedNode = neo4jClient
+				.query(() -> renderSaveOf(entityMetaData, dynamicLabels))
 				.bind(entityToBeSaved)
 				.with(binderFunction)
-				.fetchAs(Entity.class)
+				.fetchAs(MapAccessor.class)
+				.mappedBy((t, r) -> r)
 				.one();
 
 		if (newOrUpdatedNode.isEmpty()) {
@@ -463,12 +653,7 @@ public final class Neo4jTemplate implements
 			throw new IllegalStateException("Could not retrieve an internal id while saving");
 		}
 
-		Object elementId = newOrUpdatedNode.map(node -> {
-			if (!entityMetaData.isUsingDeprecatedInternalId() && TemplateSupport.rendererRendersElementId(renderer)) {
-				return IdentitySupport.getElementId(node);
-			}
-			return node.id();
-		}).get();
+		Object elementId = TemplateSupport.getIdOrElementId(entityMetaData, newOrUpdatedNode.get(), renderedStatementCache.rendersElementId());
 
 		PersistentPropertyAccessor<T> propertyAccessor = entityMetaData.getPropertyAccessor(entityToBeSaved);
 		TemplateSupport.setGeneratedIdIfNecessary(entityMetaData, propertyAccessor, elementId, newOrUpdatedNode);
@@ -479,13 +664,49 @@ public final class Neo4jTemplate implements
 		}
 
 		stateMachine.markEntityAsProcessed(instance, elementId);
-		processRelations(entityMetaData, propertyAccessor, isEntityNew, stateMachine, binderFunction.filter);
+		processRelations(entityMetaData, instance, propertyAccessor, isEntityNew, stateMachine, binderFunction.filter);
 
 		T bean = propertyAccessor.getBean();
 		stateMachine.markAsAliased(instance, bean);
+		updateSnapshot(entityMetaData, instance, bean, writesWholeEntity);
+		updateIdentityMap(entityMetaData, bean, writesWholeEntity);
 		return bean;
 	}
 
+	private void updateSnapshot(Neo4jPersistentEntity<?> entityMetaData, Object originalInstance, Object savedInstance, boolean writesWholeEntity) {
+
+		if (entitySnapshots == null) {
+			return;
+		}
+		if (originalInstance != savedInstance) {
+			entitySnapshots.evict(originalInstance);
+		}
+		if (writesWholeEntity) {
+			entitySnapshots.refresh(entityMetaData, savedInstance);
+		} else {
+			// Properties that have not been written are unknown now
+			entitySnapshots.evict(savedInstance);
+		}
+	}
+
+	private void updateIdentityMap(Neo4jPersistentEntity<?> entityMetaData, Object savedInstance, boolean writesWholeEntity) {
+
+		Object id = getId(entityMetaData, savedInstance);
+		if (id != null) {
+			evictFromEntityCache(entityMetaData.getType(), Set.of(id));
+		}
+
+		Neo4jIdentityMap identityMap = getCurrentIdentityMap();
+		if (identityMap == null) {
+			return;
+		}
+		if (writesWholeEntity) {
+			identityMap.put(entityMetaData.getType(), id, savedInstance);
+		} else {
+			identityMap.evict(entityMetaData.getType(), id);
+		}
+	}
+
 	@SuppressWarnings("unchecked")
 	private <T> DynamicLabels determineDynamicLabels(T entityToBeSaved, Neo4jPersistentEntity<?> entityMetaData) {
 		return entityMetaData.getDynamicLabelsProperty().map(p -> {
@@ -493,7 +714,9 @@ public final class Neo4jTemplate implements
 			PersistentPropertyAccessor<T> propertyAccessor = entityMetaData.getPropertyAccessor(entityToBeSaved);
 			Neo4jPersistentProperty idProperty = entityMetaData.getRequiredIdProperty();
 			Neo4jClient.RunnableSpec runnableQuery = neo4jClient
-					.query(() -> renderer.render(cypherGenerator.createStatementReturningDynamicLabels(entityMetaData)))
+					.query(() -> renderedStatementCache.getOrRender(
+							Key.of(Operation.FETCH_DYNAMIC_LABELS, entityMetaData),
+							() -> cypherGenerator.createStatementReturningDynamicLabels(entityMetaData)))
 					.bind(convertIdValues(idProperty, propertyAccessor.getProperty(idProperty)))
 					.to(Constants.NAME_OF_ID).bind(entityMetaData.getStaticLabels())
 					.to(Constants.NAME_OF_STATIC_LABELS_PARAM);
@@ -524,6 +747,17 @@ public final class Neo4jTemplate implements
 	}
 
 	private <T> List<T> saveAllImpl(Iterable<T> instances, @Nullable Collection<PropertyFilter.ProjectedPath> includedProperties, @Nullable BiPredicate<PropertyPath, Neo4jPersistentProperty> includeProperty) {
+		return saveAllImpl(instances, includedProperties, includeProperty, false);
+	}
+
+	/**
+	 * Saves all instances, using one {@code UNWIND} based statement for the root nodes if possible.
+	 *
+	 * @param bulk {@literal true} if versioned entities or entities with dynamic labels should be saved in one statement
+	 *             as well
+	 */
+	private <T> List<T> saveAllImpl(Iterable<T> instances, @Nullable Collection<PropertyFilter.ProjectedPath> includedProperties,
+			@Nullable BiPredicate<PropertyPath, Neo4jPersistentProperty> includeProperty, boolean bulk) {
 
 		Set<Class<?>> types = new HashSet<>();
 		List<T> entities = new ArrayList<>();
@@ -546,7 +780,10 @@ public final class Neo4jTemplate implements
 
 		Neo4jPersistentEntity<?> entityMetaData = neo4jMappingContext.getRequiredPersistentEntity(domainClass);
 
-		if (requiresSingleStatements(heterogeneousCollection, entityMetaData)) {
+		boolean singleStatements = bulk
+				? heterogeneousCollection || entityMetaData.isUsingInternalIds()
+				: requiresSingleStatements(heterogeneousCollection, entityMetaData);
+		if (singleStatements) {
 			log.debug("Saving entities using single statements.");
 
 			NestedRelationshipProcessingStateMachine stateMachine = new NestedRelationshipProcessingStateMachine(neo4jMappingContext);
@@ -575,14 +812,24 @@ public final class Neo4jTemplate implements
 		binderFunction = TemplateSupport.createAndApplyPropertyFilter(pps, entityMetaData, binderFunction);
 		List<Map<String, Object>> entityList = entitiesToBeSaved.stream().map(h -> h.modifiedInstance).map(binderFunction)
 				.collect(Collectors.toList());
-		Map<Value, String> idToInternalIdMapping = neo4jClient
-				.query(() -> renderer.render(cypherGenerator.prepareSaveOfMultipleInstancesOf(entityMetaData)))
-				.bind(entityList).to(Constants.NAME_OF_ENTITY_LIST_PARAM)
-				.fetchAs(Map.Entry.class)
-				.mappedBy((t, r) -> new AbstractMap.SimpleEntry<>(r.get(Constants.NAME_OF_ID), TemplateSupport.convertIdOrElementIdToString(r.get(Constants.NAME_OF_ELEMENT_ID))))
-				.all()
-				.stream()
-				.collect(Collectors.toMap(m -> (Value) m.getKey(), m -> (String) m.getValue()));
+		Map<Value, String> idToInternalIdMapping;
+		Map<Value, Long> idToVersionMapping = new HashMap<>();
+		if (entityMetaData.hasVersionProperty() || entityMetaData.getDynamicLabelsProperty().isPresent()) {
+			idToInternalIdMapping = bulkSaveRoots(entityMetaData,
+					entitiesToBeSaved.stream().map(h -> h.modifiedInstance).collect(Collectors.toList()), entityList,
+					idToVersionMapping);
+		} else {
+			idToInternalIdMapping = neo4jClient
+					.query(() -> renderedStatementCache.getOrRender(
+							Key.of(Operation.SAVE_ALL, entityMetaData),
+							() -> cypherGenerator.prepareSaveOfMultipleInstancesOf(entityMetaData)))
+					.bind(entityList).to(Constants.NAME_OF_ENTITY_LIST_PARAM)
+					.fetchAs(Map.Entry.class)
+					.mappedBy((t, r) -> new AbstractMap.SimpleEntry<>(r.get(Constants.NAME_OF_ID), TemplateSupport.convertIdOrElementIdToString(r.get(Constants.NAME_OF_ELEMENT_ID))))
+					.all()
+					.stream()
+					.collect(Collectors.toMap(m -> (Value) m.getKey(), m -> (String) m.getValue()));
+		}
 
 		// Save related
 		var stateMachine = new NestedRelationshipProcessingStateMachine(neo4jMappingContext, null, null);
@@ -591,11 +838,134 @@ public final class Neo4jTemplate implements
 			Neo4jPersistentProperty idProperty = entityMetaData.getRequiredIdProperty();
 			Object id = convertIdValues(idProperty, propertyAccessor.getProperty(idProperty));
 			String internalId = idToInternalIdMapping.get(id);
+			if (entityMetaData.hasVersionProperty()) {
+				propertyAccessor.setProperty(entityMetaData.getRequiredVersionProperty(), idToVersionMapping.get(id));
+			}
 			stateMachine.registerInitialObject(t.originalInstance, internalId);
-			return this.<T>processRelations(entityMetaData, propertyAccessor, t.wasNew, stateMachine, TemplateSupport.computeIncludePropertyPredicate(pps, entityMetaData));
+			T bean = this.<T>processRelations(entityMetaData, t.originalInstance, propertyAccessor, t.wasNew, stateMachine, TemplateSupport.computeIncludePropertyPredicate(pps, entityMetaData));
+			updateSnapshot(entityMetaData, t.originalInstance, bean, pps == null || pps.isEmpty());
+			updateIdentityMap(entityMetaData, bean, pps == null || pps.isEmpty());
+			return bean;
 		}).collect(Collectors.toList());
 	}
 
+	/**
+	 * Saves the root nodes of versioned entities or entities with dynamic labels in as few statements as possible. The
+	 * current dynamic labels of all nodes are retrieved with one statement, the nodes are then grouped by the labels
+	 * that need to be removed and added and each group is saved with one statement. A missing row in the result of a
+	 * versioned entity means that the optimistic lock check failed.
+	 *
+	 * @param entityMetaData     The common entity
+	 * @param instances          The instances to save
+	 * @param entityList         The bound instances, in the same order as {@code instances}
+	 * @param idToVersionMapping Will be filled with the new versions of all saved nodes
+	 * @return A mapping from the ids of the saved nodes to their element ids
+	 */
+	@SuppressWarnings("unchecked")
+	private Map<Value, String> bulkSaveRoots(Neo4jPersistentEntity<?> entityMetaData, List<?> instances,
+			List<Map<String, Object>> entityList, Map<Value, Long> idToVersionMapping) {
+
+		Map<DynamicLabelChange, List<Map<String, Object>>> rowsByLabelChange = new LinkedHashMap<>();
+		Optional<Neo4jPersistentProperty> optionalDynamicLabelsProperty = entityMetaData.getDynamicLabelsProperty();
+		if (optionalDynamicLabelsProperty.isPresent()) {
+			Neo4jPersistentProperty dynamicLabelsProperty = optionalDynamicLabelsProperty.get();
+			List<Object> ids = entityList.stream().map(row -> row.get(Constants.NAME_OF_ID)).collect(Collectors.toList());
+			Map<Value, Collection<String>> existingLabels = new HashMap<>();
+			neo4jClient
+					.query(() -> renderedStatementCache.getOrRender(
+							Key.of(Operation.FETCH_DYNAMIC_LABELS_OF_ALL, entityMetaData),
+							() -> cypherGenerator.createStatementReturningDynamicLabelsOfMultipleInstances(entityMetaData)))
+					.bind(ids).to(Constants.NAME_OF_IDS)
+					.bind(entityMetaData.getStaticLabels()).to(Constants.NAME_OF_STATIC_LABELS_PARAM)
+					.fetch()
+					.all()
+					.forEach(r -> existingLabels.put(Values.value(r.get(Constants.NAME_OF_ID)), (Collection<String>) r.get(Constants.NAME_OF_LABELS)));
+
+			for (int i = 0; i < instances.size(); ++i) {
+				Map<String, Object> row = entityList.get(i);
+				Collection<String> newLabels = (Collection<String>) entityMetaData.getPropertyAccessor(instances.get(i)).getProperty(dynamicLabelsProperty);
+				DynamicLabelChange change = new DynamicLabelChange(
+						new HashSet<>(existingLabels.getOrDefault((Value) row.get(Constants.NAME_OF_ID), Collections.emptyList())),
+						newLabels == null ? Collections.emptySet() : new HashSet<>(newLabels));
+				rowsByLabelChange.computeIfAbsent(change, k -> new ArrayList<>()).add(row);
+			}
+		} else {
+			rowsByLabelChange.put(DynamicLabelChange.NONE, entityList);
+		}
+
+		Map<Value, String> idToInternalIdMapping = new HashMap<>();
+		rowsByLabelChange.forEach((change, rows) -> {
+			Supplier<Statement> statement = () -> cypherGenerator.prepareBulkSaveOfMultipleInstancesOf(entityMetaData,
+					new DynamicLabels(entityMetaData, change.oldLabels(), change.newLabels()));
+			Key key = change.isEmpty() ? Key.of(Operation.BULK_SAVE, entityMetaData) : null;
+
+			Collection<Map<String, Object>> savedNodes = neo4jClient
+					.query(() -> renderedStatementCache.getOrRender(key, statement))
+					.bind(rows).to(Constants.NAME_OF_ENTITY_LIST_PARAM)
+					.fetch()
+					.all();
+			if (savedNodes.size() != rows.size()) {
+				if (entityMetaData.hasVersionProperty()) {
+					throw new OptimisticLockingFailureException(OPTIMISTIC_LOCKING_ERROR_MESSAGE);
+				}
+				// defensive exception throwing
+				throw new IllegalStateException("Could not retrieve the ids of all saved nodes");
+			}
+			savedNodes.forEach(savedNode -> {
+				Value id = Values.value(savedNode.get(Constants.NAME_OF_ID));
+				idToInternalIdMapping.put(id, TemplateSupport.convertIdOrElementIdToString(savedNode.get(Constants.NAME_OF_ELEMENT_ID)));
+				if (entityMetaData.hasVersionProperty()) {
+					idToVersionMapping.put(id, (Long) savedNode.get(Constants.NAME_OF_VERSION_PARAM));
+				}
+			});
+		});
+		return idToInternalIdMapping;
+	}
+
+	/**
+	 * The dynamic labels that need to be removed from and added to a group of nodes.
+	 */
+	private record DynamicLabelChange(Set<String> oldLabels, Set<String> newLabels) {
+
+		static final DynamicLabelChange NONE = new DynamicLabelChange(Collections.emptySet(), Collections.emptySet());
+
+		boolean isEmpty() {
+			return oldLabels.isEmpty() && newLabels.isEmpty();
+		}
+	}
+
+	@Override
+	public <T> List<T> saveAllInBatches(Iterable<T> instances, BulkSaveOptions options) {
+
+		Assert.notNull(options, "Bulk save options are required");
+		if (options.isCommitPerBatch()) {
+			return saveInBatchesImpl(instances, options, Collections.emptySet());
+		}
+		return transactionTemplate
+				.execute(tx -> saveInBatchesImpl(instances, options, Collections.emptySet()));
+	}
+
+	private <T> List<T> saveInBatchesImpl(Iterable<T> instances, BulkSaveOptions options,
+			@Nullable Collection<PropertyFilter.ProjectedPath> includedProperties) {
+
+		TransactionTemplate transactionTemplateForBatch = options.isCommitPerBatch() ? transactionTemplateRequiresNew : transactionTemplate;
+		List<T> savedInstances = new ArrayList<>();
+		List<T> batch = new ArrayList<>();
+		for (T instance : instances) {
+			batch.add(instance);
+			if (batch.size() == options.getBatchSize()) {
+				List<T> currentBatch = batch;
+				savedInstances.addAll(transactionTemplateForBatch.execute(tx -> saveAllImpl(currentBatch, includedProperties, null, true)));
+				batch = new ArrayList<>();
+			}
+		}
+		if (!batch.isEmpty()) {
+			List<T> currentBatch = batch;
+			savedInstances.addAll(transactionTemplateForBatch.execute(tx -> saveAllImpl(currentBatch, includedProperties, null, true)));
+		}
+		return savedInstances;
+	}
+
 	@Override
 	public <T> List<T> saveAllAs(Iterable<T> instances, BiPredicate<PropertyPath, Neo4jPersistentProperty> includeProperty) {
 
@@ -662,14 +1032,22 @@ public final class Neo4jTemplate implements
 
 					Neo4jPersistentEntity<?> entityMetaData = neo4jMappingContext.getRequiredPersistentEntity(domainType);
 					String nameOfParameter = "id";
-					Condition condition = entityMetaData.getIdExpression().isEqualTo(parameter(nameOfParameter));
 
 					log.debug(() -> String.format("Deleting entity with id %s ", id));
 
-					Statement statement = cypherGenerator.prepareDeleteOf(entityMetaData, condition);
-					ResultSummary summary = this.neo4jClient.query(renderer.render(statement))
+					String cypher = renderedStatementCache.getOrRender(Key.of(Operation.DELETE_BY_ID, entityMetaData),
+							() -> cypherGenerator.prepareDeleteOf(entityMetaData, entityMetaData.getIdExpression().isEqualTo(parameter(nameOfParameter))));
+					ResultSummary summary = this.neo4jClient.query(cypher)
 							.bind(convertIdValues(entityMetaData.getRequiredIdProperty(), id))
 							.to(nameOfParameter).run();
+					if (entitySnapshots != null) {
+						entitySnapshots.evict(domainType, Set.of(id));
+					}
+					evictFromEntityCache(domainType, Set.of(id));
+					Neo4jIdentityMap identityMap = getCurrentIdentityMap();
+					if (identityMap != null) {
+						identityMap.evict(domainType, id);
+					}
 
 					log.debug(() -> String.format("Deleted %d nodes and %d relationships.", summary.counters().nodesDeleted(),
 							summary.counters().relationshipsDeleted()));
@@ -713,17 +1091,62 @@ public final class Neo4jTemplate implements
 
 					Neo4jPersistentEntity<?> entityMetaData = neo4jMappingContext.getRequiredPersistentEntity(domainType);
 					String nameOfParameter = "ids";
-					Condition condition = entityMetaData.getIdExpression().in(parameter(nameOfParameter));
 
 					log.debug(() -> String.format("Deleting all entities with the following ids: %s ", ids));
 
-					Statement statement = cypherGenerator.prepareDeleteOf(entityMetaData, condition);
-					ResultSummary summary = this.neo4jClient.query(renderer.render(statement))
+					String cypher = renderedStatementCache.getOrRender(Key.of(Operation.DELETE_ALL_BY_ID, entityMetaData),
+							() -> cypherGenerator.prepareDeleteOf(entityMetaData, entityMetaData.getIdExpression().in(parameter(nameOfParameter))));
+					ResultSummary summary = this.neo4jClient.query(cypher)
+							.bind(convertIdValues(entityMetaData.getRequiredIdProperty(), ids))
+							.to(nameOfParameter).run();
+					Set<Object> evictedIds = new HashSet<>();
+					ids.forEach(evictedIds::add);
+					if (entitySnapshots != null) {
+						entitySnapshots.evict(domainType, evictedIds);
+					}
+					evictFromEntityCache(domainType, evictedIds);
+					Neo4jIdentityMap identityMap = getCurrentIdentityMap();
+					if (identityMap != null) {
+						identityMap.evictAll(domainType, evictedIds);
+					}
+
+					log.debug(() -> String.format("Deleted %d nodes and %d relationships.", summary.counters().nodesDeleted(),
+							summary.counters().relationshipsDeleted()));
+				});
+	}
+
+	@Override
+	public <T> SummaryCounters deleteAllByIdInBatches(Iterable<?> ids, Class<T> domainType, BulkDeleteOptions options) {
+
+		Assert.notNull(options, "Bulk delete options are required");
+		// The identity map of a transaction that is about to be suspended
+		Neo4jIdentityMap identityMap = getCurrentIdentityMap();
+		return transactionTemplateNotSupported
+				.execute(tx -> {
+
+					Neo4jPersistentEntity<?> entityMetaData = neo4jMappingContext.getRequiredPersistentEntity(domainType);
+					String nameOfParameter = "ids";
+
+					log.debug(() -> String.format("Deleting all entities with the following ids in batches of %d: %s ", options.getRowsPerTransaction(), ids));
+
+					Statement statement = cypherGenerator.prepareDeleteInTransactionsOf(entityMetaData,
+							entityMetaData.getIdExpression().in(parameter(nameOfParameter)), options.getRowsPerTransaction());
+					ResultSummary summary = this.neo4jClient.query(renderer.render(statement)).inImplicitTransaction()
 							.bind(convertIdValues(entityMetaData.getRequiredIdProperty(), ids))
 							.to(nameOfParameter).run();
+					Set<Object> evictedIds = new HashSet<>();
+					ids.forEach(evictedIds::add);
+					if (entitySnapshots != null) {
+						entitySnapshots.evict(domainType, evictedIds);
+					}
+					evictFromEntityCache(domainType, evictedIds);
+					if (identityMap != null) {
+						identityMap.evictAll(domainType, evictedIds);
+					}
 
 					log.debug(() -> String.format("Deleted %d nodes and %d relationships.", summary.counters().nodesDeleted(),
 							summary.counters().relationshipsDeleted()));
+					return summary.counters();
 				});
 	}
 
@@ -736,14 +1159,51 @@ public final class Neo4jTemplate implements
 					Neo4jPersistentEntity<?> entityMetaData = neo4jMappingContext.getRequiredPersistentEntity(domainType);
 					log.debug(() -> String.format("Deleting all nodes with primary label %s", entityMetaData.getPrimaryLabel()));
 
-					Statement statement = cypherGenerator.prepareDeleteOf(entityMetaData);
-					ResultSummary summary = this.neo4jClient.query(renderer.render(statement)).run();
+					String cypher = renderedStatementCache.getOrRender(Key.of(Operation.DELETE_ALL, entityMetaData),
+							() -> cypherGenerator.prepareDeleteOf(entityMetaData));
+					ResultSummary summary = this.neo4jClient.query(cypher).run();
+					if (entitySnapshots != null) {
+						entitySnapshots.evict(domainType, null);
+					}
+					evictFromEntityCache(domainType, null);
+					Neo4jIdentityMap identityMap = getCurrentIdentityMap();
+					if (identityMap != null) {
+						identityMap.evictAll(domainType, null);
+					}
 
 					log.debug(() -> String.format("Deleted %d nodes and %d relationships.", summary.counters().nodesDeleted(),
 							summary.counters().relationshipsDeleted()));
 				});
 	}
 
+	@Override
+	public SummaryCounters deleteAllInBatches(Class<?> domainType, BulkDeleteOptions options) {
+
+		Assert.notNull(options, "Bulk delete options are required");
+		// The identity map of a transaction that is about to be suspended
+		Neo4jIdentityMap identityMap = getCurrentIdentityMap();
+		return transactionTemplateNotSupported
+				.execute(tx -> {
+
+					Neo4jPersistentEntity<?> entityMetaData = neo4jMappingContext.getRequiredPersistentEntity(domainType);
+					log.debug(() -> String.format("Deleting all nodes with primary label %s in batches of %d", entityMetaData.getPrimaryLabel(), options.getRowsPerTransaction()));
+
+					Statement statement = cypherGenerator.prepareDeleteInTransactionsOf(entityMetaData, null, options.getRowsPerTransaction());
+					ResultSummary summary = this.neo4jClient.query(renderer.render(statement)).inImplicitTransaction().run();
+					if (entitySnapshots != null) {
+						entitySnapshots.evict(domainType, null);
+					}
+					evictFromEntityCache(domainType, null);
+					if (identityMap != null) {
+						identityMap.evictAll(domainType, null);
+					}
+
+					log.debug(() -> String.format("Deleted %d nodes and %d relationships.", summary.counters().nodesDeleted(),
+							summary.counters().relationshipsDeleted()));
+					return summary.counters();
+				});
+	}
+
 	private <T> ExecutableQuery<T> createExecutableQuery(Class<T> domainType, Statement statement) {
 		return createExecutableQuery(domainType, null, statement, Collections.emptyMap());
 	}
@@ -775,6 +1235,7 @@ public final class Neo4jTemplate implements
 	 * Starts of processing of the relationships.
 	 *
 	 * @param neo4jPersistentEntity  The description of the instance to save
+	 * @param parentInstance         The instance as passed to the save operation, whose snapshot (if any) is used
 	 * @param parentPropertyAccessor The property accessor of the parent, to modify the relationships
 	 * @param isParentObjectNew      A flag if the parent was new
 	 * @param stateMachine           Initial state of entity processing
@@ -784,6 +1245,7 @@ public final class Neo4jTemplate implements
 	 */
 	private <T> T processRelations(
 			Neo4jPersistentEntity<?> neo4jPersistentEntity,
+			Object parentInstance,
 			PersistentPropertyAccessor<?> parentPropertyAccessor,
 			boolean isParentObjectNew,
 			NestedRelationshipProcessingStateMachine stateMachine,
@@ -791,17 +1253,22 @@ public final class Neo4jTemplate implements
 	) {
 
 		PropertyFilter.RelaxedPropertyPath startingPropertyPath = PropertyFilter.RelaxedPropertyPath.withRootType(neo4jPersistentEntity.getUnderlyingClass());
-		return processNestedRelations(neo4jPersistentEntity, parentPropertyAccessor, isParentObjectNew,
-				stateMachine, includeProperty, startingPropertyPath);
+		Map<Object, TemplateSupport.BatchedRelatedNode> batchedRelatedNodes = batchCascadingSaves
+				? saveOrLoadRelatedNodesInBatches(neo4jPersistentEntity, parentInstance, parentPropertyAccessor, stateMachine, includeProperty, startingPropertyPath)
+				: Collections.emptyMap();
+		return processNestedRelations(neo4jPersistentEntity, parentInstance, parentPropertyAccessor, isParentObjectNew,
+				stateMachine, includeProperty, startingPropertyPath, batchedRelatedNodes);
 	}
 
 	private <T> T processNestedRelations(
 			Neo4jPersistentEntity<?> sourceEntity,
+			Object sourceInstance,
 			PersistentPropertyAccessor<?> propertyAccessor,
 			boolean isParentObjectNew,
 			NestedRelationshipProcessingStateMachine stateMachine,
 			PropertyFilter includeProperty,
-			PropertyFilter.RelaxedPropertyPath previousPath
+			PropertyFilter.RelaxedPropertyPath previousPath,
+			Map<Object, TemplateSupport.BatchedRelatedNode> batchedRelatedNodes
 	) {
 
 		Object fromId = propertyAccessor.getProperty(sourceEntity.getRequiredIdProperty());
@@ -842,8 +1309,11 @@ public final class Neo4jTemplate implements
 			// Remove all relationships before creating all new if the entity is not new and the relationship
 			// has not been processed before.
 			// This avoids the usage of cache but might have significant impact on overall performance
-			boolean canUseElementId = TemplateSupport.rendererRendersElementId(renderer);
-			if (!isParentObjectNew && !stateMachine.hasProcessedRelationship(fromId, relationshipDescription)) {
+			boolean canUseElementId = renderedStatementCache.rendersElementId();
+			// With dirty checking, relationships still pointing to the same nodes as when loaded are left untouched
+			boolean isUnchangedRelationship = entitySnapshots != null && !isParentObjectNew && includeProperty.isNotFiltering()
+					&& entitySnapshots.isUnchanged(sourceEntity, sourceInstance, relationshipDescription, relatedValuesToStore);
+			if (!isParentObjectNew && !isUnchangedRelationship && !stateMachine.hasProcessedRelationship(fromId, relationshipDescription)) {
 
 				List<Object> knownRelationshipsIds = new ArrayList<>();
 				if (idProperty != null) {
@@ -859,9 +1329,11 @@ public final class Neo4jTemplate implements
 					}
 				}
 
-				Statement relationshipRemoveQuery = cypherGenerator.prepareDeleteOf(sourceEntity, relationshipDescription, canUseElementId);
+				String relationshipRemoveQuery = renderedStatementCache.getOrRender(
+						new Key(Operation.DELETE_RELATIONSHIPS, sourceEntity, relationshipDescription, canUseElementId),
+						() -> cypherGenerator.prepareDeleteOf(sourceEntity, relationshipDescription, canUseElementId));
 
-				neo4jClient.query(renderer.render(relationshipRemoveQuery))
+				neo4jClient.query(relationshipRemoveQuery)
 						.bind(convertIdValues(sourceEntity.getIdProperty(), fromId)) //
 							.to(Constants.FROM_ID_PARAMETER_NAME) //
 						.bind(knownRelationshipsIds) //
@@ -892,24 +1364,34 @@ public final class Neo4jTemplate implements
 				Neo4jPersistentEntity<?> targetEntity = neo4jMappingContext.getRequiredPersistentEntity(relatedObjectBeforeCallbacksApplied.getClass());
 				boolean isNewEntity = targetEntity.isNew(relatedObjectBeforeCallbacksApplied);
 
-				Object newRelatedObject = stateMachine.hasProcessedValue(relatedObjectBeforeCallbacksApplied)
-						? stateMachine.getProcessedAs(relatedObjectBeforeCallbacksApplied)
-						: eventSupport.maybeCallBeforeBind(relatedObjectBeforeCallbacksApplied);
+				TemplateSupport.BatchedRelatedNode batchedRelatedNode = batchedRelatedNodes.get(relatedObjectBeforeCallbacksApplied);
+				Object newRelatedObject;
+				if (stateMachine.hasProcessedValue(relatedObjectBeforeCallbacksApplied)) {
+					newRelatedObject = stateMachine.getProcessedAs(relatedObjectBeforeCallbacksApplied);
+				} else if (batchedRelatedNode != null) {
+					newRelatedObject = batchedRelatedNode.entity();
+				} else {
+					newRelatedObject = eventSupport.maybeCallBeforeBind(relatedObjectBeforeCallbacksApplied);
+				}
 
 				Object relatedInternalId;
-				Entity savedEntity = null;
+				MapAccessor savedEntity = null;
 				// No need to save values if processed
 				if (stateMachine.hasProcessedValue(relatedValueToStore)) {
 					relatedInternalId = stateMachine.getObjectId(relatedValueToStore);
 				} else {
-					if (isNewEntity || relationshipDescription.cascadeUpdates()) {
-						savedEntity = saveRelatedNode(newRelatedObject, targetEntity, includeProperty, currentPropertyPath);
+					if (batchedRelatedNode != null && batchedRelatedNode.elementId() != null) {
+						relatedInternalId = batchedRelatedNode.elementId();
 					} else {
-						var targetPropertyAccessor = targetEntity.getPropertyAccessor(newRelatedObject);
-						var requiredIdProperty = targetEntity.getRequiredIdProperty();
-						savedEntity = loadRelatedNode(targetEntity, targetPropertyAccessor.getProperty(requiredIdProperty));
+						if (isNewEntity || relationshipDescription.cascadeUpdates()) {
+							savedEntity = saveRelatedNode(newRelatedObject, targetEntity, includeProperty, currentPropertyPath);
+						} else {
+							var targetPropertyAccessor = targetEntity.getPropertyAccessor(newRelatedObject);
+							var requiredIdProperty = targetEntity.getRequiredIdProperty();
+							savedEntity = loadRelatedNode(targetEntity, targetPropertyAccessor.getProperty(requiredIdProperty));
+						}
+						relatedInternalId = TemplateSupport.getIdOrElementId(targetEntity, savedEntity, renderedStatementCache.rendersElementId());
 					}
-					relatedInternalId = TemplateSupport.rendererCanUseElementIdIfPresent(renderer, targetEntity) ? savedEntity.elementId() : savedEntity.id();
 					stateMachine.markEntityAsProcessed(relatedValueToStore, relatedInternalId);
 					if (relatedValueToStore instanceof MappingSupport.RelationshipPropertiesWithEntityHolder) {
 						Object entity = ((MappingSupport.RelationshipPropertiesWithEntityHolder) relatedValueToStore).getRelatedEntity();
@@ -988,18 +1470,23 @@ public final class Neo4jTemplate implements
 							newRelationshipPropertiesRows.add(properties);
 							newRelationshipPropertiesToStore.add(relatedValueToStore);
 						} else {
-							neo4jMappingContext.getEntityConverter().write(hlp.getRelationshipProperties(), properties);
+							// The binder function shares the stateless writer of the mapping context instead of copying the converter
+							Object relationshipProperties = hlp.getRelationshipProperties();
+							@SuppressWarnings("unchecked")
+							Function<Object, Map<String, Object>> binderFunction = neo4jMappingContext
+									.getRequiredBinderFunctionFor((Class<Object>) relationshipProperties.getClass());
+							properties.putAll(binderFunction.apply(relationshipProperties));
 							relationshipPropertiesRows.add(properties);
 						}
 						stateMachine.storeProcessRelationshipEntity(hlp, propertyAccessor.getBean(), hlp.getRelatedEntity(), relationshipContext.getRelationship());
 					}
-				} else {
+				} else if (!isUnchangedRelationship) {
 					// non-dynamic relationship or relationship with properties
 					plainRelationshipRows.add(properties);
 				}
 
 				if (processState != ProcessState.PROCESSED_ALL_VALUES) {
-					processNestedRelations(targetEntity, targetPropertyAccessor, isNewEntity, stateMachine, includeProperty, currentPropertyPath);
+					processNestedRelations(targetEntity, relatedObjectBeforeCallbacksApplied, targetPropertyAccessor, isNewEntity, stateMachine, includeProperty, currentPropertyPath, batchedRelatedNodes);
 				}
 
 				Object potentiallyRecreatedNewRelatedObject = MappingSupport.getRelationshipOrRelationshipPropertiesObject(neo4jMappingContext,
@@ -1011,11 +1498,13 @@ public final class Neo4jTemplate implements
 			}
 			// batch operations
 			if (!(relationshipDescription.hasRelationshipProperties() || relationshipDescription.isDynamic() || plainRelationshipRows.isEmpty())) {
-				CreateRelationshipStatementHolder statementHolder = neo4jMappingContext.createStatementForImperativeSimpleRelationshipBatch(
-						sourceEntity, relationshipDescription, plainRelationshipRows, canUseElementId);
-				statementHolder = statementHolder.addProperty(Constants.NAME_OF_RELATIONSHIP_LIST_PARAM, plainRelationshipRows);
-				neo4jClient.query(renderer.render(statementHolder.getStatement()))
-						.bindAll(statementHolder.getProperties())
+				// Neither dynamic nor with properties, so the statement only depends on the relationship itself
+				String relationshipCreationQuery = renderedStatementCache.getOrRender(
+						new Key(Operation.SAVE_RELATIONSHIPS, sourceEntity, relationshipDescription, canUseElementId),
+						() -> neo4jMappingContext.createStatementForImperativeSimpleRelationshipBatch(
+								sourceEntity, relationshipDescription, plainRelationshipRows, canUseElementId).getStatement());
+				neo4jClient.query(relationshipCreationQuery)
+						.bind(plainRelationshipRows).to(Constants.NAME_OF_RELATIONSHIP_LIST_PARAM)
 						.run();
 			} else if (relationshipDescription.hasRelationshipProperties()) {
 				if (!relationshipPropertiesRows.isEmpty()) {
@@ -1023,14 +1512,18 @@ public final class Neo4jTemplate implements
 							sourceEntity, relationshipDescription, updateRelatedValuesToStore, relationshipPropertiesRows, canUseElementId);
 					statementHolder = statementHolder.addProperty(Constants.NAME_OF_RELATIONSHIP_LIST_PARAM, relationshipPropertiesRows);
 
-					neo4jClient.query(renderer.render(statementHolder.getStatement()))
+					neo4jClient.query(renderedStatementCache.getOrRender(
+									new Key(Operation.UPDATE_RELATIONSHIPS_WITH_PROPERTIES, sourceEntity, relationshipDescription, canUseElementId),
+									statementHolder::getStatement))
 							.bindAll(statementHolder.getProperties())
 							.run();
 				}
 				if (!newRelationshipPropertiesToStore.isEmpty()) {
 					CreateRelationshipStatementHolder statementHolder = neo4jMappingContext.createStatementForImperativeRelationshipsWithPropertiesBatch(true,
 							sourceEntity, relationshipDescription, newRelationshipPropertiesToStore, newRelationshipPropertiesRows, canUseElementId);
-					List<Object> all = new ArrayList<>(neo4jClient.query(renderer.render(statementHolder.getStatement()))
+					List<Object> all = new ArrayList<>(neo4jClient.query(renderedStatementCache.getOrRender(
+									new Key(Operation.SAVE_RELATIONSHIPS_WITH_PROPERTIES, sourceEntity, relationshipDescription, canUseElementId),
+									statementHolder::getStatement))
 							.bindAll(statementHolder.getProperties())
 							.fetchAs(Object.class)
 							.mappedBy((t, r) -> IdentitySupport.mapperForRelatedIdValues(idProperty).apply(r))
@@ -1069,18 +1562,21 @@ public final class Neo4jTemplate implements
 
 	// The pendant to {@link #saveRelatedNode(Object, NodeDescription, PropertyFilter, PropertyFilter.RelaxedPropertyPath)}
 	// We can't do without a query, as we need to refresh the internal id
-	private Entity loadRelatedNode(NodeDescription<?> targetNodeDescription, Object relatedInternalId) {
+	private MapAccessor loadRelatedNode(NodeDescription<?> targetNodeDescription, Object relatedInternalId) {
 
 		var targetPersistentEntity = (Neo4jPersistentEntity<?>) targetNodeDescription;
-		var queryFragmentsAndParameters = QueryFragmentsAndParameters.forFindById(targetPersistentEntity, convertIdValues(targetPersistentEntity.getRequiredIdProperty(), relatedInternalId));
-		var nodeName = Constants.NAME_OF_TYPED_ROOT_NODE.apply(targetNodeDescription).getValue();
+		var idValues = convertIdValues(targetPersistentEntity.getRequiredIdProperty(), relatedInternalId);
 
 		return neo4jClient
-				.query(() -> renderer.render(
-						cypherGenerator.prepareFindOf(targetNodeDescription, queryFragmentsAndParameters.getQueryFragments().getMatchOn(),
-								queryFragmentsAndParameters.getQueryFragments().getCondition()).returning(nodeName).build()))
-				.bindAll(queryFragmentsAndParameters.getParameters())
-				.fetchAs(Entity.class).mappedBy((t, r) -> r.get(nodeName).asNode())
+				.query(() -> renderedStatementCache.getOrRender(Key.of(Operation.LOAD_BY_ID, targetNodeDescription), () -> {
+					var queryFragments = QueryFragmentsAndParameters.forFindById(targetPersistentEntity, idValues).getQueryFragments();
+					var node = Cypher.anyNode(Constants.NAME_OF_TYPED_ROOT_NODE.apply(targetNodeDescription));
+					return cypherGenerator.prepareFindOf(targetNodeDescription, queryFragments.getMatchOn(), queryFragments.getCondition())
+							.returning(cypherGenerator.createReturnedIdentityOf(targetNodeDescription, node, renderedStatementCache.rendersElementId()))
+							.build();
+				}))
+				.bind(idValues).to(Constants.NAME_OF_ID)
+				.fetchAs(MapAccessor.class).mappedBy((t, r) -> r)
 				.one().orElseThrow();
 	}
 
@@ -1095,15 +1591,57 @@ public final class Neo4jTemplate implements
 				.setProperty(idProperty, relationshipInternalId);
 	}
 
-	private Entity saveRelatedNode(Object entity, NodeDescription<?> targetNodeDescription, PropertyFilter includeProperty, PropertyFilter.RelaxedPropertyPath currentPropertyPath) {
+	private MapAccessor saveRelatedNode(Object entity, NodeDescription<?> targetNodeDescription, PropertyFilter includeProperty, PropertyFilter.RelaxedPropertyPath currentPropertyPath) {
 
 		Neo4jPersistentEntity<?> targetPersistentEntity = (Neo4jPersistentEntity<?>) targetNodeDescription;
 		DynamicLabels dynamicLabels = determineDynamicLabels(entity, targetPersistentEntity);
+		Function<Object, Map<String, Object>> binderFunction = createRelatedNodeBinderFunction(targetPersistentEntity, includeProperty, currentPropertyPath);
+		Optional<MapAccessor> optionalSavedNode = neo4jClient
+				.query(() -> renderSaveOf(targetNodeDescription, dynamicLabels))
+				.bind(entity).with(binderFunction)
+				.fetchAs(MapAccessor.class)
+				.mappedBy((t, r) -> r)
+				.one();
+
+		if (targetPersistentEntity.hasVersionProperty() && !optionalSavedNode.isPresent()) {
+			throw new OptimisticLockingFailureException(OPTIMISTIC_LOCKING_ERROR_MESSAGE);
+		}
+		if (entitySnapshots != null) {
+			entitySnapshots.evict(entity);
+		}
+		Object relatedId = getId(targetPersistentEntity, entity);
+		if (relatedId != null) {
+			evictFromEntityCache(targetPersistentEntity.getType(), Set.of(relatedId));
+		}
+		Neo4jIdentityMap identityMap = getCurrentIdentityMap();
+		if (identityMap != null) {
+			identityMap.evict(targetPersistentEntity.getType(), relatedId);
+		}
+
+		// It is checked above, god dammit.
+		//noinspection OptionalGetWithoutIsPresent
+		return optionalSavedNode.get();
+	}
+
+	private String renderSaveOf(NodeDescription<?> nodeDescription, DynamicLabels dynamicLabels) {
+
+		// Statements for dynamic labels depend on the actual labels and can't be reused
+		boolean canUseElementId = renderedStatementCache.rendersElementId();
+		Key key = dynamicLabels == DynamicLabels.EMPTY ? Key.of(Operation.SAVE, nodeDescription, canUseElementId) : null;
+		return renderedStatementCache.getOrRender(key, () -> cypherGenerator.prepareSaveOf(nodeDescription, dynamicLabels, canUseElementId));
+	}
+
+	private Function<Object, Map<String, Object>> createRelatedNodeBinderFunction(Neo4jPersistentEntity<?> targetPersistentEntity,
+			PropertyFilter includeProperty, PropertyFilter.RelaxedPropertyPath currentPropertyPath) {
+
 		@SuppressWarnings("rawtypes")
 		Class entityType = targetPersistentEntity.getType();
 		@SuppressWarnings("unchecked")
 		Function<Object, Map<String, Object>> binderFunction = neo4jMappingContext.getRequiredBinderFunctionFor(entityType);
-		binderFunction = binderFunction.andThen(tree -> {
+		if (entitySnapshots != null && includeProperty.isNotFiltering()) {
+			binderFunction = entitySnapshots.removeUnchangedProperties(targetPersistentEntity, binderFunction);
+		}
+		return binderFunction.andThen(tree -> {
 			@SuppressWarnings("unchecked")
 			Map<String, Object> properties = (Map<String, Object>) tree.get(Constants.NAME_OF_PROPERTIES_PARAM);
 			String idPropertyName = targetPersistentEntity.getIdProperty().getPropertyName();
@@ -1119,19 +1657,137 @@ public final class Neo4jTemplate implements
 			}
 			return tree;
 		});
-		Optional<Entity> optionalSavedNode = neo4jClient
-				.query(() -> renderer.render(cypherGenerator.prepareSaveOf(targetNodeDescription, dynamicLabels, TemplateSupport.rendererRendersElementId(renderer))))
-				.bind(entity).with(binderFunction)
-				.fetchAs(Entity.class)
-				.one();
+	}
 
-		if (targetPersistentEntity.hasVersionProperty() && !optionalSavedNode.isPresent()) {
-			throw new OptimisticLockingFailureException(OPTIMISTIC_LOCKING_ERROR_MESSAGE);
+	/**
+	 * Walks the graph reachable from the given root level by level, applies the before bind callbacks to all related
+	 * nodes that have not been processed yet and saves (or loads, if they are not cascaded) all nodes that are eligible
+	 * for batching. All nodes of one level are grouped by their target entity across all parents and relationships, so
+	 * that each level costs one statement per target entity.
+	 *
+	 * @return A map from the related nodes (by identity, before callbacks have been applied) to the prepared nodes
+	 */
+	private Map<Object, TemplateSupport.BatchedRelatedNode> saveOrLoadRelatedNodesInBatches(
+			Neo4jPersistentEntity<?> rootEntity,
+			Object rootInstance,
+			PersistentPropertyAccessor<?> rootPropertyAccessor,
+			NestedRelationshipProcessingStateMachine stateMachine,
+			PropertyFilter includeProperty,
+			PropertyFilter.RelaxedPropertyPath rootPath
+	) {
+
+		Map<Object, TemplateSupport.BatchedRelatedNode> preparedNodes = new IdentityHashMap<>();
+		Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+		visited.add(rootInstance);
+		visited.add(rootPropertyAccessor.getBean());
+
+		List<TemplateSupport.RelatedNodeSource> level = List.of(new TemplateSupport.RelatedNodeSource(rootEntity, rootPropertyAccessor, rootPath));
+		while (!level.isEmpty()) {
+			List<TemplateSupport.RelatedNodeSource> nextLevel = new ArrayList<>();
+			Map<TemplateSupport.RelatedNodeBatchKey, TemplateSupport.RelatedNodeBatch> relatedNodesToSave = new LinkedHashMap<>();
+			Map<TemplateSupport.RelatedNodeBatchKey, TemplateSupport.RelatedNodeBatch> relatedNodesToLoad = new LinkedHashMap<>();
+
+			for (TemplateSupport.RelatedNodeSource source : level) {
+				for (TemplateSupport.RelatedNode relatedNode : TemplateSupport.getRelatedNodes(neo4jMappingContext, source, includeProperty)) {
+					Object relatedObjectBeforeCallbacksApplied = relatedNode.node();
+					if (!visited.add(relatedObjectBeforeCallbacksApplied) || stateMachine.hasProcessedValue(relatedObjectBeforeCallbacksApplied)) {
+						continue;
+					}
+
+					Neo4jPersistentEntity<?> targetEntity = relatedNode.entity();
+					boolean isNewEntity = targetEntity.isNew(relatedObjectBeforeCallbacksApplied);
+					Object newRelatedObject = eventSupport.maybeCallBeforeBind(relatedObjectBeforeCallbacksApplied);
+					preparedNodes.put(relatedObjectBeforeCallbacksApplied, new TemplateSupport.BatchedRelatedNode(newRelatedObject, null));
+
+					PersistentPropertyAccessor<?> targetPropertyAccessor = targetEntity.getPropertyAccessor(newRelatedObject);
+					nextLevel.add(new TemplateSupport.RelatedNodeSource(targetEntity, targetPropertyAccessor, relatedNode.path()));
+
+					// Without an id there is nothing to merge on, those nodes will be saved one by one
+					if (!TemplateSupport.supportsBatchedRelatedNodes(targetEntity) || targetPropertyAccessor.getProperty(targetEntity.getRequiredIdProperty()) == null) {
+						continue;
+					}
+
+					(isNewEntity || relatedNode.cascadeUpdates() ? relatedNodesToSave : relatedNodesToLoad)
+							.computeIfAbsent(TemplateSupport.RelatedNodeBatchKey.of(relatedNode, includeProperty),
+									k -> new TemplateSupport.RelatedNodeBatch(targetEntity, relatedNode.path(), new ArrayList<>()))
+							.nodes().add(relatedObjectBeforeCallbacksApplied);
+				}
+			}
+
+			for (TemplateSupport.RelatedNodeBatch batch : relatedNodesToSave.values()) {
+				Neo4jPersistentEntity<?> targetEntity = batch.entity();
+				Function<Object, Map<String, Object>> binderFunction = createRelatedNodeBinderFunction(targetEntity, includeProperty, batch.path());
+				List<Object> entities = batch.nodes().stream().map(node -> preparedNodes.get(node).entity()).toList();
+				Map<Value, Object> idToElementIdMapping = fetchIdToElementIdMapping(neo4jClient
+						.query(() -> renderedStatementCache.getOrRender(Key.of(Operation.SAVE_ALL, targetEntity),
+								() -> cypherGenerator.prepareSaveOfMultipleInstancesOf(targetEntity)))
+						.bind(entities.stream().map(binderFunction).toList()).to(Constants.NAME_OF_ENTITY_LIST_PARAM));
+				assignBatchedElementIds(targetEntity, batch.nodes(), preparedNodes, idToElementIdMapping);
+				evictSavedRelatedNodes(targetEntity, entities);
+			}
+
+			for (TemplateSupport.RelatedNodeBatch batch : relatedNodesToLoad.values()) {
+				Neo4jPersistentEntity<?> targetEntity = batch.entity();
+				Neo4jPersistentProperty idProperty = targetEntity.getRequiredIdProperty();
+				List<Object> ids = batch.nodes().stream()
+						.map(node -> convertIdValues(idProperty, targetEntity.getPropertyAccessor(preparedNodes.get(node).entity()).getProperty(idProperty)))
+						.toList();
+				Map<Value, Object> idToElementIdMapping = fetchIdToElementIdMapping(neo4jClient
+						.query(() -> renderedStatementCache.getOrRender(Key.of(Operation.LOAD_ALL, targetEntity),
+								() -> cypherGenerator.prepareLoadOfMultipleInstancesOf(targetEntity)))
+						.bind(ids).to(Constants.NAME_OF_IDS));
+				assignBatchedElementIds(targetEntity, batch.nodes(), preparedNodes, idToElementIdMapping);
+			}
+
+			level = nextLevel;
 		}
 
-		// It is checked above, god dammit.
-		//noinspection OptionalGetWithoutIsPresent
-		return optionalSavedNode.get();
+		return preparedNodes;
+	}
+
+	/**
+	 * The batched pendant to the evictions done in {@link #saveRelatedNode(Object, NodeDescription, PropertyFilter, PropertyFilter.RelaxedPropertyPath)}.
+	 */
+	private void evictSavedRelatedNodes(Neo4jPersistentEntity<?> targetEntity, List<Object> savedNodes) {
+
+		Set<Object> ids = new HashSet<>();
+		for (Object savedNode : savedNodes) {
+			if (entitySnapshots != null) {
+				entitySnapshots.evict(savedNode);
+			}
+			ids.add(getId(targetEntity, savedNode));
+		}
+		evictFromEntityCache(targetEntity.getType(), ids);
+		Neo4jIdentityMap identityMap = getCurrentIdentityMap();
+		if (identityMap != null) {
+			identityMap.evictAll(targetEntity.getType(), ids);
+		}
+	}
+
+	private static Map<Value, Object> fetchIdToElementIdMapping(Neo4jClient.RunnableSpec runnableSpec) {
+
+		return runnableSpec
+				.fetchAs(Map.Entry.class)
+				.mappedBy((t, r) -> new AbstractMap.SimpleEntry<>(r.get(Constants.NAME_OF_ID), TemplateSupport.convertToElementIdOrLongId(r.get(Constants.NAME_OF_ELEMENT_ID))))
+				.all()
+				.stream()
+				.collect(Collectors.toMap(m -> (Value) m.getKey(), Map.Entry::getValue, (v1, v2) -> v1));
+	}
+
+	private void assignBatchedElementIds(Neo4jPersistentEntity<?> targetEntity, List<Object> relatedValues,
+			Map<Object, TemplateSupport.BatchedRelatedNode> preparedNodes, Map<Value, Object> idToElementIdMapping) {
+
+		Neo4jPersistentProperty idProperty = targetEntity.getRequiredIdProperty();
+		for (Object relatedValue : relatedValues) {
+			TemplateSupport.BatchedRelatedNode preparedNode = preparedNodes.get(relatedValue);
+			Object id = targetEntity.getPropertyAccessor(preparedNode.entity()).getProperty(idProperty);
+			Object elementId = idToElementIdMapping.get(convertIdValues(idProperty, id));
+			if (elementId == null) {
+				// Not found by the lookup, the single statement path will report this properly
+				continue;
+			}
+			preparedNodes.put(relatedValue, new TemplateSupport.BatchedRelatedNode(preparedNode.entity(), elementId));
+		}
 	}
 
 	@Override
@@ -1153,9 +1809,18 @@ public final class Neo4jTemplate implements
 				.getBeanProvider(Configuration.class)
 				.getIfAvailable(Configuration::defaultConfig);
 		this.renderer = Renderer.getRenderer(cypherDslConfiguration);
+		this.renderedStatementCache = new RenderedStatementCache(this.renderer);
 		this.elementIdOrIdFunction = SpringDataCypherDsl.elementIdOrIdFunction.apply(cypherDslConfiguration.getDialect());
 		this.cypherGenerator.setElementIdOrIdFunction(elementIdOrIdFunction);
 
+		if (this.transactionRetryPolicy == null) {
+			beanFactory.getBeanProvider(TransactionRetryPolicy.class).ifUnique(this::setTransactionRetryPolicy);
+		}
+
+		if (this.entityCache == null) {
+			beanFactory.getBeanProvider(EntityCache.class).ifUnique(this::setEntityCache);
+		}
+
 		if (this.transactionTemplate != null && this.transactionTemplateReadOnly != null) {
 			return;
 		}
@@ -1177,14 +1842,128 @@ public final class Neo4jTemplate implements
 	// only used for the CDI configuration
 	public void setCypherRenderer(Renderer rendererFromCdiConfiguration) {
 		this.renderer = rendererFromCdiConfiguration;
+		this.renderedStatementCache = new RenderedStatementCache(this.renderer);
+	}
+
+	/**
+	 * Returns the cache of statements that only depend on entity metadata and are therefore rendered only once. The cache
+	 * is bound to the renderer in use and will be replaced when the template is reconfigured.
+	 *
+	 * @return The cache of rendered statements, including its hit and miss counts
+	 * @since 7.4
+	 */
+	public RenderedStatementCache getRenderedStatementCache() {
+		return renderedStatementCache;
+	}
+
+	/**
+	 * Configures whether related nodes are saved in batches while cascading a save operation. When enabled, the graph is
+	 * processed level by level: All related nodes of one level are grouped by their target entity, regardless which
+	 * parent or relationship they belong to, and saved (or, if they are not cascaded, looked up) with one {@code UNWIND}
+	 * based statement per group instead of one statement per related node. Nodes using internal ids, optimistic locking
+	 * or dynamic labels are still processed one by one.
+	 *
+	 * @param batchCascadingSaves {@literal true} to save related nodes in batches
+	 * @since 7.4
+	 */
+	public void setBatchCascadingSaves(boolean batchCascadingSaves) {
+		this.batchCascadingSaves = batchCascadingSaves;
+	}
+
+	/**
+	 * Configures how domain models that possibly contain cycles are loaded. By default ({@literal 0}), the ids of all
+	 * reachable nodes and relationships are collected level by level, with one query per relationship and level, before
+	 * the final query is issued. A value greater than {@literal 0} loads the root nodes together with all nodes and
+	 * relationships reachable via the relationships of the domain model in one query, following at most that many hops.
+	 * Relationships further away than the given depth won't be populated.
+	 *
+	 * @param cyclicGraphLoadingMaxDepth The maximum number of hops to follow in a single query, {@literal 0} to load
+	 *                                   level by level
+	 * @since 7.4
+	 */
+	public void setCyclicGraphLoadingMaxDepth(int cyclicGraphLoadingMaxDepth) {
+		Assert.isTrue(cyclicGraphLoadingMaxDepth >= 0, "The maximum depth must not be negative");
+		this.cyclicGraphLoadingMaxDepth = cyclicGraphLoadingMaxDepth;
+	}
+
+	/**
+	 * Configures whether entities are tracked for changes. When enabled, the template keeps a snapshot of the persisted
+	 * state of the entity instances it loads or saves. Saving such an instance again only sets the properties that
+	 * changed since then, and plain relationships (those without properties that are not dynamic) that still point to
+	 * the same nodes are neither deleted nor recreated. Instances without a snapshot are saved as a whole, as are
+	 * entities saved with a projection.
+	 * <p>
+	 * Snapshots are held per instance: Two instances of the same node are compared against the state each of them has
+	 * been loaded or saved with. Only instances loaded completely by generated queries are tracked, results of custom
+	 * queries, projections and cyclic graphs cut off by {@link #setCyclicGraphLoadingMaxDepth(int)} are not. Snapshots
+	 * are released together with their instances. Changes made to the database by other means are not detected: An
+	 * entity with an assigned id, whose node has been deleted elsewhere, will be recreated with its changed properties
+	 * only. Use a version property when concurrent modifications are expected.
+	 *
+	 * @param dirtyChecking {@literal true} to only write changed properties and relationships
+	 * @since 7.4
+	 */
+	public void setDirtyChecking(boolean dirtyChecking) {
+		this.entitySnapshots = dirtyChecking ? new EntitySnapshots(neo4jMappingContext) : null;
+	}
+
+	/**
+	 * Configures the number of records fetched per batch by queries executed through {@link #toExecutableQuery}, unless
+	 * the prepared query defines its own fetch size. The fetch size applies to sessions opened for a single query;
+	 * sessions opened by a transaction manager use the fetch size of that transaction manager.
+	 *
+	 * @param fetchSize The number of records per batch, {@literal -1} to fetch all records at once
+	 * @since 7.4
+	 */
+	public void setFetchSize(long fetchSize) {
+
+		Assert.isTrue(fetchSize > 0 || fetchSize == -1, "The fetch size must be positive or -1 to fetch all records at once");
+		this.fetchSize = fetchSize;
+	}
+
+	/**
+	 * Configures the retries of transactions started by this template. Transactions failing with a retryable exception,
+	 * for example due to a leader switch or a deadlock, are retried as a whole. Operations participating in an ongoing
+	 * transaction are not retried. Without a policy (the default), no retries are done, unless the template is a Spring
+	 * bean and there's a unique bean of type {@link TransactionRetryPolicy} in the application context.
+	 *
+	 * @param transactionRetryPolicy The policy to use, {@literal null} to disable retries
+	 * @since 7.4
+	 */
+	public void setTransactionRetryPolicy(@Nullable TransactionRetryPolicy transactionRetryPolicy) {
+		this.transactionRetryPolicy = transactionRetryPolicy;
+		setTransactionManager(this.transactionManager);
+	}
+
+	/**
+	 * Configures a second level cache for entities loaded via {@link #findById(Object, Class)} and
+	 * {@link #findAllById(Iterable, Class)}. Without a cache (the default), all entities are loaded from the database,
+	 * unless the template is a Spring bean and there's a unique bean of type {@link EntityCache} in the application
+	 * context.
+	 *
+	 * @param entityCache The cache to use, {@literal null} to disable caching
+	 * @since 7.4
+	 */
+	public void setEntityCache(@Nullable EntityCache entityCache) {
+		this.entityCache = entityCache;
 	}
 
 	public void setTransactionManager(@Nullable PlatformTransactionManager transactionManager) {
 		if (transactionManager == null) {
 			return;
 		}
-		this.transactionTemplate = new TransactionTemplate(transactionManager);
-		this.transactionTemplateReadOnly = new TransactionTemplate(transactionManager, readOnlyTransactionDefinition);
+		this.transactionManager = transactionManager;
+		this.transactionTemplate = createTransactionTemplate(transactionManager, TransactionDefinition.withDefaults());
+		this.transactionTemplateReadOnly = createTransactionTemplate(transactionManager, readOnlyTransactionDefinition);
+		this.transactionTemplateRequiresNew = createTransactionTemplate(transactionManager, requiresNewTransactionDefinition);
+		this.transactionTemplateNotSupported = createTransactionTemplate(transactionManager, notSupportedTransactionDefinition);
+	}
+
+	private TransactionTemplate createTransactionTemplate(PlatformTransactionManager platformTransactionManager, TransactionDefinition transactionDefinition) {
+
+		return transactionRetryPolicy == null
+				? new TransactionTemplate(platformTransactionManager, transactionDefinition)
+				: new RetryingTransactionTemplate(platformTransactionManager, transactionDefinition, transactionRetryPolicy);
 	}
 
 	@Override
@@ -1248,39 +2027,87 @@ public final class Neo4jTemplate implements
 				});
 	}
 
+	@SuppressWarnings("unchecked")
+	<T, R> List<R> doSaveInBatches(Iterable<R> instances, Class<T> domainType, BulkSaveOptions options) {
+
+		Assert.notNull(options, "Bulk save options are required");
+
+		Class<?> resultType = TemplateSupport.findCommonElementType(instances);
+		if (resultType == null) {
+			throw new IllegalArgumentException("Could not determine a common element of an heterogeneous collection");
+		}
+		if (resultType == TemplateSupport.EmptyIterable.class) {
+			return Collections.emptyList();
+		}
+
+		Collection<PropertyFilter.ProjectedPath> pps = PropertyFilterSupport.addPropertiesFrom(domainType, resultType,
+				getProjectionFactory(), neo4jMappingContext);
+
+		EntityFromDtoInstantiatingConverter<T> converter = new EntityFromDtoInstantiatingConverter<>(domainType, neo4jMappingContext);
+		List<T> domainObjects = new ArrayList<>();
+		for (R instance : instances) {
+			domainObjects.add(converter.convert(instance));
+		}
+
+		List<T> savedEntities = options.isCommitPerBatch()
+				? saveInBatchesImpl(domainObjects, options, pps)
+				: transactionTemplate.execute(tx -> saveInBatchesImpl(domainObjects, options, pps));
+
+		DtoInstantiatingConverter backConverter = new DtoInstantiatingConverter(resultType, neo4jMappingContext);
+		return savedEntities.stream().map(savedEntity -> (R) backConverter.convertDirectly(savedEntity))
+				.collect(Collectors.toList());
+	}
+
 	String render(Statement statement) {
 		return renderer.render(statement);
 	}
 
+	/**
+	 * Starts the client query for a prepared query, using the fetch size of the prepared query or of this template.
+	 * Queries deleting in batches run in an implicit transaction.
+	 */
+	private Neo4jClient.RunnableSpec queryFor(PreparedQuery<?> preparedQuery, String cypherQuery) {
+
+		Neo4jClient.RunnableSpec runnableSpec = neo4jClient.query(cypherQuery);
+		if (preparedQuery.getQueryFragmentsAndParameters().getQueryFragments().getRowsPerTransaction() != null) {
+			runnableSpec = runnableSpec.inImplicitTransaction();
+		}
+		Long effectiveFetchSize = preparedQuery.getFetchSize() == null ? fetchSize : preparedQuery.getFetchSize();
+		return effectiveFetchSize == null ? runnableSpec : runnableSpec.withFetchSize(effectiveFetchSize);
+	}
+
 	final class DefaultExecutableQuery<T> implements ExecutableQuery<T> {
 
 		private final PreparedQuery<T> preparedQuery;
 
+		private final boolean takesSnapshots;
+
 		DefaultExecutableQuery(PreparedQuery<T> preparedQuery) {
 			this.preparedQuery = preparedQuery;
+			this.takesSnapshots = entitySnapshots != null && loadsWholeEntities(preparedQuery);
 		}
 
 		@SuppressWarnings("unchecked")
 		public List<T> getResults() {
-			return transactionTemplate
+			return getTransactionTemplate()
 					.execute(tx -> {
 						Collection<T> all = createFetchSpec().map(Neo4jClient.RecordFetchSpec::all).orElse(Collections.emptyList());
 						if (preparedQuery.resultsHaveBeenAggregated()) {
-							return all.stream().flatMap(nested -> ((Collection<T>) nested).stream()).distinct().collect(Collectors.toList());
+							return all.stream().flatMap(nested -> ((Collection<T>) nested).stream()).distinct().map(this::takeSnapshot).collect(Collectors.toList());
 						}
-						return all.stream().collect(Collectors.toList());
+						return all.stream().map(this::takeSnapshot).collect(Collectors.toList());
 					});
 		}
 
 		@SuppressWarnings("unchecked")
 		public Optional<T> getSingleResult() {
-			return transactionTemplate.execute(tx -> {
+			return getTransactionTemplate().execute(tx -> {
 				try {
 					Optional<T> one = createFetchSpec().flatMap(Neo4jClient.RecordFetchSpec::one);
 					if (preparedQuery.resultsHaveBeenAggregated()) {
-						return one.map(aggregatedResults -> ((LinkedHashSet<T>) aggregatedResults).iterator().next());
+						one = one.map(aggregatedResults -> ((LinkedHashSet<T>) aggregatedResults).iterator().next());
 					}
-					return one;
+					return one.map(this::takeSnapshot);
 				} catch (NoSuchRecordException e) {
 					// This exception is thrown by the driver in both cases when there are 0 or 1+n records
 					// So there has been an incorrect result size, but not too few results but too many.
@@ -1291,15 +2118,69 @@ public final class Neo4jTemplate implements
 
 		@SuppressWarnings("unchecked")
 		public T getRequiredSingleResult() {
-			return transactionTemplate.execute(tx -> {
+			return getTransactionTemplate().execute(tx -> {
 				Optional<T> one = createFetchSpec().flatMap(Neo4jClient.RecordFetchSpec::one);
 				if (preparedQuery.resultsHaveBeenAggregated()) {
 					one = one.map(aggregatedResults -> ((LinkedHashSet<T>) aggregatedResults).iterator().next());
 				}
-				return one.orElseThrow(() -> new NoResultException(1, preparedQuery.getQueryFragmentsAndParameters().getCypherQuery()));
+				return one.map(this::takeSnapshot).orElseThrow(() -> new NoResultException(1, preparedQuery.getQueryFragmentsAndParameters().getCypherQuery()));
 			});
 		}
 
+		@SuppressWarnings("unchecked")
+		public Stream<T> stream() {
+			// Not wrapped into the transaction template on purpose: The transaction would end before the stream is consumed
+			Stream<T> all = createFetchSpec().map(Neo4jClient.RecordFetchSpec::stream).orElseGet(Stream::empty);
+			// Whether the results are aggregated is only known after a record has been mapped, so it must be checked
+			// per element. Aggregated elements are deduplicated the same way as in getResults().
+			Set<T> aggregatedResults = new HashSet<>();
+			return all
+					.flatMap(result -> preparedQuery.resultsHaveBeenAggregated()
+							? ((Collection<T>) result).stream().filter(aggregatedResults::add)
+							: Stream.of(result))
+					.map(this::takeSnapshot);
+		}
+
+		@Override
+		public Optional<Long> getTotalCount() {
+			return Optional.ofNullable(preparedQuery.getTotalCount());
+		}
+
+		/**
+		 * Derived queries deleting in batches use {@code CALL { } IN TRANSACTIONS} and must run in an implicit transaction.
+		 */
+		private TransactionTemplate getTransactionTemplate() {
+			return preparedQuery.getQueryFragmentsAndParameters().getQueryFragments().getRowsPerTransaction() == null
+					? transactionTemplate
+					: transactionTemplateNotSupported;
+		}
+
+		private T takeSnapshot(T result) {
+			if (takesSnapshots) {
+				entitySnapshots.takeFrom(result);
+			}
+			return result;
+		}
+
+		/**
+		 * Only the results of generated queries returning whole entities are complete enough to serve as the baseline
+		 * for dirty checking: Custom Cypher might not return all properties or relationships, projections skip
+		 * properties and loading a cyclic graph with a depth limit leaves the relationships at the edge empty.
+		 */
+		private boolean loadsWholeEntities(PreparedQuery<?> query) {
+
+			QueryFragmentsAndParameters queryFragmentsAndParameters = query.getQueryFragmentsAndParameters();
+			QueryFragments queryFragments = queryFragmentsAndParameters.getQueryFragments();
+			if (queryFragmentsAndParameters.getCypherQuery() != null
+					|| !(queryFragmentsAndParameters.getNodeDescription() instanceof Neo4jPersistentEntity<?> entityMetaData)
+					|| queryFragments.isScalarValueReturn()
+					|| queryFragments.isProjecting()
+					|| !query.getResultType().equals(entityMetaData.getType())) {
+				return false;
+			}
+			return cyclicGraphLoadingMaxDepth == 0 || !entityMetaData.containsPossibleCircles(queryFragments::includeField);
+		}
+
 		private Optional<Neo4jClient.RecordFetchSpec<T>> createFetchSpec() {
 			QueryFragmentsAndParameters queryFragmentsAndParameters = preparedQuery.getQueryFragmentsAndParameters();
 			String cypherQuery = queryFragmentsAndParameters.getCypherQuery();
@@ -1311,7 +2192,10 @@ public final class Neo4jTemplate implements
 			boolean containsPossibleCircles = entityMetaData != null && entityMetaData.containsPossibleCircles(queryFragments::includeField);
 			if (cypherQuery == null || containsPossibleCircles) {
 				Statement statement;
-				if (containsPossibleCircles && !queryFragments.isScalarValueReturn()) {
+				if (containsPossibleCircles && !queryFragments.isScalarValueReturn() && cyclicGraphLoadingMaxDepth > 0) {
+					statement = TemplateSupport.createReachableSubgraphStatement(cypherGenerator, entityMetaData, queryFragments,
+							preparedQuery.getResultType(), cyclicGraphLoadingMaxDepth);
+				} else if (containsPossibleCircles && !queryFragments.isScalarValueReturn()) {
 					NodesAndRelationshipsByIdStatementProvider nodesAndRelationshipsById =
 							createNodesAndRelationshipsByIdStatementProvider(entityMetaData, queryFragments, queryFragmentsAndParameters.getParameters());
 
@@ -1326,7 +2210,7 @@ public final class Neo4jTemplate implements
 				finalParameters = TemplateSupport.mergeParameters(statement, finalParameters);
 			}
 
-			Neo4jClient.MappingSpec<T> newMappingSpec = neo4jClient.query(cypherQuery)
+			Neo4jClient.MappingSpec<T> newMappingSpec = queryFor(preparedQuery, cypherQuery)
 					.bindAll(finalParameters).fetchAs(preparedQuery.getResultType());
 			return Optional.of(preparedQuery.getOptionalMappingFunction()
 					.map(newMappingSpec::mappedBy).orElse(newMappingSpec));
@@ -38,6 +38,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -67,12 +68,15 @@ public final class PreparedQuery<T> {
 	private final Class<T> resultType;
 	private final QueryFragmentsAndParameters queryFragmentsAndParameters;
 	private final @Nullable Supplier<BiFunction<TypeSystem, MapAccessor, ?>> mappingFunctionSupplier;
+
+	private final @Nullable Long fetchSize;
 	private volatile Optional<BiFunction<TypeSystem, Record, T>> lastMappingFunction = Optional.empty();
 
 	private PreparedQuery(OptionalBuildSteps<T> optionalBuildSteps) {
 		this.resultType = optionalBuildSteps.resultType;
 		this.mappingFunctionSupplier = optionalBuildSteps.mappingFunctionSupplier;
 		this.queryFragmentsAndParameters = optionalBuildSteps.queryFragmentsAndParameters;
+		this.fetchSize = optionalBuildSteps.fetchSize;
 	}
 
 	public Class<T> getResultType() {
@@ -95,10 +99,36 @@ public final class PreparedQuery<T> {
 				.orElse(false);
 	}
 
+	/**
+	 * Returns the total number of results if the statement returned one alongside its records (see
+	 * {@link org.springframework.data.neo4j.repository.query.QueryFragments#setIncludeTotalCount(boolean)}) and has
+	 * been executed. A statement that did not return any record cannot provide a total.
+	 *
+	 * @return The total number of results, {@literal null} if not available
+	 * @since 7.4
+	 */
+	@Nullable
+	public synchronized Long getTotalCount() {
+		return lastMappingFunction
+				.filter(AggregatingMappingFunction.class::isInstance)
+				.map(AggregatingMappingFunction.class::cast)
+				.map(AggregatingMappingFunction::getTotalCount)
+				.orElse(null);
+	}
+
 	public QueryFragmentsAndParameters getQueryFragmentsAndParameters() {
 		return this.queryFragmentsAndParameters;
 	}
 
+	/**
+	 * @return The number of records to fetch per batch for this query, {@literal null} if not specified
+	 * @since 7.4
+	 */
+	@Nullable
+	public Long getFetchSize() {
+		return this.fetchSize;
+	}
+
 	/**
 	 * @param <CT> The concrete type of this build step.
 	 * @since 6.0
@@ -129,6 +159,8 @@ public final class PreparedQuery<T> {
 		final QueryFragmentsAndParameters queryFragmentsAndParameters;
 		@Nullable Supplier<BiFunction<TypeSystem, MapAccessor, ?>> mappingFunctionSupplier;
 
+		@Nullable Long fetchSize;
+
 		OptionalBuildSteps(Class<CT> resultType, QueryFragmentsAndParameters queryFragmentsAndParameters) {
 			this.resultType = resultType;
 			this.queryFragmentsAndParameters = queryFragmentsAndParameters;
@@ -150,6 +182,16 @@ public final class PreparedQuery<T> {
 			return this;
 		}
 
+		/**
+		 * @param newFetchSize The number of records to fetch per batch, {@literal null} to use the configured default
+		 * @return This builder.
+		 * @since 7.4
+		 */
+		public OptionalBuildSteps<CT> withFetchSize(@Nullable Long newFetchSize) {
+			this.fetchSize = newFetchSize;
+			return this;
+		}
+
 		public PreparedQuery<CT> build() {
 			return new PreparedQuery<>(this);
 		}
@@ -159,6 +201,7 @@ public final class PreparedQuery<T> {
 
 		private final BiFunction<TypeSystem, MapAccessor, ?> target;
 		private final AtomicBoolean aggregated = new AtomicBoolean(false);
+		private final AtomicLong totalCount = new AtomicLong(-1);
 
 		AggregatingMappingFunction(BiFunction<TypeSystem, MapAccessor, ?> target) {
 			this.target = target;
@@ -231,6 +274,10 @@ public final class PreparedQuery<T> {
 		@Override
 		public Object apply(TypeSystem t, Record r) {
 
+			if (r.containsKey(Constants.NAME_OF_TOTAL_COUNT)) {
+				totalCount.set(r.get(Constants.NAME_OF_TOTAL_COUNT).asLong());
+			}
+
 			if (r.size() == 1) {
 				Value value = r.get(0);
 				if (value.hasType(t.LIST())) {
@@ -262,5 +309,11 @@ public final class PreparedQuery<T> {
 		boolean hasAggregated() {
 			return aggregated.get();
 		}
+
+		@Nullable
+		Long getTotalCount() {
+			long value = totalCount.get();
+			return value < 0 ? null : value;
+		}
 	}
 }
@@ -44,7 +44,29 @@ public final class PropertyFilterSupport {
 	public static Collection<PropertyFilter.ProjectedPath> getInputProperties(ResultProcessor resultProcessor, ProjectionFactory factory,
 																			  Neo4jMappingContext mappingContext) {
 
-		ReturnedType returnedType = resultProcessor.getReturnedType();
+		return getInputProperties(resultProcessor.getReturnedType(), factory, mappingContext);
+	}
+
+	/**
+	 * Computes the properties that need to be fetched when instances of {@code domainType} are read for the sole
+	 * purpose of being projected onto {@code resultType}.
+	 *
+	 * @param domainType     The type of the entities being read
+	 * @param resultType     The type the entities are projected onto
+	 * @param factory        The projection factory in use
+	 * @param mappingContext The mapping context containing the domain type
+	 * @return The paths to fetch, an empty collection if the complete entity is required
+	 * @since 7.4
+	 */
+	static Collection<PropertyFilter.ProjectedPath> getInputProperties(Class<?> domainType, Class<?> resultType,
+			ProjectionFactory factory, Neo4jMappingContext mappingContext) {
+
+		return getInputProperties(ReturnedType.of(resultType, domainType, factory), factory, mappingContext);
+	}
+
+	private static Collection<PropertyFilter.ProjectedPath> getInputProperties(ReturnedType returnedType, ProjectionFactory factory,
+																			   Neo4jMappingContext mappingContext) {
+
 		Class<?> potentiallyProjectedType = returnedType.getReturnedType();
 		Class<?> domainType = returnedType.getDomainType();
 
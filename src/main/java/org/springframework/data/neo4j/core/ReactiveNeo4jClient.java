@@ -15,6 +15,7 @@
  */
 package org.springframework.data.neo4j.core;
 
+import io.micrometer.observation.ObservationRegistry;
 import org.springframework.data.neo4j.core.transaction.Neo4jBookmarkManager;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -26,6 +27,7 @@ import java.util.function.Supplier;
 
 import org.apache.commons.logging.LogFactory;
 import org.apiguardian.api.API;
+import org.neo4j.driver.AccessMode;
 import org.neo4j.driver.Driver;
 import org.neo4j.driver.Record;
 import org.neo4j.driver.reactivestreams.ReactiveQueryRunner;
@@ -34,6 +36,7 @@ import org.neo4j.driver.types.TypeSystem;
 import org.springframework.core.log.LogAccessor;
 import org.springframework.data.neo4j.core.Neo4jClient.BindSpec;
 import org.springframework.data.neo4j.core.convert.Neo4jConversions;
+import org.springframework.data.neo4j.core.observation.QueryObservationConvention;
 import org.springframework.lang.Nullable;
 
 /**
@@ -86,6 +89,12 @@ public interface ReactiveNeo4jClient {
 		@Nullable
 		Neo4jBookmarkManager bookmarkManager;
 
+		@Nullable
+		ObservationRegistry observationRegistry;
+
+		@Nullable
+		QueryObservationConvention observationConvention;
+
 		private Builder(Driver driver) {
 			this.driver = driver;
 		}
@@ -142,6 +151,33 @@ public interface ReactiveNeo4jClient {
 			return this;
 		}
 
+		/**
+		 * Configures the {@link ObservationRegistry} to use. When configured, each statement executed through the client
+		 * is recorded as a {@link org.springframework.data.neo4j.core.observation.Neo4jObservation#QUERY query observation},
+		 * including the consumption of the result and the mapping of the records.
+		 *
+		 * @param observationRegistry The registry to use, can be {@literal null}, in which case nothing is observed
+		 * @return The builder
+		 * @since 7.4
+		 */
+		public Builder withObservationRegistry(@Nullable ObservationRegistry observationRegistry) {
+			this.observationRegistry = observationRegistry;
+			return this;
+		}
+
+		/**
+		 * Configures a custom convention for the query observations.
+		 *
+		 * @param observationConvention The convention to use, can be {@literal null}, in which case the
+		 *                              {@link org.springframework.data.neo4j.core.observation.DefaultQueryObservationConvention default} is used
+		 * @return The builder
+		 * @since 7.4
+		 */
+		public Builder withObservationConvention(@Nullable QueryObservationConvention observationConvention) {
+			this.observationConvention = observationConvention;
+			return this;
+		}
+
 		public ReactiveNeo4jClient build() {
 			return new DefaultReactiveNeo4jClient(this);
 		}
@@ -290,6 +326,31 @@ public interface ReactiveNeo4jClient {
 		 * @return A mono containing the native summary of the query.
 		 */
 		Mono<ResultSummary> run();
+
+		/**
+		 * Hints the access mode of the query, so that it can be routed to the members of a cluster accordingly. The hint
+		 * only applies to sessions opened by the client itself, queries participating in an ongoing transaction use the
+		 * access mode of that transaction. Without a hint, {@link #fetch()} and {@link #fetchAs(Class)} infer
+		 * {@link AccessMode#READ} when called within a read-only transaction definition, all other queries use
+		 * {@link AccessMode#WRITE}.
+		 *
+		 * @param accessMode The access mode to use
+		 * @return A runnable query specification using the given access mode
+		 * @since 7.4
+		 */
+		RunnableSpec withAccessMode(AccessMode accessMode);
+
+		/**
+		 * Configures the number of records fetched from the server per batch. The fetch size of sessions opened by the
+		 * client itself is set accordingly, sessions opened by a transaction manager use the fetch size configured there.
+		 * In both cases, the demand of subscribers to {@link RecordFetchSpec#all()} is translated into requests of at most
+		 * the given size, so that the driver pulls further batches only when the subscriber keeps up.
+		 *
+		 * @param fetchSize The number of records per batch, {@literal -1} to fetch all records at once
+		 * @return A runnable query specification using the given fetch size
+		 * @since 7.4
+		 */
+		RunnableSpec withFetchSize(long fetchSize);
 	}
 
 	/**
@@ -27,7 +27,6 @@ import org.neo4j.cypherdsl.core.renderer.Configuration;
 import org.neo4j.cypherdsl.core.renderer.Renderer;
 import org.neo4j.driver.Value;
 import org.neo4j.driver.Values;
-import org.neo4j.driver.types.Entity;
 import org.neo4j.driver.types.MapAccessor;
 import org.neo4j.driver.types.TypeSystem;
 import org.reactivestreams.Publisher;
@@ -42,6 +41,8 @@ import org.springframework.data.mapping.Association;
 import org.springframework.data.mapping.PersistentPropertyAccessor;
 import org.springframework.data.mapping.PropertyPath;
 import org.springframework.data.mapping.callback.ReactiveEntityCallbacks;
+import org.springframework.data.neo4j.core.RenderedStatementCache.Key;
+import org.springframework.data.neo4j.core.RenderedStatementCache.Operation;
 import org.springframework.data.neo4j.core.TemplateSupport.FilteredBinderFunction;
 import org.springframework.data.neo4j.core.TemplateSupport.NodesAndRelationshipsByIdStatementProvider;
 import org.springframework.data.neo4j.core.mapping.AssociationHandlerSupport;
@@ -66,7 +67,10 @@ import org.springframework.data.neo4j.core.mapping.RelationshipDescription;
 import org.springframework.data.neo4j.core.mapping.SpringDataCypherDsl;
 import org.springframework.data.neo4j.core.mapping.callback.ReactiveEventSupport;
 import org.springframework.data.neo4j.core.schema.TargetNode;
+import org.springframework.data.neo4j.core.transaction.Neo4jIdentityMap;
 import org.springframework.data.neo4j.core.transaction.ReactiveNeo4jTransactionManager;
+import org.springframework.data.neo4j.core.transaction.RetryingTransactionalOperator;
+import org.springframework.data.neo4j.core.transaction.TransactionRetryPolicy;
 import org.springframework.data.neo4j.repository.query.QueryFragments;
 import org.springframework.data.neo4j.repository.query.QueryFragmentsAndParameters;
 import org.springframework.data.projection.ProjectionFactory;
@@ -75,8 +79,11 @@ import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 import org.springframework.data.util.TypeInformation;
 import org.springframework.lang.NonNull;
 import org.springframework.lang.Nullable;
+import org.springframework.transaction.NoTransactionException;
 import org.springframework.transaction.ReactiveTransactionManager;
 import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.reactive.TransactionSynchronization;
+import org.springframework.transaction.reactive.TransactionSynchronizationManager;
 import org.springframework.transaction.reactive.TransactionalOperator;
 import org.springframework.util.Assert;
 import reactor.core.publisher.Flux;
@@ -90,6 +97,8 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -142,6 +151,23 @@ public final class ReactiveNeo4jTemplate implements
 
 	private TransactionalOperator transactionalOperator;
 
+	@Nullable
+	private ReactiveTransactionManager transactionManager;
+
+	@Nullable
+	private TransactionRetryPolicy transactionRetryPolicy;
+
+	@Nullable
+	private EntityCache entityCache;
+
+	/**
+	 * Only instances of immutable types are shared through the entity cache.
+	 */
+	private final Map<Class<?>, Boolean> immutableTypes = new ConcurrentHashMap<>();
+
+	@Nullable
+	private Long fetchSize;
+
 	private ClassLoader beanClassLoader;
 
 	private ReactiveEventSupport eventSupport;
@@ -150,8 +176,14 @@ public final class ReactiveNeo4jTemplate implements
 
 	private Renderer renderer;
 
+	private RenderedStatementCache renderedStatementCache;
+
 	private Function<Named, FunctionInvocation> elementIdOrIdFunction;
 
+	private boolean batchCascadingSaves = false;
+
+	private int cyclicGraphLoadingMaxDepth = 0;
+
 	public ReactiveNeo4jTemplate(ReactiveNeo4jClient neo4jClient, Neo4jMappingContext neo4jMappingContext) {
 		this(neo4jClient, neo4jMappingContext, null);
 	}
@@ -166,6 +198,7 @@ public final class ReactiveNeo4jTemplate implements
 		this.cypherGenerator = CypherGenerator.INSTANCE;
 		this.eventSupport = ReactiveEventSupport.useExistingCallbacks(neo4jMappingContext, ReactiveEntityCallbacks.create());
 		this.renderer = Renderer.getDefaultRenderer();
+		this.renderedStatementCache = new RenderedStatementCache(this.renderer);
 		this.elementIdOrIdFunction = SpringDataCypherDsl.elementIdOrIdFunction.apply(null);
 		setTransactionManager(transactionManager);
 	}
@@ -214,7 +247,9 @@ public final class ReactiveNeo4jTemplate implements
 	private <T> Flux<T> doFindAll(Class<T> domainType, @Nullable Class<?> resultType) {
 
 		Neo4jPersistentEntity<?> entityMetaData = neo4jMappingContext.getRequiredPersistentEntity(domainType);
-		return createExecutableQuery(domainType, resultType, QueryFragmentsAndParameters.forFindAll(entityMetaData))
+		Collection<PropertyFilter.ProjectedPath> projectedPaths = TemplateSupport.computeProjectedPaths(
+				neo4jMappingContext, projectionFactory, domainType, resultType);
+		return createExecutableQuery(domainType, resultType, QueryFragmentsAndParameters.forFindAll(entityMetaData, projectedPaths))
 				.flatMapMany(ExecutableQuery::getResults);
 	}
 
@@ -309,10 +344,23 @@ public final class ReactiveNeo4jTemplate implements
 
 		Neo4jPersistentEntity<?> entityMetaData = neo4jMappingContext.getRequiredPersistentEntity(domainType);
 
-		return transactionalOperatorReadOnly.transactional(createExecutableQuery(domainType, null,
-				QueryFragmentsAndParameters.forFindById(entityMetaData,
-						convertIdValues(entityMetaData.getRequiredIdProperty(), id)))
-				.flatMap(ExecutableQuery::getSingleResult));
+		return transactionalOperatorReadOnly.transactional(getCurrentIdentityMap()
+				.map(Optional::of).defaultIfEmpty(Optional.empty())
+				.flatMap(optionalIdentityMap -> {
+					Neo4jIdentityMap identityMap = optionalIdentityMap.orElse(null);
+					EntityCache cache = getEntityCacheForReading(domainType);
+					T knownInstance = getKnownInstance(identityMap, cache, domainType, id);
+					if (knownInstance != null) {
+						return Mono.just(knownInstance);
+					}
+
+					long generation = cache == null ? 0 : cache.currentGeneration();
+					return createExecutableQuery(domainType, null,
+							QueryFragmentsAndParameters.forFindById(entityMetaData,
+									convertIdValues(entityMetaData.getRequiredIdProperty(), id)))
+							.flatMap(ExecutableQuery::getSingleResult)
+							.doOnNext(instance -> remember(identityMap, cache, generation, domainType, getId(entityMetaData, instance), instance));
+				}));
 	}
 
 	@Override
@@ -320,10 +368,139 @@ public final class ReactiveNeo4jTemplate implements
 
 		Neo4jPersistentEntity<?> entityMetaData = neo4jMappingContext.getRequiredPersistentEntity(domainType);
 
-		return transactionalOperatorReadOnly.transactional(createExecutableQuery(domainType, null,
-						QueryFragmentsAndParameters.forFindByAllId(entityMetaData,
-						convertIdValues(entityMetaData.getRequiredIdProperty(), ids)))
-				.flatMapMany(ExecutableQuery::getResults));
+		return transactionalOperatorReadOnly.transactional(getCurrentIdentityMap()
+				.map(Optional::of).defaultIfEmpty(Optional.empty())
+				.flatMapMany(optionalIdentityMap -> {
+					Neo4jIdentityMap identityMap = optionalIdentityMap.orElse(null);
+					EntityCache cache = getEntityCacheForReading(domainType);
+					if (identityMap == null && cache == null) {
+						return createExecutableQuery(domainType, null,
+								QueryFragmentsAndParameters.forFindByAllId(entityMetaData,
+										convertIdValues(entityMetaData.getRequiredIdProperty(), ids)))
+								.flatMapMany(ExecutableQuery::getResults);
+					}
+
+					List<T> knownInstances = new ArrayList<>();
+					Set<Object> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+					Set<Object> missingIds = new LinkedHashSet<>();
+					for (Object id : ids) {
+						T knownInstance = getKnownInstance(identityMap, cache, domainType, id);
+						if (knownInstance == null) {
+							missingIds.add(id);
+						} else if (seen.add(knownInstance)) {
+							knownInstances.add(knownInstance);
+						}
+					}
+					if (missingIds.isEmpty()) {
+						return Flux.fromIterable(knownInstances);
+					}
+
+					long generation = cache == null ? 0 : cache.currentGeneration();
+					return Flux.fromIterable(knownInstances).concatWith(createExecutableQuery(domainType, null,
+							QueryFragmentsAndParameters.forFindByAllId(entityMetaData,
+									convertIdValues(entityMetaData.getRequiredIdProperty(), missingIds)))
+							.flatMapMany(ExecutableQuery::getResults)
+							.doOnNext(instance -> remember(identityMap, cache, generation, domainType, getId(entityMetaData, instance), instance)));
+				}));
+	}
+
+	/**
+	 * {@return the identity map of the ongoing transaction, if the transaction manager of this template provides one}
+	 */
+	private Mono<Neo4jIdentityMap> getCurrentIdentityMap() {
+		return transactionManager instanceof ReactiveNeo4jTransactionManager reactiveNeo4jTransactionManager
+				? reactiveNeo4jTransactionManager.getCurrentIdentityMap()
+				: Mono.empty();
+	}
+
+	/**
+	 * {@return the entity cache of this template, if it caches instances of the given type}
+	 */
+	@Nullable
+	private EntityCache getEntityCache(Class<?> domainType) {
+		EntityCache cache = this.entityCache;
+		return cache != null && cache.supports(domainType) ? cache : null;
+	}
+
+	/**
+	 * {@return the entity cache of this template, if it caches instances of the given type and the instances are immutable}
+	 */
+	@Nullable
+	private EntityCache getEntityCacheForReading(Class<?> domainType) {
+		EntityCache cache = getEntityCache(domainType);
+		return cache != null && immutableTypes.computeIfAbsent(domainType,
+				type -> TemplateSupport.isImmutable(neo4jMappingContext.getRequiredPersistentEntity(type))) ? cache : null;
+	}
+
+	@Nullable
+	private static <T> T getKnownInstance(@Nullable Neo4jIdentityMap identityMap, @Nullable EntityCache cache,
+			Class<T> domainType, Object id) {
+
+		T knownInstance = identityMap == null ? null : identityMap.get(domainType, id);
+		if (knownInstance == null && cache != null) {
+			knownInstance = cache.get(domainType, id);
+			if (knownInstance != null && identityMap != null) {
+				identityMap.put(domainType, id, knownInstance);
+			}
+		}
+		return knownInstance;
+	}
+
+	private static void remember(@Nullable Neo4jIdentityMap identityMap, @Nullable EntityCache cache, long generation,
+			Class<?> domainType, @Nullable Object id, Object instance) {
+
+		if (identityMap != null) {
+			identityMap.put(domainType, id, instance);
+		}
+		if (cache != null && id != null) {
+			cache.put(id, instance, generation);
+		}
+	}
+
+	/**
+	 * Evicts instances from the entity cache immediately and again after the ongoing transaction completed, so that
+	 * instances that have been read concurrently before the transaction committed don't stay in the cache.
+	 */
+	private Mono<Void> evictFromEntityCache(Class<?> domainType, @Nullable Collection<?> ids) {
+
+		EntityCache cache = getEntityCache(domainType);
+		if (cache == null) {
+			return Mono.empty();
+		}
+
+		return Mono.defer(() -> {
+			cache.evict(domainType, ids);
+			return TransactionSynchronizationManager.forCurrentTransaction()
+					.filter(TransactionSynchronizationManager::isSynchronizationActive)
+					.doOnNext(tsm -> tsm.registerSynchronization(new TransactionSynchronization() {
+						@Override
+						public Mono<Void> afterCompletion(int status) {
+							return Mono.fromRunnable(() -> cache.evict(domainType, ids));
+						}
+					}))
+					.onErrorResume(NoTransactionException.class, e -> Mono.empty())
+					.then();
+		});
+	}
+
+	private Mono<Void> updateIdentityMap(Neo4jPersistentEntity<?> entityMetaData, Object savedInstance, boolean writesWholeEntity) {
+
+		Object id = getId(entityMetaData, savedInstance);
+		return (id == null ? Mono.<Void>empty() : evictFromEntityCache(entityMetaData.getType(), Set.of(id)))
+				.then(getCurrentIdentityMap().doOnNext(identityMap -> {
+					if (writesWholeEntity) {
+						identityMap.put(entityMetaData.getType(), id, savedInstance);
+					} else {
+						identityMap.evict(entityMetaData.getType(), id);
+					}
+				}))
+				.then();
+	}
+
+	@Nullable
+	private static Object getId(Neo4jPersistentEntity<?> entityMetaData, Object instance) {
+		Neo4jPersistentProperty idProperty = entityMetaData.getIdProperty();
+		return idProperty == null ? null : entityMetaData.getPropertyAccessor(instance).getProperty(idProperty);
 	}
 
 	@Override
@@ -463,11 +640,12 @@ public final class ReactiveNeo4jTemplate implements
 							includedProperties, entityMetaData,
 							neo4jMappingContext.getRequiredBinderFunctionFor((Class<T>) entityToBeSaved.getClass()));
 
-					boolean canUseElementId = TemplateSupport.rendererRendersElementId(renderer);
-					Mono<Entity> idMono = this.neo4jClient.query(() -> renderer.render(cypherGenerator.prepareSaveOf(entityMetaData, dynamicLabels, canUseElementId)))
+					boolean canUseElementId = renderedStatementCache.rendersElementId();
+					Mono<MapAccessor> idMono = this.neo4jClient.query(() -> renderSaveOf(entityMetaData, dynamicLabels))
 							.bind(entityToBeSaved)
 							.with(binderFunction)
-							.fetchAs(Entity.class)
+							.fetchAs(MapAccessor.class)
+							.mappedBy((ts, r) -> r)
 							.one()
 							.switchIfEmpty(Mono.defer(() -> {
 								if (entityMetaData.hasVersionProperty()) {
@@ -478,15 +656,15 @@ public final class ReactiveNeo4jTemplate implements
 
 					PersistentPropertyAccessor<T> propertyAccessor = entityMetaData.getPropertyAccessor(entityToBeSaved);
 					return idMono.doOnNext(newOrUpdatedNode -> {
-						var elementId = !entityMetaData.isUsingDeprecatedInternalId() && canUseElementId
-										? IdentitySupport.getElementId(newOrUpdatedNode)
-										: newOrUpdatedNode.id();
+						var elementId = TemplateSupport.getIdOrElementId(entityMetaData, newOrUpdatedNode, canUseElementId);
 						TemplateSupport.setGeneratedIdIfNecessary(entityMetaData, propertyAccessor, elementId, Optional.of(newOrUpdatedNode));
 						TemplateSupport.updateVersionPropertyIfPossible(entityMetaData, propertyAccessor, newOrUpdatedNode);
 						finalStateMachine.markEntityAsProcessed(instance, elementId);
 					}).map(IdentitySupport::getElementId)
 							.flatMap(internalId -> processRelations(entityMetaData,  propertyAccessor, isNewEntity, finalStateMachine, knownRelationshipsIds, binderFunction.filter));
-				});
+				})
+				.flatMap(savedInstance -> updateIdentityMap(entityMetaData, savedInstance,
+						includedProperties == null || includedProperties.isEmpty()).thenReturn(savedInstance));
 	}
 
 
@@ -499,7 +677,8 @@ public final class ReactiveNeo4jTemplate implements
 			PersistentPropertyAccessor<?> propertyAccessor = entityMetaData.getPropertyAccessor(entityToBeSaved);
 			Neo4jPersistentProperty idProperty = entityMetaData.getRequiredIdProperty();
 			ReactiveNeo4jClient.RunnableSpec runnableQuery = neo4jClient
-					.query(() -> renderer.render(cypherGenerator.createStatementReturningDynamicLabels(entityMetaData)))
+					.query(() -> renderedStatementCache.getOrRender(Key.of(Operation.FETCH_DYNAMIC_LABELS, entityMetaData),
+							() -> cypherGenerator.createStatementReturningDynamicLabels(entityMetaData)))
 					.bind(convertIdValues(idProperty, propertyAccessor.getProperty(idProperty)))
 					.to(Constants.NAME_OF_ID).bind(entityMetaData.getStaticLabels()).to(Constants.NAME_OF_STATIC_LABELS_PARAM);
 
@@ -614,7 +793,8 @@ public final class ReactiveNeo4jTemplate implements
 							.map(Tuple3::getT3) // extract PotentiallyModified
 							.map(binderFunction).collect(Collectors.toList());
 					return neo4jClient
-							.query(() -> renderer.render(cypherGenerator.prepareSaveOfMultipleInstancesOf(entityMetaData)))
+							.query(() -> renderedStatementCache.getOrRender(Key.of(Operation.SAVE_ALL, entityMetaData),
+									() -> cypherGenerator.prepareSaveOfMultipleInstancesOf(entityMetaData)))
 							.bind(boundedEntityList).to(Constants.NAME_OF_ENTITY_LIST_PARAM)
 							.fetchAs(Tuple2.class)
 							.mappedBy((t, r) -> Tuples.of(r.get(Constants.NAME_OF_ID), TemplateSupport.convertIdOrElementIdToString(r.get(Constants.NAME_OF_ELEMENT_ID))))
@@ -627,7 +807,9 @@ public final class ReactiveNeo4jTemplate implements
 							return processRelations(entityMetaData, propertyAccessor, t.getT2(),
 								ctx.get("stateMachine"),
 								ctx.get("knownRelIds"),
-								TemplateSupport.computeIncludePropertyPredicate(pps, entityMetaData));
+								TemplateSupport.computeIncludePropertyPredicate(pps, entityMetaData))
+								.flatMap(savedInstance -> updateIdentityMap(entityMetaData, savedInstance,
+										pps == null || pps.isEmpty()).thenReturn(savedInstance));
 						}))
 				))
 				.contextWrite(ctx ->
@@ -642,13 +824,19 @@ public final class ReactiveNeo4jTemplate implements
 
 		Neo4jPersistentEntity<?> entityMetaData = neo4jMappingContext.getRequiredPersistentEntity(domainType);
 		String nameOfParameter = "ids";
-		Condition condition = entityMetaData.getIdExpression().in(parameter(nameOfParameter));
 
-		Statement statement = cypherGenerator.prepareDeleteOf(entityMetaData, condition);
 		return transactionalOperator.transactional(Mono.defer(() ->
-				this.neo4jClient.query(() -> renderer.render(statement))
+				this.neo4jClient.query(() -> renderedStatementCache.getOrRender(Key.of(Operation.DELETE_ALL_BY_ID, entityMetaData),
+								() -> cypherGenerator.prepareDeleteOf(entityMetaData, entityMetaData.getIdExpression().in(parameter(nameOfParameter)))))
 					.bind(convertIdValues(entityMetaData.getRequiredIdProperty(), ids))
-					.to(nameOfParameter).run().then()));
+					.to(nameOfParameter).run()
+					.then(Mono.defer(() -> {
+						Set<Object> evictedIds = new HashSet<>();
+						ids.forEach(evictedIds::add);
+						return evictFromEntityCache(domainType, evictedIds)
+								.then(getCurrentIdentityMap().doOnNext(identityMap -> identityMap.evictAll(domainType, evictedIds)));
+					}))
+					.then()));
 	}
 
 	@Override
@@ -658,13 +846,15 @@ public final class ReactiveNeo4jTemplate implements
 
 		String nameOfParameter = "id";
 		Neo4jPersistentEntity<?> entityMetaData = neo4jMappingContext.getRequiredPersistentEntity(domainType);
-		Condition condition = entityMetaData.getIdExpression().isEqualTo(parameter(nameOfParameter));
 
-		Statement statement = cypherGenerator.prepareDeleteOf(entityMetaData, condition);
 		return transactionalOperator.transactional(Mono.defer(() ->
-				this.neo4jClient.query(() -> renderer.render(statement))
+				this.neo4jClient.query(() -> renderedStatementCache.getOrRender(Key.of(Operation.DELETE_BY_ID, entityMetaData),
+								() -> cypherGenerator.prepareDeleteOf(entityMetaData, entityMetaData.getIdExpression().isEqualTo(parameter(nameOfParameter)))))
 					.bind(convertIdValues(entityMetaData.getRequiredIdProperty(), id))
-					.to(nameOfParameter).run().then()));
+					.to(nameOfParameter).run()
+					.then(evictFromEntityCache(domainType, Set.of(id)))
+					.then(getCurrentIdentityMap().doOnNext(identityMap -> identityMap.evict(domainType, id)))
+					.then()));
 	}
 
 	@Override
@@ -701,8 +891,13 @@ public final class ReactiveNeo4jTemplate implements
 	public Mono<Void> deleteAll(Class<?> domainType) {
 
 		Neo4jPersistentEntity<?> entityMetaData = neo4jMappingContext.getRequiredPersistentEntity(domainType);
-		Statement statement = cypherGenerator.prepareDeleteOf(entityMetaData);
-		return transactionalOperator.transactional(Mono.defer(() -> this.neo4jClient.query(() -> renderer.render(statement)).run().then()));
+		return transactionalOperator.transactional(Mono.defer(() -> this.neo4jClient
+				.query(() -> renderedStatementCache.getOrRender(Key.of(Operation.DELETE_ALL, entityMetaData),
+						() -> cypherGenerator.prepareDeleteOf(entityMetaData)))
+				.run()
+				.then(evictFromEntityCache(domainType, null))
+				.then(getCurrentIdentityMap().doOnNext(identityMap -> identityMap.evictAll(domainType, null)))
+				.then()));
 	}
 
 	private <T> Mono<ExecutableQuery<T>> createExecutableQuery(Class<T> domainType, Statement statement) {
@@ -736,6 +931,12 @@ public final class ReactiveNeo4jTemplate implements
 		QueryFragments queryFragments = queryFragmentsAndParameters.getQueryFragments();
 
 		boolean containsPossibleCircles = entityMetaData != null && entityMetaData.containsPossibleCircles(queryFragments::includeField);
+		if (containsPossibleCircles && !queryFragments.isScalarValueReturn() && cyclicGraphLoadingMaxDepth > 0) {
+			Statement statement = TemplateSupport.createReachableSubgraphStatement(cypherGenerator, entityMetaData, queryFragments,
+					domainType, cyclicGraphLoadingMaxDepth);
+			return createExecutableQuery(domainType, resultType, renderer.render(statement),
+					TemplateSupport.mergeParameters(statement, queryFragmentsAndParameters.getParameters()));
+		}
 		if (containsPossibleCircles && !queryFragments.isScalarValueReturn()) {
 			return createNodesAndRelationshipsByIdStatementProvider(entityMetaData, queryFragments, queryFragmentsAndParameters.getParameters())
 					.flatMap(finalQueryAndParameters -> {
@@ -896,14 +1097,18 @@ public final class ReactiveNeo4jTemplate implements
 	) {
 
 		PropertyFilter.RelaxedPropertyPath startingPropertyPath = PropertyFilter.RelaxedPropertyPath.withRootType(neo4jPersistentEntity.getUnderlyingClass());
-		return processNestedRelations(neo4jPersistentEntity, parentPropertyAccessor, isParentObjectNew,
-				stateMachine, knownRelationshipsIds, includeProperty, startingPropertyPath);
+		Mono<Map<Object, TemplateSupport.BatchedRelatedNode>> preparedBatches = batchCascadingSaves
+				? saveOrLoadRelatedNodesInBatches(neo4jPersistentEntity, parentPropertyAccessor, stateMachine, includeProperty, startingPropertyPath)
+				: Mono.just(Collections.emptyMap());
+		return preparedBatches.flatMap(batchedRelatedNodes -> processNestedRelations(neo4jPersistentEntity, parentPropertyAccessor, isParentObjectNew,
+				stateMachine, knownRelationshipsIds, includeProperty, startingPropertyPath, batchedRelatedNodes));
 	}
 
 	private <T> Mono<T> processNestedRelations(Neo4jPersistentEntity<?> sourceEntity, PersistentPropertyAccessor<?> parentPropertyAccessor,
 											   boolean isParentObjectNew, NestedRelationshipProcessingStateMachine stateMachine,
 											   Collection<Object> knownRelationshipsIds,
-											   PropertyFilter includeProperty, PropertyFilter.RelaxedPropertyPath previousPath) {
+											   PropertyFilter includeProperty, PropertyFilter.RelaxedPropertyPath previousPath,
+											   Map<Object, TemplateSupport.BatchedRelatedNode> batchedRelatedNodes) {
 
 		Object fromId = parentPropertyAccessor.getProperty(sourceEntity.getRequiredIdProperty());
 		List<Mono<Void>> relationshipDeleteMonos = new ArrayList<>();
@@ -945,7 +1150,7 @@ public final class ReactiveNeo4jTemplate implements
 			// Remove all relationships before creating all new if the entity is not new and the relationship
 			// has not been processed before.
 			// This avoids the usage of cache but might have significant impact on overall performance
-			boolean canUseElementId = TemplateSupport.rendererRendersElementId(renderer);
+			boolean canUseElementId = renderedStatementCache.rendersElementId();
 			if (!isParentObjectNew && !stateMachine.hasProcessedRelationship(fromId, relationshipDescription)) {
 
 				if (idProperty != null) {
@@ -963,10 +1168,12 @@ public final class ReactiveNeo4jTemplate implements
 					}
 				}
 
-				Statement relationshipRemoveQuery = cypherGenerator.prepareDeleteOf(sourceEntity, relationshipDescription, canUseElementId);
+				String relationshipRemoveQuery = renderedStatementCache.getOrRender(
+						new Key(Operation.DELETE_RELATIONSHIPS, sourceEntity, relationshipDescription, canUseElementId),
+						() -> cypherGenerator.prepareDeleteOf(sourceEntity, relationshipDescription, canUseElementId));
 
 				relationshipDeleteMonos.add(
-						neo4jClient.query(renderer.render(relationshipRemoveQuery))
+						neo4jClient.query(relationshipRemoveQuery)
 								.bind(convertIdValues(sourceEntity.getIdProperty(), fromId)) //
 									.to(Constants.FROM_ID_PARAMETER_NAME) //
 								.bind(knownRelationshipsIds) //
@@ -986,16 +1193,19 @@ public final class ReactiveNeo4jTemplate implements
 				Object relatedObjectBeforeCallbacksApplied = relationshipContext.identifyAndExtractRelationshipTargetNode(relatedValueToStore);
 				Neo4jPersistentEntity<?> targetEntity = neo4jMappingContext.getRequiredPersistentEntity(relatedObjectBeforeCallbacksApplied.getClass());
 				boolean isNewEntity = targetEntity.isNew(relatedObjectBeforeCallbacksApplied);
+				TemplateSupport.BatchedRelatedNode batchedRelatedNode = batchedRelatedNodes.get(relatedObjectBeforeCallbacksApplied);
 
 				return Mono.deferContextual(ctx ->
 
 						(stateMachine.hasProcessedValue(relatedObjectBeforeCallbacksApplied)
 								? Mono.just(stateMachine.getProcessedAs(relatedObjectBeforeCallbacksApplied))
+								: batchedRelatedNode != null
+								? Mono.just(batchedRelatedNode.entity())
 								: eventSupport.maybeCallBeforeBind(relatedObjectBeforeCallbacksApplied))
 
 						.flatMap(newRelatedObject -> {
 
-							Mono<Tuple2<AtomicReference<Object>, AtomicReference<Entity>>> queryOrSave;
+							Mono<Tuple2<AtomicReference<Object>, AtomicReference<MapAccessor>>> queryOrSave;
 							if (stateMachine.hasProcessedValue(relatedValueToStore)) {
 								AtomicReference<Object> relatedInternalId = new AtomicReference<>();
 								Object possibleValue = stateMachine.getObjectId(relatedValueToStore);
@@ -1004,17 +1214,23 @@ public final class ReactiveNeo4jTemplate implements
 								}
 								queryOrSave = Mono.just(Tuples.of(relatedInternalId, new AtomicReference<>()));
 							} else {
-								Mono<Entity> savedEntity;
-								if (isNewEntity || relationshipDescription.cascadeUpdates()) {
-									savedEntity = saveRelatedNode(newRelatedObject, targetEntity, includeProperty, currentPropertyPath);
+								Mono<Tuple2<AtomicReference<Object>, AtomicReference<MapAccessor>>> savedOrBatched;
+								if (batchedRelatedNode != null && batchedRelatedNode.elementId() != null) {
+									savedOrBatched = Mono.just(Tuples.of(new AtomicReference<>(batchedRelatedNode.elementId()), new AtomicReference<>()));
 								} else {
-									var targetPropertyAccessor = targetEntity.getPropertyAccessor(newRelatedObject);
-									var requiredIdProperty = targetEntity.getRequiredIdProperty();
-									savedEntity = loadRelatedNode(targetEntity, targetPropertyAccessor.getProperty(requiredIdProperty));
+									Mono<MapAccessor> savedEntity;
+									if (isNewEntity || relationshipDescription.cascadeUpdates()) {
+										savedEntity = saveRelatedNode(newRelatedObject, targetEntity, includeProperty, currentPropertyPath);
+									} else {
+										var targetPropertyAccessor = targetEntity.getPropertyAccessor(newRelatedObject);
+										var requiredIdProperty = targetEntity.getRequiredIdProperty();
+										savedEntity = loadRelatedNode(targetEntity, targetPropertyAccessor.getProperty(requiredIdProperty));
+									}
+									savedOrBatched = savedEntity
+											.map(entity -> Tuples.of(new AtomicReference<>(TemplateSupport.getIdOrElementId(targetEntity, entity, renderedStatementCache.rendersElementId())), new AtomicReference<>(entity)));
 								}
 
-								queryOrSave = savedEntity
-										.map(entity -> Tuples.of(new AtomicReference<>((Object) (TemplateSupport.rendererCanUseElementIdIfPresent(renderer, targetEntity) ? entity.elementId() : entity.id())), new AtomicReference<>(entity)))
+								queryOrSave = savedOrBatched
 										.doOnNext(t -> {
 											var relatedInternalId = t.getT1().get();
 											stateMachine.markEntityAsProcessed(relatedValueToStore, relatedInternalId);
@@ -1027,7 +1243,7 @@ public final class ReactiveNeo4jTemplate implements
 
 							return queryOrSave.flatMap(idAndEntity -> {
 									Object relatedInternalId = idAndEntity.getT1().get();
-									Entity savedEntity = idAndEntity.getT2().get();
+									MapAccessor savedEntity = idAndEntity.getT2().get();
 									Neo4jPersistentProperty requiredIdProperty = targetEntity.getRequiredIdProperty();
 									PersistentPropertyAccessor<?> targetPropertyAccessor = targetEntity.getPropertyAccessor(newRelatedObject);
 									Object possibleInternalLongId = targetPropertyAccessor.getProperty(requiredIdProperty);
@@ -1069,7 +1285,9 @@ public final class ReactiveNeo4jTemplate implements
 									// in case of no properties the bind will just return an empty map
 									if (update) {
 										return neo4jClient
-												.query(renderer.render(statementHolder.getStatement()))
+												.query(renderedStatementCache.getOrRender(
+														keyOfSingleRelationshipStatement(sourceEntity, relationshipDescription, isNewRelationship, canUseElementId),
+														statementHolder::getStatement))
 												.bind(convertIdValues(sourceEntity.getRequiredIdProperty(), fromId)) //
 												.to(Constants.FROM_ID_PARAMETER_NAME) //
 												.bind(relatedInternalId) //
@@ -1090,7 +1308,7 @@ public final class ReactiveNeo4jTemplate implements
 
 													Mono<Object> nestedRelationshipsSignal = null;
 													if (processState != ProcessState.PROCESSED_ALL_VALUES) {
-														nestedRelationshipsSignal = processNestedRelations(targetEntity, targetPropertyAccessor, targetEntity.isNew(newRelatedObject), stateMachine, knownRelationshipsIds, includeProperty, currentPropertyPath);
+														nestedRelationshipsSignal = processNestedRelations(targetEntity, targetPropertyAccessor, targetEntity.isNew(newRelatedObject), stateMachine, knownRelationshipsIds, includeProperty, currentPropertyPath, batchedRelatedNodes);
 													}
 
 													Mono<Object> getRelationshipOrRelationshipPropertiesObject = Mono.fromSupplier(() -> MappingSupport.getRelationshipOrRelationshipPropertiesObject(
@@ -1150,58 +1368,229 @@ public final class ReactiveNeo4jTemplate implements
 
 	// The pendant to {@link #saveRelatedNode(Object, Neo4jPersistentEntity, PropertyFilter, PropertyFilter.RelaxedPropertyPath)}
 	// We can't do without a query, as we need to refresh the internal id
-	private Mono<Entity> loadRelatedNode(NodeDescription<?> targetNodeDescription, Object relatedInternalId) {
+	private Mono<MapAccessor> loadRelatedNode(NodeDescription<?> targetNodeDescription, Object relatedInternalId) {
 
 		var targetPersistentEntity = (Neo4jPersistentEntity<?>) targetNodeDescription;
-		var queryFragmentsAndParameters = QueryFragmentsAndParameters.forFindById(targetPersistentEntity, convertIdValues(targetPersistentEntity.getRequiredIdProperty(), relatedInternalId));
-		var nodeName = Constants.NAME_OF_TYPED_ROOT_NODE.apply(targetNodeDescription).getValue();
+		var idValues = convertIdValues(targetPersistentEntity.getRequiredIdProperty(), relatedInternalId);
 
 		return neo4jClient
-				.query(() -> renderer.render(
-						cypherGenerator.prepareFindOf(targetNodeDescription, queryFragmentsAndParameters.getQueryFragments().getMatchOn(),
-								queryFragmentsAndParameters.getQueryFragments().getCondition()).returning(nodeName).build()))
-				.bindAll(queryFragmentsAndParameters.getParameters())
-				.fetchAs(Entity.class).mappedBy((t, r) -> r.get(nodeName).asNode())
+				.query(() -> renderedStatementCache.getOrRender(Key.of(Operation.LOAD_BY_ID, targetNodeDescription), () -> {
+					var queryFragments = QueryFragmentsAndParameters.forFindById(targetPersistentEntity, idValues).getQueryFragments();
+					var node = Cypher.anyNode(Constants.NAME_OF_TYPED_ROOT_NODE.apply(targetNodeDescription));
+					return cypherGenerator.prepareFindOf(targetNodeDescription, queryFragments.getMatchOn(), queryFragments.getCondition())
+							.returning(cypherGenerator.createReturnedIdentityOf(targetNodeDescription, node, renderedStatementCache.rendersElementId()))
+							.build();
+				}))
+				.bind(idValues).to(Constants.NAME_OF_ID)
+				.fetchAs(MapAccessor.class).mappedBy((t, r) -> r)
 				.one();
 	}
 
-	private Mono<Entity> saveRelatedNode(Object relatedNode, Neo4jPersistentEntity<?> targetNodeDescription, PropertyFilter includeProperty, PropertyFilter.RelaxedPropertyPath currentPropertyPath) {
+	private Mono<MapAccessor> saveRelatedNode(Object relatedNode, Neo4jPersistentEntity<?> targetNodeDescription, PropertyFilter includeProperty, PropertyFilter.RelaxedPropertyPath currentPropertyPath) {
 
 		return determineDynamicLabels(relatedNode, targetNodeDescription)
 				.flatMap(t -> {
 					Object entity = t.getT1();
-					@SuppressWarnings("rawtypes")
-					Class entityType = entity.getClass();
 					DynamicLabels dynamicLabels = t.getT2();
-					@SuppressWarnings("unchecked")
-					Function<Object, Map<String, Object>> binderFunction = neo4jMappingContext.getRequiredBinderFunctionFor(entityType);
-					String idPropertyName = targetNodeDescription.getIdProperty().getPropertyName();
-					IdDescription idDescription = targetNodeDescription.getIdDescription();
-					boolean assignedId = idDescription.isAssignedId() || idDescription.isExternallyGeneratedId();
-					binderFunction = binderFunction.andThen(tree -> {
-						@SuppressWarnings("unchecked")
-						Map<String, Object> properties = (Map<String, Object>) tree.get(Constants.NAME_OF_PROPERTIES_PARAM);
-
-						if (!includeProperty.isNotFiltering()) {
-							properties.entrySet().removeIf(e -> {
-								// we cannot skip the id property if it is an assigned id
-								boolean isIdProperty = e.getKey().equals(idPropertyName);
-								return !(assignedId && isIdProperty) && !includeProperty.contains(currentPropertyPath.append(e.getKey()));
-							});
-						}
-						return tree;
-					});
+					Function<Object, Map<String, Object>> binderFunction = createRelatedNodeBinderFunction(entity.getClass(), targetNodeDescription, includeProperty, currentPropertyPath);
 					return neo4jClient
-							.query(() -> renderer.render(cypherGenerator.prepareSaveOf(targetNodeDescription, dynamicLabels, TemplateSupport.rendererRendersElementId(renderer))))
+							.query(() -> renderSaveOf(targetNodeDescription, dynamicLabels))
 							.bind(entity).with(binderFunction)
-							.fetchAs(Entity.class)
+							.fetchAs(MapAccessor.class)
+							.mappedBy((ts, r) -> r)
 							.one();
 				}).switchIfEmpty(Mono.defer(() -> {
 					if (targetNodeDescription.hasVersionProperty()) {
 						return Mono.error(() -> new OptimisticLockingFailureException(OPTIMISTIC_LOCKING_ERROR_MESSAGE));
 					}
 					return Mono.empty();
-				}));
+				}))
+				.flatMap(savedNode -> {
+					Object relatedId = getId(targetNodeDescription, relatedNode);
+					return (relatedId == null ? Mono.<Void>empty() : evictFromEntityCache(targetNodeDescription.getType(), Set.of(relatedId)))
+							.then(getCurrentIdentityMap().doOnNext(identityMap -> identityMap.evict(targetNodeDescription.getType(), relatedId)))
+							.thenReturn(savedNode);
+				});
+	}
+
+	private String renderSaveOf(NodeDescription<?> nodeDescription, DynamicLabels dynamicLabels) {
+
+		// Statements for dynamic labels depend on the actual labels and can't be reused
+		boolean canUseElementId = renderedStatementCache.rendersElementId();
+		Key key = dynamicLabels == DynamicLabels.EMPTY ? Key.of(Operation.SAVE, nodeDescription, canUseElementId) : null;
+		return renderedStatementCache.getOrRender(key, () -> cypherGenerator.prepareSaveOf(nodeDescription, dynamicLabels, canUseElementId));
+	}
+
+	@Nullable
+	private static Key keyOfSingleRelationshipStatement(Neo4jPersistentEntity<?> sourceEntity, RelationshipDescription relationshipDescription,
+			boolean isNewRelationship, boolean canUseElementId) {
+
+		// The type of dynamic relationships depends on the actual value
+		if (relationshipDescription.isDynamic()) {
+			return null;
+		}
+		Operation operation;
+		if (!relationshipDescription.hasRelationshipProperties()) {
+			operation = Operation.SAVE_RELATIONSHIPS;
+		} else {
+			operation = isNewRelationship ? Operation.SAVE_RELATIONSHIP_WITH_PROPERTIES : Operation.UPDATE_RELATIONSHIP_WITH_PROPERTIES;
+		}
+		return new Key(operation, sourceEntity, relationshipDescription, canUseElementId);
+	}
+
+	private Function<Object, Map<String, Object>> createRelatedNodeBinderFunction(Class<?> entityType, Neo4jPersistentEntity<?> targetNodeDescription,
+			PropertyFilter includeProperty, PropertyFilter.RelaxedPropertyPath currentPropertyPath) {
+
+		@SuppressWarnings("unchecked")
+		Function<Object, Map<String, Object>> binderFunction = neo4jMappingContext.getRequiredBinderFunctionFor((Class<Object>) entityType);
+		String idPropertyName = targetNodeDescription.getIdProperty().getPropertyName();
+		IdDescription idDescription = targetNodeDescription.getIdDescription();
+		boolean assignedId = idDescription.isAssignedId() || idDescription.isExternallyGeneratedId();
+		return binderFunction.andThen(tree -> {
+			@SuppressWarnings("unchecked")
+			Map<String, Object> properties = (Map<String, Object>) tree.get(Constants.NAME_OF_PROPERTIES_PARAM);
+
+			if (!includeProperty.isNotFiltering()) {
+				properties.entrySet().removeIf(e -> {
+					// we cannot skip the id property if it is an assigned id
+					boolean isIdProperty = e.getKey().equals(idPropertyName);
+					return !(assignedId && isIdProperty) && !includeProperty.contains(currentPropertyPath.append(e.getKey()));
+				});
+			}
+			return tree;
+		});
+	}
+
+	/**
+	 * Walks the graph reachable from the given root level by level, applies the before bind callbacks to all related
+	 * nodes that have not been processed yet and saves (or loads, if they are not cascaded) all nodes that are eligible
+	 * for batching. All nodes of one level are grouped by their target entity across all parents and relationships, so
+	 * that each level costs one statement per target entity.
+	 *
+	 * @return A mono emitting a map from the related nodes (by identity, before callbacks have been applied) to the
+	 * prepared nodes
+	 */
+	private Mono<Map<Object, TemplateSupport.BatchedRelatedNode>> saveOrLoadRelatedNodesInBatches(
+			Neo4jPersistentEntity<?> rootEntity,
+			PersistentPropertyAccessor<?> rootPropertyAccessor,
+			NestedRelationshipProcessingStateMachine stateMachine,
+			PropertyFilter includeProperty,
+			PropertyFilter.RelaxedPropertyPath rootPath
+	) {
+
+		Map<Object, TemplateSupport.BatchedRelatedNode> preparedNodes = Collections.synchronizedMap(new IdentityHashMap<>());
+		Set<Object> visited = Collections.synchronizedSet(Collections.newSetFromMap(new IdentityHashMap<>()));
+		visited.add(rootPropertyAccessor.getBean());
+
+		return saveOrLoadRelatedNodesInBatches(List.of(new TemplateSupport.RelatedNodeSource(rootEntity, rootPropertyAccessor, rootPath)),
+				stateMachine, includeProperty, preparedNodes, visited)
+				.then(Mono.fromSupplier(() -> preparedNodes));
+	}
+
+	private Mono<Void> saveOrLoadRelatedNodesInBatches(
+			List<TemplateSupport.RelatedNodeSource> level,
+			NestedRelationshipProcessingStateMachine stateMachine,
+			PropertyFilter includeProperty,
+			Map<Object, TemplateSupport.BatchedRelatedNode> preparedNodes,
+			Set<Object> visited
+	) {
+
+		if (level.isEmpty()) {
+			return Mono.empty();
+		}
+
+		List<TemplateSupport.RelatedNodeSource> nextLevel = Collections.synchronizedList(new ArrayList<>());
+		Map<TemplateSupport.RelatedNodeBatchKey, TemplateSupport.RelatedNodeBatch> relatedNodesToSave = Collections.synchronizedMap(new LinkedHashMap<>());
+		Map<TemplateSupport.RelatedNodeBatchKey, TemplateSupport.RelatedNodeBatch> relatedNodesToLoad = Collections.synchronizedMap(new LinkedHashMap<>());
+
+		return Flux.fromIterable(level)
+				.concatMapIterable(source -> TemplateSupport.getRelatedNodes(neo4jMappingContext, source, includeProperty))
+				.filter(relatedNode -> visited.add(relatedNode.node()) && !stateMachine.hasProcessedValue(relatedNode.node()))
+				.concatMap(relatedNode -> {
+					Object relatedObjectBeforeCallbacksApplied = relatedNode.node();
+					Neo4jPersistentEntity<?> targetEntity = relatedNode.entity();
+					boolean isNewEntity = targetEntity.isNew(relatedObjectBeforeCallbacksApplied);
+					return eventSupport.maybeCallBeforeBind(relatedObjectBeforeCallbacksApplied).doOnNext(newRelatedObject -> {
+						preparedNodes.put(relatedObjectBeforeCallbacksApplied, new TemplateSupport.BatchedRelatedNode(newRelatedObject, null));
+
+						PersistentPropertyAccessor<?> targetPropertyAccessor = targetEntity.getPropertyAccessor(newRelatedObject);
+						nextLevel.add(new TemplateSupport.RelatedNodeSource(targetEntity, targetPropertyAccessor, relatedNode.path()));
+
+						// Without an id there is nothing to merge on, those nodes will be saved one by one
+						if (!TemplateSupport.supportsBatchedRelatedNodes(targetEntity) || targetPropertyAccessor.getProperty(targetEntity.getRequiredIdProperty()) == null) {
+							return;
+						}
+
+						(isNewEntity || relatedNode.cascadeUpdates() ? relatedNodesToSave : relatedNodesToLoad)
+								.computeIfAbsent(TemplateSupport.RelatedNodeBatchKey.of(relatedNode, includeProperty),
+										k -> new TemplateSupport.RelatedNodeBatch(targetEntity, relatedNode.path(), new ArrayList<>()))
+								.nodes().add(relatedObjectBeforeCallbacksApplied);
+					});
+				})
+				.thenMany(Flux.defer(() -> Flux.fromIterable(relatedNodesToSave.values())))
+				.concatMap(batch -> {
+					Neo4jPersistentEntity<?> targetEntity = batch.entity();
+					List<Object> entities = batch.nodes().stream().map(node -> preparedNodes.get(node).entity()).toList();
+					List<Map<String, Object>> entityList = entities.stream()
+							.map(entity -> createRelatedNodeBinderFunction(entity.getClass(), targetEntity, includeProperty, batch.path()).apply(entity))
+							.toList();
+					return fetchIdToElementIdMapping(neo4jClient
+							.query(() -> renderedStatementCache.getOrRender(Key.of(Operation.SAVE_ALL, targetEntity),
+									() -> cypherGenerator.prepareSaveOfMultipleInstancesOf(targetEntity)))
+							.bind(entityList).to(Constants.NAME_OF_ENTITY_LIST_PARAM))
+							.doOnNext(idToElementIdMapping -> assignBatchedElementIds(targetEntity, batch.nodes(), preparedNodes, idToElementIdMapping))
+							.then(evictSavedRelatedNodes(targetEntity, entities));
+				})
+				.thenMany(Flux.defer(() -> Flux.fromIterable(relatedNodesToLoad.values())))
+				.concatMap(batch -> {
+					Neo4jPersistentEntity<?> targetEntity = batch.entity();
+					Neo4jPersistentProperty idProperty = targetEntity.getRequiredIdProperty();
+					List<Object> ids = batch.nodes().stream()
+							.map(node -> convertIdValues(idProperty, targetEntity.getPropertyAccessor(preparedNodes.get(node).entity()).getProperty(idProperty)))
+							.toList();
+					return fetchIdToElementIdMapping(neo4jClient
+							.query(() -> renderedStatementCache.getOrRender(Key.of(Operation.LOAD_ALL, targetEntity),
+									() -> cypherGenerator.prepareLoadOfMultipleInstancesOf(targetEntity)))
+							.bind(ids).to(Constants.NAME_OF_IDS))
+							.doOnNext(idToElementIdMapping -> assignBatchedElementIds(targetEntity, batch.nodes(), preparedNodes, idToElementIdMapping));
+				})
+				.then(Mono.defer(() -> saveOrLoadRelatedNodesInBatches(List.copyOf(nextLevel), stateMachine, includeProperty, preparedNodes, visited)));
+	}
+
+	/**
+	 * The batched pendant to the evictions done in {@link #saveRelatedNode(Object, Neo4jPersistentEntity, PropertyFilter, PropertyFilter.RelaxedPropertyPath)}.
+	 */
+	private Mono<Void> evictSavedRelatedNodes(Neo4jPersistentEntity<?> targetEntity, List<Object> savedNodes) {
+
+		Set<Object> ids = savedNodes.stream().map(savedNode -> getId(targetEntity, savedNode)).collect(Collectors.toSet());
+		return evictFromEntityCache(targetEntity.getType(), ids)
+				.then(getCurrentIdentityMap().doOnNext(identityMap -> identityMap.evictAll(targetEntity.getType(), ids)))
+				.then();
+	}
+
+	private static Mono<Map<Value, Object>> fetchIdToElementIdMapping(ReactiveNeo4jClient.RunnableSpec runnableSpec) {
+
+		return runnableSpec
+				.fetchAs(Tuple2.class)
+				.mappedBy((t, r) -> Tuples.of(r.get(Constants.NAME_OF_ID), TemplateSupport.convertToElementIdOrLongId(r.get(Constants.NAME_OF_ELEMENT_ID))))
+				.all()
+				.collectMap(m -> (Value) m.getT1(), Tuple2::getT2);
+	}
+
+	private void assignBatchedElementIds(Neo4jPersistentEntity<?> targetEntity, List<Object> relatedValues,
+			Map<Object, TemplateSupport.BatchedRelatedNode> preparedNodes, Map<Value, Object> idToElementIdMapping) {
+
+		Neo4jPersistentProperty idProperty = targetEntity.getRequiredIdProperty();
+		for (Object relatedValue : relatedValues) {
+			TemplateSupport.BatchedRelatedNode preparedNode = preparedNodes.get(relatedValue);
+			Object id = targetEntity.getPropertyAccessor(preparedNode.entity()).getProperty(idProperty);
+			Object elementId = idToElementIdMapping.get(convertIdValues(idProperty, id));
+			if (elementId == null) {
+				// Not found by the lookup, the single statement path will report this properly
+				continue;
+			}
+			preparedNodes.put(relatedValue, new TemplateSupport.BatchedRelatedNode(preparedNode.entity(), elementId));
+		}
 	}
 
 	@Override
@@ -1219,12 +1608,24 @@ public final class ReactiveNeo4jTemplate implements
 			boolean containsPossibleCircles = entityMetaData != null && entityMetaData.containsPossibleCircles(queryFragments::includeField);
 			if (cypherQuery == null || containsPossibleCircles) {
 
+				if (containsPossibleCircles && !queryFragments.isScalarValueReturn() && cyclicGraphLoadingMaxDepth > 0) {
+					Statement statement = TemplateSupport.createReachableSubgraphStatement(cypherGenerator, entityMetaData,
+							queryFragments, resultType, cyclicGraphLoadingMaxDepth);
+					ReactiveNeo4jClient.MappingSpec<T> mappingSpec = queryFor(preparedQuery, renderer.render(statement))
+							.bindAll(TemplateSupport.mergeParameters(statement, finalParameters))
+							.fetchAs(resultType);
+
+					ReactiveNeo4jClient.RecordFetchSpec<T> fetchSpec = preparedQuery.getOptionalMappingFunction()
+							.map(mappingSpec::mappedBy).orElse(mappingSpec);
+
+					return Mono.just(new DefaultReactiveExecutableQuery<>(preparedQuery, fetchSpec));
+				}
+
 				if (containsPossibleCircles && !queryFragments.isScalarValueReturn()) {
 					return createNodesAndRelationshipsByIdStatementProvider(entityMetaData, queryFragments, finalParameters)
 							.map(nodesAndRelationshipsById -> {
 								var statement = nodesAndRelationshipsById.toStatement(entityMetaData);
-								ReactiveNeo4jClient.MappingSpec<T> mappingSpec = this.neo4jClient
-										.query(renderer.render(statement))
+								ReactiveNeo4jClient.MappingSpec<T> mappingSpec = queryFor(preparedQuery, renderer.render(statement))
 										.bindAll(statement.getCatalog().getParameters())
 										.fetchAs(resultType);
 
@@ -1240,7 +1641,7 @@ public final class ReactiveNeo4jTemplate implements
 				finalParameters = TemplateSupport.mergeParameters(statement, finalParameters);
 			}
 
-			ReactiveNeo4jClient.MappingSpec<T> mappingSpec = this.neo4jClient.query(cypherQuery)
+			ReactiveNeo4jClient.MappingSpec<T> mappingSpec = queryFor(preparedQuery, cypherQuery)
 					.bindAll(finalParameters).fetchAs(resultType);
 
 			ReactiveNeo4jClient.RecordFetchSpec<T> fetchSpec = preparedQuery.getOptionalMappingFunction()
@@ -1250,6 +1651,16 @@ public final class ReactiveNeo4jTemplate implements
 		});
 	}
 
+	/**
+	 * Starts the client query for a prepared query, using the fetch size of the prepared query or of this template.
+	 */
+	private ReactiveNeo4jClient.RunnableSpec queryFor(PreparedQuery<?> preparedQuery, String cypherQuery) {
+
+		ReactiveNeo4jClient.RunnableSpec runnableSpec = neo4jClient.query(cypherQuery);
+		Long effectiveFetchSize = preparedQuery.getFetchSize() == null ? fetchSize : preparedQuery.getFetchSize();
+		return effectiveFetchSize == null ? runnableSpec : runnableSpec.withFetchSize(effectiveFetchSize);
+	}
+
 	@Override
 	public void setBeanFactory(BeanFactory beanFactory) throws BeansException {
 
@@ -1264,9 +1675,18 @@ public final class ReactiveNeo4jTemplate implements
 				.getBeanProvider(Configuration.class)
 				.getIfAvailable(Configuration::defaultConfig);
 		this.renderer = Renderer.getRenderer(cypherDslConfiguration);
+		this.renderedStatementCache = new RenderedStatementCache(this.renderer);
 		this.elementIdOrIdFunction = SpringDataCypherDsl.elementIdOrIdFunction.apply(cypherDslConfiguration.getDialect());
 		this.cypherGenerator.setElementIdOrIdFunction(elementIdOrIdFunction);
 
+		if (this.transactionRetryPolicy == null) {
+			beanFactory.getBeanProvider(TransactionRetryPolicy.class).ifUnique(this::setTransactionRetryPolicy);
+		}
+
+		if (this.entityCache == null) {
+			beanFactory.getBeanProvider(EntityCache.class).ifUnique(this::setEntityCache);
+		}
+
 		if (this.transactionalOperator != null && this.transactionalOperatorReadOnly != null) {
 			return;
 		}
@@ -1286,12 +1706,104 @@ public final class ReactiveNeo4jTemplate implements
 		setTransactionManager(reactiveTransactionManager);
 	}
 
+	/**
+	 * Returns the cache of statements that only depend on entity metadata and are therefore rendered only once. The cache
+	 * is bound to the renderer in use and will be replaced when the template is reconfigured.
+	 *
+	 * @return The cache of rendered statements, including its hit and miss counts
+	 * @since 7.4
+	 */
+	public RenderedStatementCache getRenderedStatementCache() {
+		return renderedStatementCache;
+	}
+
+	/**
+	 * Configures whether related nodes are saved in batches while cascading a save operation. When enabled, the graph is
+	 * processed level by level: All related nodes of one level are grouped by their target entity, regardless which
+	 * parent or relationship they belong to, and saved (or, if they are not cascaded, looked up) with one {@code UNWIND}
+	 * based statement per group instead of one statement per related node. Nodes using internal ids, optimistic locking
+	 * or dynamic labels are still processed one by one.
+	 *
+	 * @param batchCascadingSaves {@literal true} to save related nodes in batches
+	 * @since 7.4
+	 */
+	public void setBatchCascadingSaves(boolean batchCascadingSaves) {
+		this.batchCascadingSaves = batchCascadingSaves;
+	}
+
+	/**
+	 * Configures how domain models that possibly contain cycles are loaded. By default ({@literal 0}), the ids of all
+	 * reachable nodes and relationships are collected level by level, with one query per relationship and level, before
+	 * the final query is issued. A value greater than {@literal 0} loads the root nodes together with all nodes and
+	 * relationships reachable via the relationships of the domain model in one query, following at most that many hops.
+	 * Relationships further away than the given depth won't be populated.
+	 *
+	 * @param cyclicGraphLoadingMaxDepth The maximum number of hops to follow in a single query, {@literal 0} to load
+	 *                                   level by level
+	 * @since 7.4
+	 */
+	public void setCyclicGraphLoadingMaxDepth(int cyclicGraphLoadingMaxDepth) {
+		Assert.isTrue(cyclicGraphLoadingMaxDepth >= 0, "The maximum depth must not be negative");
+		this.cyclicGraphLoadingMaxDepth = cyclicGraphLoadingMaxDepth;
+	}
+
+	/**
+	 * Configures the number of records fetched per batch by queries executed through {@link #toExecutableQuery}, unless
+	 * the prepared query defines its own fetch size. The fetch size applies to sessions opened for a single query;
+	 * sessions opened by a transaction manager use the fetch size of that transaction manager. In any case, the demand
+	 * of subscribers is translated into requests of at most the fetch size.
+	 *
+	 * @param fetchSize The number of records per batch, {@literal -1} to fetch all records at once
+	 * @since 7.4
+	 */
+	public void setFetchSize(long fetchSize) {
+
+		Assert.isTrue(fetchSize > 0 || fetchSize == -1, "The fetch size must be positive or -1 to fetch all records at once");
+		this.fetchSize = fetchSize;
+	}
+
+	/**
+	 * Configures the retries of transactions started by this template. Transactions failing with a retryable exception,
+	 * for example due to a leader switch or a deadlock, are retried as a whole by subscribing again to the publisher
+	 * doing the work. Operations participating in an ongoing transaction are not retried. Without a policy (the default),
+	 * no retries are done, unless the template is a Spring bean and there's a unique bean of type
+	 * {@link TransactionRetryPolicy} in the application context.
+	 *
+	 * @param transactionRetryPolicy The policy to use, {@literal null} to disable retries
+	 * @since 7.4
+	 */
+	public void setTransactionRetryPolicy(@Nullable TransactionRetryPolicy transactionRetryPolicy) {
+		this.transactionRetryPolicy = transactionRetryPolicy;
+		setTransactionManager(this.transactionManager);
+	}
+
+	/**
+	 * Configures a second level cache for entities loaded via {@link #findById(Object, Class)} and
+	 * {@link #findAllById(Iterable, Class)}. Without a cache (the default), all entities are loaded from the database,
+	 * unless the template is a Spring bean and there's a unique bean of type {@link EntityCache} in the application
+	 * context.
+	 *
+	 * @param entityCache The cache to use, {@literal null} to disable caching
+	 * @since 7.4
+	 */
+	public void setEntityCache(@Nullable EntityCache entityCache) {
+		this.entityCache = entityCache;
+	}
+
 	private void setTransactionManager(@Nullable ReactiveTransactionManager reactiveTransactionManager) {
 		if (reactiveTransactionManager == null) {
 			return;
 		}
-		this.transactionalOperator = TransactionalOperator.create(reactiveTransactionManager);
-		this.transactionalOperatorReadOnly = TransactionalOperator.create(reactiveTransactionManager, readOnlyTransactionDefinition);
+		this.transactionManager = reactiveTransactionManager;
+		this.transactionalOperator = createTransactionalOperator(reactiveTransactionManager, TransactionDefinition.withDefaults());
+		this.transactionalOperatorReadOnly = createTransactionalOperator(reactiveTransactionManager, readOnlyTransactionDefinition);
+	}
+
+	private TransactionalOperator createTransactionalOperator(ReactiveTransactionManager reactiveTransactionManager, TransactionDefinition transactionDefinition) {
+
+		return transactionRetryPolicy == null
+				? TransactionalOperator.create(reactiveTransactionManager, transactionDefinition)
+				: new RetryingTransactionalOperator(reactiveTransactionManager, transactionDefinition, transactionRetryPolicy);
 	}
 
 	@Override
@@ -0,0 +1,244 @@
+/*
+ * Copyright 2011-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.core;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import org.apiguardian.api.API;
+import org.neo4j.cypherdsl.core.Cypher;
+import org.neo4j.cypherdsl.core.Statement;
+import org.neo4j.cypherdsl.core.renderer.Renderer;
+import org.springframework.data.neo4j.core.mapping.NodeDescription;
+import org.springframework.data.neo4j.core.mapping.RelationshipDescription;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * A bounded cache of Cypher statements rendered by one {@link Renderer}. Many statements used by the templates only
+ * depend on the metadata of the entity and the relationship involved, not on the values being written. Those statements
+ * don't need to be build and rendered over and over again. When the cache is full, the least recently used statement is
+ * evicted. Instances of this class are tied to a renderer, so they must be recreated whenever the renderer of a template
+ * changes.
+ *
+ * @author agent
+ * @since 7.4
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "7.4")
+public final class RenderedStatementCache {
+
+	/**
+	 * Default number of rendered statements that are kept.
+	 */
+	static final int DEFAULT_MAXIMUM_SIZE = 512;
+
+	/**
+	 * The operations whose statements are cacheable.
+	 */
+	enum Operation {
+		SAVE,
+		SAVE_ALL,
+		BULK_SAVE,
+		LOAD_ALL,
+		LOAD_BY_ID,
+		FETCH_DYNAMIC_LABELS,
+		FETCH_DYNAMIC_LABELS_OF_ALL,
+		DELETE_BY_ID,
+		DELETE_ALL_BY_ID,
+		DELETE_ALL,
+		DELETE_RELATIONSHIPS,
+		SAVE_RELATIONSHIPS,
+		SAVE_RELATIONSHIPS_WITH_PROPERTIES,
+		UPDATE_RELATIONSHIPS_WITH_PROPERTIES,
+		SAVE_RELATIONSHIP_WITH_PROPERTIES,
+		UPDATE_RELATIONSHIP_WITH_PROPERTIES
+	}
+
+	/**
+	 * Key of a cached statement. Node and relationship descriptions are compared by identity, as they are unique per
+	 * mapping context.
+	 *
+	 * @param operation               The operation the statement has been created for
+	 * @param nodeDescription         The entity
+	 * @param relationshipDescription The relationship, if any
+	 * @param canUseElementId         Whether the statement has been build with {@code elementId()} in mind
+	 */
+	record Key(Operation operation, NodeDescription<?> nodeDescription,
+			@Nullable RelationshipDescription relationshipDescription, boolean canUseElementId) {
+
+		static Key of(Operation operation, NodeDescription<?> nodeDescription) {
+			return new Key(operation, nodeDescription, null, false);
+		}
+
+		static Key of(Operation operation, NodeDescription<?> nodeDescription, boolean canUseElementId) {
+			return new Key(operation, nodeDescription, null, canUseElementId);
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (!(o instanceof Key that)) {
+				return false;
+			}
+			return operation == that.operation && nodeDescription == that.nodeDescription
+					&& relationshipDescription == that.relationshipDescription && canUseElementId == that.canUseElementId;
+		}
+
+		@Override
+		public int hashCode() {
+			int result = operation.hashCode();
+			result = 31 * result + System.identityHashCode(nodeDescription);
+			result = 31 * result + System.identityHashCode(relationshipDescription);
+			result = 31 * result + Boolean.hashCode(canUseElementId);
+			return result;
+		}
+	}
+
+	private final Renderer renderer;
+
+	private final int maximumSize;
+
+	/**
+	 * Access ordered, so that the eldest entry is the least recently used one. Reading changes the order as well, so all
+	 * access must be guarded by {@link #lock}.
+	 */
+	private final Map<Key, String> renderedStatements;
+
+	private final Lock lock = new ReentrantLock();
+
+	private final LongAdder hits = new LongAdder();
+
+	private final LongAdder misses = new LongAdder();
+
+	private volatile Boolean rendersElementId;
+
+	RenderedStatementCache(Renderer renderer) {
+		this(renderer, DEFAULT_MAXIMUM_SIZE);
+	}
+
+	RenderedStatementCache(Renderer renderer, int maximumSize) {
+
+		Assert.notNull(renderer, "A renderer is required");
+		Assert.isTrue(maximumSize > 0, "The maximum size of the cache must be greater than 0");
+
+		this.renderer = renderer;
+		this.maximumSize = maximumSize;
+		this.renderedStatements = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Key, String> eldest) {
+				return size() > maximumSize;
+			}
+		};
+	}
+
+	/**
+	 * Retrieves the rendered statement for the given key or builds and renders a new one. If the key is {@literal null},
+	 * the statement is considered to be not cacheable and always rendered.
+	 *
+	 * @param key               The key of the statement, may be {@literal null}
+	 * @param statementSupplier Supplier for the statement in case it has not been rendered yet
+	 * @return The rendered statement
+	 */
+	String getOrRender(@Nullable Key key, Supplier<Statement> statementSupplier) {
+
+		if (key == null) {
+			return renderer.render(statementSupplier.get());
+		}
+
+		String cypher = get(key);
+		if (cypher != null) {
+			hits.increment();
+			return cypher;
+		}
+
+		misses.increment();
+		// Rendering happens outside the lock, concurrent misses on the same key might render the same statement twice,
+		// which is cheaper than blocking all other lookups in the meantime
+		cypher = renderer.render(statementSupplier.get());
+		lock.lock();
+		try {
+			String existingCypher = renderedStatements.putIfAbsent(key, cypher);
+			return existingCypher == null ? cypher : existingCypher;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Nullable
+	private String get(Key key) {
+
+		lock.lock();
+		try {
+			return renderedStatements.get(key);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * {@return true if the renderer of this cache renders the elementId() function}
+	 */
+	boolean rendersElementId() {
+
+		Boolean result = this.rendersElementId;
+		if (result == null) {
+			result = renderer.render(Cypher.returning(Cypher.elementId(Cypher.anyNode("n"))).build())
+					.equals("RETURN elementId(n)");
+			this.rendersElementId = result;
+		}
+		return result;
+	}
+
+	/**
+	 * {@return the number of lookups that could be served from the cache}
+	 */
+	public long getHitCount() {
+		return hits.sum();
+	}
+
+	/**
+	 * {@return the number of lookups that required rendering a statement}
+	 */
+	public long getMissCount() {
+		return misses.sum();
+	}
+
+	/**
+	 * {@return the number of rendered statements currently held}
+	 */
+	public int getSize() {
+
+		lock.lock();
+		try {
+			return renderedStatements.size();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * {@return the maximum number of rendered statements held by this cache}
+	 */
+	public int getMaximumSize() {
+		return maximumSize;
+	}
+}
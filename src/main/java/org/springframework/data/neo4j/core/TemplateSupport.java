@@ -21,6 +21,8 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -42,25 +44,32 @@ import org.neo4j.cypherdsl.core.Named;
 import org.neo4j.cypherdsl.core.Node;
 import org.neo4j.cypherdsl.core.Relationship;
 import org.neo4j.cypherdsl.core.Statement;
+import org.neo4j.cypherdsl.core.StatementBuilder;
 import org.neo4j.cypherdsl.core.renderer.Dialect;
-import org.neo4j.cypherdsl.core.renderer.Renderer;
 import org.neo4j.driver.Value;
-import org.neo4j.driver.types.Entity;
 import org.neo4j.driver.types.MapAccessor;
 import org.neo4j.driver.types.TypeSystem;
+import org.springframework.data.mapping.Association;
 import org.springframework.data.mapping.PersistentPropertyAccessor;
 import org.springframework.data.mapping.PropertyPath;
+import org.springframework.data.neo4j.core.mapping.AssociationHandlerSupport;
 import org.springframework.data.neo4j.core.mapping.Constants;
+import org.springframework.data.neo4j.core.mapping.CypherGenerator;
 import org.springframework.data.neo4j.core.mapping.EntityInstanceWithSource;
 import org.springframework.data.neo4j.core.mapping.IdDescription;
 import org.springframework.data.neo4j.core.mapping.IdentitySupport;
+import org.springframework.data.neo4j.core.mapping.MappingSupport;
 import org.springframework.data.neo4j.core.mapping.Neo4jMappingContext;
 import org.springframework.data.neo4j.core.mapping.Neo4jPersistentEntity;
 import org.springframework.data.neo4j.core.mapping.Neo4jPersistentProperty;
+import org.springframework.data.neo4j.core.mapping.NestedRelationshipContext;
 import org.springframework.data.neo4j.core.mapping.NodeDescription;
 import org.springframework.data.neo4j.core.mapping.PropertyFilter;
 import org.springframework.data.neo4j.core.mapping.PropertyTraverser;
+import org.springframework.data.neo4j.core.mapping.RelationshipDescription;
 import org.springframework.data.neo4j.core.mapping.SpringDataCypherDsl;
+import org.springframework.data.neo4j.core.schema.TargetNode;
+import org.springframework.data.projection.ProjectionFactory;
 import org.springframework.data.neo4j.repository.query.QueryFragments;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
@@ -144,6 +153,26 @@ public final class TemplateSupport {
 		return candidate;
 	}
 
+	/**
+	 * Computes the paths that need to be fetched when reading instances of {@code domainType} only to project them onto
+	 * {@code resultType}. Properties not reachable from a closed projection or DTO are not returned by the database.
+	 *
+	 * @param mappingContext    The mapping context containing the domain type
+	 * @param projectionFactory The projection factory, might be {@literal null} if the template is not a fully
+	 *                          initialized bean
+	 * @param domainType        The type of the entities being read
+	 * @param resultType        An optional result type
+	 * @return The paths to fetch, an empty collection if whole entities are required
+	 */
+	static Collection<PropertyFilter.ProjectedPath> computeProjectedPaths(Neo4jMappingContext mappingContext,
+			@Nullable ProjectionFactory projectionFactory, Class<?> domainType, @Nullable Class<?> resultType) {
+
+		if (resultType == null || projectionFactory == null || resultType.isAssignableFrom(domainType)) {
+			return Collections.emptySet();
+		}
+		return PropertyFilterSupport.getInputProperties(domainType, resultType, projectionFactory, mappingContext);
+	}
+
 	static PropertyFilter computeIncludePropertyPredicate(Collection<PropertyFilter.ProjectedPath> includedProperties,
 														  NodeDescription<?> nodeDescription) {
 
@@ -153,12 +182,29 @@ public final class TemplateSupport {
 	static void updateVersionPropertyIfPossible(
 			Neo4jPersistentEntity<?> entityMetaData,
 			PersistentPropertyAccessor<?> propertyAccessor,
-			Entity newOrUpdatedNode
+			MapAccessor savedIdentity
 	) {
 		if (entityMetaData.hasVersionProperty()) {
 			propertyAccessor.setProperty(
-					entityMetaData.getVersionProperty(), newOrUpdatedNode.get(entityMetaData.getVersionProperty().getPropertyName()).asLong());
+					entityMetaData.getVersionProperty(), savedIdentity.get(Constants.NAME_OF_VERSION_PARAM).asLong());
+		}
+	}
+
+	/**
+	 * Extracts the id to be used for relationships from a row created with
+	 * {@link CypherGenerator#createReturnedIdentityOf(NodeDescription, Node, boolean)}.
+	 *
+	 * @param entityMetaData  The entity that has been saved or looked up
+	 * @param savedIdentity   The row identifying the node
+	 * @param canUseElementId Whether element ids can be used
+	 * @return The element id or the internal id of the node
+	 */
+	@SuppressWarnings("deprecation")
+	static Object getIdOrElementId(Neo4jPersistentEntity<?> entityMetaData, MapAccessor savedIdentity, boolean canUseElementId) {
+		if (!entityMetaData.isUsingDeprecatedInternalId() && canUseElementId) {
+			return IdentitySupport.getElementId(savedIdentity);
 		}
+		return IdentitySupport.getInternalId(savedIdentity);
 	}
 
 	/**
@@ -214,14 +260,8 @@ public final class TemplateSupport {
 			Node rootNodes = Cypher.node(primaryLabel).named(ROOT_NODE_IDS);
 			Node relatedNodes = Cypher.anyNode(RELATED_NODE_IDS);
 
-			List<Expression> projection = new ArrayList<>();
-			projection.add(Constants.NAME_OF_TYPED_ROOT_NODE.apply(nodeDescription).as(Constants.NAME_OF_SYNTHESIZED_ROOT_NODE));
-			projection.add(Cypher.name(Constants.NAME_OF_SYNTHESIZED_RELATIONS));
-			projection.add(Cypher.name(Constants.NAME_OF_SYNTHESIZED_RELATED_NODES));
-			projection.addAll(queryFragments.getAdditionalReturnExpressions());
-
 			Relationship relationships = Cypher.anyNode().relationshipBetween(Cypher.anyNode()).named(RELATIONSHIP_IDS);
-			return Cypher.match(rootNodes)
+			return returnRootNodesWithRelatedElements(Cypher.match(rootNodes)
 					.where(elementIdFunction.apply(rootNodes).in(Cypher.parameter(ROOT_NODE_IDS, convertToLongIdOrStringElementId(this.parameters.get(ROOT_NODE_IDS)))))
 					.with(Cypher.collect(rootNodes).as(Constants.NAME_OF_ROOT_NODE))
 					.optionalMatch(relationships)
@@ -233,24 +273,113 @@ public final class TemplateSupport {
 							Constants.NAME_OF_ROOT_NODE,
 							Cypher.name(Constants.NAME_OF_SYNTHESIZED_RELATIONS).as(Constants.NAME_OF_SYNTHESIZED_RELATIONS),
 							Cypher.collectDistinct(relatedNodes).as(Constants.NAME_OF_SYNTHESIZED_RELATED_NODES)
-					)
-					.unwind(Constants.NAME_OF_ROOT_NODE).as(ROOT_NODE_IDS)
-					.with(
-							Cypher.name(ROOT_NODE_IDS).as(Constants.NAME_OF_TYPED_ROOT_NODE.apply(nodeDescription).getValue()),
-							Cypher.name(Constants.NAME_OF_SYNTHESIZED_RELATIONS),
-							Cypher.name(Constants.NAME_OF_SYNTHESIZED_RELATED_NODES))
-					.orderBy(queryFragments.getOrderBy())
-					.returning(projection)
-					.skip(queryFragments.getSkip())
-					.limit(queryFragments.getLimit()).build();
+					), nodeDescription, queryFragments);
+		}
+	}
+
+	/**
+	 * Creates a statement that loads the root nodes matching the query fragments and everything reachable from them in
+	 * one go, instead of collecting the ids of the reachable nodes and relationships level by level upfront as done
+	 * via {@link NodesAndRelationshipsByIdStatementProvider}. Only relationships that are part of the domain model (and
+	 * included in the query fragments) are followed, up to {@code maxDepth} hops.
+	 *
+	 * @param cypherGenerator The generator to use
+	 * @param entityMetaData  The entity of the root nodes
+	 * @param queryFragments  The fragments of the original query
+	 * @param rootType        The type against which included fields are resolved
+	 * @param maxDepth        The maximum number of hops to follow
+	 * @return A statement returning records in the same shape as {@link NodesAndRelationshipsByIdStatementProvider#toStatement(NodeDescription)}
+	 */
+	static Statement createReachableSubgraphStatement(CypherGenerator cypherGenerator, Neo4jPersistentEntity<?> entityMetaData,
+			QueryFragments queryFragments, Class<?> rootType, int maxDepth) {
+
+		Collection<String> relationshipTypes = collectReachableRelationshipTypes(entityMetaData, queryFragments, rootType, maxDepth);
+		return returnRootNodesWithRelatedElements(cypherGenerator.prepareMatchOfReachableSubgraph(entityMetaData,
+				relationshipTypes, maxDepth, queryFragments.getMatchOn(), queryFragments.getCondition()),
+				entityMetaData, queryFragments);
+	}
+
+	/**
+	 * Walks the relationships of the domain model, starting at {@code entityMetaData}, the same way the level-by-level
+	 * loading does and collects their types. Dynamic relationships without a fixed set of types cause all types to be
+	 * followed, which is indicated by an empty result.
+	 */
+	private static Collection<String> collectReachableRelationshipTypes(Neo4jPersistentEntity<?> entityMetaData,
+			QueryFragments queryFragments, Class<?> rootType, int maxDepth) {
+
+		record Step(RelationshipDescription relationshipDescription, PropertyPathWalkStep pathStep) {
+		}
+
+		Set<String> types = new LinkedHashSet<>();
+		Set<RelationshipDescription> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+		List<Step> currentLevel = entityMetaData.getRelationshipsInHierarchy(queryFragments::includeField).stream()
+				.map(relationshipDescription -> new Step(relationshipDescription, PropertyPathWalkStep.empty()))
+				.toList();
+
+		for (int depth = 0; depth < maxDepth && !currentLevel.isEmpty(); ++depth) {
+			List<Step> nextLevel = new ArrayList<>();
+			for (Step step : currentLevel) {
+				RelationshipDescription relationshipDescription = step.relationshipDescription();
+				if (!visited.add(relationshipDescription)) {
+					continue;
+				}
+
+				if (relationshipDescription.isDynamic()) {
+					Class<?> componentType = ((Association<?>) relationshipDescription).getInverse().getComponentType();
+					if (componentType == null || !componentType.isEnum()) {
+						return Collections.emptySet();
+					}
+					Arrays.stream(componentType.getEnumConstants()).map(Object::toString).forEach(types::add);
+				} else {
+					types.add(relationshipDescription.getType());
+				}
+
+				@SuppressWarnings("unchecked")
+				String fieldName = ((Association<Neo4jPersistentProperty>) relationshipDescription).getInverse().getFieldName();
+				PropertyPathWalkStep nextPathStep = step.pathStep().with(relationshipDescription.hasRelationshipProperties() ?
+						fieldName + "." + ((Neo4jPersistentEntity<?>) relationshipDescription.getRelationshipPropertiesEntity())
+								.getPersistentProperty(TargetNode.class).getFieldName() : fieldName);
+
+				relationshipDescription.getTarget().getRelationshipsInHierarchy(relaxedPropertyPath -> {
+					PropertyFilter.RelaxedPropertyPath prepend = relaxedPropertyPath.prepend(nextPathStep.path);
+					prepend = PropertyFilter.RelaxedPropertyPath.withRootType(rootType).append(prepend.toDotPath());
+					return queryFragments.includeField(prepend);
+				}).forEach(next -> nextLevel.add(new Step(next, nextPathStep)));
+			}
+			currentLevel = nextLevel;
 		}
+		return types;
+	}
+
+	private static Statement returnRootNodesWithRelatedElements(StatementBuilder.OngoingReading rootNodesAndRelatedElements,
+			NodeDescription<?> nodeDescription, QueryFragments queryFragments) {
+
+		String rootNodes = NodesAndRelationshipsByIdStatementProvider.ROOT_NODE_IDS;
+
+		List<Expression> projection = new ArrayList<>();
+		projection.add(Constants.NAME_OF_TYPED_ROOT_NODE.apply(nodeDescription).as(Constants.NAME_OF_SYNTHESIZED_ROOT_NODE));
+		projection.add(Cypher.name(Constants.NAME_OF_SYNTHESIZED_RELATIONS));
+		projection.add(Cypher.name(Constants.NAME_OF_SYNTHESIZED_RELATED_NODES));
+		projection.addAll(queryFragments.getAdditionalReturnExpressions());
+
+		return rootNodesAndRelatedElements
+				.unwind(Constants.NAME_OF_ROOT_NODE).as(rootNodes)
+				.with(
+						Cypher.name(rootNodes).as(Constants.NAME_OF_TYPED_ROOT_NODE.apply(nodeDescription).getValue()),
+						Cypher.name(Constants.NAME_OF_SYNTHESIZED_RELATIONS),
+						Cypher.name(Constants.NAME_OF_SYNTHESIZED_RELATED_NODES))
+				.orderBy(queryFragments.getOrderBy())
+				.returning(projection)
+				.skip(queryFragments.getSkipExpression())
+				.limit(queryFragments.getLimitExpression()).build();
 	}
 
 	/**
 	 * Checks if the {@code domainType} is a known entity in the {@code mappingContext} and retrieves the mapping function
 	 * for it. If the {@code resultType} is not an interface, a DTO based projection further down the chain is assumed
-	 * and therefore a call to {@link EntityInstanceWithSource#decorateMappingFunction(BiFunction)} is made, so that
-	 * a {@link org.springframework.data.neo4j.core.mapping.DtoInstantiatingConverter} can be used with the query result.
+	 * and therefore a call to {@link EntityInstanceWithSource#decorateMappingFunction(BiFunction, org.springframework.data.neo4j.core.mapping.DtoMappingPlan)}
+	 * is made, so that a {@link org.springframework.data.neo4j.core.mapping.DtoInstantiatingConverter} can be used with
+	 * the query result. DTOs are read directly from the records whenever possible.
 	 *
 	 * @param mappingContext Needed for retrieving the original mapping function
 	 * @param domainType     The actual domain type (a {@link org.springframework.data.neo4j.core.schema.Node}).
@@ -266,7 +395,9 @@ public final class TemplateSupport {
 			BiFunction<TypeSystem, MapAccessor, ?> mappingFunction = mappingContext.getRequiredMappingFunctionFor(
 					domainType);
 			if (resultType != null && domainType != resultType && !resultType.isInterface()) {
-				mappingFunction = EntityInstanceWithSource.decorateMappingFunction(mappingFunction);
+				mappingFunction = resultType.isAssignableFrom(domainType)
+						? EntityInstanceWithSource.decorateMappingFunction(mappingFunction)
+						: EntityInstanceWithSource.decorateMappingFunction(mappingFunction, mappingContext.getDtoMappingPlan(domainType, resultType));
 			}
 			return mappingFunction;
 		};
@@ -354,14 +485,15 @@ public final class TemplateSupport {
 	 * @param entityMetaData The type information from SDN
 	 * @param propertyAccessor An accessor tied to a concrete instance
 	 * @param elementId The element id to store
-	 * @param databaseEntity A fallback entity to retrieve the deprecated internal long id
+	 * @param databaseEntity A fallback row to retrieve the deprecated internal long id
 	 * @param <T> The type of the entity
 	 */
+	@SuppressWarnings("deprecation")
 	static <T> void setGeneratedIdIfNecessary(
 			Neo4jPersistentEntity<?> entityMetaData,
 			PersistentPropertyAccessor<T> propertyAccessor,
 			Object elementId,
-			Optional<Entity> databaseEntity
+			Optional<? extends MapAccessor> databaseEntity
 	) {
 		if (!entityMetaData.isUsingInternalIds()) {
 			return;
@@ -388,10 +520,11 @@ public final class TemplateSupport {
 	 * @param <T> The type of the entity
 	 * @return The actual related internal id being used.
 	 */
+	@SuppressWarnings("deprecation")
 	static <T> Object retrieveOrSetRelatedId(
 			Neo4jPersistentEntity<?> entityMetadata,
 			PersistentPropertyAccessor<T> propertyAccessor,
-			Optional<Entity> databaseEntity,
+			Optional<? extends MapAccessor> databaseEntity,
 			@Nullable Object relatedInternalId
 	) {
 		if (!entityMetadata.isUsingInternalIds()) {
@@ -405,7 +538,7 @@ public final class TemplateSupport {
 			if (relatedInternalId == null && current != null) {
 				relatedInternalId = current.toString();
 			} else if (current == null) {
-				long internalId = databaseEntity.map(Entity::id).orElseThrow();
+				long internalId = databaseEntity.map(IdentitySupport::getInternalId).orElseThrow();
 				propertyAccessor.setProperty(requiredIdProperty, internalId);
 			}
 		} else {
@@ -419,18 +552,10 @@ public final class TemplateSupport {
 	}
 
 	/**
-	 * Checks if the renderer is configured in such a way that it will use element id or apply toString(id(n)) workaround.
-	 * @return {@literal true} if renderer will use elementId
+	 * Converts an internal id or an element id, either as driver value or as plain object, into its string representation.
+	 * @param value The id to convert
+	 * @return The id as string
 	 */
-	static boolean rendererCanUseElementIdIfPresent(Renderer renderer, Neo4jPersistentEntity<?> targetEntity) {
-		return !targetEntity.isUsingDeprecatedInternalId() && rendererRendersElementId(renderer);
-	}
-
-	static boolean rendererRendersElementId(Renderer renderer) {
-		return renderer.render(Cypher.returning(Cypher.elementId(Cypher.anyNode("n"))).build())
-				.equals("RETURN elementId(n)");
-	}
-
 	public static String convertIdOrElementIdToString(Object value) {
 		if (value instanceof Value driverValue) {
 			if (driverValue.hasType(TypeSystem.getDefault().NUMBER())) {
@@ -442,6 +567,168 @@ public final class TemplateSupport {
 		return value.toString();
 	}
 
+	/**
+	 * Checks whether nodes of the given entity can be saved or loaded together with other instances of the same type
+	 * in one {@code UNWIND} based statement while cascading a save operation. This is not possible for entities that
+	 * require to read back the stored node (internal ids, versions), that carry their own set of labels or that don't
+	 * have a single graph property as id.
+	 *
+	 * @param entityMetaData The metadata of the related entity
+	 * @return {@literal true} if related nodes of that type can be processed in batches
+	 */
+	static boolean supportsBatchedRelatedNodes(Neo4jPersistentEntity<?> entityMetaData) {
+		return !(entityMetaData.isUsingInternalIds()
+				|| entityMetaData.hasVersionProperty()
+				|| entityMetaData.getDynamicLabelsProperty().isPresent()
+				|| entityMetaData.getRequiredIdProperty().isComposite());
+	}
+
+	/**
+	 * Checks whether instances of the given entity can be shared between callers, which is the case when all persistent
+	 * properties of the entity, its subtypes and all entities reachable through relationships are immutable. Saving such
+	 * instances creates new instances instead of modifying them.
+	 *
+	 * @param entityMetaData The metadata of the entity
+	 * @return {@literal true} if all entities involved are immutable
+	 */
+	static boolean isImmutable(Neo4jPersistentEntity<?> entityMetaData) {
+		return isImmutable(entityMetaData, Collections.newSetFromMap(new IdentityHashMap<>()));
+	}
+
+	private static boolean isImmutable(NodeDescription<?> nodeDescription, Set<NodeDescription<?>> visited) {
+
+		if (!visited.add(nodeDescription)) {
+			return true;
+		}
+
+		Neo4jPersistentEntity<?> entity = (Neo4jPersistentEntity<?>) nodeDescription;
+		List<Neo4jPersistentProperty> mutableProperties = new ArrayList<>();
+		entity.doWithAll(property -> {
+			if (!property.isImmutable()) {
+				mutableProperties.add(property);
+			}
+		});
+		if (!mutableProperties.isEmpty()) {
+			return false;
+		}
+
+		for (RelationshipDescription relationship : entity.getRelationships()) {
+			if (!isImmutable(relationship.getTarget(), visited)
+					|| relationship.hasRelationshipProperties() && !isImmutable(relationship.getRelationshipPropertiesEntity(), visited)) {
+				return false;
+			}
+		}
+		return entity.getChildNodeDescriptionsInHierarchy().stream().allMatch(child -> isImmutable(child, visited));
+	}
+
+	/**
+	 * Converts the value of an {@link Constants#NAME_OF_ELEMENT_ID} column into the same representation that is used
+	 * for related ids in single statements: The element id on Neo4j 5+ or the numeric internal id otherwise.
+	 *
+	 * @param value The value of the column
+	 * @return A string or long id
+	 */
+	static Object convertToElementIdOrLongId(Value value) {
+		if (value.hasType(TypeSystem.getDefault().NUMBER())) {
+			return value.asLong();
+		}
+		return value.asString();
+	}
+
+	/**
+	 * A related node that has been prepared before processing a relationship in batches.
+	 *
+	 * @param entity    The instance of the related node after all before bind callbacks have been applied
+	 * @param elementId The id of the node in the database, {@literal null} if the node could not be processed in a batch
+	 */
+	record BatchedRelatedNode(Object entity, @Nullable Object elementId) {
+	}
+
+	/**
+	 * A node whose related nodes are prepared in batches, one level of the graph being saved at a time.
+	 *
+	 * @param entity           The entity of the node
+	 * @param propertyAccessor Accessor for the node after all before bind callbacks have been applied
+	 * @param path             The path from the root of the save operation to the node
+	 */
+	record RelatedNodeSource(Neo4jPersistentEntity<?> entity, PersistentPropertyAccessor<?> propertyAccessor,
+			PropertyFilter.RelaxedPropertyPath path) {
+	}
+
+	/**
+	 * A node that is written (or looked up) through a relationship of a {@link RelatedNodeSource}.
+	 *
+	 * @param node           The related node as it is referenced by the relationship
+	 * @param entity         The entity of the related node
+	 * @param cascadeUpdates Whether the relationship cascades updates to the related node
+	 * @param path           The path from the root of the save operation to the relationship
+	 */
+	record RelatedNode(Object node, Neo4jPersistentEntity<?> entity, boolean cascadeUpdates,
+			PropertyFilter.RelaxedPropertyPath path) {
+	}
+
+	/**
+	 * Related nodes that can be written or looked up with the same statement and binder function.
+	 *
+	 * @param entity The entity of all nodes in this batch
+	 * @param path   The path used to filter the properties being written
+	 * @param nodes  The related nodes as they are referenced by their relationships
+	 */
+	record RelatedNodeBatch(Neo4jPersistentEntity<?> entity, PropertyFilter.RelaxedPropertyPath path, List<Object> nodes) {
+	}
+
+	/**
+	 * The key under which related nodes are grouped into a {@link RelatedNodeBatch}: Nodes of the same entity share a
+	 * batch, unless only some of their properties are written, which depends on the path through which they are reached.
+	 *
+	 * @param entity The entity of the related nodes
+	 * @param path   The dot path of the relationship, empty if all properties are written
+	 */
+	record RelatedNodeBatchKey(Neo4jPersistentEntity<?> entity, String path) {
+
+		static RelatedNodeBatchKey of(RelatedNode relatedNode, PropertyFilter includeProperty) {
+			return new RelatedNodeBatchKey(relatedNode.entity(), includeProperty.isNotFiltering() ? "" : relatedNode.path().toDotPath());
+		}
+	}
+
+	/**
+	 * Collects the nodes reachable through all writable relationships of the given node that are included by the
+	 * property filter.
+	 *
+	 * @param mappingContext  The mapping context
+	 * @param source          The node whose relationships are traversed
+	 * @param includeProperty The filter of the save operation
+	 * @return The related nodes, in the order of their relationships
+	 */
+	static List<RelatedNode> getRelatedNodes(Neo4jMappingContext mappingContext, RelatedNodeSource source,
+			PropertyFilter includeProperty) {
+
+		List<RelatedNode> relatedNodes = new ArrayList<>();
+		AssociationHandlerSupport.of(source.entity()).doWithAssociations(association -> {
+
+			NestedRelationshipContext relationshipContext = NestedRelationshipContext.of(association, source.propertyAccessor(), source.entity());
+			if (relationshipContext.isReadOnly()) {
+				return;
+			}
+
+			RelationshipDescription relationshipDescription = relationshipContext.getRelationship();
+			PropertyFilter.RelaxedPropertyPath path = source.path().append(relationshipDescription.getFieldName());
+			if (!includeProperty.isNotFiltering() && !includeProperty.contains(path)) {
+				return;
+			}
+
+			for (Object relatedValue : MappingSupport.unifyRelationshipValue(relationshipContext.getInverse(), relationshipContext.getValue())) {
+				if (relatedValue == null) {
+					continue;
+				}
+				Object node = relationshipContext.identifyAndExtractRelationshipTargetNode(relatedValue);
+				relatedNodes.add(new RelatedNode(node, mappingContext.getRequiredPersistentEntity(node.getClass()),
+						relationshipDescription.cascadeUpdates(), path));
+			}
+		});
+		return relatedNodes;
+	}
+
 	static Object convertToLongIdOrStringElementId(Collection<String> ids) {
 		try {
 			return ids.stream()
@@ -19,10 +19,20 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 import org.apiguardian.api.API;
+import org.springframework.core.GenericTypeResolver;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.core.convert.converter.ConverterFactory;
 import org.springframework.core.convert.converter.ConverterRegistry;
+import org.springframework.core.convert.converter.GenericConverter;
+import org.springframework.core.convert.converter.GenericConverter.ConvertiblePair;
+import org.springframework.data.convert.ConverterBuilder;
 import org.springframework.data.convert.CustomConversions;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
 
 /**
  * @author Michael J. Simons
@@ -35,6 +45,8 @@ public final class Neo4jConversions extends CustomConversions {
 	private static final StoreConversions STORE_CONVERSIONS;
 	private static final List<Object> STORE_CONVERTERS;
 
+	private final List<ConvertiblePair> userConvertiblePairs;
+
 	static {
 
 		List<Object> converters = new ArrayList<>();
@@ -61,6 +73,71 @@ public final class Neo4jConversions extends CustomConversions {
 	 */
 	public Neo4jConversions(Collection<?> converters) {
 		super(STORE_CONVERSIONS, converters);
+
+		this.userConvertiblePairs = new ArrayList<>();
+		for (Object converter : converters) {
+			List<ConvertiblePair> pairs = getConvertiblePairs(converter);
+			if (pairs == null) {
+				// Types of this converter are unknown, so it might apply to anything
+				this.userConvertiblePairs.add(new ConvertiblePair(Object.class, Object.class));
+			} else {
+				this.userConvertiblePairs.addAll(pairs);
+			}
+		}
+	}
+
+	/**
+	 * Checks whether any of the converters registered in addition to the ones provided by Spring Data Neo4j itself
+	 * might read or write the given type. If so, the type must always be converted through a conversion service.
+	 *
+	 * @param type The type to check
+	 * @return {@literal true} if a user-provided converter might be applicable to the given type
+	 * @since 7.4
+	 */
+	@API(status = API.Status.INTERNAL, since = "7.4")
+	public boolean hasUserConverterFor(Class<?> type) {
+
+		Class<?> actualType = ClassUtils.resolvePrimitiveIfNecessary(type);
+		for (ConvertiblePair pair : userConvertiblePairs) {
+			if (isRelated(actualType, pair.getSourceType()) || isRelated(actualType, pair.getTargetType())) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static boolean isRelated(Class<?> type, Class<?> otherType) {
+		Class<?> actualOtherType = ClassUtils.resolvePrimitiveIfNecessary(otherType);
+		return type.isAssignableFrom(actualOtherType) || actualOtherType.isAssignableFrom(type);
+	}
+
+	@Nullable
+	private static List<ConvertiblePair> getConvertiblePairs(Object converter) {
+
+		if (converter instanceof GenericConverter genericConverter) {
+			Set<ConvertiblePair> convertibleTypes = genericConverter.getConvertibleTypes();
+			return convertibleTypes == null ? null : new ArrayList<>(convertibleTypes);
+		} else if (converter instanceof ConverterBuilder.ConverterAware converterAware) {
+			List<ConvertiblePair> pairs = new ArrayList<>();
+			for (Optional<GenericConverter> genericConverter : List.of(converterAware.getReadingConverter(), converterAware.getWritingConverter())) {
+				if (genericConverter.isPresent()) {
+					List<ConvertiblePair> nestedPairs = getConvertiblePairs(genericConverter.get());
+					if (nestedPairs == null) {
+						return null;
+					}
+					pairs.addAll(nestedPairs);
+				}
+			}
+			return pairs;
+		}
+
+		Class<?>[] typeArguments = null;
+		if (converter instanceof Converter<?, ?>) {
+			typeArguments = GenericTypeResolver.resolveTypeArguments(converter.getClass(), Converter.class);
+		} else if (converter instanceof ConverterFactory<?, ?>) {
+			typeArguments = GenericTypeResolver.resolveTypeArguments(converter.getClass(), ConverterFactory.class);
+		}
+		return typeArguments == null ? null : List.of(new ConvertiblePair(typeArguments[0], typeArguments[1]));
 	}
 
 	@Override
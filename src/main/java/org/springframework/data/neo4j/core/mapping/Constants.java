@@ -68,6 +68,18 @@ public final class Constants {
 	public static final String NAME_OF_KNOWN_RELATIONSHIP_PARAM = "__knownRelationShipId__";
 	public static final String NAME_OF_KNOWN_RELATIONSHIPS_PARAM = "__knownRelationShipIds__";
 	public static final String NAME_OF_ALL_PROPERTIES = "__allProperties__";
+	/**
+	 * Indicates the total number of results returned alongside each record of a page.
+	 */
+	public static final String NAME_OF_TOTAL_COUNT = "__total__";
+	/**
+	 * Indicates the number of results to skip in derived queries that bind their paging as parameters.
+	 */
+	public static final String NAME_OF_SKIP = "__skip__";
+	/**
+	 * Indicates the maximum number of results in derived queries that bind their paging as parameters.
+	 */
+	public static final String NAME_OF_LIMIT = "__limit__";
 
 	public static final String NAME_OF_SYNTHESIZED_ROOT_NODE = "__sn__";
 	public static final String NAME_OF_SYNTHESIZED_RELATED_NODES = "__srn__";
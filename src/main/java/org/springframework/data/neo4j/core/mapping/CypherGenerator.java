@@ -51,6 +51,7 @@ import org.neo4j.cypherdsl.core.Parameter;
 import org.neo4j.cypherdsl.core.PatternElement;
 import org.neo4j.cypherdsl.core.Property;
 import org.neo4j.cypherdsl.core.Relationship;
+import org.neo4j.cypherdsl.core.RelationshipChain;
 import org.neo4j.cypherdsl.core.SortItem;
 import org.neo4j.cypherdsl.core.Statement;
 import org.neo4j.cypherdsl.core.StatementBuilder;
@@ -210,6 +211,93 @@ public enum CypherGenerator {
 		return node(primaryLabel, additionalLabels).named(Constants.NAME_OF_TYPED_ROOT_NODE.apply(nodeDescription));
 	}
 
+	/**
+	 * Creates a match of all root nodes fitting the given node description together with all relationships and nodes
+	 * reachable from them in at most {@code maxDepth} hops, regardless of the direction of the relationships. The ongoing
+	 * reading exposes the collected root nodes as {@link Constants#NAME_OF_ROOT_NODE}, the relationships as
+	 * {@link Constants#NAME_OF_SYNTHESIZED_RELATIONS} and the related nodes as
+	 * {@link Constants#NAME_OF_SYNTHESIZED_RELATED_NODES}. This allows loading domain models containing cycles with a
+	 * single query.
+	 * <p>
+	 * The subgraph is expanded level by level: Each level only starts from the nodes that have been reached for the first
+	 * time on the level before, so that every node is expanded at most once. A variable length pattern would enumerate
+	 * all paths up to the maximum depth instead, whose number grows exponentially in graphs with cycles.
+	 *
+	 * @param nodeDescription   The node description of the root nodes
+	 * @param relationshipTypes The types of the relationships to follow, an empty collection follows all relationships
+	 * @param maxDepth          The maximum number of hops
+	 * @param initialMatchOn    Optional patterns to match the root nodes on
+	 * @param condition         Optional condition for the root nodes
+	 * @return An ongoing reading
+	 * @since 7.4
+	 */
+	public StatementBuilder.OngoingReading prepareMatchOfReachableSubgraph(NodeDescription<?> nodeDescription,
+			Collection<String> relationshipTypes, int maxDepth, @Nullable List<PatternElement> initialMatchOn,
+			@Nullable Condition condition) {
+
+		Assert.isTrue(maxDepth > 0, "The maximum depth must be greater than 0");
+
+		Node rootNode = createRootNode(nodeDescription);
+		StatementBuilder.OngoingReadingWithoutWhere match = prepareMatchOfRootNode(rootNode, initialMatchOn);
+
+		SymbolicName rootNodes = Cypher.name(Constants.NAME_OF_ROOT_NODE);
+		SymbolicName relationships = Cypher.name(Constants.NAME_OF_SYNTHESIZED_RELATIONS);
+		SymbolicName relatedNodes = Cypher.name(Constants.NAME_OF_SYNTHESIZED_RELATED_NODES);
+		SymbolicName visited = Cypher.name("__visited__");
+		SymbolicName frontier = Cypher.name("__frontier__");
+		SymbolicName newRelationships = Cypher.name("__newRelationships__");
+		SymbolicName reachedNodes = Cypher.name("__reached__");
+
+		String start = "__start__";
+		Node relatedNode = anyNode("__related__");
+		Relationship relationship = anyNode(start)
+				.relationshipBetween(relatedNode, relationshipTypes.toArray(new String[0]))
+				.named("__relationship__");
+		// The start nodes are unwound from the frontier instead of filtering afterward, so that the expansion begins at
+		// those nodes and doesn't scan all nodes in the graph. An empty frontier must still produce a row.
+		Expression startNodes = Cypher.caseExpression()
+				.when(Cypher.size(frontier).isEqualTo(Cypher.literalOf(0)))
+				.then(Cypher.listOf(Cypher.literalOf(null)))
+				.elseDefault(frontier);
+
+		StatementBuilder.OngoingReading reading = match
+				.where(conditionOrNoCondition(condition))
+				.with(Cypher.collect(rootNode).as(Constants.NAME_OF_ROOT_NODE))
+				.with(new IdentifiableElement[] {
+						rootNodes,
+						rootNodes.as(visited.getValue()),
+						rootNodes.as(frontier.getValue()),
+						Cypher.listOf().as(relationships.getValue()),
+						Cypher.listOf().as(relatedNodes.getValue())
+				});
+
+		for (int depth = 0; depth < maxDepth; ++depth) {
+			reading = reading
+					.unwind(startNodes).as(start)
+					.optionalMatch(relationship)
+					.with(new IdentifiableElement[] {
+							rootNodes, visited, relationships, relatedNodes,
+							Cypher.collectDistinct(relationship.getRequiredSymbolicName()).as(newRelationships.getValue()),
+							Cypher.collectDistinct(relatedNode.getRequiredSymbolicName()).as(reachedNodes.getValue())
+					})
+					.with(new IdentifiableElement[] {
+							rootNodes,
+							relationships.add(elementsNotIn(newRelationships, relationships)).as(relationships.getValue()),
+							relatedNodes.add(elementsNotIn(reachedNodes, relatedNodes)).as(relatedNodes.getValue()),
+							elementsNotIn(reachedNodes, visited).as(frontier.getValue()),
+							visited.add(elementsNotIn(reachedNodes, visited)).as(visited.getValue())
+					});
+		}
+
+		return reading.with(new IdentifiableElement[] {rootNodes, relationships, relatedNodes});
+	}
+
+	private static Expression elementsNotIn(SymbolicName elements, SymbolicName existingElements) {
+
+		SymbolicName element = Cypher.name("__element__");
+		return Cypher.listWith(element).in(elements).where(element.in(existingElements).not()).returning();
+	}
+
 	private StatementBuilder.OngoingReadingWithoutWhere prepareMatchOfRootNode(
 			Node rootNode, @Nullable List<PatternElement> initialMatchOn
 	) {
@@ -281,6 +369,34 @@ public enum CypherGenerator {
 		return ongoingUpdate.build();
 	}
 
+	/**
+	 * Creates a statement that deletes the matching nodes in batches, each committed in an inner transaction of its own.
+	 * The statement must run in an implicit transaction and returns the number of deleted nodes.
+	 *
+	 * @param nodeDescription    The description of the nodes to delete
+	 * @param condition          An optional condition the nodes must satisfy
+	 * @param rowsPerTransaction The number of nodes deleted per inner transaction
+	 * @return A statement using {@code CALL { } IN TRANSACTIONS}
+	 * @since 7.4
+	 */
+	public Statement prepareDeleteInTransactionsOf(NodeDescription<?> nodeDescription, @Nullable Condition condition,
+			int rowsPerTransaction) {
+
+		Node rootNode = node(nodeDescription.getPrimaryLabel(), nodeDescription.getAdditionalLabels())
+				.named(Constants.NAME_OF_TYPED_ROOT_NODE.apply(nodeDescription));
+		return match(rootNode).where(conditionOrNoCondition(condition))
+				.callInTransactions(createDetachDeleteOf(rootNode.getRequiredSymbolicName()), rowsPerTransaction)
+				.returning(Cypher.count(Cypher.asterisk()))
+				.build();
+	}
+
+	/**
+	 * {@return the subquery deleting the node with the given name, to be called in transactions}
+	 */
+	public Statement createDetachDeleteOf(SymbolicName node) {
+		return Cypher.with(node).detachDelete(node).build();
+	}
+
 	public Condition createCompositePropertyCondition(GraphPropertyDescription idProperty, SymbolicName containerName, Expression actualParameter) {
 
 		if (!idProperty.isComposite()) {
@@ -307,6 +423,8 @@ public enum CypherGenerator {
 		IdDescription idDescription = nodeDescription.getIdDescription();
 		Assert.notNull(idDescription, "Cannot save individual nodes without an id attribute");
 		Parameter<?> idParameter = parameter(Constants.NAME_OF_ID);
+		// Only the values needed to update the saved instance are returned, not the whole node
+		Expression[] returnedIdentity = createReturnedIdentityOf(nodeDescription, rootNode, canUseElementId);
 
 		if (!idDescription.isInternallyGeneratedId()) {
 			GraphPropertyDescription idPropertyDescription = ((Neo4jPersistentEntity<?>) nodeDescription).getRequiredIdProperty();
@@ -322,7 +440,7 @@ public enum CypherGenerator {
 						.where(possibleExistingNode.isNull())
 						.create(rootNode.withProperties(versionProperty, literalOf(0)))
 						.with(rootNode)
-						.mutate(rootNode, parameter(Constants.NAME_OF_PROPERTIES_PARAM))).returning(rootNode)
+						.mutate(rootNode, parameter(Constants.NAME_OF_PROPERTIES_PARAM))).returning(returnedIdentity)
 						.build();
 
 				Statement updateIfExists = updateDecorator.apply(match(rootNode)
@@ -333,7 +451,7 @@ public enum CypherGenerator {
 						.where(versionProperty.isEqualTo(coalesce(parameter(Constants.NAME_OF_VERSION_PARAM), literalOf(0)).add(
 								literalOf(1))))
 						.mutate(rootNode, parameter(Constants.NAME_OF_PROPERTIES_PARAM)))
-						.returning(rootNode)
+						.returning(returnedIdentity)
 						.build();
 				return Cypher.union(createIfNew, updateIfExists);
 
@@ -347,14 +465,14 @@ public enum CypherGenerator {
 								.where(possibleExistingNode.isNull())
 								.create(rootNode)
 								.with(rootNode)
-								.mutate(rootNode, parameter(Constants.NAME_OF_PROPERTIES_PARAM))).returning(rootNode)
+								.mutate(rootNode, parameter(Constants.NAME_OF_PROPERTIES_PARAM))).returning(returnedIdentity)
 						.build();
 
 				Statement updateIfExists = updateDecorator.apply(match(rootNode)
 								.where(createCompositePropertyCondition(idPropertyDescription, rootNode.getRequiredSymbolicName(), idParameter))
 								.with(rootNode)
 								.mutate(rootNode, parameter(Constants.NAME_OF_PROPERTIES_PARAM)))
-						.returning(rootNode)
+						.returning(returnedIdentity)
 						.build();
 				return Cypher.union(createIfNew, updateIfExists);
 			}
@@ -378,7 +496,7 @@ public enum CypherGenerator {
 						.create(rootNode.withProperties(versionProperty, literalOf(0)))
 						.with(rootNode)
 						.mutate(rootNode, parameter(Constants.NAME_OF_PROPERTIES_PARAM)))
-						.returning(rootNode)
+						.returning(returnedIdentity)
 						.build();
 
 				updateIfExists = updateDecorator.apply(match(rootNode)
@@ -389,22 +507,49 @@ public enum CypherGenerator {
 						.where(versionProperty.isEqualTo(coalesce(parameter(Constants.NAME_OF_VERSION_PARAM), literalOf(0)).add(
 								literalOf(1))))
 						.mutate(rootNode, parameter(Constants.NAME_OF_PROPERTIES_PARAM)))
-						.returning(rootNode).build();
+						.returning(returnedIdentity).build();
 			} else {
 				createIfNew = updateDecorator
 						.apply(optionalMatch(possibleExistingNode).where(nodeIdFunction.apply(possibleExistingNode).isEqualTo(idParameter))
 								.with(possibleExistingNode).where(possibleExistingNode.isNull()).create(rootNode)
 								.set(rootNode, parameter(Constants.NAME_OF_PROPERTIES_PARAM)))
-						.returning(rootNode).build();
+						.returning(returnedIdentity).build();
 
 				updateIfExists = updateDecorator.apply(match(rootNode).where(nodeIdFunction.apply(rootNode).isEqualTo(idParameter))
-						.mutate(rootNode, parameter(Constants.NAME_OF_PROPERTIES_PARAM))).returning(rootNode).build();
+						.mutate(rootNode, parameter(Constants.NAME_OF_PROPERTIES_PARAM))).returning(returnedIdentity).build();
 			}
 
 			return Cypher.union(createIfNew, updateIfExists);
 		}
 	}
 
+	/**
+	 * Creates the expressions that identify a node that has been saved or looked up on behalf of an entity: Its element
+	 * id as {@link Constants#NAME_OF_ELEMENT_ID}, its internal id as {@link Constants#NAME_OF_INTERNAL_ID} if the entity
+	 * uses internal ids or element ids cannot be used and its version as {@link Constants#NAME_OF_VERSION_PARAM} if the
+	 * entity is versioned. Returning those instead of the node avoids shipping all its properties back to the client.
+	 *
+	 * @param nodeDescription The node description of the entity
+	 * @param node            The node to identify
+	 * @param canUseElementId Whether element ids can be used
+	 * @return The expressions to return
+	 * @since 7.4
+	 */
+	public Expression[] createReturnedIdentityOf(NodeDescription<?> nodeDescription, Node node, boolean canUseElementId) {
+
+		List<Expression> expressions = new ArrayList<>();
+		expressions.add(elementIdOrIdFunction.apply(node).as(Constants.NAME_OF_ELEMENT_ID));
+		if (nodeDescription instanceof Neo4jPersistentEntity<?> entity) {
+			if (entity.isUsingDeprecatedInternalId() || !canUseElementId) {
+				expressions.add(node.internalId().as(Constants.NAME_OF_INTERNAL_ID));
+			}
+			if (entity.hasVersionProperty()) {
+				expressions.add(node.property(entity.getRequiredVersionProperty().getName()).as(Constants.NAME_OF_VERSION_PARAM));
+			}
+		}
+		return expressions.toArray(Expression[]::new);
+	}
+
 	public Statement prepareSaveOfMultipleInstancesOf(NodeDescription<?> nodeDescription) {
 
 		Assert.isTrue(!nodeDescription.isUsingInternalIds(),
@@ -433,6 +578,125 @@ public enum CypherGenerator {
 				.build();
 	}
 
+	/**
+	 * Creates a statement that looks up several nodes of the same description by their external ids in one go. The
+	 * statement expects a list parameter named {@link Constants#NAME_OF_IDS} and returns the external id of each matched
+	 * node together with its element id, in the same columns as {@link #prepareSaveOfMultipleInstancesOf(NodeDescription)}.
+	 *
+	 * @param nodeDescription The node description for which the statement should be generated
+	 * @return A statement returning {@link Constants#NAME_OF_ID} and {@link Constants#NAME_OF_ELEMENT_ID}
+	 * @since 7.4
+	 */
+	public Statement prepareLoadOfMultipleInstancesOf(NodeDescription<?> nodeDescription) {
+
+		Assert.isTrue(!nodeDescription.isUsingInternalIds(),
+				"Only entities that use external IDs can be loaded in a batch");
+
+		Node rootNode = createRootNode(nodeDescription);
+		IdDescription idDescription = nodeDescription.getIdDescription();
+
+		@SuppressWarnings("ConstantConditions") // See prepareSaveOfMultipleInstancesOf
+		String nameOfIdProperty = idDescription.getOptionalGraphPropertyName()
+				.orElseThrow(() -> new MappingException("External id does not correspond to a graph property"));
+
+		return match(rootNode)
+				.where(rootNode.property(nameOfIdProperty).in(parameter(Constants.NAME_OF_IDS)))
+				.returning(
+						elementIdOrIdFunction.apply(rootNode).as(Constants.NAME_OF_ELEMENT_ID),
+						rootNode.property(nameOfIdProperty).as(Constants.NAME_OF_ID))
+				.build();
+	}
+
+	/**
+	 * Creates a statement that saves several instances of the same node description in one go, like
+	 * {@link #prepareSaveOfMultipleInstancesOf(NodeDescription)}, but supports optimistic locking and dynamic labels. If
+	 * the node description has a version property, the version of each node is incremented and only those nodes whose
+	 * version matched the version in {@link Constants#NAME_OF_VERSION_PARAM} of their row are updated and returned.
+	 * New nodes start with version 0. The new version is returned in a column named
+	 * {@link Constants#NAME_OF_VERSION_PARAM}.
+	 *
+	 * @param nodeDescription The node description for which the statement should be generated
+	 * @param updateDecorator Decorator for the update, used to add or remove dynamic labels
+	 * @return A statement returning {@link Constants#NAME_OF_ID}, {@link Constants#NAME_OF_ELEMENT_ID} and possibly the
+	 * new version of each saved node
+	 * @since 7.4
+	 */
+	public Statement prepareBulkSaveOfMultipleInstancesOf(NodeDescription<?> nodeDescription,
+			UnaryOperator<OngoingMatchAndUpdate> updateDecorator) {
+
+		Assert.isTrue(!nodeDescription.isUsingInternalIds(),
+				"Only entities that use external IDs can be saved in a batch");
+
+		Node rootNode = node(nodeDescription.getPrimaryLabel(), nodeDescription.getAdditionalLabels())
+				.named(Constants.NAME_OF_TYPED_ROOT_NODE.apply(nodeDescription));
+		IdDescription idDescription = nodeDescription.getIdDescription();
+
+		@SuppressWarnings("ConstantConditions") // See prepareSaveOfMultipleInstancesOf
+		String nameOfIdProperty = idDescription.getOptionalGraphPropertyName()
+				.orElseThrow(() -> new MappingException("External id does not correspond to a graph property"));
+
+		List<Expression> expressions = new ArrayList<>();
+		expressions.add(elementIdOrIdFunction.apply(rootNode).as(Constants.NAME_OF_ELEMENT_ID));
+		expressions.add(rootNode.property(nameOfIdProperty).as(Constants.NAME_OF_ID));
+
+		String row = "entity";
+		Node mergedNode = rootNode.withProperties(nameOfIdProperty, Cypher.property(row, Constants.NAME_OF_ID));
+		OngoingMatchAndUpdate ongoingUpdate;
+		if (nodeDescription instanceof Neo4jPersistentEntity<?> entity && entity.hasVersionProperty()) {
+			Property versionProperty = rootNode.property(entity.getRequiredVersionProperty().getName());
+
+			// New nodes end up with version 0, existing ones are incremented, which acquires the lock on them before
+			// checking the version of the row. Rows without version must not hit an existing node.
+			ongoingUpdate = Cypher.unwind(parameter(Constants.NAME_OF_ENTITY_LIST_PARAM)).as(row)
+					.merge(mergedNode)
+					.set(versionProperty.to(coalesce(versionProperty.add(literalOf(1)), literalOf(0))))
+					.with(rootNode.getRequiredSymbolicName(), Cypher.name(row))
+					.where(versionProperty.isEqualTo(
+							coalesce(Cypher.property(row, Constants.NAME_OF_VERSION_PARAM), literalOf(-1)).add(literalOf(1))))
+					.mutate(rootNode, Cypher.property(row, Constants.NAME_OF_PROPERTIES_PARAM));
+			expressions.add(versionProperty.as(Constants.NAME_OF_VERSION_PARAM));
+		} else {
+			ongoingUpdate = Cypher.unwind(parameter(Constants.NAME_OF_ENTITY_LIST_PARAM)).as(row)
+					.merge(mergedNode)
+					.mutate(rootNode, Cypher.property(row, Constants.NAME_OF_PROPERTIES_PARAM));
+		}
+
+		return updateDecorator.apply(ongoingUpdate)
+				.returning(expressions)
+				.build();
+	}
+
+	/**
+	 * Creates a statement that retrieves the dynamic labels of several nodes of the same description in one go. The
+	 * statement expects a list parameter named {@link Constants#NAME_OF_IDS} and the static labels in
+	 * {@link Constants#NAME_OF_STATIC_LABELS_PARAM}. Nodes without dynamic labels are not returned.
+	 *
+	 * @param nodeDescription The node description for which the statement should be generated
+	 * @return A statement returning {@link Constants#NAME_OF_ID} and {@link Constants#NAME_OF_LABELS}
+	 * @since 7.4
+	 */
+	public Statement createStatementReturningDynamicLabelsOfMultipleInstances(NodeDescription<?> nodeDescription) {
+
+		Assert.isTrue(!nodeDescription.isUsingInternalIds(),
+				"Only entities that use external IDs can be loaded in a batch");
+
+		Node rootNode = createRootNode(nodeDescription);
+		IdDescription idDescription = nodeDescription.getIdDescription();
+
+		@SuppressWarnings("ConstantConditions") // See prepareSaveOfMultipleInstancesOf
+		String nameOfIdProperty = idDescription.getOptionalGraphPropertyName()
+				.orElseThrow(() -> new MappingException("External id does not correspond to a graph property"));
+
+		SymbolicName label = Cypher.name("label");
+		return match(rootNode)
+				.where(rootNode.property(nameOfIdProperty).in(parameter(Constants.NAME_OF_IDS)))
+				.unwind(rootNode.labels()).as(label.getValue())
+				.with(rootNode.getRequiredSymbolicName(), label)
+				.where(label.in(parameter(Constants.NAME_OF_STATIC_LABELS_PARAM)).not())
+				.returning(rootNode.property(nameOfIdProperty).as(Constants.NAME_OF_ID), collect(label).as(Constants.NAME_OF_LABELS))
+				.build();
+	}
+
 	@NonNull
 	public Statement prepareSaveOfRelationship(Neo4jPersistentEntity<?> neo4jPersistentEntity,
 			RelationshipDescription relationship, @Nullable String dynamicRelationshipType, boolean canUseElementId) {
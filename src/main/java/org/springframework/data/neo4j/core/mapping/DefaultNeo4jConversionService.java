@@ -15,13 +15,23 @@
  */
 package org.springframework.data.neo4j.core.mapping;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.ZonedDateTime;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
 import org.neo4j.driver.Value;
 import org.neo4j.driver.Values;
+import org.neo4j.driver.types.IsoDuration;
+import org.neo4j.driver.types.Point;
 import org.springframework.core.CollectionFactory;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.core.convert.support.ConfigurableConversionService;
@@ -41,10 +51,43 @@ import org.springframework.lang.Nullable;
  */
 final class DefaultNeo4jConversionService implements Neo4jConversionService {
 
+	/**
+	 * Readers for the types the driver supports natively. They are the same functions the store converters in
+	 * {@link org.springframework.data.neo4j.core.convert.Neo4jConversions} use, but can be called directly, without
+	 * going through a conversion service. Writing all of these types is done via {@link Values#value(Object)}.
+	 */
+	private static final Map<Class<?>, Function<Value, Object>> NATIVE_READERS;
+
+	static {
+		Map<Class<?>, Function<Value, Object>> hlp = new HashMap<>();
+		hlp.put(String.class, Value::asString);
+		hlp.put(Boolean.class, Value::asBoolean);
+		hlp.put(boolean.class, Value::asBoolean);
+		hlp.put(Long.class, Value::asLong);
+		hlp.put(long.class, Value::asLong);
+		hlp.put(Integer.class, Value::asInt);
+		hlp.put(int.class, Value::asInt);
+		hlp.put(Double.class, Value::asDouble);
+		hlp.put(double.class, Value::asDouble);
+		hlp.put(LocalDate.class, Value::asLocalDate);
+		hlp.put(LocalDateTime.class, Value::asLocalDateTime);
+		hlp.put(LocalTime.class, Value::asLocalTime);
+		hlp.put(OffsetTime.class, Value::asOffsetTime);
+		hlp.put(OffsetDateTime.class, Value::asOffsetDateTime);
+		hlp.put(ZonedDateTime.class, Value::asZonedDateTime);
+		hlp.put(IsoDuration.class, Value::asIsoDuration);
+		hlp.put(Point.class, Value::asPoint);
+		NATIVE_READERS = Map.copyOf(hlp);
+	}
+
 	private final ConversionService conversionService;
 	private final Predicate<Class<?>> hasCustomWriteTargetPredicate;
+	private final Predicate<Class<?>> hasUserConverterPredicate;
 	private final SimpleTypeHolder simpleTypes;
 
+	private final BiFunction<Value, Class<?>, Object> defaultReadConversion;
+	private final Function<Object, Value> defaultWriteConversion;
+
 	DefaultNeo4jConversionService(Neo4jConversions neo4jConversions) {
 
 		final ConfigurableConversionService configurableConversionService = new DefaultConversionService();
@@ -52,7 +95,45 @@ final class DefaultNeo4jConversionService implements Neo4jConversionService {
 
 		this.conversionService = configurableConversionService;
 		this.hasCustomWriteTargetPredicate = neo4jConversions::hasCustomWriteTarget;
+		this.hasUserConverterPredicate = neo4jConversions::hasUserConverterFor;
 		this.simpleTypes = neo4jConversions.getSimpleTypeHolder();
+
+		this.defaultReadConversion = (v, t) -> configurableConversionService.convert(v, t);
+		this.defaultWriteConversion = v -> configurableConversionService.convert(v, Value.class);
+	}
+
+	/**
+	 * Compiles a codec for values of the given type. Types the driver supports natively are read and written directly,
+	 * as long as no user-provided converter might apply to them. All other types, collections and values with a
+	 * dedicated converter go through {@link #readValue(Value, TypeInformation, Neo4jPersistentPropertyConverter)} and
+	 * {@link #writeValue(Object, TypeInformation, Neo4jPersistentPropertyConverter)}.
+	 *
+	 * @param type              The type of the values
+	 * @param propertyConverter An optional converter dedicated to the values
+	 * @return A codec for the given type
+	 */
+	PropertyCodec compileCodec(TypeInformation<?> type, @Nullable Neo4jPersistentPropertyConverter<?> propertyConverter) {
+
+		Class<?> rawType = type.getType();
+		Function<Value, Object> nativeReader = NATIVE_READERS.get(rawType);
+		if (propertyConverter != null || nativeReader == null || hasUserConverterPredicate.test(rawType)) {
+			return new PropertyCodec(v -> readValue(v, type, propertyConverter), v -> writeValue(v, type, propertyConverter));
+		}
+
+		return new PropertyCodec(
+				value -> {
+					if (value == null || value == Values.NULL) {
+						return null;
+					}
+					try {
+						return nativeReader.apply(value);
+					} catch (Exception e) {
+						String msg = String.format("Could not convert %s into %s", value, type);
+						throw new TypeMismatchDataAccessException(msg, e);
+					}
+				},
+				// Null is passed on to the conversion service, which might treat it special
+				value -> value == null ? writeValue(null, type, null) : Values.value(value));
 	}
 
 	@Override
@@ -74,7 +155,7 @@ final class DefaultNeo4jConversionService implements Neo4jConversionService {
 		BiFunction<Value, Class<?>, Object> conversion;
 		boolean applyConversionToCompleteCollection = false;
 		if (conversionOverride == null) {
-			conversion = (v, t) -> conversionService.convert(v, t);
+			conversion = defaultReadConversion;
 		} else {
 			applyConversionToCompleteCollection = conversionOverride instanceof NullSafeNeo4jPersistentPropertyConverter
 												  && ((NullSafeNeo4jPersistentPropertyConverter<?>) conversionOverride).isForCollection();
@@ -114,7 +195,7 @@ final class DefaultNeo4jConversionService implements Neo4jConversionService {
 		Function<Object, Value> conversion;
 		boolean applyConversionToCompleteCollection = false;
 		if (writingConverter == null) {
-			conversion = v -> conversionService.convert(v, Value.class);
+			conversion = defaultWriteConversion;
 		} else {
 			@SuppressWarnings("unchecked")
 			Neo4jPersistentPropertyConverter<Object> hlp = (Neo4jPersistentPropertyConverter<Object>) writingConverter;
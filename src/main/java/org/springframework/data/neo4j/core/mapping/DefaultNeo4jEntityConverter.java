@@ -20,14 +20,13 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -62,6 +61,12 @@ import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
 /**
+ * The default entity converter. Writing is stateless, reading is not: All state needed to aggregate entities across
+ * the records of one result (already mapped objects, processed relationships and per-record lookup caches) is kept
+ * in the instance. That state is created on the first read and not guarded by any lock, so an instance used for reading
+ * must be confined to one result at a time. Use {@link #withNewMappingState()} to get a cheap copy sharing all
+ * stateless parts for each new result.
+ *
  * @author Michael J. Simons
  * @author Gerrit Meier
  * @author Philipp Tölle
@@ -74,9 +79,17 @@ final class DefaultNeo4jEntityConverter implements Neo4jEntityConverter {
 	private final NodeDescriptionStore nodeDescriptionStore;
 	private final Neo4jConversionService conversionService;
 
+	/**
+	 * Codecs for all properties read or written so far, shared by all instances derived from the same converter.
+	 */
+	private final Map<Neo4jPersistentProperty, PropertyCodec> propertyCodecs;
+
 	private final EventSupport eventSupport;
 
-	private final KnownObjects knownObjects = new KnownObjects();
+	/**
+	 * Created on the first read, so that instances that are only used for writing don't carry any mapping state.
+	 */
+	private KnownObjects knownObjects;
 
 	private final Type nodeType;
 	private final Type relationshipType;
@@ -84,7 +97,10 @@ final class DefaultNeo4jEntityConverter implements Neo4jEntityConverter {
 	private final Type listType;
 	private final Type pathType;
 
-	private final Map<String, Collection<Node>> labelNodeCache = new HashMap<>();
+	private Map<String, Collection<Node>> labelNodeCache;
+
+	@Nullable
+	private RelationshipsByNode relationshipsByNodeCache;
 
 	DefaultNeo4jEntityConverter(EntityInstantiators entityInstantiators, NodeDescriptionStore nodeDescriptionStore,
 			Neo4jConversionService conversionService, EventSupport eventSupport, TypeSystem typeSystem) {
@@ -96,6 +112,7 @@ final class DefaultNeo4jEntityConverter implements Neo4jEntityConverter {
 
 		this.entityInstantiators = entityInstantiators;
 		this.conversionService = conversionService;
+		this.propertyCodecs = new ConcurrentHashMap<>();
 		this.nodeDescriptionStore = nodeDescriptionStore;
 		this.eventSupport = eventSupport;
 
@@ -106,12 +123,43 @@ final class DefaultNeo4jEntityConverter implements Neo4jEntityConverter {
 		this.pathType = typeSystem.PATH();
 	}
 
+	private DefaultNeo4jEntityConverter(DefaultNeo4jEntityConverter source) {
+
+		this.entityInstantiators = source.entityInstantiators;
+		this.conversionService = source.conversionService;
+		this.propertyCodecs = source.propertyCodecs;
+		this.nodeDescriptionStore = source.nodeDescriptionStore;
+		this.eventSupport = source.eventSupport;
+
+		this.nodeType = source.nodeType;
+		this.relationshipType = source.relationshipType;
+		this.mapType = source.mapType;
+		this.listType = source.listType;
+		this.pathType = source.pathType;
+	}
+
+	/**
+	 * Creates a new converter that shares all stateless parts with this instance but starts with a fresh, empty mapping
+	 * state. This is way cheaper than creating a converter from scratch.
+	 *
+	 * @return A new converter without any mapping state
+	 */
+	DefaultNeo4jEntityConverter withNewMappingState() {
+		return new DefaultNeo4jEntityConverter(this);
+	}
+
 	@Override
 	@Nullable
 	public <R> R read(Class<R> targetType, MapAccessor mapAccessor) {
 
-		knownObjects.nextRecord();
-		labelNodeCache.clear();
+		if (knownObjects == null) {
+			knownObjects = new KnownObjects();
+			labelNodeCache = new HashMap<>();
+		} else {
+			knownObjects.nextRecord();
+			labelNodeCache.clear();
+		}
+		relationshipsByNodeCache = null;
 
 		@SuppressWarnings("unchecked") // ¯\_(ツ)_/¯
 		Neo4jPersistentEntity<R> rootNodeDescription = (Neo4jPersistentEntity<R>) nodeDescriptionStore.getNodeDescription(targetType);
@@ -242,7 +290,7 @@ final class DefaultNeo4jEntityConverter implements Neo4jEntityConverter {
 				return;
 			}
 
-			final Value value = conversionService.writeValue(propertyAccessor.getProperty(p), p.getTypeInformation(), p.getOptionalConverter());
+			final Value value = getCodec(p).write(propertyAccessor.getProperty(p));
 			if (p.isComposite()) {
 				properties.put(p.getPropertyName(), new MapValueWrapper(value));
 				//value.keys().forEach(k -> properties.put(k, value.get(k)));
@@ -257,7 +305,7 @@ final class DefaultNeo4jEntityConverter implements Neo4jEntityConverter {
 		if (nodeDescription.hasIdProperty()) {
 			Neo4jPersistentProperty idProperty = nodeDescription.getRequiredIdProperty();
 			parameters.put(Constants.NAME_OF_ID,
-					conversionService.writeValue(propertyAccessor.getProperty(idProperty), idProperty.getTypeInformation(), idProperty.getOptionalConverter()));
+					getCodec(idProperty).write(propertyAccessor.getProperty(idProperty)));
 		}
 		// in case of relationship properties ignore internal id property
 		if (nodeDescription.hasVersionProperty()) {
@@ -502,7 +550,10 @@ final class DefaultNeo4jEntityConverter implements Neo4jEntityConverter {
 				} else if (matchingProperty.isEntityWithRelationshipProperties()) {
 					result = lastMappedEntity;
 				} else {
-					result =  conversionService.readValue(extractValueOf(matchingProperty, values), parameter.getType(), matchingProperty.getOptionalConverter());
+					Value value = extractValueOf(matchingProperty, values);
+					result = parameter.getType().equals(matchingProperty.getTypeInformation())
+							? getCodec(matchingProperty).read(value)
+							: conversionService.readValue(value, parameter.getType(), matchingProperty.getOptionalConverter());
 				}
 				return (T) result;
 			}
@@ -532,7 +583,7 @@ final class DefaultNeo4jEntityConverter implements Neo4jEntityConverter {
 				}
 			}
 			if (!property.isDynamicLabels() && !property.isAnnotationPresent(TargetNode.class)) {
-				Object value = conversionService.readValue(extractValueOf(property, queryResult), typeInformation, property.getOptionalConverter());
+				Object value = getCodec(property).read(extractValueOf(property, queryResult));
 				if (value != null) {
 					Class<?> rawType = typeInformation.getType();
 					propertyAccessor.setProperty(property, getValueOrDefault(ownerIsKotlinType, rawType, value));
@@ -541,6 +592,14 @@ final class DefaultNeo4jEntityConverter implements Neo4jEntityConverter {
 		};
 	}
 
+	private PropertyCodec getCodec(Neo4jPersistentProperty property) {
+		return propertyCodecs.computeIfAbsent(property, this::compileCodec);
+	}
+
+	private PropertyCodec compileCodec(Neo4jPersistentProperty property) {
+		return PropertyCodec.of(property, conversionService);
+	}
+
 	@Nullable
 	private static Object getValueOrDefault(boolean ownerIsKotlinType, Class<?> rawType, @Nullable Object value) {
 
@@ -684,84 +743,89 @@ final class DefaultNeo4jEntityConverter implements Neo4jEntityConverter {
 
 		if (relationshipListEmptyOrNull && hasIdValue) {
 			String sourceNodeId;
-			Function<Relationship, String> sourceIdSelector;
 			Function<Relationship, String> targetIdSelector = relationshipDescription.isIncoming() ? Relationship::startNodeElementId : Relationship::endNodeElementId;
 
+			// Retrieve all matching relationships from the result's list(s)
+			Collection<Relationship> allMatchingTypeRelationshipsInResult;
 			if (elementId != null) {
 				sourceNodeId = elementId;
-				sourceIdSelector = relationshipDescription.isIncoming() ? Relationship::endNodeElementId : Relationship::startNodeElementId;
+				allMatchingTypeRelationshipsInResult = extractMatchingRelationships(relationshipsFromResult, relationshipDescription, typeOfRelationship, sourceNodeId);
 			} else {
 				// this can happen when someone used dto mapping and added the "classical" approach
 				sourceNodeId = Long.toString(internalId);
 				Function<Relationship, Long> hlp = relationshipDescription.isIncoming() ? Relationship::endNodeId : Relationship::startNodeId;
-				sourceIdSelector = hlp.andThen(l -> Long.toString(l));
+				Function<Relationship, String> sourceIdSelector = hlp.andThen(l -> Long.toString(l));
+				allMatchingTypeRelationshipsInResult = extractMatchingRelationships(relationshipsFromResult, relationshipDescription, typeOfRelationship,
+						(possibleRelationship) -> sourceIdSelector.apply(possibleRelationship).equals(sourceNodeId));
 			}
 
-			// Retrieve all matching relationships from the result's list(s)
-			Collection<Relationship> allMatchingTypeRelationshipsInResult =
-					extractMatchingRelationships(relationshipsFromResult, relationshipDescription, typeOfRelationship,
-							(possibleRelationship) -> sourceIdSelector.apply(possibleRelationship).equals(sourceNodeId));
-
 			// Fast exit if there is no relationship that can be mapped
 			if (!allMatchingTypeRelationshipsInResult.isEmpty()) {
 
+				// Group the candidates by their target, so that each node only needs to look at its own relationships
+				Map<String, List<Relationship>> matchingRelationshipsByTargetNode = allMatchingTypeRelationshipsInResult.stream()
+						.collect(Collectors.groupingBy(targetIdSelector, LinkedHashMap::new, Collectors.toList()));
+
 				// Retrieve all nodes from the result's list(s)
 				Collection<Node> allNodesWithMatchingLabelInResult = extractMatchingNodes(nodesFromResult, targetLabel);
 				for (Node possibleValueNode : allNodesWithMatchingLabelInResult) {
+					if (matchingRelationshipsByTargetNode.isEmpty()) {
+						break;
+					}
+
 					String targetNodeId = IdentitySupport.getElementId(possibleValueNode);
+					List<Relationship> relationshipsToTargetNode = matchingRelationshipsByTargetNode.remove(targetNodeId);
+					if (relationshipsToTargetNode == null) {
+						continue;
+					}
 
 					Neo4jPersistentEntity<?> concreteTargetNodeDescription =
 							getMostConcreteTargetNodeDescription(genericTargetNodeDescription, possibleValueNode);
 
-					Set<Relationship> relationshipsProcessed = new HashSet<>();
-					for (Relationship possibleRelationship : allMatchingTypeRelationshipsInResult) {
-						if (targetIdSelector.apply(possibleRelationship).equals(targetNodeId)) {
-
-							// Reduce the amount of relationships in the candidate list.
-							// If this relationship got processed twice (OUTGOING, INCOMING), it is never needed again
-							// and therefor should not be in the list.
-							// Otherwise, for highly linked data it could potentially cause a StackOverflowError.
-							String direction = relationshipDescription.getDirection().name();
-							if (knownObjects.hasProcessedRelationshipCompletely("R" + direction + IdentitySupport.getElementId(possibleRelationship))) {
-								relationshipsFromResult.remove(possibleRelationship);
-							}
-							// If the target is the same(equal) node, get the related object from the cache.
-							// Avoiding the call to the map method also breaks an endless cycle of trying to finish
-							// the property population of _this_ object.
-							// The initial population will happen at the end of this mapping. This is sufficient because
-							// it only affects properties not changing the instance of the object.
-							Object mappedObject;
+					for (Relationship possibleRelationship : relationshipsToTargetNode) {
+
+						// Reduce the amount of relationships in the candidate list.
+						// If this relationship got processed twice (OUTGOING, INCOMING), it is never needed again
+						// and therefor should not be in the list.
+						// Otherwise, for highly linked data it could potentially cause a StackOverflowError.
+						String direction = relationshipDescription.getDirection().name();
+						if (knownObjects.hasProcessedRelationshipCompletely("R" + direction + IdentitySupport.getElementId(possibleRelationship))) {
+							relationshipsFromResult.remove(possibleRelationship);
+						}
+						// If the target is the same(equal) node, get the related object from the cache.
+						// Avoiding the call to the map method also breaks an endless cycle of trying to finish
+						// the property population of _this_ object.
+						// The initial population will happen at the end of this mapping. This is sufficient because
+						// it only affects properties not changing the instance of the object.
+						Object mappedObject;
+						if (fetchMore) {
+							mappedObject = sourceNodeId != null && sourceNodeId.equals(targetNodeId)
+									? knownObjects.getObject("N" + sourceNodeId)
+									: map(possibleValueNode, concreteTargetNodeDescription, baseDescription, null, null, relationshipsFromResult, nodesFromResult);
+						} else {
+							Object objectFromStore = knownObjects.getObject("N" + targetNodeId);
+							mappedObject = objectFromStore != null
+									? objectFromStore
+									: map(possibleValueNode, concreteTargetNodeDescription, baseDescription, null, null, relationshipsFromResult, nodesFromResult);
+						}
+
+						if (relationshipDescription.hasRelationshipProperties()) {
+							Object relationshipProperties;
+							Neo4jPersistentEntity<?> relationshipPropertiesEntity = (Neo4jPersistentEntity<?>) relationshipDescription.getRelationshipPropertiesEntity();
 							if (fetchMore) {
-								mappedObject = sourceNodeId != null && sourceNodeId.equals(targetNodeId)
-										? knownObjects.getObject("N" + sourceNodeId)
-										: map(possibleValueNode, concreteTargetNodeDescription, baseDescription, null, null, relationshipsFromResult, nodesFromResult);
+								relationshipProperties = map(possibleRelationship, relationshipPropertiesEntity, relationshipPropertiesEntity, mappedObject, relationshipDescription, relationshipsFromResult, nodesFromResult);
 							} else {
-								Object objectFromStore = knownObjects.getObject("N" + targetNodeId);
-								mappedObject = objectFromStore != null
+								Object objectFromStore = knownObjects.getObject(IdentitySupport.getPrefixedElementId(possibleRelationship, relationshipDescription.getDirection().name()));
+								relationshipProperties = objectFromStore != null
 										? objectFromStore
-										: map(possibleValueNode, concreteTargetNodeDescription, baseDescription, null, null, relationshipsFromResult, nodesFromResult);
+										: map(possibleRelationship, relationshipPropertiesEntity, relationshipPropertiesEntity, mappedObject, relationshipDescription, relationshipsFromResult, nodesFromResult);
 							}
-
-							if (relationshipDescription.hasRelationshipProperties()) {
-								Object relationshipProperties;
-								Neo4jPersistentEntity<?> relationshipPropertiesEntity = (Neo4jPersistentEntity<?>) relationshipDescription.getRelationshipPropertiesEntity();
-								if (fetchMore) {
-									relationshipProperties = map(possibleRelationship, relationshipPropertiesEntity, relationshipPropertiesEntity, mappedObject, relationshipDescription, relationshipsFromResult, nodesFromResult);
-								} else {
-									Object objectFromStore = knownObjects.getObject(IdentitySupport.getPrefixedElementId(possibleRelationship, relationshipDescription.getDirection().name()));
-									relationshipProperties = objectFromStore != null
-											? objectFromStore
-											: map(possibleRelationship, relationshipPropertiesEntity, relationshipPropertiesEntity, mappedObject, relationshipDescription, relationshipsFromResult, nodesFromResult);
-								}
-								relationshipsAndProperties.add(relationshipProperties);
-								mappedObjectHandler.accept(possibleRelationship.type(), relationshipProperties);
-							} else {
-								mappedObjectHandler.accept(possibleRelationship.type(), mappedObject);
-							}
-							relationshipsProcessed.add(possibleRelationship);
+							relationshipsAndProperties.add(relationshipProperties);
+							mappedObjectHandler.accept(possibleRelationship.type(), relationshipProperties);
+						} else {
+							mappedObjectHandler.accept(possibleRelationship.type(), mappedObject);
 						}
 					}
-					allMatchingTypeRelationshipsInResult.removeAll(relationshipsProcessed);
 				}
 			}
 		} else if (!relationshipListEmptyOrNull) {
@@ -859,6 +923,30 @@ final class DefaultNeo4jEntityConverter implements Neo4jEntityConverter {
 				.collect(Collectors.toList());
 	}
 
+	private Collection<Relationship> extractMatchingRelationships(Collection<Relationship> relationshipsFromResult,
+									  RelationshipDescription relationshipDescription, String typeOfRelationship,
+									  String sourceNodeElementId) {
+
+		RelationshipsByNode relationshipsByNode = this.relationshipsByNodeCache;
+		if (relationshipsByNode == null) {
+			relationshipsByNode = RelationshipsByNode.of(relationshipsFromResult);
+			this.relationshipsByNodeCache = relationshipsByNode;
+		}
+
+		List<Relationship> candidates = relationshipDescription.isIncoming()
+				? relationshipsByNode.byEndNode.getOrDefault(sourceNodeElementId, Collections.emptyList())
+				: relationshipsByNode.byStartNode.getOrDefault(sourceNodeElementId, Collections.emptyList());
+
+		// The index is created once per record, relationships that have been removed from the result since then must be skipped
+		List<Relationship> matchingRelationships = new ArrayList<>();
+		for (Relationship candidate : candidates) {
+			if ((relationshipDescription.isDynamic() || candidate.type().equals(typeOfRelationship)) && relationshipsFromResult.contains(candidate)) {
+				matchingRelationships.add(candidate);
+			}
+		}
+		return matchingRelationships;
+	}
+
 	private Collection<Relationship> extractRelationships(MapAccessor allValues) {
 		Collection<Relationship> allRelationshipsInResult = new LinkedHashSet<>();
 		StreamSupport.stream(allValues.values().spliterator(), false)
@@ -909,11 +997,30 @@ final class DefaultNeo4jEntityConverter implements Neo4jEntityConverter {
 		return Values.value(hlp);
 	}
 
-	static class KnownObjects {
+	/**
+	 * Index of all relationships in a record by the element ids of their start and end nodes.
+	 */
+	private static final class RelationshipsByNode {
+
+		private final Map<String, List<Relationship>> byStartNode = new HashMap<>();
+		private final Map<String, List<Relationship>> byEndNode = new HashMap<>();
 
-		private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
-		private final Lock read = lock.readLock();
-		private final Lock write = lock.writeLock();
+		static RelationshipsByNode of(Collection<Relationship> relationships) {
+
+			RelationshipsByNode relationshipsByNode = new RelationshipsByNode();
+			for (Relationship relationship : relationships) {
+				relationshipsByNode.byStartNode.computeIfAbsent(relationship.startNodeElementId(), k -> new ArrayList<>()).add(relationship);
+				relationshipsByNode.byEndNode.computeIfAbsent(relationship.endNodeElementId(), k -> new ArrayList<>()).add(relationship);
+			}
+			return relationshipsByNode;
+		}
+	}
+
+	/**
+	 * Objects mapped while reading one result. Instances are confined to the converter reading that result and therefore
+	 * not synchronized.
+	 */
+	static class KnownObjects {
 
 		private final Map<String, Object> internalIdStore = new HashMap<>();
 		private final Map<String, Boolean> internalCurrentRecord = new HashMap<>();
@@ -927,48 +1034,27 @@ final class DefaultNeo4jEntityConverter implements Neo4jEntityConverter {
 			if (internalId == null) {
 				return;
 			}
-			try {
-				write.lock();
-				idsInCreation.remove(internalId);
-				internalIdStore.put(internalId, object);
-				internalCurrentRecord.put(internalId, false);
-			} finally {
-				write.unlock();
-			}
+			idsInCreation.remove(internalId);
+			internalIdStore.put(internalId, object);
+			internalCurrentRecord.put(internalId, false);
 		}
 
 		private void setInCreation(@Nullable String internalId) {
 			if (internalId == null) {
 				return;
 			}
-			try {
-				write.lock();
-				idsInCreation.add(internalId);
-			} finally {
-				write.unlock();
-			}
+			idsInCreation.add(internalId);
 		}
 
 		private boolean isInCreation(@Nullable String internalId) {
 			if (internalId == null) {
 				return false;
 			}
-			try {
-				read.lock();
-				return idsInCreation.contains(internalId);
-			} finally {
-				read.unlock();
-			}
+			return idsInCreation.contains(internalId);
 		}
 
 		private boolean containsNode(Node node) {
-
-			try {
-				read.lock();
-				return internalIdStore.containsKey(IdentitySupport.getElementId(node));
-			} finally {
-				read.unlock();
-			}
+			return internalIdStore.containsKey(IdentitySupport.getElementId(node));
 		}
 
 		@Nullable
@@ -976,47 +1062,29 @@ final class DefaultNeo4jEntityConverter implements Neo4jEntityConverter {
 			if (internalId == null) {
 				return null;
 			}
-			try {
-				read.lock();
-				if (isInCreation(internalId)) {
-					throw new MappingException(
-							String.format(
-									"The node with id %s has a logical cyclic mapping dependency; " +
-											"its creation caused the creation of another node that has a reference to this",
-									internalId.substring(1))
-					);
-				}
-				return internalIdStore.get(internalId);
-			} finally {
-				read.unlock();
+			if (isInCreation(internalId)) {
+				throw new MappingException(
+						String.format(
+								"The node with id %s has a logical cyclic mapping dependency; " +
+										"its creation caused the creation of another node that has a reference to this",
+								internalId.substring(1))
+				);
 			}
+			return internalIdStore.get(internalId);
 		}
 
 		private void removeFromInCreation(@Nullable String internalId) {
 			if (internalId == null) {
 				return;
 			}
-			try {
-				write.lock();
-				idsInCreation.remove(internalId);
-			} finally {
-				write.unlock();
-			}
+			idsInCreation.remove(internalId);
 		}
 
 		private boolean alreadyMappedInPreviousRecord(@Nullable String internalId) {
 			if (internalId == null) {
 				return false;
 			}
-			try {
-
-				read.lock();
-
-				return previousRecords.contains(internalId) || internalCurrentRecord.get(internalId);
-
-			} finally {
-				read.unlock();
-			}
+			return previousRecords.contains(internalId) || internalCurrentRecord.get(internalId);
 		}
 
 		/**
@@ -1025,20 +1093,14 @@ final class DefaultNeo4jEntityConverter implements Neo4jEntityConverter {
 		 * AND checks if it was already processed twice (INCOMING/OUTGOING).
 		 */
 		private boolean hasProcessedRelationshipCompletely(String relationshipId) {
-			try {
-				write.lock();
 
-				int processedAmount = processedRelationships.computeIfAbsent(relationshipId, s -> 0);
-				if (processedAmount == 2) {
-					return true;
-				}
-
-				processedRelationships.put(relationshipId, processedAmount + 1);
-				return false;
-
-			} finally {
-				write.unlock();
+			int processedAmount = processedRelationships.computeIfAbsent(relationshipId, s -> 0);
+			if (processedAmount == 2) {
+				return true;
 			}
+
+			processedRelationships.put(relationshipId, processedAmount + 1);
+			return false;
 		}
 
 		/**
@@ -1050,22 +1112,12 @@ final class DefaultNeo4jEntityConverter implements Neo4jEntityConverter {
 		}
 
 		private void mappedWithQueryResult(String internalId, MapAccessor queryResult) {
-			try {
-				write.lock();
-				mappedQueryResults.computeIfAbsent(internalId, id -> ConcurrentHashMap.newKeySet())
-						.add(queryResult.asMap());
-			} finally {
-				write.unlock();
-			}
+			mappedQueryResults.computeIfAbsent(internalId, id -> new HashSet<>())
+					.add(queryResult.asMap());
 		}
 
 		private Set<Map<String, Object>> getQueryResultsFor(String internalId) {
-			try {
-				read.lock();
-				return mappedQueryResults.get(internalId);
-			} finally {
-				read.unlock();
-			}
+			return mappedQueryResults.get(internalId);
 		}
 	}
 }
@@ -0,0 +1,397 @@
+/*
+ * Copyright 2011-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.core.mapping;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.apache.commons.logging.LogFactory;
+import org.apiguardian.api.API;
+import org.neo4j.driver.Value;
+import org.neo4j.driver.Values;
+import org.neo4j.driver.types.MapAccessor;
+import org.neo4j.driver.types.Node;
+import org.neo4j.driver.types.TypeSystem;
+import org.springframework.core.CollectionFactory;
+import org.springframework.core.KotlinDetector;
+import org.springframework.core.log.LogAccessor;
+import org.springframework.data.mapping.InstanceCreatorMetadata;
+import org.springframework.data.mapping.MappingException;
+import org.springframework.data.mapping.Parameter;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.mapping.model.EntityInstantiator;
+import org.springframework.data.mapping.model.ParameterValueProvider;
+import org.springframework.data.neo4j.core.schema.TargetNode;
+import org.springframework.data.util.TypeInformation;
+import org.springframework.lang.Nullable;
+
+/**
+ * A plan for creating instances of a DTO from a given domain type. The plan is computed once per pair of domain and DTO
+ * type: It resolves the persistent entity of the DTO, the matching properties of the domain type and the codecs for
+ * reading them upfront, so that none of this needs to happen per converted instance.
+ * <p>
+ * If all properties of the DTO are either simple properties of the domain type or additional columns of the result, the
+ * DTO can be {@link #read(TypeSystem, MapAccessor) read} straight from the record, without instantiating and hydrating
+ * the domain entity first. Whenever the plan is not sure to produce the same result as going through the domain entity
+ * (for example because a property is {@literal null} and the domain type might define a default for it), it refuses to
+ * read the record and the caller must fall back to the domain entity.
+ *
+ * @author agent
+ * @since 7.4
+ */
+@API(status = API.Status.INTERNAL, since = "7.4")
+public final class DtoMappingPlan {
+
+	private static final LogAccessor log = new LogAccessor(LogFactory.getLog(DtoMappingPlan.class));
+
+	private final Neo4jMappingContext context;
+
+	private final Class<?> dtoType;
+
+	private final Neo4jPersistentEntity<?> targetEntity;
+
+	@Nullable
+	private final InstanceCreatorMetadata<?> creator;
+
+	private final EntityInstantiator instantiator;
+
+	/**
+	 * The property of the domain type each DTO property is mapped from, DTO properties without such a property are
+	 * retrieved from the additional columns of the record.
+	 */
+	private final Map<Neo4jPersistentProperty, Neo4jPersistentProperty> sourceProperties;
+
+	/**
+	 * All properties of the DTO that are not populated by its creator.
+	 */
+	private final List<Neo4jPersistentProperty> propertiesToSet;
+
+	/**
+	 * Same as {@link #propertiesToSet}, but without associations. Used when converting plain domain objects.
+	 */
+	private final List<Neo4jPersistentProperty> simplePropertiesToSet;
+
+	/**
+	 * The domain properties to read directly from a record, {@literal null} if the DTO cannot be read directly.
+	 */
+	@Nullable
+	private final Map<Neo4jPersistentProperty, DirectRead> directReads;
+
+	private final String primaryLabel;
+
+	DtoMappingPlan(Neo4jMappingContext context, Class<?> domainType, Class<?> dtoType) {
+
+		this.context = context;
+		this.dtoType = dtoType;
+
+		Neo4jPersistentEntity<?> sourceEntity = context.getRequiredPersistentEntity(domainType);
+		this.targetEntity = context.addPersistentEntity(TypeInformation.of(dtoType))
+				.orElseThrow(() -> new MappingException(
+						"Could not add a persistent entity for the projection target type '" + dtoType.getName() + "'"));
+		this.creator = targetEntity.getInstanceCreatorMetadata();
+		this.instantiator = context.getInstantiatorFor(targetEntity);
+		this.primaryLabel = sourceEntity.getPrimaryLabel();
+
+		Map<Neo4jPersistentProperty, Neo4jPersistentProperty> mappedProperties = new HashMap<>();
+		List<Neo4jPersistentProperty> allProperties = new ArrayList<>();
+		targetEntity.doWithAll(targetProperty -> {
+			allProperties.add(targetProperty);
+			Neo4jPersistentProperty sourceProperty = sourceEntity.getPersistentProperty(targetProperty.getName());
+			if (sourceProperty != null) {
+				mappedProperties.put(targetProperty, sourceProperty);
+			}
+		});
+		List<Neo4jPersistentProperty> simpleProperties = new ArrayList<>();
+		PropertyHandlerSupport.of(targetEntity).doWithProperties(simpleProperties::add);
+
+		this.sourceProperties = Collections.unmodifiableMap(mappedProperties);
+		this.propertiesToSet = allProperties.stream().filter(this::isNotCreatorParameter).toList();
+		this.simplePropertiesToSet = simpleProperties.stream().filter(this::isNotCreatorParameter).toList();
+		this.directReads = computeDirectReads(sourceEntity);
+	}
+
+	private boolean isNotCreatorParameter(Neo4jPersistentProperty property) {
+		return creator == null || !creator.isCreatorParameter(property);
+	}
+
+	@Nullable
+	private Map<Neo4jPersistentProperty, DirectRead> computeDirectReads(Neo4jPersistentEntity<?> sourceEntity) {
+
+		Class<?> domainType = sourceEntity.getType();
+		if (dtoType.isInterface() || dtoType.isAssignableFrom(domainType)
+				|| KotlinDetector.isKotlinType(domainType) || KotlinDetector.isKotlinType(dtoType)
+				|| sourceEntity.isRelationshipPropertiesEntity()
+				|| !sourceEntity.getChildNodeDescriptionsInHierarchy().isEmpty()
+				|| !context.getPostLoadMethods(sourceEntity).isEmpty()) {
+			return null;
+		}
+
+		Map<Neo4jPersistentProperty, DirectRead> result = new HashMap<>();
+		for (Map.Entry<Neo4jPersistentProperty, Neo4jPersistentProperty> entry : sourceProperties.entrySet()) {
+			Neo4jPersistentProperty targetProperty = entry.getKey();
+			Neo4jPersistentProperty sourceProperty = entry.getValue();
+			if (sourceProperty.isAssociation() || sourceProperty.isEntity() || sourceProperty.isComposite()
+					|| sourceProperty.isDynamicLabels() || sourceProperty.isAnnotationPresent(TargetNode.class)
+					|| !targetProperty.getTypeInformation().isAssignableFrom(sourceProperty.getTypeInformation())) {
+				return null;
+			}
+			result.put(targetProperty, new DirectRead(sourceProperty, PropertyCodec.of(sourceProperty, context.getConversionService())));
+		}
+		return Collections.unmodifiableMap(result);
+	}
+
+	/**
+	 * {@return true if this plan is able to read DTOs straight from records}
+	 */
+	public boolean canReadDirectly() {
+		return directReads != null && !context.hasCustomAfterConvertCallbacks();
+	}
+
+	/**
+	 * Reads a DTO straight from a record without creating an instance of the domain type.
+	 *
+	 * @param typeSystem The type system of the driver
+	 * @param record     The record to read
+	 * @return A new DTO or {@literal null} if the record must be mapped to the domain type first
+	 */
+	@Nullable
+	public Object read(TypeSystem typeSystem, MapAccessor record) {
+
+		if (!canReadDirectly()) {
+			return null;
+		}
+
+		MapAccessor root = findRoot(typeSystem, record);
+		if (root == null) {
+			return null;
+		}
+		// Additional columns take precedence over the properties of the root node, as if both have been merged
+		MapAccessor additionalColumns = root instanceof Node && record.size() > 1 ? record : null;
+
+		Map<Neo4jPersistentProperty, Object> values = new HashMap<>(directReads.size());
+		for (Map.Entry<Neo4jPersistentProperty, DirectRead> entry : directReads.entrySet()) {
+			DirectRead directRead = entry.getValue();
+			Object value = directRead.codec().read(extractValueOf(directRead.sourceProperty(), root, additionalColumns));
+			// A domain object might provide defaults for missing values, so we must go through it
+			if (value == null) {
+				return null;
+			}
+			values.put(entry.getKey(), value);
+		}
+
+		return instantiate(propertiesToSet, targetProperty -> values.containsKey(targetProperty) ?
+				values.get(targetProperty) : getPropertyValueFromRecord(targetProperty, typeSystem, record));
+	}
+
+	/**
+	 * Finds the node or map a record's DTO is read from. Only the unambiguous cases are dealt with here, in all other
+	 * cases the record is mapped via the domain type.
+	 */
+	@Nullable
+	private MapAccessor findRoot(TypeSystem typeSystem, MapAccessor record) {
+
+		if (record instanceof Value) {
+			return null;
+		}
+
+		Node matchingNode = null;
+		Value firstMap = null;
+		for (Value value : record.values()) {
+			if (value.hasType(typeSystem.NODE())) {
+				Node node = value.asNode();
+				if (node.hasLabel(primaryLabel)) {
+					if (matchingNode != null) {
+						return null;
+					}
+					matchingNode = node;
+				}
+			} else if (firstMap == null && value.hasType(typeSystem.MAP()) && !value.hasType(typeSystem.RELATIONSHIP())) {
+				firstMap = value;
+			}
+		}
+		return matchingNode != null ? matchingNode : firstMap;
+	}
+
+	private static Value extractValueOf(Neo4jPersistentProperty property, MapAccessor root, @Nullable MapAccessor additionalColumns) {
+
+		if (property.isInternalIdProperty()) {
+			if (Neo4jPersistentEntity.DEPRECATED_GENERATED_ID_TYPES.contains(property.getType())) {
+				return Values.value(IdentitySupport.getInternalId(root));
+			}
+			return Values.value(IdentitySupport.getElementId(root));
+		}
+
+		String graphPropertyName = property.getPropertyName();
+		if (additionalColumns != null && additionalColumns.containsKey(graphPropertyName)) {
+			return additionalColumns.get(graphPropertyName);
+		} else if (root.containsKey(graphPropertyName)) {
+			return root.get(graphPropertyName);
+		} else if (root.containsKey(Constants.NAME_OF_ALL_PROPERTIES)) {
+			return root.get(Constants.NAME_OF_ALL_PROPERTIES).get(graphPropertyName);
+		}
+		return Values.NULL;
+	}
+
+	/**
+	 * Creates a DTO from an instance of the domain type, filling properties that are not part of the domain type from
+	 * the record the instance has been mapped from.
+	 *
+	 * @param entityInstanceAndSource The domain object and its source
+	 * @return A new DTO
+	 */
+	public Object convert(EntityInstanceWithSource entityInstanceAndSource) {
+
+		Object entityInstance = entityInstanceAndSource.getEntityInstance();
+		PersistentPropertyAccessor<Object> sourceAccessor = getSourceAccessor(entityInstance);
+
+		return instantiate(propertiesToSet, targetProperty -> {
+			Neo4jPersistentProperty sourceProperty = sourceProperties.get(targetProperty);
+			if (sourceProperty != null) {
+				return sourceAccessor.getProperty(sourceProperty);
+			}
+			return getPropertyValueFromRecord(targetProperty, entityInstanceAndSource.getTypeSystem(),
+					entityInstanceAndSource.getSourceRecord());
+		});
+	}
+
+	/**
+	 * Creates a DTO from an instance of the domain type without any additional source, nested DTOs are created from the
+	 * related domain objects.
+	 *
+	 * @param entityInstance The domain object
+	 * @return A new DTO
+	 */
+	public Object convertDirectly(Object entityInstance) {
+
+		PersistentPropertyAccessor<Object> sourceAccessor = getSourceAccessor(entityInstance);
+
+		return instantiate(simplePropertiesToSet, targetProperty -> {
+			Neo4jPersistentProperty sourceProperty = sourceProperties.get(targetProperty);
+			if (sourceProperty == null) {
+				return null;
+			}
+
+			Object result = sourceAccessor.getProperty(sourceProperty);
+			if (result != null && targetProperty.isEntity() && !targetProperty.getTypeInformation().isAssignableFrom(sourceProperty.getTypeInformation())) {
+				return context.getDtoMappingPlan(result.getClass(), targetProperty.getType()).convertDirectly(result);
+			}
+			return result;
+		});
+	}
+
+	private PersistentPropertyAccessor<Object> getSourceAccessor(Object entityInstance) {
+
+		@SuppressWarnings("unchecked")
+		Neo4jPersistentEntity<Object> sourceEntity = (Neo4jPersistentEntity<Object>) context.getRequiredPersistentEntity(entityInstance.getClass());
+		return sourceEntity.getPropertyAccessor(entityInstance);
+	}
+
+	private Object instantiate(List<Neo4jPersistentProperty> properties, Function<Neo4jPersistentProperty, Object> extractFromSource) {
+
+		Object dto = instantiator.createInstance(targetEntity, getParameterValueProvider(extractFromSource));
+
+		PersistentPropertyAccessor<Object> dtoAccessor = targetEntity.getPropertyAccessor(dto);
+		for (Neo4jPersistentProperty property : properties) {
+			dtoAccessor.setProperty(property, extractFromSource.apply(property));
+		}
+
+		return dto;
+	}
+
+	private ParameterValueProvider<Neo4jPersistentProperty> getParameterValueProvider(
+			Function<Neo4jPersistentProperty, Object> extractFromSource
+	) {
+		return new ParameterValueProvider<>() {
+			@SuppressWarnings("unchecked") // Needed for the last cast. It's easier that way than using the parameter type info and checking for primitives
+			@Override
+			public <T> T getParameterValue(Parameter<T, Neo4jPersistentProperty> parameter) {
+				String parameterName = parameter.getName();
+				if (parameterName == null) {
+					throw new MappingException(
+							"Constructor parameter names aren't available, please recompile your domain");
+				}
+				Neo4jPersistentProperty targetProperty = targetEntity.getPersistentProperty(parameterName);
+				if (targetProperty == null) {
+					throw new MappingException("Cannot map constructor parameter " + parameterName
+											   + " to a property of class " + dtoType);
+				}
+				return (T) extractFromSource.apply(targetProperty);
+			}
+		};
+	}
+
+	@Nullable
+	private Object getPropertyValueFromRecord(Neo4jPersistentProperty targetProperty, TypeSystem typeSystem, MapAccessor sourceRecord) {
+
+		String targetPropertyName = targetProperty.getName();
+		if (!sourceRecord.containsKey(targetPropertyName)) {
+			log.warn(() -> String.format(""
+					+ "Cannot retrieve a value for property `%s` of DTO `%s` and the property will always be null. "
+					+ "Make sure to project only properties of the domain type or use a custom query that "
+					+ "returns a mappable data under the name `%1$s`.", targetPropertyName, dtoType.getName()));
+		} else if (targetProperty.isMap()) {
+			log.warn(() -> String.format(""
+					+ "%s is an additional property to be projected. "
+					+ "However, map properties cannot be projected and the property will always be null.",
+					targetPropertyName));
+		} else {
+			// We don't support associations on the top level of DTO projects which is somewhat inline with the restrictions
+			// regarding DTO projections as described in https://docs.spring.io/spring-data/jpa/docs/2.4.0-RC1/reference/html/#projections.dtos
+			// > except that no proxying happens and no nested projections can be applied
+			// Therefore, we extract associations kinda half-manual.
+
+			Value property = sourceRecord.get(targetPropertyName);
+			if (targetProperty.isCollectionLike() && !typeSystem.LIST().isTypeOf(property)) {
+				log.warn(() -> String.format(""
+						+ "%s is a list property but the selected value is not a list and the property will always be null.",
+						targetPropertyName));
+			} else {
+				Class<?> actualType = targetProperty.getActualType();
+
+				Function<Value, Object> singleValue;
+				if (context.hasPersistentEntityFor(actualType)) {
+					singleValue = p -> context.getEntityConverter().read(actualType, p);
+				} else {
+					TypeInformation<?> actualTargetType = TypeInformation.of(actualType);
+					singleValue = p -> context.getConversionService().readValue(p, actualTargetType, targetProperty.getOptionalConverter());
+				}
+
+				if (targetProperty.isCollectionLike()) {
+					List<Object> returnedValues = property.asList(singleValue);
+					Collection<Object> target = CollectionFactory
+							.createCollection(targetProperty.getType(), actualType, returnedValues.size());
+					target.addAll(returnedValues);
+					return target;
+				} else {
+					return singleValue.apply(property);
+				}
+			}
+		}
+
+		return null;
+	}
+
+	record Key(Class<?> domainType, Class<?> dtoType) {
+	}
+
+	private record DirectRead(Neo4jPersistentProperty sourceProperty, PropertyCodec codec) {
+	}
+}
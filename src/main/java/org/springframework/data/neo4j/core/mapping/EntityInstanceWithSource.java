@@ -32,6 +32,7 @@ public final class EntityInstanceWithSource {
 
 	/**
 	 * An instance of the original {@link org.springframework.data.neo4j.core.mapping.Neo4jPersistentEntity source entity}
+	 * or the DTO itself, if it could be read directly from the source record
 	 */
 	private final Object entityInstance;
 
@@ -49,6 +50,25 @@ public final class EntityInstanceWithSource {
 		return (t, r) -> new EntityInstanceWithSource(target.apply(t, r), t, r);
 	}
 
+	/**
+	 * Decorates the mapping function of a domain type, so that DTOs are read directly from the record if the plan allows
+	 * it. The original mapping function is used as fallback.
+	 *
+	 * @param target The mapping function of the domain type
+	 * @param plan   The plan for creating DTOs from the domain type
+	 * @return A decorated mapping function
+	 * @since 7.4
+	 */
+	public static BiFunction<TypeSystem, MapAccessor, ?> decorateMappingFunction(BiFunction<TypeSystem, MapAccessor, ?> target, DtoMappingPlan plan) {
+		if (!plan.canReadDirectly()) {
+			return decorateMappingFunction(target);
+		}
+		return (t, r) -> {
+			Object dto = plan.read(t, r);
+			return new EntityInstanceWithSource(dto == null ? target.apply(t, r) : dto, t, r);
+		};
+	}
+
 	private EntityInstanceWithSource(Object entityInstance, TypeSystem typeSystem, MapAccessor sourceRecord) {
 
 		this.entityInstance = entityInstance;
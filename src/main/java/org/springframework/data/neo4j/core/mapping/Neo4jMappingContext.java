@@ -34,6 +34,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.apiguardian.api.API;
@@ -61,6 +62,7 @@ import org.springframework.data.neo4j.core.convert.Neo4jConversionService;
 import org.springframework.data.neo4j.core.convert.Neo4jConversions;
 import org.springframework.data.neo4j.core.convert.Neo4jPersistentPropertyConverter;
 import org.springframework.data.neo4j.core.convert.Neo4jPersistentPropertyConverterFactory;
+import org.springframework.data.neo4j.core.mapping.callback.AfterConvertCallback;
 import org.springframework.data.neo4j.core.mapping.callback.EventSupport;
 import org.springframework.data.neo4j.core.schema.IdGenerator;
 import org.springframework.data.neo4j.core.schema.Node;
@@ -111,8 +113,22 @@ public final class Neo4jMappingContext extends AbstractMappingContext<Neo4jPersi
 
 	private final Map<Neo4jPersistentEntity, Set<MethodHolder>> postLoadMethods = new ConcurrentHashMap<>();
 
+	private final Map<DtoMappingPlan.Key, DtoMappingPlan> dtoMappingPlans = new ConcurrentHashMap<>();
+
 	private EventSupport eventSupport;
 
+	/**
+	 * Flag if there are any {@link AfterConvertCallback after convert callbacks} besides the default ones. DTOs cannot be
+	 * read without creating the domain object first in that case.
+	 */
+	private boolean customAfterConvertCallbacks = false;
+
+	/**
+	 * Holds the stateless parts of the converter. It is used as is for writing and copied with a fresh mapping state for
+	 * each read.
+	 */
+	private volatile DefaultNeo4jEntityConverter entityConverter;
+
 	private @Nullable AutowireCapableBeanFactory beanFactory;
 
 	private boolean strict = false;
@@ -199,6 +215,7 @@ public final class Neo4jMappingContext extends AbstractMappingContext<Neo4jPersi
 		this.conversionService = new DefaultNeo4jConversionService(builder.neo4jConversions);
 		this.typeSystem = builder.typeSystem == null ? TypeSystem.getDefault() : builder.typeSystem;
 		this.eventSupport = EventSupport.useExistingCallbacks(this, EntityCallbacks.create());
+		this.entityConverter = createEntityConverter();
 
 		super.setSimpleTypeHolder(builder.neo4jConversions.getSimpleTypeHolder());
 
@@ -220,11 +237,56 @@ public final class Neo4jMappingContext extends AbstractMappingContext<Neo4jPersi
 	}
 
 
+	/**
+	 * Returns a converter that shares all stateless parts with all other converters of this context, but has its own,
+	 * unsynchronized mapping state. The instance should be used for reading one result only.
+	 *
+	 * @return A new converter
+	 */
 	public Neo4jEntityConverter getEntityConverter() {
+		return entityConverter.withNewMappingState();
+	}
+
+	@Override
+	public <T> Function<T, Map<String, Object>> getRequiredBinderFunctionFor(Class<T> sourceClass) {
+
+		if (getNodeDescription(sourceClass) == null) {
+			throw new UnknownEntityException(sourceClass);
+		}
+
+		// Writing is stateless, so there's no need to copy the converter
+		Neo4jEntityConverter writer = this.entityConverter;
+		return t -> {
+			Map<String, Object> parameters = new HashMap<>();
+			writer.write(t, parameters);
+			return parameters;
+		};
+	}
+
+	private DefaultNeo4jEntityConverter createEntityConverter() {
 		return new DefaultNeo4jEntityConverter(INSTANTIATORS, nodeDescriptionStore, conversionService, eventSupport,
 				typeSystem);
 	}
 
+	/**
+	 * Retrieves the plan for creating instances of the given DTO type from the given domain type. Plans are computed
+	 * only once per pair of types.
+	 *
+	 * @param domainType The domain type
+	 * @param dtoType    The DTO type
+	 * @return A plan for creating DTOs
+	 * @since 7.4
+	 */
+	@API(status = API.Status.INTERNAL, since = "7.4")
+	public DtoMappingPlan getDtoMappingPlan(Class<?> domainType, Class<?> dtoType) {
+		return dtoMappingPlans.computeIfAbsent(new DtoMappingPlan.Key(domainType, dtoType),
+				key -> new DtoMappingPlan(this, key.domainType(), key.dtoType()));
+	}
+
+	boolean hasCustomAfterConvertCallbacks() {
+		return customAfterConvertCallbacks;
+	}
+
 	public Neo4jConversionService getConversionService() {
 		return conversionService;
 	}
@@ -534,6 +596,8 @@ public final class Neo4jMappingContext extends AbstractMappingContext<Neo4jPersi
 
 		this.beanFactory = applicationContext.getAutowireCapableBeanFactory();
 		this.eventSupport = EventSupport.discoverCallbacks(this, this.beanFactory);
+		this.customAfterConvertCallbacks = applicationContext.getBeanNamesForType(AfterConvertCallback.class, true, false).length > 0;
+		this.entityConverter = createEntityConverter();
 	}
 
 	public CreateRelationshipStatementHolder createStatementForImperativeSimpleRelationshipBatch(Neo4jPersistentEntity<?> neo4jPersistentEntity,
@@ -607,7 +671,7 @@ public final class Neo4jMappingContext extends AbstractMappingContext<Neo4jPersi
 
 		Map<String, Object> propMap = new HashMap<>();
 		// write relationship properties
-		getEntityConverter().write(relatedValue.getRelationshipProperties(), propMap);
+		this.entityConverter.write(relatedValue.getRelationshipProperties(), propMap);
 
 		return new CreateRelationshipStatementHolder(relationshipCreationQuery, propMap);
 	}
@@ -629,7 +693,7 @@ public final class Neo4jMappingContext extends AbstractMappingContext<Neo4jPersi
 				MappingSupport.RelationshipPropertiesWithEntityHolder relatedValue = relatedValues.get(i);
 				// write relationship properties
 				Map<String, Object> propMap = relationshipPropertiesRows.get(i);
-				getEntityConverter().write(relatedValue.getRelationshipProperties(), propMap);
+				this.entityConverter.write(relatedValue.getRelationshipProperties(), propMap);
 				relationshipRows.add(propMap);
 			}
 		}
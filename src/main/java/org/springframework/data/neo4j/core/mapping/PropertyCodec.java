@@ -0,0 +1,56 @@
+/*
+ * Copyright 2011-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.core.mapping;
+
+import java.util.function.Function;
+
+import org.neo4j.driver.Value;
+import org.springframework.data.neo4j.core.convert.Neo4jConversionService;
+import org.springframework.data.neo4j.core.convert.Neo4jPersistentPropertyConverter;
+import org.springframework.data.util.TypeInformation;
+import org.springframework.lang.Nullable;
+
+/**
+ * Reads and writes the values of a single persistent property. Codecs are compiled once per property, so that mapping
+ * records and binding entities neither has to look up converters nor to allocate conversion functions per value.
+ *
+ * @author agent
+ * @param reader Reads a value from the database into the type of the property, must accept {@literal null}
+ * @param writer Writes a value of the property into a database value, must accept {@literal null}
+ * @since 7.4
+ */
+record PropertyCodec(Function<Value, Object> reader, Function<Object, Value> writer) {
+
+	static PropertyCodec of(Neo4jPersistentProperty property, Neo4jConversionService conversionService) {
+
+		TypeInformation<?> type = property.getTypeInformation();
+		Neo4jPersistentPropertyConverter<?> propertyConverter = property.getOptionalConverter();
+		if (conversionService instanceof DefaultNeo4jConversionService defaultNeo4jConversionService) {
+			return defaultNeo4jConversionService.compileCodec(type, propertyConverter);
+		}
+		return new PropertyCodec(v -> conversionService.readValue(v, type, propertyConverter),
+				v -> conversionService.writeValue(v, type, propertyConverter));
+	}
+
+	@Nullable
+	Object read(@Nullable Value value) {
+		return reader.apply(value);
+	}
+
+	Value write(@Nullable Object value) {
+		return writer.apply(value);
+	}
+}
@@ -81,10 +81,14 @@ public interface Schema {
 	 * <p>
 	 * In case the mapping function returns a {@literal null}, the Neo4j client will throw an exception and prevent
 	 * further processing.
+	 * <p>
+	 * The mapping function keeps track of the objects it already mapped, so that nodes occurring in several records of
+	 * one result are mapped to the same instance. Therefore, a new function must be retrieved for each query and must
+	 * not be shared between threads.
 	 *
 	 * @param targetClass The target class to which to map to.
 	 * @param <T> Type of the target class
-	 * @return The default, stateless and reusable mapping function for the given target class
+	 * @return A new mapping function for the given target class, to be used for reading one result only
 	 * @throws UnknownEntityException When {@code targetClass} is not a managed class
 	 */
 	default <T> BiFunction<TypeSystem, MapAccessor, T> getRequiredMappingFunctionFor(Class<T> targetClass) {
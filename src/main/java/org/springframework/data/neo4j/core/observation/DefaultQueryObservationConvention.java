@@ -0,0 +1,113 @@
+/*
+ * Copyright 2011-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.core.observation;
+
+import io.micrometer.common.KeyValues;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationView;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.apiguardian.api.API;
+import org.neo4j.driver.summary.ResultSummary;
+import org.springframework.data.neo4j.core.observation.Neo4jObservation.QueryHighCardinalityKeyNames;
+import org.springframework.data.neo4j.core.observation.Neo4jObservation.QueryLowCardinalityKeyNames;
+import org.springframework.lang.Nullable;
+
+/**
+ * Default {@link QueryObservationConvention}, naming the observation {@literal spring.data.neo4j.query}. If the
+ * statement has been executed on behalf of a repository method, the observation is tagged with that method, otherwise
+ * with {@literal none}. Server timings are taken from the {@link ResultSummary}.
+ *
+ * @author agent
+ * @since 7.4
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "7.4")
+public class DefaultQueryObservationConvention implements QueryObservationConvention {
+
+	/**
+	 * A shared instance.
+	 */
+	public static final QueryObservationConvention INSTANCE = new DefaultQueryObservationConvention();
+
+	private static final String NONE = "none";
+
+	private static final String DEFAULT_DATABASE = "default";
+
+	@Override
+	public String getName() {
+		return "spring.data.neo4j.query";
+	}
+
+	@Override
+	public String getContextualName(QueryObservationContext context) {
+		RepositoryMethodObservationContext repositoryMethod = findRepositoryMethod(context);
+		return repositoryMethod == null ? "neo4j query" : "neo4j query " + repositoryMethod.getQualifiedMethodName();
+	}
+
+	@Override
+	public KeyValues getLowCardinalityKeyValues(QueryObservationContext context) {
+
+		ResultSummary resultSummary = context.getResultSummary();
+		String databaseName = context.getDatabaseName();
+		RepositoryMethodObservationContext repositoryMethod = findRepositoryMethod(context);
+
+		return KeyValues.of(
+				QueryLowCardinalityKeyNames.DB_SYSTEM.withValue("neo4j"),
+				QueryLowCardinalityKeyNames.DB_NAME.withValue(databaseName == null ? DEFAULT_DATABASE : databaseName),
+				QueryLowCardinalityKeyNames.DB_OPERATION.withValue(resultSummary == null || resultSummary.queryType() == null
+						? NONE : resultSummary.queryType().name().toLowerCase(Locale.ROOT)),
+				QueryLowCardinalityKeyNames.REPOSITORY_METHOD.withValue(repositoryMethod == null
+						? NONE : repositoryMethod.getQualifiedMethodName()),
+				QueryLowCardinalityKeyNames.QUERY_TYPE.withValue(repositoryMethod == null
+						? NONE : repositoryMethod.getQueryType())
+		);
+	}
+
+	@Override
+	public KeyValues getHighCardinalityKeyValues(QueryObservationContext context) {
+
+		String cypher = context.getCypher();
+		KeyValues keyValues = KeyValues.of(
+				QueryHighCardinalityKeyNames.DB_STATEMENT.withValue(cypher == null ? NONE : cypher),
+				QueryHighCardinalityKeyNames.RECORDS.withValue(Long.toString(context.getRecords())),
+				QueryHighCardinalityKeyNames.MAPPING_TIME.withValue(Double.toString(context.getMappingTimeInNanos() / 1_000_000.0))
+		);
+
+		ResultSummary resultSummary = context.getResultSummary();
+		if (resultSummary != null) {
+			keyValues = keyValues.and(
+					QueryHighCardinalityKeyNames.RESULT_AVAILABLE_AFTER.withValue(Long.toString(resultSummary.resultAvailableAfter(TimeUnit.MILLISECONDS))),
+					QueryHighCardinalityKeyNames.RESULT_CONSUMED_AFTER.withValue(Long.toString(resultSummary.resultConsumedAfter(TimeUnit.MILLISECONDS)))
+			);
+		}
+		return keyValues;
+	}
+
+	@Nullable
+	private static RepositoryMethodObservationContext findRepositoryMethod(Observation.ContextView context) {
+
+		ObservationView parent = context.getParentObservation();
+		while (parent != null) {
+			if (parent.getContextView() instanceof RepositoryMethodObservationContext repositoryMethod) {
+				return repositoryMethod;
+			}
+			parent = parent.getContextView().getParentObservation();
+		}
+		return null;
+	}
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2011-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.core.observation;
+
+import io.micrometer.common.KeyValues;
+
+import org.apiguardian.api.API;
+import org.springframework.data.neo4j.core.observation.Neo4jObservation.RepositoryMethodLowCardinalityKeyNames;
+
+/**
+ * Default {@link RepositoryMethodObservationConvention}, naming the observation
+ * {@literal spring.data.neo4j.repository.method} and tagging it with the method and the query type.
+ *
+ * @author agent
+ * @since 7.4
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "7.4")
+public class DefaultRepositoryMethodObservationConvention implements RepositoryMethodObservationConvention {
+
+	/**
+	 * A shared instance.
+	 */
+	public static final RepositoryMethodObservationConvention INSTANCE = new DefaultRepositoryMethodObservationConvention();
+
+	@Override
+	public String getName() {
+		return "spring.data.neo4j.repository.method";
+	}
+
+	@Override
+	public String getContextualName(RepositoryMethodObservationContext context) {
+		return context.getQualifiedMethodName();
+	}
+
+	@Override
+	public KeyValues getLowCardinalityKeyValues(RepositoryMethodObservationContext context) {
+		return KeyValues.of(
+				RepositoryMethodLowCardinalityKeyNames.REPOSITORY_METHOD.withValue(context.getQualifiedMethodName()),
+				RepositoryMethodLowCardinalityKeyNames.QUERY_TYPE.withValue(context.getQueryType())
+		);
+	}
+}
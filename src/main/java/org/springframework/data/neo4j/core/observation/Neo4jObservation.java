@@ -0,0 +1,250 @@
+/*
+ * Copyright 2011-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.core.observation;
+
+import io.micrometer.common.docs.KeyName;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationConvention;
+import io.micrometer.observation.docs.ObservationDocumentation;
+
+import org.apiguardian.api.API;
+
+/**
+ * The observations created by Spring Data Neo4j.
+ *
+ * @author agent
+ * @since 7.4
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "7.4")
+public enum Neo4jObservation implements ObservationDocumentation {
+
+	/**
+	 * Execution of a single statement through the imperative or reactive Neo4j client, including the consumption of
+	 * the result and the mapping of its records.
+	 */
+	QUERY {
+		@Override
+		public Class<? extends ObservationConvention<? extends Observation.Context>> getDefaultConvention() {
+			return DefaultQueryObservationConvention.class;
+		}
+
+		@Override
+		public KeyName[] getLowCardinalityKeyNames() {
+			return QueryLowCardinalityKeyNames.values();
+		}
+
+		@Override
+		public KeyName[] getHighCardinalityKeyNames() {
+			return QueryHighCardinalityKeyNames.values();
+		}
+	},
+
+	/**
+	 * Execution of a query method of a repository. The statements issued on behalf of the method are recorded as
+	 * {@link #QUERY nested observations}, tagged with the method.
+	 */
+	REPOSITORY_METHOD {
+		@Override
+		public Class<? extends ObservationConvention<? extends Observation.Context>> getDefaultConvention() {
+			return DefaultRepositoryMethodObservationConvention.class;
+		}
+
+		@Override
+		public KeyName[] getLowCardinalityKeyNames() {
+			return RepositoryMethodLowCardinalityKeyNames.values();
+		}
+	},
+
+	/**
+	 * A single attempt of a transaction executed with retries. Failed attempts carry the error that caused the retry or
+	 * the final failure.
+	 */
+	TRANSACTION_ATTEMPT {
+		@Override
+		public Class<? extends ObservationConvention<? extends Observation.Context>> getDefaultConvention() {
+			return DefaultTransactionAttemptObservationConvention.class;
+		}
+
+		@Override
+		public KeyName[] getLowCardinalityKeyNames() {
+			return TransactionAttemptLowCardinalityKeyNames.values();
+		}
+	};
+
+	/**
+	 * Low cardinality keys of {@link #QUERY}.
+	 */
+	public enum QueryLowCardinalityKeyNames implements KeyName {
+
+		/**
+		 * Always {@literal neo4j}.
+		 */
+		DB_SYSTEM {
+			@Override
+			public String asString() {
+				return "db.system";
+			}
+		},
+
+		/**
+		 * The name of the database the statement has been executed against.
+		 */
+		DB_NAME {
+			@Override
+			public String asString() {
+				return "db.name";
+			}
+		},
+
+		/**
+		 * The type of the statement as reported by the server, for example {@literal read_only} or {@literal read_write}.
+		 */
+		DB_OPERATION {
+			@Override
+			public String asString() {
+				return "db.operation";
+			}
+		},
+
+		/**
+		 * The repository method on whose behalf the statement has been executed.
+		 */
+		REPOSITORY_METHOD {
+			@Override
+			public String asString() {
+				return "spring.data.repository.method";
+			}
+		},
+
+		/**
+		 * The type of the repository query on whose behalf the statement has been executed.
+		 */
+		QUERY_TYPE {
+			@Override
+			public String asString() {
+				return "spring.data.neo4j.query.type";
+			}
+		}
+	}
+
+	/**
+	 * High cardinality keys of {@link #QUERY}.
+	 */
+	public enum QueryHighCardinalityKeyNames implements KeyName {
+
+		/**
+		 * The Cypher statement.
+		 */
+		DB_STATEMENT {
+			@Override
+			public String asString() {
+				return "db.statement";
+			}
+		},
+
+		/**
+		 * The number of records that have been mapped.
+		 */
+		RECORDS {
+			@Override
+			public String asString() {
+				return "spring.data.neo4j.records";
+			}
+		},
+
+		/**
+		 * The time in milliseconds the server needed until the result was available.
+		 */
+		RESULT_AVAILABLE_AFTER {
+			@Override
+			public String asString() {
+				return "spring.data.neo4j.server.result.available.after";
+			}
+		},
+
+		/**
+		 * The time in milliseconds the server needed until the result was consumed.
+		 */
+		RESULT_CONSUMED_AFTER {
+			@Override
+			public String asString() {
+				return "spring.data.neo4j.server.result.consumed.after";
+			}
+		},
+
+		/**
+		 * The time in milliseconds spent on the client side mapping the records.
+		 */
+		MAPPING_TIME {
+			@Override
+			public String asString() {
+				return "spring.data.neo4j.client.mapping.time";
+			}
+		}
+	}
+
+	/**
+	 * Low cardinality keys of {@link #REPOSITORY_METHOD}.
+	 */
+	public enum RepositoryMethodLowCardinalityKeyNames implements KeyName {
+
+		/**
+		 * The repository method, in the form {@code Interface#method}.
+		 */
+		REPOSITORY_METHOD {
+			@Override
+			public String asString() {
+				return "spring.data.repository.method";
+			}
+		},
+
+		/**
+		 * The type of the repository query.
+		 */
+		QUERY_TYPE {
+			@Override
+			public String asString() {
+				return "spring.data.neo4j.query.type";
+			}
+		}
+	}
+
+	/**
+	 * Low cardinality keys of {@link #TRANSACTION_ATTEMPT}.
+	 */
+	public enum TransactionAttemptLowCardinalityKeyNames implements KeyName {
+
+		/**
+		 * The number of the attempt, starting at {@literal 1}.
+		 */
+		ATTEMPT {
+			@Override
+			public String asString() {
+				return "spring.data.neo4j.transaction.attempt";
+			}
+		},
+
+		/**
+		 * {@literal true} if no further attempt will be made after this one, regardless of its outcome.
+		 */
+		LAST_ATTEMPT {
+			@Override
+			public String asString() {
+				return "spring.data.neo4j.transaction.last.attempt";
+			}
+		}
+	}
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2011-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.core.observation;
+
+import io.micrometer.observation.Observation;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apiguardian.api.API;
+import org.neo4j.driver.summary.ResultSummary;
+import org.springframework.lang.Nullable;
+
+/**
+ * Context of the {@link Neo4jObservation#QUERY} observation. The clients populate it while the statement is executed
+ * and its result is consumed, so the final values are available when the observation stops.
+ *
+ * @author agent
+ * @since 7.4
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "7.4")
+public final class QueryObservationContext extends Observation.Context {
+
+	@Nullable
+	private volatile String cypher;
+
+	@Nullable
+	private volatile String databaseName;
+
+	@Nullable
+	private volatile ResultSummary resultSummary;
+
+	private final LongAdder records = new LongAdder();
+
+	private final LongAdder mappingTimeInNanos = new LongAdder();
+
+	/**
+	 * @return The statement that has been executed, {@literal null} until the statement has been rendered
+	 */
+	@Nullable
+	public String getCypher() {
+		return cypher;
+	}
+
+	/**
+	 * @param cypher The statement that is executed
+	 */
+	public void setCypher(String cypher) {
+		this.cypher = cypher;
+	}
+
+	/**
+	 * @return The name of the database, either the one reported by the server or the one selected by the client,
+	 * {@literal null} if the default database has been targeted and the result has not been consumed yet
+	 */
+	@Nullable
+	public String getDatabaseName() {
+		ResultSummary summary = this.resultSummary;
+		if (summary != null && summary.database() != null && summary.database().name() != null) {
+			return summary.database().name();
+		}
+		return databaseName;
+	}
+
+	/**
+	 * @param databaseName The name of the selected database, can be {@literal null} when the default database is used
+	 */
+	public void setDatabaseName(@Nullable String databaseName) {
+		this.databaseName = databaseName;
+	}
+
+	/**
+	 * @return The summary of the result, {@literal null} until the result has been consumed
+	 */
+	@Nullable
+	public ResultSummary getResultSummary() {
+		return resultSummary;
+	}
+
+	/**
+	 * @param resultSummary The summary of the consumed result
+	 */
+	public void setResultSummary(ResultSummary resultSummary) {
+		this.resultSummary = resultSummary;
+	}
+
+	/**
+	 * Records that a single record has been mapped.
+	 *
+	 * @param durationInNanos The time spent mapping the record
+	 */
+	public void recordMapping(long durationInNanos) {
+		this.records.increment();
+		this.mappingTimeInNanos.add(durationInNanos);
+	}
+
+	/**
+	 * @return The number of records mapped so far
+	 */
+	public long getRecords() {
+		return records.sum();
+	}
+
+	/**
+	 * @return The time spent on mapping records so far
+	 */
+	public long getMappingTimeInNanos() {
+		return mappingTimeInNanos.sum();
+	}
+}
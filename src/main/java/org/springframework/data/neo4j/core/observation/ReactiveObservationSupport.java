@@ -0,0 +1,92 @@
+/*
+ * Copyright 2011-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.core.observation;
+
+import io.micrometer.observation.Observation;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.apiguardian.api.API;
+
+/**
+ * Wraps publishers in observations that start on subscription. The parent of each observation is taken from the
+ * Reactor context and the observation itself is put into the context, so that nested publishers pick it up as their
+ * parent.
+ *
+ * @author agent
+ * @since 7.4
+ */
+@API(status = API.Status.INTERNAL, since = "7.4")
+public final class ReactiveObservationSupport {
+
+	/**
+	 * The same key as {@code ObservationThreadLocalAccessor.KEY}, so that observations are exchanged with Reactor's
+	 * automatic context propagation, without requiring the context-propagation library.
+	 */
+	static final String OBSERVATION_KEY = "micrometer.observation";
+
+	/**
+	 * @param contextSupplier    Creates a new observation context per subscription
+	 * @param observationFactory Creates the not yet started observation for a context
+	 * @param source             Creates the observed publisher for a context
+	 * @param <C>                The type of the context
+	 * @param <T>                The type of the elements
+	 * @return The observed flux
+	 */
+	public static <C extends Observation.Context, T> Flux<T> observeFlux(Supplier<C> contextSupplier,
+			Function<C, Observation> observationFactory, Function<C, Flux<T>> source) {
+
+		return Flux.deferContextual(contextView -> {
+			C context = contextSupplier.get();
+			Observation observation = observationFactory.apply(context)
+					.parentObservation(contextView.getOrDefault(OBSERVATION_KEY, null))
+					.start();
+			return source.apply(context)
+					.doOnError(observation::error)
+					.doFinally(signalType -> observation.stop())
+					.contextWrite(reactorContext -> reactorContext.put(OBSERVATION_KEY, observation));
+		});
+	}
+
+	/**
+	 * @param contextSupplier    Creates a new observation context per subscription
+	 * @param observationFactory Creates the not yet started observation for a context
+	 * @param source             Creates the observed publisher for a context
+	 * @param <C>                The type of the context
+	 * @param <T>                The type of the element
+	 * @return The observed mono
+	 */
+	public static <C extends Observation.Context, T> Mono<T> observeMono(Supplier<C> contextSupplier,
+			Function<C, Observation> observationFactory, Function<C, Mono<T>> source) {
+
+		return Mono.deferContextual(contextView -> {
+			C context = contextSupplier.get();
+			Observation observation = observationFactory.apply(context)
+					.parentObservation(contextView.getOrDefault(OBSERVATION_KEY, null))
+					.start();
+			return source.apply(context)
+					.doOnError(observation::error)
+					.doFinally(signalType -> observation.stop())
+					.contextWrite(reactorContext -> reactorContext.put(OBSERVATION_KEY, observation));
+		});
+	}
+
+	private ReactiveObservationSupport() {
+	}
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2011-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.core.observation;
+
+import io.micrometer.observation.Observation;
+
+import java.lang.reflect.Method;
+
+import org.apiguardian.api.API;
+
+/**
+ * Context of the {@link Neo4jObservation#REPOSITORY_METHOD} observation.
+ *
+ * @author agent
+ * @since 7.4
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "7.4")
+public final class RepositoryMethodObservationContext extends Observation.Context {
+
+	/**
+	 * Query type of queries derived from the method name.
+	 */
+	public static final String QUERY_TYPE_DERIVED = "derived";
+
+	/**
+	 * Query type of queries given as Cypher string, either through {@code @Query} or as named queries.
+	 */
+	public static final String QUERY_TYPE_STRING = "string";
+
+	/**
+	 * Query type of Cypher-DSL based projections.
+	 */
+	public static final String QUERY_TYPE_CYPHER_DSL = "cypher-dsl";
+
+	private final Class<?> repositoryInterface;
+
+	private final Method method;
+
+	private final String queryType;
+
+	/**
+	 * @param repositoryInterface The interface of the repository
+	 * @param method              The query method being executed
+	 * @param queryType           The type of the query, for example {@literal derived} or {@literal string}
+	 */
+	public RepositoryMethodObservationContext(Class<?> repositoryInterface, Method method, String queryType) {
+		this.repositoryInterface = repositoryInterface;
+		this.method = method;
+		this.queryType = queryType;
+	}
+
+	public Class<?> getRepositoryInterface() {
+		return repositoryInterface;
+	}
+
+	public Method getMethod() {
+		return method;
+	}
+
+	public String getQueryType() {
+		return queryType;
+	}
+
+	/**
+	 * @return The method in the form {@code Interface#method}
+	 */
+	public String getQualifiedMethodName() {
+		return repositoryInterface.getSimpleName() + "#" + method.getName();
+	}
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2011-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.core.observation;
+
+import io.micrometer.observation.Observation;
+
+import org.apiguardian.api.API;
+
+/**
+ * Context of the {@link Neo4jObservation#TRANSACTION_ATTEMPT} observation.
+ *
+ * @author agent
+ * @since 7.4
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "7.4")
+public final class TransactionAttemptObservationContext extends Observation.Context {
+
+	private final int attempt;
+
+	private final int maxAttempts;
+
+	/**
+	 * @param attempt     The number of the attempt, starting at {@literal 1}
+	 * @param maxAttempts The maximum number of attempts
+	 */
+	public TransactionAttemptObservationContext(int attempt, int maxAttempts) {
+		this.attempt = attempt;
+		this.maxAttempts = maxAttempts;
+	}
+
+	public int getAttempt() {
+		return attempt;
+	}
+
+	public int getMaxAttempts() {
+		return maxAttempts;
+	}
+
+	/**
+	 * {@return true if no further attempt will be made after this one}
+	 */
+	public boolean isLastAttempt() {
+		return attempt >= maxAttempts;
+	}
+}
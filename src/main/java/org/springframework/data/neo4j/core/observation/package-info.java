@@ -0,0 +1,25 @@
+/*
+ * Copyright 2011-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/**
+ * <!-- tag::intent[] -->
+   This package contains the Micrometer observations created by the Neo4j clients and the repositories. Observations
+   are only created when an {@code ObservationRegistry} has been configured.
+ * <!-- end::intent[] -->
+ */
+@NonNullApi
+package org.springframework.data.neo4j.core.observation;
+
+import org.springframework.lang.NonNullApi;
@@ -15,17 +15,10 @@
  */
 package org.springframework.data.neo4j.core.transaction;
 
-import java.util.Collection;
-import java.util.Collections;
-import java.util.HashSet;
-import java.util.Objects;
 import java.util.Set;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.Supplier;
 
 import org.neo4j.driver.Bookmark;
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.lang.Nullable;
 
 /**
@@ -35,53 +28,9 @@ import org.springframework.lang.Nullable;
  * @soundtrack Helge Schneider - The Last Jazz
  * @since 7.0
  */
-final class DefaultBookmarkManager extends AbstractBookmarkManager {
-
-	private final Set<Bookmark> bookmarks = new HashSet<>();
-
-	private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
-	private final Lock read = lock.readLock();
-	private final Lock write = lock.writeLock();
-
-	private final Supplier<Set<Bookmark>> bookmarksSupplier;
-
-	@Nullable
-	private ApplicationEventPublisher applicationEventPublisher;
+final class DefaultBookmarkManager extends PartitionedBookmarkManager {
 
 	DefaultBookmarkManager(@Nullable Supplier<Set<Bookmark>> bookmarksSupplier) {
-		this.bookmarksSupplier = bookmarksSupplier == null ? Collections::emptySet : bookmarksSupplier;
-	}
-
-	@Override
-	public Collection<Bookmark> getBookmarks() {
-
-		try {
-			read.lock();
-			HashSet<Bookmark> bookmarksToUse = new HashSet<>(this.bookmarks);
-			bookmarksToUse.addAll(bookmarksSupplier.get());
-			return Collections.unmodifiableSet(bookmarksToUse);
-		} finally {
-			read.unlock();
-		}
-	}
-
-	@Override
-	public void updateBookmarks(Collection<Bookmark> usedBookmarks, Collection<Bookmark> newBookmarks) {
-
-		try {
-			write.lock();
-			bookmarks.removeAll(usedBookmarks);
-			newBookmarks.stream().filter(Objects::nonNull).forEach(bookmarks::add);
-			if (applicationEventPublisher != null) {
-				applicationEventPublisher.publishEvent(new Neo4jBookmarksUpdatedEvent(new HashSet<>(bookmarks)));
-			}
-		} finally {
-			write.unlock();
-		}
-	}
-
-	@Override
-	public void setApplicationEventPublisher(@Nullable ApplicationEventPublisher applicationEventPublisher) {
-		this.applicationEventPublisher = applicationEventPublisher;
+		super(bookmarksSupplier);
 	}
 }
@@ -22,6 +22,7 @@ import java.util.function.Supplier;
 import org.apiguardian.api.API;
 import org.neo4j.driver.Bookmark;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.neo4j.core.DatabaseSelection;
 import org.springframework.lang.Nullable;
 
 /**
@@ -110,6 +111,33 @@ public sealed interface Neo4jBookmarkManager permits AbstractBookmarkManager, No
 	 */
 	void updateBookmarks(Collection<Bookmark> usedBookmarks, Collection<Bookmark> newBookmarks);
 
+	/**
+	 * Retrieves the bookmarks relevant for a session targeting the given database. Bookmark managers that don't
+	 * distinguish between databases return all known bookmarks.
+	 *
+	 * @param databaseSelection The target database of a session
+	 * @return a collection of currently known bookmarks for the given database
+	 * @since 7.4
+	 */
+	@API(status = API.Status.EXPERIMENTAL, since = "7.4")
+	default Collection<Bookmark> getBookmarks(DatabaseSelection databaseSelection) {
+		return getBookmarks();
+	}
+
+	/**
+	 * Refreshes the bookmarks of the given database. Bookmark managers that don't distinguish between databases
+	 * delegate to {@link #updateBookmarks(Collection, Collection)}.
+	 *
+	 * @param databaseSelection The target database of the session that ran the transaction
+	 * @param usedBookmarks The collection of bookmarks known prior to the end of a transaction
+	 * @param newBookmarks The bookmarks received after the end of a transaction
+	 * @since 7.4
+	 */
+	@API(status = API.Status.EXPERIMENTAL, since = "7.4")
+	default void updateBookmarks(DatabaseSelection databaseSelection, Collection<Bookmark> usedBookmarks, Collection<Bookmark> newBookmarks) {
+		updateBookmarks(usedBookmarks, newBookmarks);
+	}
+
 	/**
 	 * A hook for bookmark managers supporting events.
 	 *
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2011-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.core.transaction;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apiguardian.api.API;
+import org.springframework.lang.Nullable;
+
+/**
+ * A first level cache of entities that have been loaded or saved in one transaction, keyed by their type and id. An
+ * identity map lives as long as the transaction it is bound to and is discarded afterwards, regardless of the outcome
+ * of the transaction. Transaction managers create an identity map for each of their transactions only when configured
+ * to do so.
+ * <p>
+ * The templates return the same instance for the same id for the remainder of a transaction. Changes done to the
+ * database by other means than through the templates, for example with custom Cypher, are not reflected.
+ *
+ * @author agent
+ * @since 7.4
+ */
+@API(status = API.Status.INTERNAL, since = "7.4")
+public final class Neo4jIdentityMap {
+
+	private final Map<Key, Object> instances = new ConcurrentHashMap<>();
+
+	Neo4jIdentityMap() {
+	}
+
+	/**
+	 * Retrieves an instance.
+	 *
+	 * @param domainType The requested type
+	 * @param id         The id of the instance
+	 * @param <T>        The requested type
+	 * @return The instance or {@literal null} if there is no instance of the requested type with the given id
+	 */
+	@Nullable
+	public <T> T get(Class<T> domainType, @Nullable Object id) {
+
+		if (id == null) {
+			return null;
+		}
+		Object instance = instances.get(new Key(domainType, id));
+		return domainType.isInstance(instance) ? domainType.cast(instance) : null;
+	}
+
+	/**
+	 * Stores an instance under its type and id, replacing all instances with the same id of related types.
+	 *
+	 * @param domainType The type under which the instance is stored
+	 * @param id         The id of the instance
+	 * @param instance   The instance itself
+	 */
+	public void put(Class<?> domainType, @Nullable Object id, @Nullable Object instance) {
+
+		if (id == null || instance == null) {
+			return;
+		}
+		evict(domainType, id);
+		instances.put(new Key(domainType, id), instance);
+	}
+
+	/**
+	 * Evicts all instances of the given type, its super- and subtypes with the given id.
+	 *
+	 * @param domainType The domain type
+	 * @param id         The id to evict
+	 */
+	public void evict(Class<?> domainType, @Nullable Object id) {
+
+		if (id != null) {
+			instances.keySet().removeIf(key -> key.isRelatedTo(domainType) && key.id().equals(id));
+		}
+	}
+
+	/**
+	 * Evicts all instances of the given type, its super- and subtypes with one of the given ids.
+	 *
+	 * @param domainType The domain type
+	 * @param ids        The ids to evict, {@literal null} evicts all instances of the given type
+	 */
+	public void evictAll(Class<?> domainType, @Nullable Collection<?> ids) {
+
+		instances.keySet().removeIf(key -> key.isRelatedTo(domainType) && (ids == null || ids.contains(key.id())));
+	}
+
+	/**
+	 * {@return the number of instances in this map}
+	 */
+	public int size() {
+		return instances.size();
+	}
+
+	record Key(Class<?> type, Object id) {
+
+		boolean isRelatedTo(Class<?> otherType) {
+			return type.isAssignableFrom(otherType) || otherType.isAssignableFrom(type);
+		}
+	}
+}
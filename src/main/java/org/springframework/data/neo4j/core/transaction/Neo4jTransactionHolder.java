@@ -47,12 +47,23 @@ final class Neo4jTransactionHolder extends ResourceHolderSupport {
 	 * The driver's transaction as the second building block of what to synchronize our transaction against.
 	 */
 	private final Transaction transaction;
+	/**
+	 * The optional identity map of this transaction.
+	 */
+	@Nullable
+	private final Neo4jIdentityMap identityMap;
 
 	Neo4jTransactionHolder(Neo4jTransactionContext context, Session session, Transaction transaction) {
+		this(context, session, transaction, null);
+	}
+
+	Neo4jTransactionHolder(Neo4jTransactionContext context, Session session, Transaction transaction,
+			@Nullable Neo4jIdentityMap identityMap) {
 
 		this.context = context;
 		this.session = session;
 		this.transaction = transaction;
+		this.identityMap = identityMap;
 	}
 
 	/**
@@ -117,4 +128,9 @@ final class Neo4jTransactionHolder extends ResourceHolderSupport {
 	Collection<Bookmark> getBookmarks() {
 		return context.getBookmarks();
 	}
+
+	@Nullable
+	Neo4jIdentityMap getIdentityMap() {
+		return identityMap;
+	}
 }
@@ -16,6 +16,7 @@
 package org.springframework.data.neo4j.core.transaction;
 
 import java.util.Collection;
+import java.util.Collections;
 
 import org.apiguardian.api.API;
 import org.neo4j.driver.Bookmark;
@@ -82,6 +83,11 @@ public final class Neo4jTransactionManager extends AbstractPlatformTransactionMa
 		@Nullable
 		private Neo4jBookmarkManager bookmarkManager;
 
+		@Nullable
+		private Long fetchSize;
+
+		private boolean identityMap;
+
 		private Builder(Driver driver) {
 			this.driver = driver;
 		}
@@ -117,6 +123,34 @@ public final class Neo4jTransactionManager extends AbstractPlatformTransactionMa
 			return this;
 		}
 
+		/**
+		 * Configures the number of records fetched from the server per batch in the transactions of this manager.
+		 * Without a fetch size, the default configured with the driver is used.
+		 *
+		 * @param fetchSize The number of records per batch, {@literal -1} to fetch all records at once
+		 * @return The builder
+		 * @since 7.4
+		 */
+		public Builder withFetchSize(long fetchSize) {
+			Assert.isTrue(fetchSize > 0 || fetchSize == -1, "The fetch size must be positive or -1 to fetch all records at once");
+			this.fetchSize = fetchSize;
+			return this;
+		}
+
+		/**
+		 * Enables a transaction scoped identity map. The templates will return already loaded instances by their id for
+		 * the remainder of a transaction instead of loading and mapping them again.
+		 *
+		 * @param identityMap {@literal true} to create an identity map for each transaction
+		 * @return The builder
+		 * @since 7.4
+		 * @see Neo4jIdentityMap
+		 */
+		public Builder withIdentityMap(boolean identityMap) {
+			this.identityMap = identityMap;
+			return this;
+		}
+
 		public Neo4jTransactionManager build() {
 			return new Neo4jTransactionManager(this);
 		}
@@ -139,6 +173,11 @@ public final class Neo4jTransactionManager extends AbstractPlatformTransactionMa
 
 	private final BookmarkManagerReference bookmarkManager;
 
+	@Nullable
+	private final Long fetchSize;
+
+	private final boolean identityMap;
+
 	/**
 	 * This will create a transaction manager for the default database.
 	 *
@@ -182,6 +221,8 @@ public final class Neo4jTransactionManager extends AbstractPlatformTransactionMa
 		this.userSelectionProvider = builder.userSelectionProvider == null ?
 				UserSelectionProvider.getDefaultSelectionProvider() :
 				builder.userSelectionProvider;
+		this.fetchSize = builder.fetchSize;
+		this.identityMap = builder.identityMap;
 		this.bookmarkManager =  new BookmarkManagerReference(Neo4jBookmarkManager::create, builder.bookmarkManager);
 	}
 
@@ -244,8 +285,9 @@ public final class Neo4jTransactionManager extends AbstractPlatformTransactionMa
 							connectionHolder.getUserSelection(), asUser));
 		}
 
-		// Otherwise we open a session and synchronize it.
-		Session session = driver.session(Neo4jTransactionUtils.defaultSessionConfig(targetDatabase, asUser));
+		// Otherwise we open a session and synchronize it. The session is routed according to the foreign transaction.
+		Session session = driver.session(Neo4jTransactionUtils.sessionConfig(TransactionSynchronizationManager.isCurrentTransactionReadOnly(),
+				Collections.emptyList(), targetDatabase, asUser));
 		Transaction transaction = session.beginTransaction(Neo4jTransactionUtils.createTransactionConfigFrom(TransactionDefinition.withDefaults(), -1));
 		// Manually create a new synchronization
 		connectionHolder = new Neo4jTransactionHolder(new Neo4jTransactionContext(targetDatabase, asUser), session, transaction);
@@ -258,6 +300,21 @@ public final class Neo4jTransactionManager extends AbstractPlatformTransactionMa
 		return connectionHolder.getTransaction(targetDatabase, asUser);
 	}
 
+	/**
+	 * Retrieves the identity map of the transaction this manager has bound to the current thread.
+	 *
+	 * @return The identity map of the ongoing transaction or {@literal null} if there is no such transaction or if the
+	 *         identity map is not enabled
+	 * @since 7.4
+	 */
+	@API(status = API.Status.INTERNAL, since = "7.4")
+	@Nullable
+	public Neo4jIdentityMap getCurrentIdentityMap() {
+
+		Neo4jTransactionHolder transactionHolder = (Neo4jTransactionHolder) TransactionSynchronizationManager.getResource(driver);
+		return transactionHolder == null ? null : transactionHolder.getIdentityMap();
+	}
+
 	private static Neo4jTransactionObject extractNeo4jTransaction(Object transaction) {
 
 		Assert.isInstanceOf(Neo4jTransactionObject.class, transaction,
@@ -297,16 +354,18 @@ public final class Neo4jTransactionManager extends AbstractPlatformTransactionMa
 
 		try {
 			// Prepare configuration data
+			DatabaseSelection databaseSelection = databaseSelectionProvider.getDatabaseSelection();
 			Neo4jTransactionContext context = new Neo4jTransactionContext(
-					databaseSelectionProvider.getDatabaseSelection(), userSelectionProvider.getUserSelection(), bookmarkManager.resolve().getBookmarks());
+					databaseSelection, userSelectionProvider.getUserSelection(), bookmarkManager.resolve().getBookmarks(databaseSelection));
 
 			// Configure and open session together with a native transaction
 			Session session = this.driver.session(
-					Neo4jTransactionUtils.sessionConfig(readOnly, context.getBookmarks(), context.getDatabaseSelection(), context.getUserSelection()));
+					Neo4jTransactionUtils.sessionConfig(readOnly, context.getBookmarks(), context.getDatabaseSelection(), context.getUserSelection(), fetchSize));
 			Transaction nativeTransaction = session.beginTransaction(transactionConfig);
 
 			// Synchronize on that
-			Neo4jTransactionHolder transactionHolder = new Neo4jTransactionHolder(context, session, nativeTransaction);
+			Neo4jTransactionHolder transactionHolder = new Neo4jTransactionHolder(context, session, nativeTransaction,
+					identityMap ? new Neo4jIdentityMap() : null);
 			transactionHolder.setSynchronizedWithTransaction(true);
 			transactionObject.setResourceHolder(transactionHolder);
 
@@ -341,7 +400,7 @@ public final class Neo4jTransactionManager extends AbstractPlatformTransactionMa
 		Neo4jTransactionObject transactionObject = extractNeo4jTransaction(status);
 		Neo4jTransactionHolder transactionHolder = transactionObject.getRequiredResourceHolder();
 		Collection<Bookmark> newBookmarks = transactionHolder.commit();
-		this.bookmarkManager.resolve().updateBookmarks(transactionHolder.getBookmarks(), newBookmarks);
+		this.bookmarkManager.resolve().updateBookmarks(transactionHolder.getDatabaseSelection(), transactionHolder.getBookmarks(), newBookmarks);
 	}
 
 	@Override
@@ -27,6 +27,7 @@ import org.neo4j.driver.TransactionConfig;
 import org.springframework.data.neo4j.core.DatabaseSelection;
 import org.springframework.data.neo4j.core.UserSelection;
 import org.springframework.data.neo4j.core.support.UserAgent;
+import org.springframework.lang.Nullable;
 import org.springframework.transaction.IllegalTransactionStateException;
 import org.springframework.transaction.InvalidIsolationLevelException;
 import org.springframework.transaction.TransactionDefinition;
@@ -68,9 +69,27 @@ public final class Neo4jTransactionUtils {
 	}
 
 	public static SessionConfig sessionConfig(boolean readOnly, Collection<Bookmark> bookmarks, DatabaseSelection databaseSelection, UserSelection asUser) {
+		return sessionConfig(readOnly, bookmarks, databaseSelection, asUser, null);
+	}
+
+	/**
+	 * @param readOnly          Whether the session is used for reading only
+	 * @param bookmarks         The bookmarks to start the session with
+	 * @param databaseSelection The database to use
+	 * @param asUser            An impersonated user
+	 * @param fetchSize         The number of records fetched per batch, {@literal null} to use the default of the driver
+	 * @return Session parameters
+	 * @since 7.4
+	 */
+	public static SessionConfig sessionConfig(boolean readOnly, Collection<Bookmark> bookmarks, DatabaseSelection databaseSelection,
+			UserSelection asUser, @Nullable Long fetchSize) {
 		SessionConfig.Builder builder = SessionConfig.builder()
 				.withDefaultAccessMode(readOnly ? AccessMode.READ : AccessMode.WRITE).withBookmarks(bookmarks);
 
+		if (fetchSize != null) {
+			builder.withFetchSize(fetchSize);
+		}
+
 		if (databaseSelection.getValue() != null) {
 			builder.withDatabase(databaseSelection.getValue());
 		}
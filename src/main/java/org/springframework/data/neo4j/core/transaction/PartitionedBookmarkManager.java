@@ -0,0 +1,196 @@
+/*
+ * Copyright 2011-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.core.transaction;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import org.neo4j.driver.Bookmark;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.neo4j.core.DatabaseSelection;
+import org.springframework.lang.Nullable;
+
+/**
+ * Base class for the default bookmark managers. The bookmarks are partitioned by the target database and each partition
+ * is an immutable set that gets replaced atomically, so that neither reading nor updating bookmarks needs a lock and
+ * readers never have to copy a set.
+ * <p>
+ * The name of the default database is not known upfront, so the partition of the {@link DatabaseSelection#undecided()
+ * undecided} selection may hold bookmarks of the same database as an explicitly named partition. Therefore, sessions
+ * without a decided database get the bookmarks of all partitions, and sessions targeting a named database get the
+ * bookmarks of that database together with those of the undecided partition. This is never less than needed for
+ * causal consistency and never more than an unpartitioned bookmark manager would use. Bookmarks of the undecided
+ * partition that have been used by a session targeting a named database are superseded by the bookmarks that session
+ * received and are removed from the undecided partition, the same way an unpartitioned bookmark manager removes all
+ * used bookmarks.
+ * <p>
+ * {@link Neo4jBookmarksUpdatedEvent Events} are published one at a time, outside the updates of the partitions.
+ * Updates that arrive while another thread is publishing are coalesced: The next event contains the latest state of all
+ * partitions instead of one event per update. A call to
+ * {@link #updateBookmarks(DatabaseSelection, Collection, Collection)} returns only after an event containing its
+ * bookmarks has been published, regardless of which thread published it.
+ *
+ * @author agent
+ * @since 7.4
+ */
+abstract class PartitionedBookmarkManager extends AbstractBookmarkManager {
+
+	private final ConcurrentMap<DatabaseSelection, AtomicReference<Set<Bookmark>>> partitions = new ConcurrentHashMap<>();
+
+	private final Supplier<Set<Bookmark>> bookmarksSupplier;
+
+	/**
+	 * Number of updates so far. Each update is assigned the value after its increment.
+	 */
+	private final AtomicLong updates = new AtomicLong();
+
+	/**
+	 * Serializes publishing and guards {@link #publishedUpdates}.
+	 */
+	private final ReentrantLock publishLock = new ReentrantLock();
+
+	/**
+	 * Number of updates already covered by a published event.
+	 */
+	private long publishedUpdates;
+
+	@Nullable
+	private volatile ApplicationEventPublisher applicationEventPublisher;
+
+	PartitionedBookmarkManager(@Nullable Supplier<Set<Bookmark>> bookmarksSupplier) {
+		this.bookmarksSupplier = bookmarksSupplier == null ? Collections::emptySet : bookmarksSupplier;
+	}
+
+	@Override
+	public Collection<Bookmark> getBookmarks() {
+
+		Set<Bookmark> bookmarks = new HashSet<>();
+		this.partitions.values().forEach(partition -> bookmarks.addAll(partition.get()));
+		bookmarks.addAll(this.bookmarksSupplier.get());
+		return Collections.unmodifiableSet(bookmarks);
+	}
+
+	@Override
+	public Collection<Bookmark> getBookmarks(DatabaseSelection databaseSelection) {
+
+		if (databaseSelection.getValue() == null) {
+			return getBookmarks();
+		}
+
+		Set<Bookmark> bookmarks = getPartition(databaseSelection);
+		Set<Bookmark> undecided = getPartition(DatabaseSelection.undecided());
+		Set<Bookmark> seed = this.bookmarksSupplier.get();
+		if (undecided.isEmpty() && seed.isEmpty()) {
+			return bookmarks;
+		}
+
+		Set<Bookmark> bookmarksToUse = new HashSet<>(bookmarks);
+		bookmarksToUse.addAll(undecided);
+		bookmarksToUse.addAll(seed);
+		return Collections.unmodifiableSet(bookmarksToUse);
+	}
+
+	private Set<Bookmark> getPartition(DatabaseSelection databaseSelection) {
+
+		AtomicReference<Set<Bookmark>> partition = this.partitions.get(databaseSelection);
+		return partition == null ? Set.of() : partition.get();
+	}
+
+	@Override
+	public void updateBookmarks(Collection<Bookmark> usedBookmarks, Collection<Bookmark> newBookmarks) {
+
+		updateBookmarks(DatabaseSelection.undecided(), usedBookmarks, newBookmarks);
+	}
+
+	@Override
+	public void updateBookmarks(DatabaseSelection databaseSelection, Collection<Bookmark> usedBookmarks, Collection<Bookmark> newBookmarks) {
+
+		this.partitions.computeIfAbsent(databaseSelection, key -> new AtomicReference<>(Set.of()))
+				.updateAndGet(bookmarks -> {
+					Set<Bookmark> result = new HashSet<>(bookmarks);
+					usedBookmarks.forEach(result::remove);
+					newBookmarks.stream().filter(Objects::nonNull).forEach(result::add);
+					return Set.copyOf(result);
+				});
+		// Pruned only after the new bookmarks have been added, so that there is no moment in which neither is known
+		if (databaseSelection.getValue() != null) {
+			pruneUndecidedPartition(usedBookmarks);
+		}
+
+		publishEvent(this.updates.incrementAndGet());
+	}
+
+	private void pruneUndecidedPartition(Collection<Bookmark> usedBookmarks) {
+
+		AtomicReference<Set<Bookmark>> undecided = this.partitions.get(DatabaseSelection.undecided());
+		if (undecided == null || usedBookmarks.isEmpty()) {
+			return;
+		}
+
+		undecided.updateAndGet(bookmarks -> {
+			if (Collections.disjoint(bookmarks, usedBookmarks)) {
+				return bookmarks;
+			}
+			Set<Bookmark> result = new HashSet<>(bookmarks);
+			usedBookmarks.forEach(result::remove);
+			return Set.copyOf(result);
+		});
+	}
+
+	/**
+	 * Publishes an event containing at least the given update, unless another thread already did so while this thread
+	 * was waiting for the lock.
+	 *
+	 * @param update The number of the update that must be covered by an event
+	 */
+	private void publishEvent(long update) {
+
+		ApplicationEventPublisher publisher = this.applicationEventPublisher;
+		if (publisher == null) {
+			return;
+		}
+
+		this.publishLock.lock();
+		try {
+			if (this.publishedUpdates >= update) {
+				return;
+			}
+
+			// All updates up to this number have been applied to the partitions before the snapshot is taken
+			long coveredUpdates = this.updates.get();
+			Set<Bookmark> bookmarks = new HashSet<>();
+			this.partitions.values().forEach(partition -> bookmarks.addAll(partition.get()));
+			publisher.publishEvent(new Neo4jBookmarksUpdatedEvent(bookmarks));
+			this.publishedUpdates = Math.max(this.publishedUpdates, coveredUpdates);
+		} finally {
+			this.publishLock.unlock();
+		}
+	}
+
+	@Override
+	public void setApplicationEventPublisher(@Nullable ApplicationEventPublisher applicationEventPublisher) {
+		this.applicationEventPublisher = applicationEventPublisher;
+	}
+}
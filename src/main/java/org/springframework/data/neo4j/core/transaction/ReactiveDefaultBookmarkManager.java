@@ -15,15 +15,10 @@
  */
 package org.springframework.data.neo4j.core.transaction;
 
-import java.util.Collection;
-import java.util.Collections;
-import java.util.HashSet;
-import java.util.Objects;
 import java.util.Set;
 import java.util.function.Supplier;
 
 import org.neo4j.driver.Bookmark;
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.lang.Nullable;
 
 /**
@@ -34,40 +29,9 @@ import org.springframework.lang.Nullable;
  * @author Gerrit Meier
  * @since 7.1.2
  */
-final class ReactiveDefaultBookmarkManager extends AbstractBookmarkManager {
-
-	private final Set<Bookmark> bookmarks = new HashSet<>();
-
-	private final Supplier<Set<Bookmark>> bookmarksSupplier;
-
-	@Nullable
-	private ApplicationEventPublisher applicationEventPublisher;
+final class ReactiveDefaultBookmarkManager extends PartitionedBookmarkManager {
 
 	ReactiveDefaultBookmarkManager(@Nullable Supplier<Set<Bookmark>> bookmarksSupplier) {
-		this.bookmarksSupplier = bookmarksSupplier == null ? Collections::emptySet : bookmarksSupplier;
-	}
-
-	@Override
-	public Collection<Bookmark> getBookmarks() {
-		synchronized (this.bookmarks) {
-			this.bookmarks.addAll(bookmarksSupplier.get());
-			return Set.copyOf(this.bookmarks);
-		}
-	}
-
-	@Override
-	public void updateBookmarks(Collection<Bookmark> usedBookmarks, Collection<Bookmark> newBookmarks) {
-		synchronized (this.bookmarks) {
-			usedBookmarks.stream().filter(Objects::nonNull).forEach(bookmarks::remove);
-			newBookmarks.stream().filter(Objects::nonNull).forEach(bookmarks::add);
-			if (applicationEventPublisher != null) {
-				applicationEventPublisher.publishEvent(new Neo4jBookmarksUpdatedEvent(new HashSet<>(bookmarks)));
-			}
-		}
-	}
-
-	@Override
-	public void setApplicationEventPublisher(@Nullable ApplicationEventPublisher applicationEventPublisher) {
-		this.applicationEventPublisher = applicationEventPublisher;
+		super(bookmarksSupplier);
 	}
 }
@@ -38,12 +38,20 @@ final class ReactiveNeo4jTransactionHolder extends ResourceHolderSupport {
 	private final Neo4jTransactionContext context;
 	private final ReactiveSession session;
 	private final ReactiveTransaction transaction;
+	@Nullable
+	private final Neo4jIdentityMap identityMap;
 
 	ReactiveNeo4jTransactionHolder(Neo4jTransactionContext context, ReactiveSession session, ReactiveTransaction transaction) {
+		this(context, session, transaction, null);
+	}
+
+	ReactiveNeo4jTransactionHolder(Neo4jTransactionContext context, ReactiveSession session, ReactiveTransaction transaction,
+			@Nullable Neo4jIdentityMap identityMap) {
 
 		this.context = context;
 		this.session = session;
 		this.transaction = transaction;
+		this.identityMap = identityMap;
 	}
 
 	ReactiveSession getSession() {
@@ -79,4 +87,9 @@ final class ReactiveNeo4jTransactionHolder extends ResourceHolderSupport {
 	Collection<Bookmark> getBookmarks() {
 		return context.getBookmarks();
 	}
+
+	@Nullable
+	Neo4jIdentityMap getIdentityMap() {
+		return identityMap;
+	}
 }
@@ -18,6 +18,8 @@ package org.springframework.data.neo4j.core.transaction;
 import reactor.core.publisher.Mono;
 import reactor.util.function.Tuples;
 
+import java.util.Collections;
+
 import org.apiguardian.api.API;
 import org.neo4j.driver.Driver;
 import org.neo4j.driver.TransactionConfig;
@@ -79,6 +81,11 @@ public final class ReactiveNeo4jTransactionManager extends AbstractReactiveTrans
 		@Nullable
 		private Neo4jBookmarkManager bookmarkManager;
 
+		@Nullable
+		private Long fetchSize;
+
+		private boolean identityMap;
+
 		private Builder(Driver driver) {
 			this.driver = driver;
 		}
@@ -114,6 +121,34 @@ public final class ReactiveNeo4jTransactionManager extends AbstractReactiveTrans
 			return this;
 		}
 
+		/**
+		 * Configures the number of records fetched from the server per batch in the transactions of this manager.
+		 * Without a fetch size, the default configured with the driver is used.
+		 *
+		 * @param fetchSize The number of records per batch, {@literal -1} to fetch all records at once
+		 * @return The builder
+		 * @since 7.4
+		 */
+		public Builder withFetchSize(long fetchSize) {
+			Assert.isTrue(fetchSize > 0 || fetchSize == -1, "The fetch size must be positive or -1 to fetch all records at once");
+			this.fetchSize = fetchSize;
+			return this;
+		}
+
+		/**
+		 * Enables a transaction scoped identity map. The templates will return already loaded instances by their id for
+		 * the remainder of a transaction instead of loading and mapping them again.
+		 *
+		 * @param identityMap {@literal true} to create an identity map for each transaction
+		 * @return The builder
+		 * @since 7.4
+		 * @see Neo4jIdentityMap
+		 */
+		public Builder withIdentityMap(boolean identityMap) {
+			this.identityMap = identityMap;
+			return this;
+		}
+
 		public ReactiveNeo4jTransactionManager build() {
 			return new ReactiveNeo4jTransactionManager(this);
 		}
@@ -136,6 +171,11 @@ public final class ReactiveNeo4jTransactionManager extends AbstractReactiveTrans
 
 	private final BookmarkManagerReference bookmarkManager;
 
+	@Nullable
+	private final Long fetchSize;
+
+	private final boolean identityMap;
+
 	/**
 	 * This will create a transaction manager for the default database.
 	 *
@@ -179,6 +219,8 @@ public final class ReactiveNeo4jTransactionManager extends AbstractReactiveTrans
 		this.userSelectionProvider = builder.userSelectionProvider == null ?
 				ReactiveUserSelectionProvider.getDefaultSelectionProvider() :
 				builder.userSelectionProvider;
+		this.fetchSize = builder.fetchSize;
+		this.identityMap = builder.identityMap;
 		this.bookmarkManager =  new BookmarkManagerReference(Neo4jBookmarkManager::createReactive, builder.bookmarkManager);
 	}
 
@@ -214,7 +256,9 @@ public final class ReactiveNeo4jTransactionManager extends AbstractReactiveTrans
 					// Otherwise open up a new native transaction
 					return Mono.defer(() -> {
 
-						ReactiveSession session = driver.session(ReactiveSession.class, Neo4jTransactionUtils.defaultSessionConfig(targetDatabase, asUser));
+						// The session is routed according to the foreign transaction
+						ReactiveSession session = driver.session(ReactiveSession.class, Neo4jTransactionUtils.sessionConfig(tsm.isCurrentTransactionReadOnly(),
+								Collections.emptyList(), targetDatabase, asUser));
 						return Mono.fromDirect(session.beginTransaction(Neo4jTransactionUtils.createTransactionConfigFrom(TransactionDefinition.withDefaults(), -1))).map(tx -> {
 
 							ReactiveNeo4jTransactionHolder newConnectionHolder = new ReactiveNeo4jTransactionHolder(
@@ -241,6 +285,22 @@ public final class ReactiveNeo4jTransactionManager extends AbstractReactiveTrans
 				.onErrorResume(NoTransactionException.class, nte -> Mono.empty());
 	}
 
+	/**
+	 * Retrieves the identity map of the transaction this manager has bound to the current transaction context.
+	 *
+	 * @return The identity map of the ongoing transaction or an empty publisher if there is no such transaction or if the
+	 *         identity map is not enabled
+	 * @since 7.4
+	 */
+	@API(status = API.Status.INTERNAL, since = "7.4")
+	public Mono<Neo4jIdentityMap> getCurrentIdentityMap() {
+
+		return TransactionSynchronizationManager.forCurrentTransaction()
+				.mapNotNull(tsm -> (ReactiveNeo4jTransactionHolder) tsm.getResource(driver))
+				.mapNotNull(ReactiveNeo4jTransactionHolder::getIdentityMap)
+				.onErrorResume(NoTransactionException.class, e -> Mono.empty());
+	}
+
 	private static ReactiveNeo4jTransactionObject extractNeo4jTransaction(Object transaction) {
 
 		Assert.isInstanceOf(ReactiveNeo4jTransactionObject.class, transaction,
@@ -292,11 +352,11 @@ public final class ReactiveNeo4jTransactionManager extends AbstractReactiveTrans
 							userSelectionProvider
 									.getUserSelection()
 									.switchIfEmpty(Mono.just(UserSelection.connectedUser())),
-							(databaseSelection, userSelection) -> new Neo4jTransactionContext(databaseSelection, userSelection, bookmarkManager.resolve().getBookmarks()))
-					.map(context -> Tuples.of(context, this.driver.session(ReactiveSession.class, Neo4jTransactionUtils.sessionConfig(readOnly, context.getBookmarks(), context.getDatabaseSelection(), context.getUserSelection()))))
+							(databaseSelection, userSelection) -> new Neo4jTransactionContext(databaseSelection, userSelection, bookmarkManager.resolve().getBookmarks(databaseSelection)))
+					.map(context -> Tuples.of(context, this.driver.session(ReactiveSession.class, Neo4jTransactionUtils.sessionConfig(readOnly, context.getBookmarks(), context.getDatabaseSelection(), context.getUserSelection(), fetchSize))))
 					.flatMap(contextAndSession -> Mono.fromDirect(contextAndSession.getT2().beginTransaction(transactionConfig)).single()
 							.map(nativeTransaction -> new ReactiveNeo4jTransactionHolder(contextAndSession.getT1(),
-									contextAndSession.getT2(), nativeTransaction)))
+									contextAndSession.getT2(), nativeTransaction, identityMap ? new Neo4jIdentityMap() : null)))
 					.doOnNext(transactionHolder -> {
 						transactionHolder.setSynchronizedWithTransaction(true);
 						transactionObject.setResourceHolder(transactionHolder);
@@ -325,7 +385,7 @@ public final class ReactiveNeo4jTransactionManager extends AbstractReactiveTrans
 		ReactiveNeo4jTransactionHolder holder = extractNeo4jTransaction(genericReactiveTransaction)
 				.getRequiredResourceHolder();
 		return holder.commit()
-				.doOnNext(bookmark -> bookmarkManager.resolve().updateBookmarks(holder.getBookmarks(), bookmark))
+				.doOnNext(bookmark -> bookmarkManager.resolve().updateBookmarks(holder.getDatabaseSelection(), holder.getBookmarks(), bookmark))
 				.then();
 	}
 
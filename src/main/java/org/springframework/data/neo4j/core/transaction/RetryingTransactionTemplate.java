@@ -0,0 +1,81 @@
+/*
+ * Copyright 2011-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.core.transaction;
+
+import java.lang.reflect.UndeclaredThrowableException;
+
+import org.apiguardian.api.API;
+import org.springframework.lang.Nullable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.Assert;
+
+/**
+ * A {@link TransactionTemplate} that executes the callback again in a new transaction if the transaction failed with
+ * a retryable exception, as defined by a {@link TransactionRetryPolicy}. Callbacks participating in an ongoing
+ * transaction are executed only once. Callbacks must therefore be safe to be executed more than once, which is
+ * usually the case for callbacks that only interact with the database.
+ *
+ * @author agent
+ * @since 7.4
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "7.4")
+public class RetryingTransactionTemplate extends TransactionTemplate {
+
+	private static final long serialVersionUID = 1L;
+
+	private final transient TransactionRetryPolicy retryPolicy;
+
+	/**
+	 * @param transactionManager    The transaction manager to use
+	 * @param transactionDefinition The definition from which the transaction settings are copied
+	 * @param retryPolicy           The policy for retrying failed transactions
+	 */
+	public RetryingTransactionTemplate(PlatformTransactionManager transactionManager,
+			TransactionDefinition transactionDefinition, TransactionRetryPolicy retryPolicy) {
+
+		super(transactionManager, transactionDefinition);
+
+		Assert.notNull(retryPolicy, "The retry policy is required");
+		this.retryPolicy = retryPolicy;
+	}
+
+	public TransactionRetryPolicy getRetryPolicy() {
+		return retryPolicy;
+	}
+
+	@Override
+	@Nullable
+	public <T> T execute(TransactionCallback<T> action) throws TransactionException {
+
+		if (TransactionSynchronizationManager.isActualTransactionActive()
+				&& getPropagationBehavior() != TransactionDefinition.PROPAGATION_REQUIRES_NEW) {
+			return super.execute(action);
+		}
+
+		try {
+			return retryPolicy.execute(() -> super.execute(action));
+		} catch (RuntimeException | Error ex) {
+			throw ex;
+		} catch (Throwable ex) {
+			throw new UndeclaredThrowableException(ex, "TransactionCallback threw undeclared checked exception");
+		}
+	}
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2011-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.core.transaction;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import org.apiguardian.api.API;
+import org.springframework.transaction.NoTransactionException;
+import org.springframework.transaction.ReactiveTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.reactive.TransactionCallback;
+import org.springframework.transaction.reactive.TransactionSynchronizationManager;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import org.springframework.util.Assert;
+
+/**
+ * A {@link TransactionalOperator} that subscribes again to the transactional publisher in a new transaction if the
+ * transaction failed with a retryable exception, as defined by a {@link TransactionRetryPolicy}. Publishers
+ * participating in an ongoing transaction are subscribed only once. Publishers must therefore be cold and do all of
+ * their work on each subscription.
+ *
+ * @author agent
+ * @since 7.4
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "7.4")
+public final class RetryingTransactionalOperator implements TransactionalOperator {
+
+	private final TransactionalOperator delegate;
+
+	private final boolean requiresNew;
+
+	private final TransactionRetryPolicy retryPolicy;
+
+	/**
+	 * @param transactionManager    The transaction manager to use
+	 * @param transactionDefinition The definition of the transactions to create
+	 * @param retryPolicy           The policy for retrying failed transactions
+	 */
+	public RetryingTransactionalOperator(ReactiveTransactionManager transactionManager,
+			TransactionDefinition transactionDefinition, TransactionRetryPolicy retryPolicy) {
+
+		Assert.notNull(retryPolicy, "The retry policy is required");
+
+		this.delegate = TransactionalOperator.create(transactionManager, transactionDefinition);
+		this.requiresNew = transactionDefinition.getPropagationBehavior() == TransactionDefinition.PROPAGATION_REQUIRES_NEW;
+		this.retryPolicy = retryPolicy;
+	}
+
+	public TransactionRetryPolicy getRetryPolicy() {
+		return retryPolicy;
+	}
+
+	@Override
+	public <T> Flux<T> transactional(Flux<T> flux) {
+		return isParticipating().flatMapMany(participating -> participating ? delegate.transactional(flux)
+				: retryPolicy.retry(Flux.defer(() -> delegate.transactional(flux))));
+	}
+
+	@Override
+	public <T> Mono<T> transactional(Mono<T> mono) {
+		return isParticipating().flatMap(participating -> participating ? delegate.transactional(mono)
+				: retryPolicy.retry(Mono.defer(() -> delegate.transactional(mono))));
+	}
+
+	@Override
+	public <T> Flux<T> execute(TransactionCallback<T> action) throws TransactionException {
+		return isParticipating().flatMapMany(participating -> participating ? delegate.execute(action)
+				: retryPolicy.retry(Flux.defer(() -> delegate.execute(action))));
+	}
+
+	private Mono<Boolean> isParticipating() {
+
+		if (requiresNew) {
+			return Mono.just(false);
+		}
+		return TransactionSynchronizationManager.forCurrentTransaction()
+				.map(TransactionSynchronizationManager::isActualTransactionActive)
+				.onErrorResume(NoTransactionException.class, e -> Mono.just(false));
+	}
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2011-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.core.transaction;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.apiguardian.api.API;
+import org.springframework.aop.ProxyMethodInvocation;
+import org.springframework.lang.Nullable;
+import org.springframework.transaction.NoTransactionException;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.Assert;
+
+/**
+ * A {@link MethodInterceptor} retrying {@code @Transactional} methods according to a {@link TransactionRetryPolicy}.
+ * The interceptor must be applied outside the transaction interceptor, so that each attempt runs in a new transaction.
+ * Spring Data Neo4j's repository factory beans do this automatically for all repositories if there's a unique bean of
+ * type {@link TransactionRetryPolicy} in the application context.
+ * <p>
+ * Imperative methods are invoked again, methods returning a {@link Mono} or a {@link Flux} are subscribed again. Methods
+ * invoked while a transaction is already ongoing are not retried.
+ *
+ * @author agent
+ * @since 7.4
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "7.4")
+public final class TransactionRetryInterceptor implements MethodInterceptor {
+
+	private final TransactionRetryPolicy retryPolicy;
+
+	/**
+	 * @param retryPolicy The policy for retrying failed transactions
+	 */
+	public TransactionRetryInterceptor(TransactionRetryPolicy retryPolicy) {
+
+		Assert.notNull(retryPolicy, "The retry policy is required");
+		this.retryPolicy = retryPolicy;
+	}
+
+	@Override
+	@Nullable
+	public Object invoke(MethodInvocation invocation) throws Throwable {
+
+		Class<?> returnType = invocation.getMethod().getReturnType();
+		if (Mono.class.isAssignableFrom(returnType)) {
+			Mono<?> result = (Mono<?>) invocation.proceed();
+			return result == null ? null : retryUnlessParticipating(result);
+		} else if (Flux.class.isAssignableFrom(returnType)) {
+			Flux<?> result = (Flux<?>) invocation.proceed();
+			return result == null ? null : retryUnlessParticipating(result);
+		}
+
+		if (TransactionSynchronizationManager.isActualTransactionActive() || !(invocation instanceof ProxyMethodInvocation proxyMethodInvocation)) {
+			return invocation.proceed();
+		}
+		return retryPolicy.execute(() -> proxyMethodInvocation.invocableClone().proceed());
+	}
+
+	private <T> Mono<T> retryUnlessParticipating(Mono<T> result) {
+		return isParticipatingReactive().flatMap(participating -> participating ? result : retryPolicy.retry(result));
+	}
+
+	private <T> Flux<T> retryUnlessParticipating(Flux<T> result) {
+		return isParticipatingReactive().flatMapMany(participating -> participating ? result : retryPolicy.retry(result));
+	}
+
+	private static Mono<Boolean> isParticipatingReactive() {
+		return org.springframework.transaction.reactive.TransactionSynchronizationManager.forCurrentTransaction()
+				.map(org.springframework.transaction.reactive.TransactionSynchronizationManager::isActualTransactionActive)
+				.onErrorResume(NoTransactionException.class, e -> Mono.just(false));
+	}
+}
@@ -0,0 +1,276 @@
+/*
+ * Copyright 2011-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.core.transaction;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+import org.apiguardian.api.API;
+import org.springframework.data.neo4j.core.observation.DefaultTransactionAttemptObservationConvention;
+import org.springframework.data.neo4j.core.observation.Neo4jObservation;
+import org.springframework.data.neo4j.core.observation.ReactiveObservationSupport;
+import org.springframework.data.neo4j.core.observation.TransactionAttemptObservationContext;
+import org.springframework.data.neo4j.core.support.RetryExceptionPredicate;
+import org.springframework.util.Assert;
+
+/**
+ * Describes how often and when transactions failing with a transient error are retried. Retries are done by a
+ * {@link RetryingTransactionTemplate}, a {@link RetryingTransactionalOperator} or a {@link TransactionRetryInterceptor},
+ * all of them only retry transactions they started themselves: Work participating in an ongoing transaction is
+ * executed once, as only the owner of that transaction is able to repeat it as a whole.
+ * <p>
+ * The time between two attempts grows exponentially, starting at the initial backoff and doubling with each attempt
+ * until the maximum backoff is reached. A random jitter is applied to each backoff, so that transactions that failed
+ * together, for example due to a leader switch or a deadlock, don't retry in lockstep.
+ * <p>
+ * Each attempt is recorded as {@link Neo4jObservation#TRANSACTION_ATTEMPT} observation if an
+ * {@link ObservationRegistry} has been configured.
+ * <p>
+ * Instances of this class are immutable.
+ *
+ * @author agent
+ * @since 7.4
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "7.4")
+public final class TransactionRetryPolicy {
+
+	private static final TransactionRetryPolicy DEFAULTS = new TransactionRetryPolicy(5, Duration.ofMillis(100),
+			Duration.ofSeconds(5), 0.2, new RetryExceptionPredicate(), ObservationRegistry.NOOP);
+
+	private final int maxAttempts;
+
+	private final Duration initialBackoff;
+
+	private final Duration maxBackoff;
+
+	private final double jitter;
+
+	private final Predicate<Throwable> retryableExceptions;
+
+	private final ObservationRegistry observationRegistry;
+
+	/**
+	 * {@return a policy doing at most 5 attempts, with a backoff between 100ms and 5s and a jitter of 20%, retrying all
+	 * exceptions the {@link RetryExceptionPredicate} deems retryable}
+	 */
+	public static TransactionRetryPolicy defaults() {
+		return DEFAULTS;
+	}
+
+	private TransactionRetryPolicy(int maxAttempts, Duration initialBackoff, Duration maxBackoff, double jitter,
+			Predicate<Throwable> retryableExceptions, ObservationRegistry observationRegistry) {
+		this.maxAttempts = maxAttempts;
+		this.initialBackoff = initialBackoff;
+		this.maxBackoff = maxBackoff;
+		this.jitter = jitter;
+		this.retryableExceptions = retryableExceptions;
+		this.observationRegistry = observationRegistry;
+	}
+
+	/**
+	 * @param newMaxAttempts The maximum number of attempts, including the first one, must be at least {@literal 1}
+	 * @return A new policy
+	 */
+	public TransactionRetryPolicy withMaxAttempts(int newMaxAttempts) {
+
+		Assert.isTrue(newMaxAttempts >= 1, "At least one attempt is required");
+		return new TransactionRetryPolicy(newMaxAttempts, initialBackoff, maxBackoff, jitter, retryableExceptions, observationRegistry);
+	}
+
+	/**
+	 * @param newInitialBackoff The backoff after the first failed attempt
+	 * @param newMaxBackoff     The upper bound of all backoffs, must not be less than the initial backoff
+	 * @return A new policy
+	 */
+	public TransactionRetryPolicy withBackoff(Duration newInitialBackoff, Duration newMaxBackoff) {
+
+		Assert.isTrue(!newInitialBackoff.isNegative(), "The initial backoff must not be negative");
+		Assert.isTrue(newMaxBackoff.compareTo(newInitialBackoff) >= 0, "The maximum backoff must not be less than the initial backoff");
+		return new TransactionRetryPolicy(maxAttempts, newInitialBackoff, newMaxBackoff, jitter, retryableExceptions, observationRegistry);
+	}
+
+	/**
+	 * @param newJitter The factor by which each backoff is varied randomly, between {@literal 0} and {@literal 1}
+	 * @return A new policy
+	 */
+	public TransactionRetryPolicy withJitter(double newJitter) {
+
+		Assert.isTrue(newJitter >= 0.0 && newJitter <= 1.0, "The jitter must be between 0 and 1");
+		return new TransactionRetryPolicy(maxAttempts, initialBackoff, maxBackoff, newJitter, retryableExceptions, observationRegistry);
+	}
+
+	/**
+	 * @param newRetryableExceptions Decides whether an attempt that failed with a given exception is retried
+	 * @return A new policy
+	 */
+	public TransactionRetryPolicy withRetryableExceptions(Predicate<Throwable> newRetryableExceptions) {
+
+		Assert.notNull(newRetryableExceptions, "The predicate for retryable exceptions is required");
+		return new TransactionRetryPolicy(maxAttempts, initialBackoff, maxBackoff, jitter, newRetryableExceptions, observationRegistry);
+	}
+
+	/**
+	 * @param newObservationRegistry The registry in which the attempts are observed
+	 * @return A new policy
+	 */
+	public TransactionRetryPolicy withObservationRegistry(ObservationRegistry newObservationRegistry) {
+
+		Assert.notNull(newObservationRegistry, "The observation registry is required");
+		return new TransactionRetryPolicy(maxAttempts, initialBackoff, maxBackoff, jitter, retryableExceptions, newObservationRegistry);
+	}
+
+	public int getMaxAttempts() {
+		return maxAttempts;
+	}
+
+	public Duration getInitialBackoff() {
+		return initialBackoff;
+	}
+
+	public Duration getMaxBackoff() {
+		return maxBackoff;
+	}
+
+	public double getJitter() {
+		return jitter;
+	}
+
+	/**
+	 * Computes the time to wait after the given number of failed attempts.
+	 *
+	 * @param failedAttempts The number of attempts that failed so far, at least {@literal 1}
+	 * @return The jittered backoff
+	 */
+	Duration backoff(int failedAttempts) {
+
+		double base = Math.min(maxBackoff.toMillis(), initialBackoff.toMillis() * Math.pow(2, failedAttempts - 1.0));
+		double offset = base * jitter * (ThreadLocalRandom.current().nextDouble() * 2 - 1);
+		long backoff = Math.round(Math.max(initialBackoff.toMillis(), Math.min(maxBackoff.toMillis(), base + offset)));
+		return Duration.ofMillis(backoff);
+	}
+
+	/**
+	 * A single attempt of a unit of work.
+	 *
+	 * @param <T> The type of the result
+	 */
+	@FunctionalInterface
+	interface Attempt<T> {
+
+		T run() throws Throwable;
+	}
+
+	/**
+	 * Runs the attempt until it succeeds, fails with an exception that is not retryable or the maximum number of
+	 * attempts is reached, blocking the current thread between two attempts.
+	 *
+	 * @param attempt The attempt to run
+	 * @param <T>     The type of the result
+	 * @return The result of the first successful attempt
+	 * @throws Throwable The exception of the last failed attempt
+	 */
+	<T> T execute(Attempt<T> attempt) throws Throwable {
+
+		for (int i = 1; ; ++i) {
+			TransactionAttemptObservationContext context = new TransactionAttemptObservationContext(i, maxAttempts);
+			Observation observation = createObservation(context).start();
+			Throwable failure;
+			try (Observation.Scope ignored = observation.openScope()) {
+				return attempt.run();
+			} catch (Throwable ex) {
+				observation.error(ex);
+				failure = ex;
+			} finally {
+				observation.stop();
+			}
+
+			if (context.isLastAttempt() || !retryableExceptions.test(failure)) {
+				throw failure;
+			}
+			waitBeforeNextAttempt(i, failure);
+		}
+	}
+
+	private void waitBeforeNextAttempt(int failedAttempts, Throwable cause) throws Throwable {
+		try {
+			Thread.sleep(backoff(failedAttempts).toMillis());
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			cause.addSuppressed(ex);
+			throw cause;
+		}
+	}
+
+	/**
+	 * Resubscribes to the source until it completes, fails with an exception that is not retryable or the maximum
+	 * number of attempts is reached.
+	 *
+	 * @param source A publisher doing all the work of one attempt on each subscription
+	 * @param <T>    The type of the elements
+	 * @return A flux retrying the source
+	 */
+	<T> Flux<T> retry(Flux<T> source) {
+
+		return Flux.defer(() -> {
+			AtomicInteger attempts = new AtomicInteger();
+			return Flux.defer(() -> ReactiveObservationSupport.observeFlux(
+							() -> new TransactionAttemptObservationContext(attempts.incrementAndGet(), maxAttempts),
+							this::createObservation, context -> source))
+					.retryWhen(createRetrySpec());
+		});
+	}
+
+	/**
+	 * Resubscribes to the source until it completes, fails with an exception that is not retryable or the maximum
+	 * number of attempts is reached.
+	 *
+	 * @param source A publisher doing all the work of one attempt on each subscription
+	 * @param <T>    The type of the element
+	 * @return A mono retrying the source
+	 */
+	<T> Mono<T> retry(Mono<T> source) {
+
+		return Mono.defer(() -> {
+			AtomicInteger attempts = new AtomicInteger();
+			return Mono.defer(() -> ReactiveObservationSupport.observeMono(
+							() -> new TransactionAttemptObservationContext(attempts.incrementAndGet(), maxAttempts),
+							this::createObservation, context -> source))
+					.retryWhen(createRetrySpec());
+		});
+	}
+
+	private Retry createRetrySpec() {
+
+		return Retry.backoff(maxAttempts - 1L, initialBackoff)
+				.maxBackoff(maxBackoff)
+				.jitter(jitter)
+				.filter(retryableExceptions)
+				.onRetryExhaustedThrow((spec, signal) -> signal.failure());
+	}
+
+	private Observation createObservation(TransactionAttemptObservationContext context) {
+		return Neo4jObservation.TRANSACTION_ATTEMPT.observation(null, DefaultTransactionAttemptObservationConvention.INSTANCE,
+				() -> context, observationRegistry);
+	}
+}
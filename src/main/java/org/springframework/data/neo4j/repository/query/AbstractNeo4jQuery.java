@@ -15,9 +15,11 @@
  */
 package org.springframework.data.neo4j.repository.query;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.BiFunction;
 import java.util.function.LongSupplier;
@@ -32,6 +34,7 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.geo.GeoPage;
 import org.springframework.data.geo.GeoResult;
 import org.springframework.data.neo4j.core.Neo4jOperations;
@@ -40,6 +43,7 @@ import org.springframework.data.neo4j.core.PropertyFilterSupport;
 import org.springframework.data.neo4j.core.mapping.DtoInstantiatingConverter;
 import org.springframework.data.neo4j.core.mapping.EntityInstanceWithSource;
 import org.springframework.data.neo4j.core.mapping.Neo4jMappingContext;
+import org.springframework.data.neo4j.core.mapping.Neo4jPersistentEntity;
 import org.springframework.data.neo4j.core.mapping.PropertyFilter;
 import org.springframework.data.projection.ProjectionFactory;
 import org.springframework.data.repository.query.QueryMethod;
@@ -103,6 +107,15 @@ abstract class AbstractNeo4jQuery extends Neo4jQuerySupport implements Repositor
 	@Override
 	public final Object execute(Object[] parameters) {
 
+		if (!isObserved()) {
+			return doExecute(parameters);
+		}
+		return createRepositoryMethodObservation(createRepositoryMethodObservationContext())
+				.observe(() -> doExecute(parameters));
+	}
+
+	private Object doExecute(Object[] parameters) {
+
 		boolean incrementLimit = queryMethod.incrementLimit();
 		boolean geoNearQuery = isGeoNearQuery();
 		Neo4jParameterAccessor parameterAccessor = new Neo4jParameterAccessor(
@@ -115,7 +128,10 @@ abstract class AbstractNeo4jQuery extends Neo4jQuerySupport implements Repositor
 				PropertyFilterSupport.getInputProperties(resultProcessor, factory, mappingContext), parameterAccessor,
 				null, getMappingFunction(resultProcessor, geoNearQuery), incrementLimit ? l -> l + 1 : UnaryOperator.identity());
 
-		Object rawResult = new Neo4jQueryExecution.DefaultQueryExecution(neo4jOperations).execute(preparedQuery, queryMethod.asCollectionQuery());
+		Neo4jQueryExecution queryExecution = queryMethod.isStreamQuery() && !geoNearQuery
+				? new Neo4jQueryExecution.StreamQueryExecution(neo4jOperations)
+				: new Neo4jQueryExecution.DefaultQueryExecution(neo4jOperations);
+		Object rawResult = queryExecution.execute(preparedQuery, queryMethod.asCollectionQuery());
 
 		Converter<Object, Object> preparingConverter = OptionalUnwrappingConverter.INSTANCE;
 		if (returnedType.isProjecting()) {
@@ -127,9 +143,9 @@ abstract class AbstractNeo4jQuery extends Neo4jQuerySupport implements Repositor
 		}
 
 		if (queryMethod.isPageQuery()) {
-			rawResult = createPage(parameterAccessor, (List<?>) rawResult);
+			rawResult = createPage(resultProcessor, parameterAccessor, (List<?>) rawResult, preparedQuery);
 		} else if (queryMethod.isSliceQuery()) {
-			rawResult = createSlice(incrementLimit, parameterAccessor, (List<?>) rawResult);
+			rawResult = createSlice(resultProcessor, incrementLimit, parameterAccessor, (List<?>) rawResult, preparedQuery);
 		} else if (queryMethod.isScrollQuery()) {
 			rawResult = createWindow(resultProcessor, incrementLimit, parameterAccessor, (List<?>) rawResult, preparedQuery.getQueryFragmentsAndParameters());
 		} else if (geoNearQuery) {
@@ -139,10 +155,17 @@ abstract class AbstractNeo4jQuery extends Neo4jQuerySupport implements Repositor
 		return resultProcessor.processResult(rawResult, preparingConverter);
 	}
 
-	private Page<?> createPage(Neo4jParameterAccessor parameterAccessor, List<?> rawResult) {
+	private Page<?> createPage(ResultProcessor resultProcessor, Neo4jParameterAccessor parameterAccessor, List<?> rawResult,
+			PreparedQuery<?> preparedQuery) {
 
 		LongSupplier totalSupplier = () -> {
 
+			// Derived queries return the total alongside the records of the page if there have been any
+			Long totalCount = preparedQuery.getTotalCount();
+			if (totalCount != null) {
+				return totalCount;
+			}
+
 			Supplier<PreparedQuery<Long>> defaultCountQuery = () -> prepareQuery(Long.class,
 					Collections.emptySet(), parameterAccessor, Neo4jQueryType.COUNT, null, UnaryOperator.identity());
 			PreparedQuery<Long> countQuery = getCountQuery(parameterAccessor).orElseGet(defaultCountQuery);
@@ -154,18 +177,26 @@ abstract class AbstractNeo4jQuery extends Neo4jQuerySupport implements Repositor
 			return new GeoPage<>(newGeoResults(rawResult), parameterAccessor.getPageable(), totalSupplier.getAsLong());
 		}
 
-		return PageableExecutionUtils.getPage(rawResult, parameterAccessor.getPageable(), totalSupplier);
+		List<?> content = reverseIfNecessary(rawResult, preparedQuery);
+		Pageable pageable = withKeysOf(resultProcessor, parameterAccessor.getPageable(), content, preparedQuery);
+		return PageableExecutionUtils.getPage(content, pageable, totalSupplier);
 	}
 
-	private Slice<?> createSlice(boolean incrementLimit, Neo4jParameterAccessor parameterAccessor, List<?> rawResult) {
+	private Slice<?> createSlice(ResultProcessor resultProcessor, boolean incrementLimit,
+			Neo4jParameterAccessor parameterAccessor, List<?> rawResult, PreparedQuery<?> preparedQuery) {
 
 		Pageable pageable = parameterAccessor.getPageable();
 
 		if (incrementLimit) {
-			 return new SliceImpl<>(
-					rawResult.subList(0, Math.min(rawResult.size(), pageable.getPageSize())),
-					PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort()),
-					rawResult.size() > pageable.getPageSize()
+			List<?> content = reverseIfNecessary(rawResult.subList(0, Math.min(rawResult.size(), pageable.getPageSize())), preparedQuery);
+			// A slice retrieved by seeking backward always has a next slice, the one it has been seeked from
+			boolean hasNext = rawResult.size() > pageable.getPageSize() || isSeekingBackward(preparedQuery) && !content.isEmpty();
+			return new SliceImpl<>(
+					content,
+					pageable instanceof KeysetPageRequest
+							? withKeysOf(resultProcessor, pageable, content, preparedQuery)
+							: PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort()),
+					hasNext
 			);
 		} else {
 			PreparedQuery<Long> countQuery = getCountQuery(parameterAccessor)
@@ -180,6 +211,49 @@ abstract class AbstractNeo4jQuery extends Neo4jQuerySupport implements Repositor
 		}
 	}
 
+	private static boolean isSeekingBackward(PreparedQuery<?> preparedQuery) {
+		return preparedQuery.getQueryFragmentsAndParameters().getQueryFragments().isRequiresReverseSort();
+	}
+
+	private static List<?> reverseIfNecessary(List<?> content, PreparedQuery<?> preparedQuery) {
+
+		if (!isSeekingBackward(preparedQuery)) {
+			return content;
+		}
+		List<?> reversed = new ArrayList<>(content);
+		Collections.reverse(reversed);
+		return reversed;
+	}
+
+	/**
+	 * Adds the keys of the first and last element of the content to keyset based page requests, so that their
+	 * {@link KeysetPageRequest#next()} and {@link KeysetPageRequest#previous()} requests can seek.
+	 */
+	private Pageable withKeysOf(ResultProcessor resultProcessor, Pageable pageable, List<?> content, PreparedQuery<?> preparedQuery) {
+
+		if (!(pageable instanceof KeysetPageRequest keysetPageRequest) || content.isEmpty()) {
+			return pageable;
+		}
+
+		Neo4jPersistentEntity<?> entity = mappingContext.getPersistentEntity(resultProcessor.getReturnedType().getDomainType());
+		if (entity == null) {
+			return pageable;
+		}
+		Sort sort = preparedQuery.getQueryFragmentsAndParameters().getSort();
+		return keysetPageRequest.withKeys(
+				getKeys(entity, sort, content.get(0)),
+				getKeys(entity, sort, content.get(content.size() - 1)));
+	}
+
+	@Nullable
+	private static Map<String, Object> getKeys(Neo4jPersistentEntity<?> entity, Sort sort, Object element) {
+
+		Object instance = element instanceof EntityInstanceWithSource entityInstanceWithSource
+				? entityInstanceWithSource.getEntityInstance()
+				: element;
+		return entity.getType().isInstance(instance) ? CypherAdapterUtils.getKeys(entity, sort, instance) : null;
+	}
+
 	protected abstract <T extends Object> PreparedQuery<T> prepareQuery(Class<T> returnedType,
 			Collection<PropertyFilter.ProjectedPath> includedProperties, Neo4jParameterAccessor parameterAccessor,
 			@Nullable Neo4jQueryType queryType,
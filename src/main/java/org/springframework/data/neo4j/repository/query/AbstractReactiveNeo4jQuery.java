@@ -31,6 +31,7 @@ import org.springframework.data.neo4j.core.mapping.DtoInstantiatingConverter;
 import org.springframework.data.neo4j.core.mapping.EntityInstanceWithSource;
 import org.springframework.data.neo4j.core.mapping.Neo4jMappingContext;
 import org.springframework.data.neo4j.core.mapping.PropertyFilter;
+import org.springframework.data.neo4j.core.observation.ReactiveObservationSupport;
 import org.springframework.data.projection.ProjectionFactory;
 import org.springframework.data.repository.query.QueryMethod;
 import org.springframework.data.repository.query.RepositoryQuery;
@@ -41,6 +42,7 @@ import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 /**
  * Base class for {@link RepositoryQuery} implementations for Neo4j.
@@ -105,6 +107,9 @@ abstract class AbstractReactiveNeo4jQuery extends Neo4jQuerySupport implements R
 
 		Object rawResult = new Neo4jQueryExecution.ReactiveQueryExecution(neo4jOperations).execute(preparedQuery,
 				queryMethod.asCollectionQuery());
+		if (isObserved()) {
+			rawResult = rawResult instanceof Flux<?> flux ? observed(flux) : observed((Mono<?>) rawResult);
+		}
 
 		Converter<Object, Object> preparingConverter = OptionalUnwrappingConverter.INSTANCE;
 		if (returnedType.isProjecting()) {
@@ -123,6 +128,16 @@ abstract class AbstractReactiveNeo4jQuery extends Neo4jQuerySupport implements R
 		return resultProcessor.processResult(rawResult, preparingConverter);
 	}
 
+	private <T> Flux<T> observed(Flux<T> source) {
+		return ReactiveObservationSupport.observeFlux(this::createRepositoryMethodObservationContext,
+				this::createRepositoryMethodObservation, observationContext -> source);
+	}
+
+	private <T> Mono<T> observed(Mono<T> source) {
+		return ReactiveObservationSupport.observeMono(this::createRepositoryMethodObservationContext,
+				this::createRepositoryMethodObservation, observationContext -> source);
+	}
+
 	protected abstract <T extends Object> PreparedQuery<T> prepareQuery(Class<T> returnedType,
 				Collection<PropertyFilter.ProjectedPath> includedProperties, Neo4jParameterAccessor parameterAccessor,
 				@Nullable Neo4jQueryType queryType, @Nullable Supplier<BiFunction<TypeSystem, MapAccessor, ?>> mappingFunction,
@@ -117,6 +117,28 @@ public final class CypherAdapterUtils {
 
 	public static Condition combineKeysetIntoCondition(Neo4jPersistentEntity<?> entity, KeysetScrollPosition scrollPosition, Sort sort, Neo4jConversionService conversionService) {
 
+		return combineKeysetIntoCondition(entity, scrollPosition, sort, v -> conversionService.convert(v, Value.class), false);
+	}
+
+	/**
+	 * Creates the condition to seek to the page after or before the given position of a {@link KeysetPageRequest}.
+	 * Other than scrolling a window backward, seeking to the previous page excludes the element at the position. The
+	 * id is always compared ascending, as pages are always additionally sorted by an ascending id.
+	 *
+	 * @param entity         The entity being queried
+	 * @param position       The first or last element of the current page
+	 * @param sort           The sort, without the id that is always added for stability
+	 * @param toValue        Converts the keys into driver values
+	 * @return A condition
+	 * @since 7.4
+	 */
+	public static Condition combineKeysetIntoPageCondition(Neo4jPersistentEntity<?> entity, KeysetScrollPosition position, Sort sort, Function<Object, Value> toValue) {
+
+		return combineKeysetIntoCondition(entity, position, sort, toValue, true);
+	}
+
+	private static Condition combineKeysetIntoCondition(Neo4jPersistentEntity<?> entity, KeysetScrollPosition scrollPosition, Sort sort, Function<Object, Value> toValue, boolean strict) {
+
 		var incomingKeys = scrollPosition.getKeys();
 		var orderedKeys = new LinkedHashMap<String, Object>();
 
@@ -152,20 +174,24 @@ public final class CypherAdapterUtils {
 			if (v == null || (v instanceof Value value && value.isNull())) {
 				throw new IllegalStateException("Cannot resume from KeysetScrollPosition. Offending key: '%s' is 'null'".formatted(k));
 			}
-			var parameter = Cypher.anonParameter(conversionService.convert(v, Value.class));
+			var parameter = Cypher.anonParameter(toValue.apply(v));
 
 			Expression expression;
 
 			var scrollDirection = scrollPosition.getDirection();
 			if (Constants.NAME_OF_ADDITIONAL_SORT.equals(k)) {
 				expression = entity.getIdExpression();
-				var comparatorFunction = getComparatorFunction(scrollPosition.scrollsForward() ? Sort.Direction.ASC : Sort.Direction.DESC, scrollDirection);
+				var comparatorFunction = strict
+						? getStrictComparatorFunction(Sort.Direction.ASC, scrollDirection)
+						: getComparatorFunction(scrollPosition.scrollsForward() ? Sort.Direction.ASC : Sort.Direction.DESC, scrollDirection);
 				allEqualsWithArtificialSort = allEqualsWithArtificialSort.and(comparatorFunction.apply(expression, parameter));
 			} else {
 				var p = propertyAndDirection.get(k);
 				expression = p.property.isIdProperty() ? entity.getIdExpression() : root.property(k);
 
-				var comparatorFunction = getComparatorFunction(p.order.getDirection(), scrollDirection);
+				var comparatorFunction = strict
+						? getStrictComparatorFunction(p.order.getDirection(), scrollDirection)
+						: getComparatorFunction(p.order.getDirection(), scrollDirection);
 				resultingCondition = resultingCondition.or(nextEquals.and(comparatorFunction.apply(expression, parameter)));
 				nextEquals = expression.eq(parameter);
 				allEqualsWithArtificialSort = allEqualsWithArtificialSort.and(nextEquals);
@@ -174,6 +200,29 @@ public final class CypherAdapterUtils {
 		return resultingCondition.or(allEqualsWithArtificialSort);
 	}
 
+	/**
+	 * Extracts the keys needed to seek past the given instance, using the names expected by
+	 * {@link #combineKeysetIntoPageCondition(Neo4jPersistentEntity, KeysetScrollPosition, Sort, Function)}.
+	 *
+	 * @param entity   The entity being queried
+	 * @param sort     The sort, without the id that is always added for stability
+	 * @param instance An instance of the entity
+	 * @return The keys of the instance
+	 * @since 7.4
+	 */
+	public static Map<String, Object> getKeys(Neo4jPersistentEntity<?> entity, Sort sort, Object instance) {
+
+		var accessor = entity.getPropertyAccessor(instance);
+		var keys = new LinkedHashMap<String, Object>();
+		sort.forEach(o -> {
+			// Storing the graph property name here
+			var persistentProperty = entity.getRequiredPersistentProperty(o.getProperty());
+			keys.put(persistentProperty.getPropertyName(), accessor.getProperty(persistentProperty));
+		});
+		keys.put(Constants.NAME_OF_ADDITIONAL_SORT, accessor.getProperty(entity.getRequiredIdProperty()));
+		return keys;
+	}
+
 	private static BiFunction<Expression, Expression, Condition> getComparatorFunction(Sort.Direction sortDirection, KeysetScrollPosition.Direction scrollDirection) {
 		if (scrollDirection == Direction.BACKWARD) {
 			return sortDirection.isAscending() ? Expression::lte : Expression::gte;
@@ -181,6 +230,13 @@ public final class CypherAdapterUtils {
 		return sortDirection.isAscending() ? Expression::gt : Expression::lt;
 	}
 
+	private static BiFunction<Expression, Expression, Condition> getStrictComparatorFunction(Sort.Direction sortDirection, KeysetScrollPosition.Direction scrollDirection) {
+		if (scrollDirection == Direction.BACKWARD) {
+			return sortDirection.isAscending() ? Expression::lt : Expression::gt;
+		}
+		return sortDirection.isAscending() ? Expression::gt : Expression::lt;
+	}
+
 	/**
 	 * Converts a Spring Data sort to an equivalent list of {@link SortItem sort items}.
 	 *
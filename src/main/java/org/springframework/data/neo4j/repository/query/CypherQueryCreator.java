@@ -40,6 +40,7 @@ import org.neo4j.cypherdsl.core.PatternElement;
 import org.neo4j.cypherdsl.core.Property;
 import org.neo4j.cypherdsl.core.RelationshipPattern;
 import org.neo4j.cypherdsl.core.SortItem;
+import org.neo4j.driver.Value;
 import org.neo4j.driver.types.Point;
 import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.OffsetScrollPosition;
@@ -112,6 +113,11 @@ final class CypherQueryCreator extends AbstractQueryCreator<QueryFragmentsAndPar
 
 	private final boolean keysetRequiresSort;
 
+	/**
+	 * Pages are retrieved together with their total in one statement.
+	 */
+	private final boolean includeTotalCount;
+
 	private final List<Expression> distanceExpressions = new ArrayList<>();
 
 	/**
@@ -119,6 +125,12 @@ final class CypherQueryCreator extends AbstractQueryCreator<QueryFragmentsAndPar
 	 */
 	private final UnaryOperator<Integer> limitModifier;
 
+	/**
+	 * The number of rows per inner transaction if a delete query should delete in batches.
+	 */
+	@Nullable
+	private final Integer rowsPerTransaction;
+
 	CypherQueryCreator(Neo4jMappingContext mappingContext, QueryMethod queryMethod, Class<?> domainType, Neo4jQueryType queryType, PartTree tree,
 			Neo4jParameterAccessor actualParameters, Collection<PropertyFilter.ProjectedPath> includedProperties,
 			BiFunction<Object, Neo4jPersistentPropertyConverter<?>, Object> parameterConversion,
@@ -150,6 +162,8 @@ final class CypherQueryCreator extends AbstractQueryCreator<QueryFragmentsAndPar
 				.collect(Collectors.toList());
 
 		this.keysetRequiresSort = queryMethod.isScrollQuery() && actualParameters.getScrollPosition() instanceof KeysetScrollPosition;
+		this.includeTotalCount = queryMethod.isPageQuery() && this.pagingParameter.isPaged();
+		this.rowsPerTransaction = queryMethod instanceof Neo4jQueryMethod neo4jQueryMethod ? neo4jQueryMethod.getRowsPerTransaction() : null;
 	}
 
 	@Override
@@ -188,6 +202,13 @@ final class CypherQueryCreator extends AbstractQueryCreator<QueryFragmentsAndPar
 		return new QueryFragmentsAndParameters(nodeDescription, queryFragments, convertedParameters, theSort);
 	}
 
+	/**
+	 * {@return the parameters bound while creating the query, in the order of the actual parameters they have been bound to}
+	 */
+	List<Parameter> getBoundedParameters() {
+		return List.copyOf(this.boundedParameters);
+	}
+
 	@NonNull
 	private QueryFragments createQueryFragments(@Nullable Condition condition, Sort sort) {
 		QueryFragments queryFragments = new QueryFragments();
@@ -219,6 +240,7 @@ final class CypherQueryCreator extends AbstractQueryCreator<QueryFragmentsAndPar
 		} else if (queryType == Neo4jQueryType.DELETE) {
 			queryFragments.setDeleteExpression(Constants.NAME_OF_TYPED_ROOT_NODE.apply(nodeDescription));
 			queryFragments.setReturnExpression(Cypher.count(Constants.NAME_OF_TYPED_ROOT_NODE.apply(nodeDescription)), true);
+			queryFragments.setRowsPerTransaction(rowsPerTransaction);
 		} else {
 
 			var theSort = pagingParameter.getSort();
@@ -228,6 +250,22 @@ final class CypherQueryCreator extends AbstractQueryCreator<QueryFragmentsAndPar
 
 			if (pagingParameter.isUnpaged() && scrollPosition == null && maxResults != null) {
 				queryFragments.setLimit(limitModifier.apply(maxResults.intValue()));
+			} else if (pagingParameter instanceof KeysetPageRequest keysetPageRequest && this.sortItems.isEmpty()) {
+				// Queries sorted by distance (geo near) cannot seek and fall back to an offset below
+
+				Neo4jPersistentEntity<?> entity = (Neo4jPersistentEntity<?>) nodeDescription;
+				KeysetScrollPosition position = keysetPageRequest.getPosition();
+
+				queryFragments.setLimit(limitModifier.apply(keysetPageRequest.getPageSize()));
+				if (keysetPageRequest.isSeeking()) {
+					queryFragments.setTotalCountCondition(conditionFragment);
+					conditionFragment = conditionFragment.and(CypherAdapterUtils.combineKeysetIntoPageCondition(entity, position, theSort,
+							v -> mappingContext.getConversionService().convert(v, Value.class)));
+					queryFragments.setRequiresReverseSort(position.scrollsBackward());
+				} else if (keysetPageRequest.getOffset() > 0) {
+					queryFragments.setSkip(keysetPageRequest.getOffset());
+				}
+				theSort = theSort.and(Sort.by(entity.getRequiredIdProperty().getName()).ascending());
 			} else if (scrollPosition instanceof KeysetScrollPosition keysetScrollPosition) {
 
 				Neo4jPersistentEntity<?> entity = (Neo4jPersistentEntity<?>) nodeDescription;
@@ -240,11 +278,16 @@ final class CypherQueryCreator extends AbstractQueryCreator<QueryFragmentsAndPar
 				}
 
 				queryFragments.setRequiresReverseSort(keysetScrollPosition.scrollsBackward());
+			} else if (scrollPosition instanceof OffsetScrollPosition && pagingParameter.isPaged()) {
+				// Pages bind their offset and size, so that the same statement can be used for all of them
+				queryFragments.setSkip(pagingParameter.getOffset());
+				queryFragments.setLimit(limitModifier.apply(pagingParameter.getPageSize()));
+				queryFragments.setRenderSkipAndLimitAsParameters(true);
 			} else if (scrollPosition instanceof OffsetScrollPosition offsetScrollPosition) {
 				if (!offsetScrollPosition.isInitial()) {
 					queryFragments.setSkip(offsetScrollPosition.getOffset() + 1);
 				}
-				queryFragments.setLimit(limitModifier.apply(pagingParameter.isUnpaged() ? maxResults.intValue() : pagingParameter.getPageSize()));
+				queryFragments.setLimit(limitModifier.apply(maxResults.intValue()));
 			}
 
 			var finalSortItems = new ArrayList<>(this.sortItems);
@@ -252,6 +295,7 @@ final class CypherQueryCreator extends AbstractQueryCreator<QueryFragmentsAndPar
 
 			queryFragments.setReturnBasedOn(nodeDescription, includedProperties, isDistinct, this.distanceExpressions);
 			queryFragments.setOrderBy(finalSortItems);
+			queryFragments.setIncludeTotalCount(includeTotalCount);
 		}
 
 		// closing action: add the condition and path match
@@ -0,0 +1,262 @@
+/*
+ * Copyright 2011-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.repository.query;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.data.neo4j.repository.query.Neo4jSpelSupport.LiteralReplacement;
+import org.springframework.data.repository.query.Parameters;
+import org.springframework.data.repository.query.QueryMethodEvaluationContextProvider;
+import org.springframework.data.repository.query.SpelQueryContext.SpelExtractor;
+import org.springframework.data.spel.ExpressionDependencies;
+import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.Expression;
+import org.springframework.lang.Nullable;
+
+/**
+ * The Cypher template of a string based query, compiled once per query method. The SpEL expressions found in the
+ * template are parsed upfront, and the template is split into static text and slots for the parameters the SpEL
+ * expressions have been replaced with. Evaluating the expressions creates one evaluation context per invocation,
+ * replacing {@link LiteralReplacement literal replacements} is a single pass over the segments. Queries rendered with
+ * literals are cached, as most methods see only a handful of different sort orders or labels.
+ *
+ * @author agent
+ * @since 7.4
+ */
+final class CypherTemplate {
+
+	/**
+	 * Default number of rendered variants kept per template.
+	 */
+	static final int DEFAULT_MAXIMUM_SIZE = 32;
+
+	private final String queryString;
+
+	private final Map<String, Expression> expressions;
+
+	private final ExpressionDependencies dependencies;
+
+	/**
+	 * Static text and slots in alternating order, starting and ending with static text.
+	 */
+	private final List<String> segments;
+
+	private final int maximumSize;
+
+	private final Map<List<String>, String> renderedVariants = new ConcurrentHashMap<>();
+
+	/**
+	 * Compiles the template extracted by a {@link org.springframework.data.repository.query.SpelQueryContext}.
+	 *
+	 * @param spelExtractor The extractor containing the query string and the SpEL expressions
+	 * @return A compiled template
+	 */
+	static CypherTemplate compile(SpelExtractor spelExtractor) {
+
+		Map<String, Expression> expressions = new LinkedHashMap<>();
+		spelExtractor.getParameters().forEach(entry -> expressions.put(entry.getKey(),
+				Neo4jQuerySupport.SPEL_EXPRESSION_PARSER.parseExpression(entry.getValue())));
+		return new CypherTemplate(spelExtractor.getQueryString(), expressions, expressions.keySet(), DEFAULT_MAXIMUM_SIZE);
+	}
+
+	/**
+	 * Compiles a template without SpEL expressions in which the given parameter names are treated as slots.
+	 *
+	 * @param queryString    The query string
+	 * @param parameterNames Names of parameters that might be replaced with literals
+	 * @return A compiled template
+	 */
+	static CypherTemplate compile(String queryString, Collection<String> parameterNames) {
+		return new CypherTemplate(queryString, Map.of(), parameterNames, 0);
+	}
+
+	private CypherTemplate(String queryString, Map<String, Expression> expressions, Collection<String> slots,
+			int maximumSize) {
+
+		this.queryString = queryString;
+		this.expressions = expressions;
+		this.dependencies = expressions.values().stream().map(ExpressionDependencies::discover)
+				.reduce(ExpressionDependencies.none(), ExpressionDependencies::mergeWith);
+		this.segments = split(queryString, slots);
+		this.maximumSize = maximumSize;
+	}
+
+	/**
+	 * Splits the query at each occurrence of {@code $slot}. The longest slot wins, so that {@code $__SpEL__10} is not
+	 * taken for {@code $__SpEL__1}.
+	 */
+	private static List<String> split(String queryString, Collection<String> slots) {
+
+		if (slots.isEmpty()) {
+			return List.of(queryString);
+		}
+
+		List<String> slotsByLengthDescending = slots.stream()
+				.sorted(Comparator.comparing(String::length).reversed())
+				.toList();
+
+		List<String> segments = new ArrayList<>();
+		int start = 0;
+		int pos = queryString.indexOf('$');
+		while (pos >= 0) {
+			String slot = null;
+			for (String candidate : slotsByLengthDescending) {
+				if (queryString.startsWith(candidate, pos + 1)) {
+					slot = candidate;
+					break;
+				}
+			}
+			if (slot == null) {
+				pos = queryString.indexOf('$', pos + 1);
+				continue;
+			}
+			segments.add(queryString.substring(start, pos));
+			segments.add(slot);
+			start = pos + 1 + slot.length();
+			pos = queryString.indexOf('$', start);
+		}
+		segments.add(queryString.substring(start));
+		return Collections.unmodifiableList(segments);
+	}
+
+	/**
+	 * {@return the query string with SpEL expressions replaced by parameters}
+	 */
+	String getQueryString() {
+		return queryString;
+	}
+
+	/**
+	 * Evaluates all SpEL expressions of this template against one evaluation context.
+	 *
+	 * @param evaluationContextProvider The provider for the evaluation context
+	 * @param parameters                The formal parameters of the query method
+	 * @param values                    The actual parameters
+	 * @return The value of each expression by its parameter name, values can be {@literal null}
+	 */
+	Map<String, Object> evaluate(QueryMethodEvaluationContextProvider evaluationContextProvider,
+			Parameters<?, ?> parameters, Object[] values) {
+
+		if (expressions.isEmpty()) {
+			return new HashMap<>();
+		}
+
+		EvaluationContext evaluationContext = evaluationContextProvider.getEvaluationContext(parameters, values,
+				dependencies);
+		Map<String, Object> result = new HashMap<>(expressions.size());
+		expressions.forEach((name, expression) -> result.put(name, expression.getValue(evaluationContext)));
+		return result;
+	}
+
+	/**
+	 * Renders the query with the literal replacements contained in the bound parameters. Literal replacements are
+	 * removed from the bound parameters.
+	 *
+	 * @param boundParameters The bound parameters, will be modified
+	 * @return The rendered query and whether a literal replacement targets the sort order
+	 */
+	Rendered render(Map<String, Object> boundParameters) {
+
+		Map<String, LiteralReplacement> literals = null;
+		boolean hasLiteralReplacementForSort = false;
+		Iterator<Map.Entry<String, Object>> entries = boundParameters.entrySet().iterator();
+		while (entries.hasNext()) {
+			Map.Entry<String, Object> entry = entries.next();
+			if (!(entry.getValue() instanceof LiteralReplacement literalReplacement)) {
+				continue;
+			}
+			entries.remove();
+			if (literals == null) {
+				literals = new HashMap<>();
+			}
+			literals.put(entry.getKey(), literalReplacement);
+			hasLiteralReplacementForSort = hasLiteralReplacementForSort
+					|| literalReplacement.getTarget() == LiteralReplacement.Target.SORT;
+		}
+
+		if (literals == null || segments.size() == 1) {
+			return new Rendered(queryString, hasLiteralReplacementForSort);
+		}
+
+		String[] values = new String[segments.size() / 2];
+		for (int i = 1; i < segments.size(); i += 2) {
+			LiteralReplacement literalReplacement = literals.get(segments.get(i));
+			values[i / 2] = literalReplacement == null ? null : literalReplacement.getValue();
+		}
+
+		List<String> key = Arrays.asList(values);
+		String query = renderedVariants.get(key);
+		if (query == null) {
+			query = assemble(values);
+			if (maximumSize > 0) {
+				if (renderedVariants.size() >= maximumSize) {
+					evictOne();
+				}
+				renderedVariants.putIfAbsent(key, query);
+			}
+		}
+		return new Rendered(query, hasLiteralReplacementForSort);
+	}
+
+	private String assemble(String[] values) {
+
+		StringBuilder query = new StringBuilder(queryString.length());
+		for (int i = 0; i < segments.size(); ++i) {
+			String segment = segments.get(i);
+			if (i % 2 == 0) {
+				query.append(segment);
+			} else {
+				String value = values[i / 2];
+				query.append(value == null ? "$" + segment : value);
+			}
+		}
+		return query.toString();
+	}
+
+	private void evictOne() {
+		Iterator<List<String>> keys = renderedVariants.keySet().iterator();
+		if (keys.hasNext()) {
+			keys.next();
+			keys.remove();
+		}
+	}
+
+	/**
+	 * {@return the number of rendered variants currently cached}
+	 */
+	int size() {
+		return renderedVariants.size();
+	}
+
+	/**
+	 * A rendered query.
+	 *
+	 * @param query                        The final query
+	 * @param hasLiteralReplacementForSort Flag if any of the literal replacements targets the sort order
+	 */
+	record Rendered(String query, boolean hasLiteralReplacementForSort) {
+	}
+}
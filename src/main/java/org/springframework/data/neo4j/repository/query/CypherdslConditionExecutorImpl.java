@@ -116,11 +116,14 @@ public final class CypherdslConditionExecutorImpl<T> implements CypherdslConditi
 	public Page<T> findAll(Condition condition, Pageable pageable) {
 
 		Predicate<PropertyFilter.RelaxedPropertyPath> noFilter = PropertyFilter.NO_FILTER;
-		List<T> page = this.neo4jOperations.toExecutableQuery(
+		QueryFragmentsAndParameters queryFragmentsAndParameters = QueryFragmentsAndParameters.forConditionAndPageable(this.metaData, condition, pageable, noFilter);
+		queryFragmentsAndParameters.getQueryFragments().setIncludeTotalCount(pageable.isPaged());
+		Neo4jOperations.ExecutableQuery<T> executableQuery = this.neo4jOperations.toExecutableQuery(
 				this.metaData.getType(),
-				QueryFragmentsAndParameters.forConditionAndPageable(this.metaData, condition, pageable, noFilter)
-		).getResults();
-		LongSupplier totalCountSupplier = () -> this.count(condition);
+				queryFragmentsAndParameters
+		);
+		List<T> page = executableQuery.getResults();
+		LongSupplier totalCountSupplier = () -> executableQuery.getTotalCount().orElseGet(() -> this.count(condition));
 		return PageableExecutionUtils.getPage(page, pageable, totalCountSupplier);
 	}
 
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2011-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.repository.query;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.apiguardian.api.API;
+import org.springframework.data.neo4j.core.BulkDeleteOptions;
+
+/**
+ * Marks a derived delete query ({@code deleteBy...} or {@code removeBy...}) of an imperative repository to delete the
+ * matching nodes on the server in batches via {@code CALL { } IN TRANSACTIONS}, each batch being committed in a
+ * transaction of its own. Such statements are only allowed in implicit transactions: The query does not participate in
+ * an ongoing transaction, which is suspended instead, and nodes deleted by already committed batches stay deleted if a
+ * later batch fails.
+ *
+ * @author agent
+ * @since 7.4
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.METHOD, ElementType.ANNOTATION_TYPE })
+@Documented
+@API(status = API.Status.EXPERIMENTAL, since = "7.4")
+public @interface DeleteInTransactions {
+
+	/**
+	 * @return the number of nodes deleted per inner transaction
+	 */
+	int rowsPerTransaction() default BulkDeleteOptions.DEFAULT_ROWS_PER_TRANSACTION;
+}
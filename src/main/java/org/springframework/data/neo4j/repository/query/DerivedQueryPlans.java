@@ -0,0 +1,243 @@
+/*
+ * Copyright 2011-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.repository.query;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+import org.neo4j.cypherdsl.core.Statement;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Range;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.neo4j.core.convert.Neo4jPersistentPropertyConverter;
+import org.springframework.data.neo4j.core.mapping.Constants;
+import org.springframework.data.neo4j.core.mapping.Neo4jMappingContext;
+import org.springframework.data.neo4j.core.mapping.PropertyFilter;
+import org.springframework.data.repository.query.parser.PartTree;
+import org.springframework.lang.Nullable;
+
+/**
+ * Caches the plans of a derived finder method. The shape of the statement created for a {@link PartTree} only depends on
+ * the method itself, the type of the query, the returned type, sorting, limits, whether it is paged or not and the
+ * types of the actual parameters (ranges with different bounds, for example, produce different conditions). The values
+ * of the parameters are only needed for binding, and so are the offset and size of a page. Hence, the
+ * {@link CypherQueryCreator} needs to run only once per shape, all further executions reuse the rendered statement and
+ * only bind and convert the actual parameters.
+ * <p>
+ * Scrolling queries and pages requested with a {@link KeysetPageRequest} are not cached, as keyset and offset based
+ * positions are part of the statement.
+ *
+ * @author agent
+ * @since 7.4
+ */
+final class DerivedQueryPlans {
+
+	/**
+	 * Default number of plans kept per query method.
+	 */
+	static final int DEFAULT_MAXIMUM_SIZE = 64;
+
+	private final Neo4jMappingContext mappingContext;
+
+	private final Neo4jQueryMethod queryMethod;
+
+	private final Class<?> domainType;
+
+	private final PartTree tree;
+
+	private final Function<Statement, String> renderer;
+
+	private final BiFunction<Object, Neo4jPersistentPropertyConverter<?>, Object> parameterConversion;
+
+	private final int maximumSize;
+
+	private final Map<Shape, Plan> plans = new ConcurrentHashMap<>();
+
+	DerivedQueryPlans(Neo4jMappingContext mappingContext, Neo4jQueryMethod queryMethod, Class<?> domainType,
+			PartTree tree, Function<Statement, String> renderer,
+			BiFunction<Object, Neo4jPersistentPropertyConverter<?>, Object> parameterConversion) {
+		this(mappingContext, queryMethod, domainType, tree, renderer, parameterConversion, DEFAULT_MAXIMUM_SIZE);
+	}
+
+	DerivedQueryPlans(Neo4jMappingContext mappingContext, Neo4jQueryMethod queryMethod, Class<?> domainType,
+			PartTree tree, Function<Statement, String> renderer,
+			BiFunction<Object, Neo4jPersistentPropertyConverter<?>, Object> parameterConversion, int maximumSize) {
+
+		this.mappingContext = mappingContext;
+		this.queryMethod = queryMethod;
+		this.domainType = domainType;
+		this.tree = tree;
+		this.renderer = renderer;
+		this.parameterConversion = parameterConversion;
+		this.maximumSize = maximumSize;
+	}
+
+	/**
+	 * Creates the query for the given parameters, either from a cached plan or by running the {@link CypherQueryCreator}.
+	 *
+	 * @param returnedType       The type returned by the query
+	 * @param queryType          The type of the query
+	 * @param parameterAccessor  The actual parameters
+	 * @param includedProperties The properties to include, depending on the returned type
+	 * @param limitModifier      Modifies the limit of a limiting or paged query
+	 * @return The query fragments including the rendered Cypher and the bound parameters
+	 */
+	QueryFragmentsAndParameters createQuery(Class<?> returnedType, Neo4jQueryType queryType,
+			Neo4jParameterAccessor parameterAccessor, Collection<PropertyFilter.ProjectedPath> includedProperties,
+			UnaryOperator<Integer> limitModifier) {
+
+		if (queryMethod.isScrollQuery() || parameterAccessor.getPageable() instanceof KeysetPageRequest) {
+			return newQueryCreator(queryType, parameterAccessor, includedProperties, limitModifier).createQuery();
+		}
+
+		Shape shape = Shape.of(returnedType, queryType, tree, parameterAccessor, includedProperties, limitModifier);
+		Plan plan = plans.get(shape);
+		if (plan == null) {
+			CypherQueryCreator queryCreator = newQueryCreator(queryType, parameterAccessor, includedProperties, limitModifier);
+			QueryFragmentsAndParameters queryFragmentsAndParameters = queryCreator.createQuery();
+			plan = Plan.of(queryFragmentsAndParameters, queryCreator.getBoundedParameters(), renderer);
+			if (plans.size() >= maximumSize) {
+				evictOne();
+			}
+			plans.putIfAbsent(shape, plan);
+		}
+		return plan.bind(parameterAccessor, parameterConversion, limitModifier);
+	}
+
+	/**
+	 * {@return the number of plans currently cached}
+	 */
+	int size() {
+		return plans.size();
+	}
+
+	private CypherQueryCreator newQueryCreator(Neo4jQueryType queryType, Neo4jParameterAccessor parameterAccessor,
+			Collection<PropertyFilter.ProjectedPath> includedProperties, UnaryOperator<Integer> limitModifier) {
+
+		return new CypherQueryCreator(mappingContext, queryMethod, domainType, queryType, tree, parameterAccessor,
+				includedProperties, parameterConversion, limitModifier);
+	}
+
+	private void evictOne() {
+		Iterator<Shape> keys = plans.keySet().iterator();
+		if (keys.hasNext()) {
+			keys.next();
+			keys.remove();
+		}
+	}
+
+	/**
+	 * Everything that influences the statement created for a {@link PartTree}. The included properties are
+	 * derived from the returned type, only their number is used to distinguish the count queries of projections.
+	 *
+	 * @param returnedType               The type returned by the query
+	 * @param queryType                  The type of the query
+	 * @param numberOfIncludedProperties The number of included properties
+	 * @param sort                       The dynamic sort
+	 * @param pageableSort               The sort of the pageable
+	 * @param limit                      The modified limit of the tree, if any
+	 * @param paged                      Whether the query is paged, offset and size of the page are bound as parameters
+	 * @param parameterShapes            The shapes of the actual parameters
+	 */
+	record Shape(Class<?> returnedType, Neo4jQueryType queryType, int numberOfIncludedProperties, Sort sort,
+			Sort pageableSort, @Nullable Integer limit, boolean paged, List<Object> parameterShapes) {
+
+		static Shape of(Class<?> returnedType, Neo4jQueryType queryType, PartTree tree,
+				Neo4jParameterAccessor parameterAccessor, Collection<PropertyFilter.ProjectedPath> includedProperties,
+				UnaryOperator<Integer> limitModifier) {
+
+			Pageable pageable = parameterAccessor.getPageable();
+			Integer limit = tree.isLimiting() ? limitModifier.apply(tree.getMaxResults()) : null;
+
+			List<Object> parameterShapes = new ArrayList<>();
+			for (Object value : parameterAccessor) {
+				parameterShapes.add(shapeOf(value));
+			}
+
+			return new Shape(returnedType, queryType, includedProperties.size(), parameterAccessor.getSort(),
+					pageable.getSort(), limit, pageable.isPaged(), parameterShapes);
+		}
+
+		/**
+		 * The query creator branches on the type of values (points, distances, circles, boxes) and on the bounds of
+		 * ranges, all other values are only bound.
+		 */
+		private static Object shapeOf(@Nullable Object value) {
+
+			if (value == null) {
+				return Void.class;
+			} else if (value instanceof Range<?> range) {
+				return List.of(Range.class, range.getLowerBound().isBounded(), range.getLowerBound().isInclusive(),
+						range.getUpperBound().isBounded(), range.getUpperBound().isInclusive());
+			}
+			return value.getClass();
+		}
+	}
+
+	/**
+	 * A plan contains the query fragments, the rendered statement and the names and converters under which the actual
+	 * parameters are bound, in the order in which the query creator consumed them. Skip and limit of pages are bound
+	 * from the actual pageable.
+	 *
+	 * @param queryFragmentsAndParameters The query as created the first time
+	 * @param cypherQuery                 The rendered statement
+	 * @param statementParameters         Parameters with values that are part of the statement itself
+	 * @param bindings                    Binding of the actual parameters
+	 */
+	record Plan(QueryFragmentsAndParameters queryFragmentsAndParameters, String cypherQuery,
+			Map<String, Object> statementParameters, List<CypherQueryCreator.Parameter> bindings) {
+
+		static Plan of(QueryFragmentsAndParameters queryFragmentsAndParameters, List<CypherQueryCreator.Parameter> bindings,
+				Function<Statement, String> renderer) {
+
+			Statement statement = queryFragmentsAndParameters.getQueryFragments().toStatement();
+			return new Plan(queryFragmentsAndParameters, renderer.apply(statement),
+					Collections.unmodifiableMap(new HashMap<>(statement.getCatalog().getParameters())), List.copyOf(bindings));
+		}
+
+		QueryFragmentsAndParameters bind(Neo4jParameterAccessor parameterAccessor,
+				BiFunction<Object, Neo4jPersistentPropertyConverter<?>, Object> parameterConversion,
+				UnaryOperator<Integer> limitModifier) {
+
+			Map<String, Object> parameters = new HashMap<>(statementParameters);
+			Iterator<Object> values = parameterAccessor.iterator();
+			for (CypherQueryCreator.Parameter binding : bindings) {
+				Object value = values.next();
+				Neo4jQuerySupport.logParameterIfNull(binding.nameOrIndex, value);
+				parameters.put(binding.nameOrIndex, parameterConversion.apply(value, binding.conversionOverride));
+			}
+
+			Pageable pageable = parameterAccessor.getPageable();
+			if (queryFragmentsAndParameters.getQueryFragments().isRenderSkipAndLimitAsParameters() && pageable.isPaged()) {
+				parameters.put(Constants.NAME_OF_SKIP, pageable.getOffset());
+				parameters.put(Constants.NAME_OF_LIMIT, limitModifier.apply(pageable.getPageSize()));
+			}
+
+			return new QueryFragmentsAndParameters(queryFragmentsAndParameters.getNodeDescription(),
+					queryFragmentsAndParameters.getQueryFragments(), cypherQuery, parameters,
+					queryFragmentsAndParameters.getSort());
+		}
+	}
+}
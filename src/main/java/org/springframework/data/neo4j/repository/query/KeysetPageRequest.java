@@ -0,0 +1,194 @@
+/*
+ * Copyright 2011-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.repository.query;
+
+import java.io.Serial;
+import java.util.Map;
+import java.util.Objects;
+
+import org.apiguardian.api.API;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * A {@link PageRequest} that seeks to its page by the values of the sort properties and the id of the last element of
+ * the previous page instead of skipping all elements in front of it, so that retrieving a page deep into a result costs
+ * the same as retrieving the first one. The sort is always completed by the id of the entity to make it stable.
+ * <p>
+ * Only the requests of pages returned by a repository know the keys of the first and last element of their content,
+ * their {@link #next()} and {@link #previous()} requests seek to the adjacent pages. Requests for arbitrary pages, for
+ * example created via {@link #withPage(int)} or with a different sort, fall back to skipping elements, as do requests
+ * following pages that could not be mapped to the domain type.
+ * <p>
+ * Keyset pagination is supported by {@link org.springframework.data.neo4j.repository.support.SimpleNeo4jRepository#findAll(Pageable)}
+ * and derived finder methods returning a {@link org.springframework.data.domain.Page} or a
+ * {@link org.springframework.data.domain.Slice}. All other queries treat it as a regular page request.
+ *
+ * @author agent
+ * @since 7.4
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "7.4")
+public final class KeysetPageRequest extends PageRequest {
+
+	@Serial
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * Creates a request for the first page.
+	 *
+	 * @param pageSize The size of the page, must be greater than 0
+	 * @param sort     The sort of the result, the id of the entity will always be added
+	 * @return A new request
+	 */
+	public static KeysetPageRequest ofSize(int pageSize, Sort sort) {
+		return new KeysetPageRequest(0, pageSize, sort, ScrollPosition.keyset(), null, null);
+	}
+
+	/**
+	 * Creates a request for a page that starts at a given position, for example one that has been previously retrieved
+	 * via {@link #getNextPosition()} and handed to a client.
+	 *
+	 * @param pageNumber The number of the page, used to compute its offset and the total number of pages
+	 * @param pageSize   The size of the page, must be greater than 0
+	 * @param sort       The sort of the result, must be the same as the one used to retrieve the position
+	 * @param position   The position from which to seek
+	 * @return A new request
+	 */
+	public static KeysetPageRequest of(int pageNumber, int pageSize, Sort sort, KeysetScrollPosition position) {
+
+		Assert.notNull(position, "The position must not be null");
+		return new KeysetPageRequest(pageNumber, pageSize, sort, position, null, null);
+	}
+
+	private final KeysetScrollPosition position;
+
+	@Nullable
+	private final Map<String, ?> firstKeys;
+
+	@Nullable
+	private final Map<String, ?> lastKeys;
+
+	private KeysetPageRequest(int pageNumber, int pageSize, Sort sort, KeysetScrollPosition position,
+			@Nullable Map<String, ?> firstKeys, @Nullable Map<String, ?> lastKeys) {
+
+		super(pageNumber, pageSize, sort);
+		this.position = position;
+		this.firstKeys = firstKeys;
+		this.lastKeys = lastKeys;
+	}
+
+	/**
+	 * {@return the position from which this page seeks, an initial position means skipping to the offset of the page}
+	 */
+	public KeysetScrollPosition getPosition() {
+		return position;
+	}
+
+	/**
+	 * {@return true if this page can be retrieved by seeking instead of skipping}
+	 */
+	public boolean isSeeking() {
+		return !position.isInitial();
+	}
+
+	/**
+	 * {@return the position from which the next page seeks, if the keys of the last element of this page are known}
+	 */
+	@Nullable
+	public KeysetScrollPosition getNextPosition() {
+		return lastKeys == null ? null : ScrollPosition.forward(lastKeys);
+	}
+
+	/**
+	 * Creates a request for this page that knows the keys of the first and the last element of its content.
+	 *
+	 * @param newFirstKeys The keys of the first element, {@literal null} if not known
+	 * @param newLastKeys  The keys of the last element, {@literal null} if not known
+	 * @return A new request
+	 */
+	public KeysetPageRequest withKeys(@Nullable Map<String, ?> newFirstKeys, @Nullable Map<String, ?> newLastKeys) {
+		return new KeysetPageRequest(getPageNumber(), getPageSize(), getSort(), position, newFirstKeys, newLastKeys);
+	}
+
+	@Override
+	public KeysetPageRequest next() {
+
+		KeysetScrollPosition nextPosition = getNextPosition();
+		return new KeysetPageRequest(getPageNumber() + 1, getPageSize(), getSort(),
+				nextPosition == null ? ScrollPosition.keyset() : nextPosition, null, null);
+	}
+
+	@Override
+	public KeysetPageRequest previous() {
+
+		if (getPageNumber() == 0) {
+			return this;
+		}
+		return new KeysetPageRequest(getPageNumber() - 1, getPageSize(), getSort(),
+				firstKeys == null ? ScrollPosition.keyset() : ScrollPosition.backward(firstKeys), null, null);
+	}
+
+	@Override
+	public KeysetPageRequest first() {
+		return ofSize(getPageSize(), getSort());
+	}
+
+	@Override
+	public KeysetPageRequest withPage(int pageNumber) {
+		return new KeysetPageRequest(pageNumber, getPageSize(), getSort(), ScrollPosition.keyset(), null, null);
+	}
+
+	@Override
+	public KeysetPageRequest withSort(Sort.Direction direction, String... properties) {
+		return withSort(Sort.by(direction, properties));
+	}
+
+	@Override
+	public KeysetPageRequest withSort(Sort sort) {
+		return new KeysetPageRequest(getPageNumber(), getPageSize(), sort, ScrollPosition.keyset(), null, null);
+	}
+
+	@Override
+	public boolean equals(@Nullable Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (!(o instanceof KeysetPageRequest that)) {
+			return false;
+		}
+		return super.equals(that) && position.equals(that.position);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(super.hashCode(), position);
+	}
+
+	@Override
+	public String toString() {
+		return "KeysetPageRequest{" +
+				"page=" + getPageNumber() +
+				", size=" + getPageSize() +
+				", sort=" + getSort() +
+				", position=" + position +
+				'}';
+	}
+}
@@ -55,6 +55,21 @@ interface Neo4jQueryExecution {
 		}
 	}
 
+	class StreamQueryExecution implements Neo4jQueryExecution {
+
+		private final Neo4jOperations neo4jOperations;
+
+		StreamQueryExecution(Neo4jOperations neo4jOperations) {
+			this.neo4jOperations = neo4jOperations;
+		}
+
+		@Override
+		public Object execute(PreparedQuery<?> preparedQuery, boolean asCollectionQuery) {
+
+			return neo4jOperations.toExecutableQuery(preparedQuery).stream();
+		}
+	}
+
 	class ReactiveQueryExecution implements Neo4jQueryExecution {
 
 		private final ReactiveNeo4jOperations neo4jOperations;
@@ -17,11 +17,14 @@ package org.springframework.data.neo4j.repository.query;
 
 import java.lang.reflect.Method;
 
+import io.micrometer.observation.ObservationRegistry;
+
 import org.apiguardian.api.API;
 import org.neo4j.cypherdsl.core.renderer.Configuration;
 import org.neo4j.cypherdsl.core.renderer.Renderer;
 import org.springframework.data.neo4j.core.Neo4jOperations;
 import org.springframework.data.neo4j.core.mapping.Neo4jMappingContext;
+import org.springframework.data.neo4j.core.observation.RepositoryMethodObservationContext;
 import org.springframework.data.projection.ProjectionFactory;
 import org.springframework.data.repository.core.NamedQueries;
 import org.springframework.data.repository.core.RepositoryMetadata;
@@ -43,13 +46,31 @@ public final class Neo4jQueryLookupStrategy implements QueryLookupStrategy {
 	private final Neo4jOperations neo4jOperations;
 	private final QueryMethodEvaluationContextProvider evaluationContextProvider;
 	private final Configuration configuration;
+	private final ObservationRegistry observationRegistry;
 
 	public Neo4jQueryLookupStrategy(Neo4jOperations neo4jOperations, Neo4jMappingContext mappingContext,
 			QueryMethodEvaluationContextProvider evaluationContextProvider, Configuration configuration) {
+		this(neo4jOperations, mappingContext, evaluationContextProvider, configuration, ObservationRegistry.NOOP);
+	}
+
+	/**
+	 * Creates a new lookup strategy, observing all resolved queries with the given registry.
+	 *
+	 * @param neo4jOperations           The operations to execute the queries with
+	 * @param mappingContext            The mapping context to use
+	 * @param evaluationContextProvider The provider for SpEL evaluation contexts
+	 * @param configuration             The Cypher-DSL configuration for rendering Cypher-DSL based queries
+	 * @param observationRegistry       The registry used for observing repository methods
+	 * @since 7.4
+	 */
+	public Neo4jQueryLookupStrategy(Neo4jOperations neo4jOperations, Neo4jMappingContext mappingContext,
+			QueryMethodEvaluationContextProvider evaluationContextProvider, Configuration configuration,
+			ObservationRegistry observationRegistry) {
 		this.neo4jOperations = neo4jOperations;
 		this.mappingContext = mappingContext;
 		this.evaluationContextProvider = evaluationContextProvider;
 		this.configuration = configuration;
+		this.observationRegistry = observationRegistry;
 	}
 
 	/* (non-Javadoc)
@@ -63,15 +84,25 @@ public final class Neo4jQueryLookupStrategy implements QueryLookupStrategy {
 		String namedQueryName = queryMethod.getNamedQueryName();
 
 		if (namedQueries.hasQuery(namedQueryName)) {
-			return StringBasedNeo4jQuery.create(neo4jOperations, mappingContext, evaluationContextProvider, queryMethod,
-					namedQueries.getQuery(namedQueryName), factory);
+			return observed(StringBasedNeo4jQuery.create(neo4jOperations, mappingContext, evaluationContextProvider, queryMethod,
+					namedQueries.getQuery(namedQueryName), factory), metadata,
+					RepositoryMethodObservationContext.QUERY_TYPE_STRING);
 		} else if (queryMethod.hasQueryAnnotation()) {
-			return StringBasedNeo4jQuery.create(neo4jOperations, mappingContext, evaluationContextProvider, queryMethod,
-					factory);
+			return observed(StringBasedNeo4jQuery.create(neo4jOperations, mappingContext, evaluationContextProvider, queryMethod,
+					factory), metadata,
+					RepositoryMethodObservationContext.QUERY_TYPE_STRING);
 		} else if (queryMethod.isCypherBasedProjection()) {
-			return CypherdslBasedQuery.create(neo4jOperations, mappingContext, queryMethod, factory, Renderer.getRenderer(configuration)::render);
+			return observed(CypherdslBasedQuery.create(neo4jOperations, mappingContext, queryMethod, factory, Renderer.getRenderer(configuration)::render), metadata,
+					RepositoryMethodObservationContext.QUERY_TYPE_CYPHER_DSL);
 		} else {
-			return PartTreeNeo4jQuery.create(neo4jOperations, mappingContext, queryMethod, factory);
+			return observed(PartTreeNeo4jQuery.create(neo4jOperations, mappingContext, queryMethod, factory, Renderer.getRenderer(configuration)::render), metadata,
+					RepositoryMethodObservationContext.QUERY_TYPE_DERIVED);
 		}
 	}
+
+	private <Q extends Neo4jQuerySupport & RepositoryQuery> Q observed(Q query, RepositoryMetadata metadata, String queryType) {
+
+		query.observeWith(observationRegistry, metadata.getRepositoryInterface(), queryType);
+		return query;
+	}
 }
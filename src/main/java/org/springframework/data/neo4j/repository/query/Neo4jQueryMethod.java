@@ -119,6 +119,24 @@ class Neo4jQueryMethod extends QueryMethod {
 		return Optional.ofNullable(this.queryAnnotation);
 	}
 
+	/**
+	 * @return the fetch size configured via {@link Query#fetchSize()} or {@literal null} if none is configured
+	 */
+	@Nullable
+	Long getFetchSize() {
+		return getQueryAnnotation().map(Query::fetchSize).filter(fetchSize -> fetchSize != 0).orElse(null);
+	}
+
+	/**
+	 * @return the number of rows per inner transaction configured via {@link DeleteInTransactions} or {@literal null} if
+	 * the method is not annotated
+	 */
+	@Nullable
+	Integer getRowsPerTransaction() {
+		DeleteInTransactions deleteInTransactions = AnnotatedElementUtils.findMergedAnnotation(this.method, DeleteInTransactions.class);
+		return deleteInTransactions == null ? null : deleteInTransactions.rowsPerTransaction();
+	}
+
 	@Override
 	protected Parameters<Neo4jParameters, Neo4jParameter> createParameters(ParametersSource parametersSource) {
 		return new Neo4jParameters(parametersSource);
@@ -20,10 +20,8 @@ import java.time.ZoneOffset;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -32,6 +30,8 @@ import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import org.apache.commons.logging.LogFactory;
 import org.neo4j.driver.Values;
 import org.neo4j.driver.types.MapAccessor;
@@ -52,10 +52,12 @@ import org.springframework.data.geo.GeoResults;
 import org.springframework.data.geo.Metrics;
 import org.springframework.data.neo4j.core.TemplateSupport;
 import org.springframework.data.neo4j.core.convert.Neo4jPersistentPropertyConverter;
-import org.springframework.data.neo4j.core.mapping.Constants;
 import org.springframework.data.neo4j.core.mapping.CypherGenerator;
 import org.springframework.data.neo4j.core.mapping.EntityInstanceWithSource;
 import org.springframework.data.neo4j.core.mapping.Neo4jMappingContext;
+import org.springframework.data.neo4j.core.observation.DefaultRepositoryMethodObservationConvention;
+import org.springframework.data.neo4j.core.observation.Neo4jObservation;
+import org.springframework.data.neo4j.core.observation.RepositoryMethodObservationContext;
 import org.springframework.data.repository.query.QueryMethod;
 import org.springframework.data.repository.query.ResultProcessor;
 import org.springframework.data.repository.query.ReturnedType;
@@ -87,6 +89,11 @@ abstract class Neo4jQuerySupport {
 
 	static final LogAccessor REPOSITORY_QUERY_LOG = new LogAccessor(LogFactory.getLog(Neo4jQuerySupport.class));
 
+	private ObservationRegistry observationRegistry = ObservationRegistry.NOOP;
+	@Nullable
+	private Class<?> repositoryInterface;
+	private String observedQueryType = "none";
+
 	/**
 	 * Centralizes inquiry of the domain type to use the result processor of the query method as the point of truth.
 	 * While this could be exposed on the query method itself, we would risk working with another type if at some point
@@ -113,6 +120,39 @@ abstract class Neo4jQuerySupport {
 		this.queryType = queryType;
 	}
 
+	/**
+	 * Configures the observation of the executions of this query. Must be called right after creation, before the
+	 * query is executed the first time.
+	 *
+	 * @param newObservationRegistry The registry to use
+	 * @param newRepositoryInterface The repository interface on which the query method is invoked
+	 * @param newObservedQueryType   One of the query types defined in {@link RepositoryMethodObservationContext}
+	 */
+	final void observeWith(ObservationRegistry newObservationRegistry, Class<?> newRepositoryInterface, String newObservedQueryType) {
+
+		this.observationRegistry = newObservationRegistry;
+		this.repositoryInterface = newRepositoryInterface;
+		this.observedQueryType = newObservedQueryType;
+	}
+
+	/**
+	 * {@return true if executions of this query are observed}
+	 */
+	final boolean isObserved() {
+		return !this.observationRegistry.isNoop();
+	}
+
+	final RepositoryMethodObservationContext createRepositoryMethodObservationContext() {
+
+		Class<?> observedInterface = this.repositoryInterface == null ? queryMethod.getMethod().getDeclaringClass() : this.repositoryInterface;
+		return new RepositoryMethodObservationContext(observedInterface, queryMethod.getMethod(), observedQueryType);
+	}
+
+	final Observation createRepositoryMethodObservation(RepositoryMethodObservationContext observationContext) {
+		return Neo4jObservation.REPOSITORY_METHOD.observation(null, DefaultRepositoryMethodObservationConvention.INSTANCE,
+				() -> observationContext, observationRegistry);
+	}
+
 	protected final Supplier<BiFunction<TypeSystem, MapAccessor, ?>> getMappingFunction(final ResultProcessor resultProcessor, boolean isGeoNearQuery) {
 
 		return () -> {
@@ -126,6 +166,10 @@ abstract class Neo4jQuerySupport {
 				// Clients automatically selects a single value mapping function.
 				// It will throw an error if the query contains more than one column.
 				mappingFunction = null;
+			} else if (returnedTypeMetadata.isProjecting() && !returnedType.isInterface()) {
+				mappingFunction = EntityInstanceWithSource.decorateMappingFunction(
+					this.mappingContext.getRequiredMappingFunctionFor(domainType),
+					this.mappingContext.getDtoMappingPlan(domainType, returnedType));
 			} else if (returnedTypeMetadata.isProjecting()) {
 				mappingFunction = EntityInstanceWithSource.decorateMappingFunction(
 					this.mappingContext.getRequiredMappingFunctionFor(domainType));
@@ -247,33 +291,20 @@ abstract class Neo4jQuerySupport {
 
 		final String query;
 
-		private boolean hasLiteralReplacementForSort = false;
+		private final boolean hasLiteralReplacementForSort;
 
 		QueryContext(String repositoryMethodName, String template, Map<String, Object> boundParameters) {
+			this(repositoryMethodName, CypherTemplate.compile(template, boundParameters.keySet()), boundParameters);
+		}
+
+		QueryContext(String repositoryMethodName, CypherTemplate template, Map<String, Object> boundParameters) {
 			this.repositoryMethodName = repositoryMethodName;
-			this.template = template;
+			this.template = template.getQueryString();
 			this.boundParameters = boundParameters;
 
-			String cypherQuery = this.template;
-			Comparator<Map.Entry<String, Object>> byLengthDescending = Comparator.comparing(e -> e.getKey().length());
-			byLengthDescending = byLengthDescending.reversed();
-			List<Map.Entry<String, Object>> entries = this.boundParameters.entrySet()
-					.stream().sorted(byLengthDescending)
-					.toList();
-			for (var entry : entries) {
-				Object value = entry.getValue();
-				if (!(value instanceof Neo4jSpelSupport.LiteralReplacement)) {
-					continue;
-				}
-				this.boundParameters.remove(entry.getKey());
-
-				String key = entry.getKey();
-				cypherQuery = cypherQuery.replace("$" + key, ((Neo4jSpelSupport.LiteralReplacement) value).getValue());
-				this.hasLiteralReplacementForSort =
-						this.hasLiteralReplacementForSort ||
-								((Neo4jSpelSupport.LiteralReplacement) value).getTarget() == Neo4jSpelSupport.LiteralReplacement.Target.SORT;
-			}
-			this.query = cypherQuery;
+			CypherTemplate.Rendered rendered = template.render(this.boundParameters);
+			this.query = rendered.query();
+			this.hasLiteralReplacementForSort = rendered.hasLiteralReplacementForSort();
 		}
 	}
 
@@ -314,17 +345,7 @@ abstract class Neo4jQuerySupport {
 			if (scrollPosition instanceof OffsetScrollPosition offsetScrollPosition) {
 				return offsetScrollPosition.advanceBy(v);
 			} else {
-				var accessor = neo4jPersistentEntity.getPropertyAccessor(rawResult.get(v));
-				var keys = new LinkedHashMap<String, Object>();
-				orderBy.getSort().forEach(o -> {
-					// Storing the graph property name here
-					var persistentProperty = neo4jPersistentEntity.getRequiredPersistentProperty(o.getProperty());
-					keys.put(persistentProperty.getPropertyName(), accessor.getProperty(persistentProperty));
-					// keys.put(persistentProperty.getPropertyName(), conversionService.convert(accessor.getProperty(persistentProperty), Value.class));
-				});
-				keys.put(Constants.NAME_OF_ADDITIONAL_SORT, accessor.getProperty(neo4jPersistentEntity.getRequiredIdProperty()));
-				// keys.put(Constants.NAME_OF_ADDITIONAL_SORT, conversionService.convert(accessor.getProperty(neo4jPersistentEntity.getRequiredIdProperty()), Value.class));
-				return ScrollPosition.forward(keys);
+				return ScrollPosition.forward(CypherAdapterUtils.getKeys(neo4jPersistentEntity, orderBy.getSort(), rawResult.get(v)));
 			}
 		}, hasMoreElements(rawResult, limit));
 	}
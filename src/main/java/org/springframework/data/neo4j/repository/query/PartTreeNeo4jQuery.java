@@ -18,9 +18,11 @@ package org.springframework.data.neo4j.repository.query;
 import java.util.Collection;
 import java.util.Optional;
 import java.util.function.BiFunction;
+import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
 
+import org.neo4j.cypherdsl.core.Statement;
 import org.neo4j.driver.types.MapAccessor;
 import org.neo4j.driver.types.TypeSystem;
 import org.springframework.data.neo4j.core.Neo4jOperations;
@@ -32,6 +34,7 @@ import org.springframework.data.repository.query.RepositoryQuery;
 import org.springframework.data.repository.query.parser.PartTree;
 import org.springframework.data.repository.query.parser.PartTree.OrPart;
 import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
 
 /**
  * Implementation of {@link RepositoryQuery} for derived finder methods.
@@ -44,20 +47,29 @@ final class PartTreeNeo4jQuery extends AbstractNeo4jQuery {
 
 	private final PartTree tree;
 
-	public static RepositoryQuery create(Neo4jOperations neo4jOperations, Neo4jMappingContext mappingContext,
-										 Neo4jQueryMethod queryMethod, ProjectionFactory factory) {
+	private final DerivedQueryPlans plans;
+
+	public static PartTreeNeo4jQuery create(Neo4jOperations neo4jOperations, Neo4jMappingContext mappingContext,
+										 Neo4jQueryMethod queryMethod, ProjectionFactory factory, Function<Statement, String> renderer) {
 		return new PartTreeNeo4jQuery(neo4jOperations, mappingContext, queryMethod,
-				new PartTree(queryMethod.getName(), getDomainType(queryMethod)), factory);
+				new PartTree(queryMethod.getName(), getDomainType(queryMethod)), factory, renderer);
 	}
 
 	private PartTreeNeo4jQuery(Neo4jOperations neo4jOperations, Neo4jMappingContext mappingContext,
-			Neo4jQueryMethod queryMethod, PartTree tree, ProjectionFactory factory) {
+			Neo4jQueryMethod queryMethod, PartTree tree, ProjectionFactory factory, Function<Statement, String> renderer) {
 		super(neo4jOperations, mappingContext, queryMethod, Neo4jQueryType.fromPartTree(tree), factory);
 
 		this.tree = tree;
 		// Validate parts. Sort properties will be validated by Spring Data already.
 		PartValidator validator = new PartValidator(mappingContext, queryMethod);
 		this.tree.flatMap(OrPart::stream).forEach(validator::validatePart);
+		Assert.isTrue(queryMethod.getRowsPerTransaction() == null || tree.isDelete(),
+				() -> String.format("Can not derive query for '%s': Only delete queries can delete in transactions", queryMethod));
+		Assert.isTrue(queryMethod.getRowsPerTransaction() == null || queryMethod.getRowsPerTransaction() > 0,
+				() -> String.format("Can not derive query for '%s': The number of rows per transaction must be greater than 0", queryMethod));
+
+		this.plans = new DerivedQueryPlans(mappingContext, queryMethod, getDomainType(queryMethod), tree, renderer,
+				this::convertParameter);
 	}
 
 	@Override
@@ -65,11 +77,9 @@ final class PartTreeNeo4jQuery extends AbstractNeo4jQuery {
 			Neo4jParameterAccessor parameterAccessor, @Nullable Neo4jQueryType queryType,
 			@Nullable Supplier<BiFunction<TypeSystem, MapAccessor, ?>> mappingFunction, UnaryOperator<Integer> limitModifier) {
 
-		CypherQueryCreator queryCreator = new CypherQueryCreator(mappingContext, queryMethod, getDomainType(queryMethod),
-				Optional.ofNullable(queryType).orElseGet(() -> Neo4jQueryType.fromPartTree(tree)), tree, parameterAccessor,
-				includedProperties, this::convertParameter, limitModifier);
-
-		QueryFragmentsAndParameters queryAndParameters = queryCreator.createQuery();
+		QueryFragmentsAndParameters queryAndParameters = plans.createQuery(returnedType,
+				Optional.ofNullable(queryType).orElseGet(() -> Neo4jQueryType.fromPartTree(tree)), parameterAccessor,
+				includedProperties, limitModifier == null ? UnaryOperator.identity() : limitModifier);
 		return PreparedQuery.queryFor(returnedType).withQueryFragmentsAndParameters(queryAndParameters)
 				.usingMappingFunction(mappingFunction).build();
 	}
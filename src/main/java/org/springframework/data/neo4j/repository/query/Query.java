@@ -64,4 +64,12 @@ public @interface Query {
 	 * @return whether the query defined should be used to delete nodes or relationships.
 	 */
 	boolean delete() default false;
+
+	/**
+	 * @return the number of records fetched from the server per batch when executing the query, {@literal -1} to fetch
+	 * all records at once and {@literal 0} (the default) to use the fetch size configured with the template, the
+	 * transaction manager or the driver
+	 * @since 7.4
+	 */
+	long fetchSize() default 0;
 }
@@ -31,6 +31,8 @@ import org.neo4j.cypherdsl.core.PatternElement;
 import org.neo4j.cypherdsl.core.SortItem;
 import org.neo4j.cypherdsl.core.Statement;
 import org.neo4j.cypherdsl.core.StatementBuilder;
+import org.neo4j.cypherdsl.core.SymbolicName;
+import org.springframework.data.neo4j.core.mapping.Constants;
 import org.springframework.data.neo4j.core.mapping.CypherGenerator;
 import org.springframework.data.neo4j.core.mapping.Neo4jPersistentProperty;
 import org.springframework.data.neo4j.core.mapping.PropertyFilter;
@@ -60,6 +62,22 @@ public final class QueryFragments {
 	 * This flag becomes {@literal true} for backward scrolling keyset pagination. Any {@code AbstractNeo4jQuery} will in turn reverse the result list.
 	 */
 	private boolean requiresReverseSort = false;
+	/**
+	 * If {@literal true}, the statement counts all matching nodes in a subquery and returns the total alongside each record.
+	 */
+	private boolean includeTotalCount = false;
+	/**
+	 * The condition for the total count if it differs from the condition of the page, for example when seeking to a keyset.
+	 */
+	private Condition totalCountCondition;
+	/**
+	 * If set, the nodes matched by a delete query are deleted in inner transactions of this number of rows each.
+	 */
+	private Integer rowsPerTransaction;
+	/**
+	 * If {@literal true}, skip and limit are rendered as parameters, so that the statement can be reused for other pages.
+	 */
+	private boolean renderSkipAndLimitAsParameters = false;
 	private Predicate<PropertyFilter.RelaxedPropertyPath> projectingPropertyFilter;
 
 	public void addMatchOn(PatternElement match) {
@@ -104,6 +122,15 @@ public final class QueryFragments {
 				&& (this.returnTuple == null || this.returnTuple.include(fieldName));
 	}
 
+	/**
+	 * @return {@literal true} if only some properties or relationships of the root entity are returned
+	 * @since 7.4
+	 */
+	public boolean isProjecting() {
+		return this.projectingPropertyFilter != null
+				|| (this.returnTuple != null && !this.returnTuple.filteredProperties.isNotFiltering());
+	}
+
 	public void setOrderBy(Collection<SortItem> orderBy) {
 		this.orderBy = orderBy;
 	}
@@ -116,6 +143,14 @@ public final class QueryFragments {
 		this.skip = skip;
 	}
 
+	public void setRenderSkipAndLimitAsParameters(boolean renderSkipAndLimitAsParameters) {
+		this.renderSkipAndLimitAsParameters = renderSkipAndLimitAsParameters;
+	}
+
+	public boolean isRenderSkipAndLimitAsParameters() {
+		return renderSkipAndLimitAsParameters;
+	}
+
 	public void setReturnBasedOn(NodeDescription<?> nodeDescription, Collection<PropertyFilter.ProjectedPath> includedProperties,
 			boolean isDistinct, List<Expression> additionalExpressions) {
 		this.returnTuple = new ReturnTuple(nodeDescription, includedProperties, isDistinct, additionalExpressions);
@@ -129,9 +164,56 @@ public final class QueryFragments {
 		this.requiresReverseSort = requiresReverseSort;
 	}
 
+	public boolean isRequiresReverseSort() {
+		return requiresReverseSort;
+	}
+
+	/**
+	 * Configures the statement to return the total number of matching results as {@link Constants#NAME_OF_TOTAL_COUNT}
+	 * in each record, so that a page and its total can be retrieved in one round trip.
+	 *
+	 * @param includeTotalCount {@literal true} to include the total count
+	 * @since 7.4
+	 */
+	public void setIncludeTotalCount(boolean includeTotalCount) {
+		this.includeTotalCount = includeTotalCount;
+	}
+
+	public boolean isIncludeTotalCount() {
+		return includeTotalCount;
+	}
+
+	/**
+	 * Configures the condition used to count the total number of results, defaults to the condition of the query.
+	 *
+	 * @param totalCountCondition The condition without any restrictions that only apply to the current page
+	 * @since 7.4
+	 */
+	public void setTotalCountCondition(@Nullable Condition totalCountCondition) {
+		this.totalCountCondition = totalCountCondition;
+	}
+
+	/**
+	 * Configures a delete query to delete the matched nodes via {@code CALL { } IN TRANSACTIONS}. Such a statement can only
+	 * be run in an implicit transaction.
+	 *
+	 * @param rowsPerTransaction The number of nodes to delete per inner transaction, {@literal null} to delete all nodes in
+	 *                           the current transaction
+	 * @since 7.4
+	 */
+	public void setRowsPerTransaction(@Nullable Integer rowsPerTransaction) {
+		this.rowsPerTransaction = rowsPerTransaction;
+	}
+
+	@Nullable
+	public Integer getRowsPerTransaction() {
+		return rowsPerTransaction;
+	}
+
 	public Statement toStatement() {
 
-		StatementBuilder.OngoingReadingWithoutWhere match = null;
+		boolean withTotalCount = includeTotalCount && deleteExpression == null && !scalarValueReturn;
+		StatementBuilder.OngoingReadingWithoutWhere match = withTotalCount ? Cypher.call(createTotalCountStatement()) : null;
 
 		for (PatternElement patternElement : matchOn) {
 			if (match == null) {
@@ -143,23 +225,53 @@ public final class QueryFragments {
 
 		StatementBuilder.OngoingReadingWithWhere matchWithWhere = match.where(condition);
 
+		if (deleteExpression instanceof SymbolicName nodeToDelete && rowsPerTransaction != null) {
+			Statement statement = matchWithWhere
+					.callInTransactions(CypherGenerator.INSTANCE.createDetachDeleteOf(nodeToDelete), rowsPerTransaction)
+					.returning(Cypher.count(Cypher.asterisk()))
+					.build();
+			statement.setRenderConstantsAsParameters(false);
+			return statement;
+		}
+
 		if (deleteExpression != null) {
 			matchWithWhere = (StatementBuilder.OngoingReadingWithWhere) matchWithWhere.detachDelete(deleteExpression);
 		}
 
+		Collection<Expression> finalReturnExpressions = getReturnExpressions();
+		if (withTotalCount) {
+			finalReturnExpressions = new ArrayList<>(finalReturnExpressions);
+			finalReturnExpressions.add(Cypher.name(Constants.NAME_OF_TOTAL_COUNT));
+		}
+
 		StatementBuilder.OngoingReadingAndReturn returnPart = isDistinctReturn()
-				? matchWithWhere.returningDistinct(getReturnExpressions())
-				: matchWithWhere.returning(getReturnExpressions());
+				? matchWithWhere.returningDistinct(finalReturnExpressions)
+				: matchWithWhere.returning(finalReturnExpressions);
 
 		Statement statement = returnPart
 				.orderBy(getOrderBy())
-				.skip(skip)
-				.limit(limit).build();
+				.skip(getSkipExpression())
+				.limit(getLimitExpression()).build();
 
 		statement.setRenderConstantsAsParameters(false);
 		return statement;
 	}
 
+	/**
+	 * The subquery is not correlated to the outer query and hence runs only once. It counts the same way the default count
+	 * queries of the repositories do.
+	 */
+	private Statement createTotalCountStatement() {
+
+		StatementBuilder.OngoingReadingWithoutWhere match = null;
+		for (PatternElement patternElement : matchOn) {
+			match = match == null ? Cypher.match(patternElement) : match.match(patternElement);
+		}
+		return match.where(totalCountCondition == null ? condition : totalCountCondition)
+				.returning(Cypher.count(Cypher.asterisk()).as(Constants.NAME_OF_TOTAL_COUNT))
+				.build();
+	}
+
 	private Collection<Expression> getReturnExpressions() {
 		return returnExpressions.isEmpty() ? CypherGenerator.INSTANCE.createReturnStatementForMatch((Neo4jPersistentEntity<?>) returnTuple.nodeDescription,
 			this::includeField, returnTuple.additionalExpressions.toArray(Expression[]::new)) : returnExpressions;
@@ -211,6 +323,31 @@ public final class QueryFragments {
 		return skip;
 	}
 
+	/**
+	 * {@return the skip as it is rendered, either as literal or as parameter, or {@literal null} if there is none}
+	 */
+	@Nullable
+	public Expression getSkipExpression() {
+		return toExpression(Constants.NAME_OF_SKIP, skip);
+	}
+
+	/**
+	 * {@return the limit as it is rendered, either as literal or as parameter, or {@literal null} if there is none}
+	 */
+	@Nullable
+	public Expression getLimitExpression() {
+		return toExpression(Constants.NAME_OF_LIMIT, limit);
+	}
+
+	@Nullable
+	private Expression toExpression(String parameterName, @Nullable Number value) {
+
+		if (value == null) {
+			return null;
+		}
+		return renderSkipAndLimitAsParameters ? Cypher.parameter(parameterName, value) : Cypher.literalOf(value);
+	}
+
 
 	/**
 	 * Describes which fields of an entity needs to get returned.
@@ -22,6 +22,7 @@ import org.neo4j.cypherdsl.core.Node;
 import org.neo4j.cypherdsl.core.PatternElement;
 import org.neo4j.cypherdsl.core.RelationshipPattern;
 import org.neo4j.cypherdsl.core.SortItem;
+import org.neo4j.driver.Value;
 import org.springframework.data.domain.Example;
 import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.OffsetScrollPosition;
@@ -30,11 +31,13 @@ import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.neo4j.core.mapping.Constants;
 import org.springframework.data.neo4j.core.mapping.CypherGenerator;
+import org.springframework.data.neo4j.core.mapping.Neo4jConversionService;
 import org.springframework.data.neo4j.core.mapping.Neo4jMappingContext;
 import org.springframework.data.neo4j.core.mapping.Neo4jPersistentEntity;
 import org.springframework.data.neo4j.core.mapping.NodeDescription;
 import org.springframework.data.neo4j.core.mapping.PropertyFilter;
 import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -69,6 +72,18 @@ public final class QueryFragmentsAndParameters {
 		this.sort = sort == null ? Sort.unsorted() : sort;
 	}
 
+	/**
+	 * Creates an instance for a statement that has already been rendered from the given query fragments.
+	 */
+	QueryFragmentsAndParameters(NodeDescription<?> nodeDescription, QueryFragments queryFragments, String cypherQuery,
+			@Nullable Map<String, Object> parameters, @Nullable Sort sort) {
+		this.nodeDescription = nodeDescription;
+		this.queryFragments = queryFragments;
+		this.parameters = parameters;
+		this.cypherQuery = cypherQuery;
+		this.sort = sort == null ? Sort.unsorted() : sort;
+	}
+
 	public QueryFragmentsAndParameters(String cypherQuery) {
 		this(cypherQuery, null);
 	}
@@ -156,6 +171,29 @@ public final class QueryFragmentsAndParameters {
 		return new QueryFragmentsAndParameters(entityMetaData, queryFragments, Collections.emptyMap(), null);
 	}
 
+	/**
+	 * Creates the fragments for finding all entities described by {@code entityMetaData}, returning only the properties
+	 * and relationships reachable from the given paths.
+	 *
+	 * @param entityMetaData     The entity to find
+	 * @param includedProperties The paths required by a projection, an empty collection to return whole entities
+	 * @return The query fragments and parameters
+	 * @since 7.4
+	 */
+	public static QueryFragmentsAndParameters forFindAll(Neo4jPersistentEntity<?> entityMetaData,
+			Collection<PropertyFilter.ProjectedPath> includedProperties) {
+
+		if (includedProperties.isEmpty()) {
+			return forFindAll(entityMetaData);
+		}
+
+		QueryFragments queryFragments = new QueryFragments();
+		queryFragments.addMatchOn(cypherGenerator.createRootNode(entityMetaData));
+		queryFragments.setCondition(Cypher.noCondition());
+		queryFragments.setReturnBasedOn(entityMetaData, includedProperties, false, List.of());
+		return new QueryFragmentsAndParameters(entityMetaData, queryFragments, Collections.emptyMap(), null);
+	}
+
 	public static QueryFragmentsAndParameters forExistsById(Neo4jPersistentEntity<?> entityMetaData, Object idValues) {
 		Map<String, Object> parameters = Collections.singletonMap(Constants.NAME_OF_ID, idValues);
 
@@ -177,9 +215,56 @@ public final class QueryFragmentsAndParameters {
 	public static QueryFragmentsAndParameters forPageableAndSort(Neo4jPersistentEntity<?> neo4jPersistentEntity,
 																 @Nullable Pageable pageable, @Nullable Sort sort) {
 
+		return forPageableAndSort(neo4jPersistentEntity, pageable, sort, null);
+	}
+
+	/**
+	 * Creates the fragments for finding a page or a sorted list of all entities described by {@code neo4jPersistentEntity}.
+	 *
+	 * @param neo4jPersistentEntity The entity to find
+	 * @param pageable              The requested page, might be a {@link KeysetPageRequest}
+	 * @param sort                  The requested sort
+	 * @param conversionService     The conversion service used to write the keys of a {@link KeysetPageRequest}, required
+	 *                              for such requests only
+	 * @return The query fragments and parameters
+	 * @since 7.4
+	 */
+	public static QueryFragmentsAndParameters forPageableAndSort(Neo4jPersistentEntity<?> neo4jPersistentEntity,
+			@Nullable Pageable pageable, @Nullable Sort sort, @Nullable Neo4jConversionService conversionService) {
+
+		if (pageable instanceof KeysetPageRequest keysetPageRequest) {
+			Assert.notNull(conversionService, "A conversion service is required for keyset based pages");
+			return forKeysetPageRequest(neo4jPersistentEntity, keysetPageRequest, conversionService);
+		}
 		return getQueryFragmentsAndParameters(neo4jPersistentEntity, pageable, sort, null, null, null, Collections.emptyMap(), null, null, null);
 	}
 
+	/**
+	 * Keyset based pages are always ordered by the id as well and seek to their position if possible, so that retrieving
+	 * them does not depend on their offset. The keys are converted the same way as any other property of the entity.
+	 */
+	private static QueryFragmentsAndParameters forKeysetPageRequest(Neo4jPersistentEntity<?> entityMetaData,
+			KeysetPageRequest pageRequest, Neo4jConversionService conversionService) {
+
+		Condition condition = Cypher.noCondition();
+		Long skip = null;
+		if (pageRequest.isSeeking()) {
+			condition = CypherAdapterUtils.combineKeysetIntoPageCondition(entityMetaData, pageRequest.getPosition(),
+					pageRequest.getSort(), v -> conversionService.convert(v, Value.class));
+		} else if (pageRequest.getOffset() > 0) {
+			skip = pageRequest.getOffset();
+		}
+
+		Sort sort = pageRequest.getSort().and(Sort.by(entityMetaData.getRequiredIdProperty().getName()).ascending());
+		QueryFragmentsAndParameters queryFragmentsAndParameters = getQueryFragmentsAndParameters(entityMetaData, null,
+				sort, null, pageRequest.getPageSize(), skip, Collections.emptyMap(), condition, null, null);
+		if (pageRequest.isSeeking()) {
+			queryFragmentsAndParameters.getQueryFragments().setTotalCountCondition(Cypher.noCondition());
+			queryFragmentsAndParameters.getQueryFragments().setRequiresReverseSort(pageRequest.getPosition().scrollsBackward());
+		}
+		return queryFragmentsAndParameters;
+	}
+
 	/*
 	 * Following methods are used by the Simple(Reactive)QueryByExampleExecutor
 	 */
@@ -35,9 +35,7 @@ import org.springframework.data.repository.query.Parameter;
 import org.springframework.data.repository.query.Parameters;
 import org.springframework.data.repository.query.QueryMethodEvaluationContextProvider;
 import org.springframework.data.repository.query.RepositoryQuery;
-import org.springframework.data.repository.query.SpelEvaluator;
 import org.springframework.data.repository.query.SpelQueryContext;
-import org.springframework.data.repository.query.SpelQueryContext.SpelExtractor;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
@@ -50,8 +48,8 @@ import org.springframework.util.StringUtils;
  * <li>Replace the SpEL-expressions with Neo4j Statement template parameters</li>
  * <li>The parameters passed here _and_ the values that might have been computed during SpEL-parsing</li>
  * </ol>
- * The main ingredient is a SpelEvaluator, that parses a template and replaces SpEL expressions with real Neo4j
- * parameters.
+ * The main ingredient is a {@link CypherTemplate}, that parses a template once and replaces SpEL expressions with real
+ * Neo4j parameters.
  *
  * @author Gerrit Meier
  * @author Michael J. Simons
@@ -66,10 +64,12 @@ final class ReactiveStringBasedNeo4jQuery extends AbstractReactiveNeo4jQuery {
 			.of(ReactiveStringBasedNeo4jQuery::parameterNameSource, ReactiveStringBasedNeo4jQuery::replacementSource);
 
 	/**
-	 * Used to evaluate the expression found while parsing the cypher template of this query against the actual parameters
+	 * Used to evaluate the expressions found while parsing the cypher template of this query against the actual parameters
 	 * with the help of the formal parameters during the building of the {@link PreparedQuery}.
 	 */
-	private final SpelEvaluator spelEvaluator;
+	private final CypherTemplate cypherTemplate;
+
+	private final QueryMethodEvaluationContextProvider evaluationContextProvider;
 
 	/**
 	 * Create a {@link ReactiveStringBasedNeo4jQuery} for a query method that is annotated with {@link Query @Query}. The
@@ -122,8 +122,8 @@ final class ReactiveStringBasedNeo4jQuery extends AbstractReactiveNeo4jQuery {
 		super(neo4jOperations, mappingContext, queryMethod, queryType, factory);
 
 		cypherTemplate = Neo4jSpelSupport.renderQueryIfExpressionOrReturnQuery(cypherTemplate, mappingContext, queryMethod.getEntityInformation(), SPEL_EXPRESSION_PARSER);
-		SpelExtractor spelExtractor = SPEL_QUERY_CONTEXT.parse(cypherTemplate);
-		this.spelEvaluator = new SpelEvaluator(evaluationContextProvider, queryMethod.getParameters(), spelExtractor);
+		this.cypherTemplate = CypherTemplate.compile(SPEL_QUERY_CONTEXT.parse(cypherTemplate));
+		this.evaluationContextProvider = evaluationContextProvider;
 	}
 
 	@Override
@@ -134,7 +134,7 @@ final class ReactiveStringBasedNeo4jQuery extends AbstractReactiveNeo4jQuery {
 		Map<String, Object> boundParameters = bindParameters(parameterAccessor);
 		QueryContext queryContext = new QueryContext(
 				queryMethod.getRepositoryName() + "." + queryMethod.getName(),
-				spelEvaluator.getQueryString(),
+				cypherTemplate,
 				boundParameters
 		);
 
@@ -144,6 +144,7 @@ final class ReactiveStringBasedNeo4jQuery extends AbstractReactiveNeo4jQuery {
 				.withCypherQuery(queryContext.query)
 				.withParameters(boundParameters)
 				.usingMappingFunction(mappingFunction)
+				.withFetchSize(queryMethod.getFetchSize())
 				.build();
 	}
 
@@ -153,7 +154,8 @@ final class ReactiveStringBasedNeo4jQuery extends AbstractReactiveNeo4jQuery {
 		Map<String, Object> resolvedParameters = new HashMap<>();
 
 		// Values from the parameter accessor can only get converted after evaluation
-		for (Map.Entry<String, Object> evaluatedParam : spelEvaluator.evaluate(parameterAccessor.getValues()).entrySet()) {
+		for (Map.Entry<String, Object> evaluatedParam : cypherTemplate
+				.evaluate(evaluationContextProvider, formalParameters, parameterAccessor.getValues()).entrySet()) {
 			Object value = evaluatedParam.getValue();
 			if (!(evaluatedParam.getValue() instanceof Neo4jSpelSupport.LiteralReplacement)) {
 				Neo4jQuerySupport.logParameterIfNull(evaluatedParam.getKey(), value);
@@ -84,10 +84,12 @@ public final class SimpleQueryByExampleExecutor<T> implements QueryByExampleExec
 	@Override
 	public <S extends T> Page<S> findAll(Example<S> example, Pageable pageable) {
 
-		List<S> page = this.neo4jOperations.toExecutableQuery(example.getProbeType(),
-				QueryFragmentsAndParameters.forExampleWithPageable(mappingContext, example, pageable, PropertyFilter.NO_FILTER)).getResults();
+		QueryFragmentsAndParameters queryFragmentsAndParameters = QueryFragmentsAndParameters.forExampleWithPageable(mappingContext, example, pageable, PropertyFilter.NO_FILTER);
+		queryFragmentsAndParameters.getQueryFragments().setIncludeTotalCount(pageable.isPaged());
+		Neo4jOperations.ExecutableQuery<S> executableQuery = this.neo4jOperations.toExecutableQuery(example.getProbeType(), queryFragmentsAndParameters);
+		List<S> page = executableQuery.getResults();
 
-		LongSupplier totalCountSupplier = () -> this.count(example);
+		LongSupplier totalCountSupplier = () -> executableQuery.getTotalCount().orElseGet(() -> this.count(example));
 		return PageableExecutionUtils.getPage(page, pageable, totalCountSupplier);
 	}
 
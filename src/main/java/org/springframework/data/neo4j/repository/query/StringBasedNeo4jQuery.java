@@ -38,7 +38,6 @@ import org.springframework.data.projection.ProjectionFactory;
 import org.springframework.data.repository.query.Parameters;
 import org.springframework.data.repository.query.QueryMethodEvaluationContextProvider;
 import org.springframework.data.repository.query.RepositoryQuery;
-import org.springframework.data.repository.query.SpelEvaluator;
 import org.springframework.data.repository.query.SpelQueryContext;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
@@ -52,8 +51,8 @@ import org.springframework.util.StringUtils;
  * <li>Replace the SpEL-expressions with Neo4j Statement template parameters</li>
  * <li>The parameters passed here _and_ the values that might have been computed during SpEL-parsing</li>
  * </ol>
- * The main ingredient is a SpelEvaluator, that parses a template and replaces SpEL expressions with real Neo4j
- * parameters.
+ * The main ingredient is a {@link CypherTemplate}, that parses a template once and replaces SpEL expressions with real
+ * Neo4j parameters.
  *
  * @author Gerrit Meier
  * @author Michael J. Simons
@@ -78,15 +77,17 @@ final class StringBasedNeo4jQuery extends AbstractNeo4jQuery {
 					 + ".*");
 
 	/**
-	 * Used to evaluate the expression found while parsing the cypher template of this query against the actual parameters
+	 * Used to evaluate the expressions found while parsing the cypher template of this query against the actual parameters
 	 * with the help of the formal parameters during the building of the {@link PreparedQuery}.
 	 */
-	private final SpelEvaluator spelEvaluator;
+	private final CypherTemplate cypherTemplate;
 
 	/**
-	 * An optional evaluator for a count query if such a query is present.
+	 * An optional template for a count query if such a query is present.
 	 */
-	private final Optional<SpelEvaluator> spelEvaluatorForCountQuery;
+	private final Optional<CypherTemplate> cypherTemplateForCountQuery;
+
+	private final QueryMethodEvaluationContextProvider evaluationContextProvider;
 
 	/**
 	 * Create a {@link StringBasedNeo4jQuery} for a query method that is annotated with {@link Query @Query}. The
@@ -164,14 +165,13 @@ final class StringBasedNeo4jQuery extends AbstractNeo4jQuery {
 
 		super(neo4jOperations, mappingContext, queryMethod, queryType, factory);
 
-		Parameters<?, ?> methodParameters = queryMethod.getParameters();
 		cypherTemplate = Neo4jSpelSupport.renderQueryIfExpressionOrReturnQuery(cypherTemplate, mappingContext, queryMethod.getEntityInformation(), SPEL_EXPRESSION_PARSER);
-		this.spelEvaluator = new SpelEvaluator(
-				evaluationContextProvider, methodParameters, SPEL_QUERY_CONTEXT.parse(cypherTemplate));
-		this.spelEvaluatorForCountQuery = queryMethod.getQueryAnnotation()
+		this.cypherTemplate = CypherTemplate.compile(SPEL_QUERY_CONTEXT.parse(cypherTemplate));
+		this.cypherTemplateForCountQuery = queryMethod.getQueryAnnotation()
 				.map(Query::countQuery)
 				.map(q -> Neo4jSpelSupport.renderQueryIfExpressionOrReturnQuery(q, mappingContext, queryMethod.getEntityInformation(), SPEL_EXPRESSION_PARSER))
-				.map(countQuery -> new SpelEvaluator(evaluationContextProvider, methodParameters, SPEL_QUERY_CONTEXT.parse(countQuery)));
+				.map(countQuery -> CypherTemplate.compile(SPEL_QUERY_CONTEXT.parse(countQuery)));
+		this.evaluationContextProvider = evaluationContextProvider;
 	}
 
 	@Override
@@ -184,7 +184,7 @@ final class StringBasedNeo4jQuery extends AbstractNeo4jQuery {
 		Map<String, Object> boundParameters = bindParameters(parameterAccessor, true, limitModifier);
 		QueryContext queryContext = new QueryContext(
 				queryMethod.getRepositoryName() + "." + queryMethod.getName(),
-				spelEvaluator.getQueryString(),
+				cypherTemplate,
 				boundParameters
 		);
 
@@ -194,6 +194,7 @@ final class StringBasedNeo4jQuery extends AbstractNeo4jQuery {
 				.withCypherQuery(queryContext.query)
 				.withParameters(boundParameters)
 				.usingMappingFunction(mappingFunction)
+				.withFetchSize(queryMethod.getFetchSize())
 				.build();
 	}
 
@@ -204,7 +205,8 @@ final class StringBasedNeo4jQuery extends AbstractNeo4jQuery {
 		Map<String, Object> resolvedParameters = new HashMap<>();
 
 		// Values from the parameter accessor can only get converted after evaluation
-		for (Entry<String, Object> evaluatedParam : spelEvaluator.evaluate(parameterAccessor.getValues()).entrySet()) {
+		for (Entry<String, Object> evaluatedParam : cypherTemplate
+				.evaluate(evaluationContextProvider, formalParameters, parameterAccessor.getValues()).entrySet()) {
 			Object value = evaluatedParam.getValue();
 			if (!(evaluatedParam.getValue() instanceof LiteralReplacement)) {
 				Neo4jQuerySupport.logParameterIfNull(evaluatedParam.getKey(), value);
@@ -237,7 +239,7 @@ final class StringBasedNeo4jQuery extends AbstractNeo4jQuery {
 
 	@Override
 	protected Optional<PreparedQuery<Long>> getCountQuery(Neo4jParameterAccessor parameterAccessor) {
-		return spelEvaluatorForCountQuery.map(SpelEvaluator::getQueryString)
+		return cypherTemplateForCountQuery
 				.map(countQuery -> {
 					Map<String, Object> boundParameters = bindParameters(parameterAccessor, false, UnaryOperator.identity());
 					QueryContext queryContext = new QueryContext(
@@ -15,6 +15,8 @@
  */
 package org.springframework.data.neo4j.repository.support;
 
+import io.micrometer.observation.ObservationRegistry;
+
 import java.util.Optional;
 
 import org.neo4j.cypherdsl.core.renderer.Configuration;
@@ -56,6 +58,8 @@ final class Neo4jRepositoryFactory extends RepositoryFactorySupport {
 
 	private Configuration cypherDSLConfiguration = Configuration.defaultConfig();
 
+	private ObservationRegistry observationRegistry = ObservationRegistry.NOOP;
+
 	Neo4jRepositoryFactory(Neo4jOperations neo4jOperations, Neo4jMappingContext mappingContext) {
 
 		this.neo4jOperations = neo4jOperations;
@@ -77,7 +81,11 @@ final class Neo4jRepositoryFactory extends RepositoryFactorySupport {
 
 		Neo4jEntityInformation<?, Object> entityInformation = getEntityInformation(metadata.getDomainType());
 		Neo4jRepositoryFactorySupport.assertIdentifierType(metadata.getIdType(), entityInformation.getIdType());
-		return getTargetRepositoryViaReflection(metadata, neo4jOperations, entityInformation);
+		Object repository = getTargetRepositoryViaReflection(metadata, neo4jOperations, entityInformation);
+		if (repository instanceof SimpleNeo4jRepository<?, ?> simpleNeo4jRepository) {
+			simpleNeo4jRepository.setConversionService(mappingContext.getConversionService());
+		}
+		return repository;
 	}
 
 	@Override
@@ -133,6 +141,9 @@ final class Neo4jRepositoryFactory extends RepositoryFactorySupport {
 		this.cypherDSLConfiguration = beanFactory
 				.getBeanProvider(Configuration.class)
 				.getIfAvailable(Configuration::defaultConfig);
+		this.observationRegistry = beanFactory
+				.getBeanProvider(ObservationRegistry.class)
+				.getIfAvailable(() -> ObservationRegistry.NOOP);
 	}
 
 	/*
@@ -143,7 +154,7 @@ final class Neo4jRepositoryFactory extends RepositoryFactorySupport {
 	protected Optional<QueryLookupStrategy> getQueryLookupStrategy(Key key,
 			QueryMethodEvaluationContextProvider evaluationContextProvider) {
 
-		return Optional.of(new Neo4jQueryLookupStrategy(neo4jOperations, mappingContext, evaluationContextProvider, cypherDSLConfiguration));
+		return Optional.of(new Neo4jQueryLookupStrategy(neo4jOperations, mappingContext, evaluationContextProvider, cypherDSLConfiguration, observationRegistry));
 	}
 
 	@Override
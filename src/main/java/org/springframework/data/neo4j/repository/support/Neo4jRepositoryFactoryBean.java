@@ -18,11 +18,15 @@ package org.springframework.data.neo4j.repository.support;
 import java.io.Serializable;
 
 import org.apiguardian.api.API;
+import org.springframework.beans.factory.BeanFactory;
 import org.springframework.data.neo4j.core.Neo4jOperations;
 import org.springframework.data.neo4j.core.mapping.Neo4jMappingContext;
+import org.springframework.data.neo4j.core.transaction.TransactionRetryInterceptor;
+import org.springframework.data.neo4j.core.transaction.TransactionRetryPolicy;
 import org.springframework.data.repository.Repository;
 import org.springframework.data.repository.core.support.RepositoryFactorySupport;
 import org.springframework.data.repository.core.support.TransactionalRepositoryFactoryBeanSupport;
+import org.springframework.lang.Nullable;
 
 /**
  * Special adapter for Springs {@link org.springframework.beans.factory.FactoryBean} interface to allow easy setup of
@@ -43,6 +47,9 @@ public final class Neo4jRepositoryFactoryBean<T extends Repository<S, ID>, S, ID
 
 	private Neo4jMappingContext neo4jMappingContext;
 
+	@Nullable
+	private BeanFactory beanFactory;
+
 	/**
 	 * Creates a new {@link TransactionalRepositoryFactoryBeanSupport} for the given repository interface.
 	 *
@@ -61,8 +68,21 @@ public final class Neo4jRepositoryFactoryBean<T extends Repository<S, ID>, S, ID
 		this.neo4jMappingContext = neo4jMappingContext;
 	}
 
+	@Override
+	public void setBeanFactory(BeanFactory beanFactory) {
+		super.setBeanFactory(beanFactory);
+		this.beanFactory = beanFactory;
+	}
+
 	@Override
 	protected RepositoryFactorySupport doCreateRepositoryFactory() {
-		return new Neo4jRepositoryFactory(neo4jOperations, neo4jMappingContext);
+
+		RepositoryFactorySupport repositoryFactory = new Neo4jRepositoryFactory(neo4jOperations, neo4jMappingContext);
+		// Added before the transactional post processor, so that each attempt runs in its own transaction
+		if (beanFactory != null) {
+			beanFactory.getBeanProvider(TransactionRetryPolicy.class).ifUnique(retryPolicy -> repositoryFactory
+					.addRepositoryProxyPostProcessor((factory, repositoryInformation) -> factory.addAdvice(new TransactionRetryInterceptor(retryPolicy))));
+		}
+		return repositoryFactory;
 	}
 }
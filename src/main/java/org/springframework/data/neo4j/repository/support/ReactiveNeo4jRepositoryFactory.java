@@ -15,6 +15,8 @@
  */
 package org.springframework.data.neo4j.repository.support;
 
+import io.micrometer.observation.ObservationRegistry;
+
 import java.util.Optional;
 
 import org.neo4j.cypherdsl.core.renderer.Configuration;
@@ -58,6 +60,8 @@ final class ReactiveNeo4jRepositoryFactory extends ReactiveRepositoryFactorySupp
 
 	private Configuration cypherDSLConfiguration = Configuration.defaultConfig();
 
+	private ObservationRegistry observationRegistry = ObservationRegistry.NOOP;
+
 	ReactiveNeo4jRepositoryFactory(ReactiveNeo4jOperations neo4jOperations, Neo4jMappingContext mappingContext) {
 
 		this.neo4jOperations = neo4jOperations;
@@ -136,7 +140,7 @@ final class ReactiveNeo4jRepositoryFactory extends ReactiveRepositoryFactorySupp
 			QueryMethodEvaluationContextProvider evaluationContextProvider) {
 
 		return Optional
-				.of(new ReactiveNeo4jQueryLookupStrategy(neo4jOperations, mappingContext, evaluationContextProvider, cypherDSLConfiguration));
+				.of(new ReactiveNeo4jQueryLookupStrategy(neo4jOperations, mappingContext, evaluationContextProvider, cypherDSLConfiguration, observationRegistry));
 	}
 
 	@Override
@@ -155,6 +159,9 @@ final class ReactiveNeo4jRepositoryFactory extends ReactiveRepositoryFactorySupp
 		this.cypherDSLConfiguration = beanFactory
 				.getBeanProvider(Configuration.class)
 				.getIfAvailable(Configuration::defaultConfig);
+		this.observationRegistry = beanFactory
+				.getBeanProvider(ObservationRegistry.class)
+				.getIfAvailable(() -> ObservationRegistry.NOOP);
 	}
 
 	@Override
@@ -15,6 +15,8 @@
  */
 package org.springframework.data.neo4j.repository.support;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.LongSupplier;
@@ -26,12 +28,16 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.neo4j.core.Neo4jOperations;
+import org.springframework.data.neo4j.core.mapping.Neo4jConversionService;
 import org.springframework.data.neo4j.core.mapping.Neo4jPersistentEntity;
 import org.springframework.data.neo4j.core.mapping.Neo4jPersistentProperty;
+import org.springframework.data.neo4j.repository.query.CypherAdapterUtils;
+import org.springframework.data.neo4j.repository.query.KeysetPageRequest;
 import org.springframework.data.neo4j.repository.query.QueryFragmentsAndParameters;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.PagingAndSortingRepository;
 import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.Assert;
@@ -58,6 +64,9 @@ public class SimpleNeo4jRepository<T, ID> implements PagingAndSortingRepository<
 
 	private final Neo4jPersistentEntity<T> entityMetaData;
 
+	@Nullable
+	private Neo4jConversionService conversionService;
+
 	protected SimpleNeo4jRepository(Neo4jOperations neo4jOperations, Neo4jEntityInformation<T, ID> entityInformation) {
 
 		this.neo4jOperations = neo4jOperations;
@@ -65,6 +74,16 @@ public class SimpleNeo4jRepository<T, ID> implements PagingAndSortingRepository<
 		this.entityMetaData = this.entityInformation.getEntityMetaData();
 	}
 
+	/**
+	 * Configures the conversion service used to write the keys of {@link KeysetPageRequest keyset based pages}. This is
+	 * done by the repository factory with the conversion service of the mapping context.
+	 *
+	 * @param conversionService The conversion service to use
+	 */
+	void setConversionService(Neo4jConversionService conversionService) {
+		this.conversionService = conversionService;
+	}
+
 	@Override
 	public Optional<T> findById(ID id) {
 
@@ -93,11 +112,22 @@ public class SimpleNeo4jRepository<T, ID> implements PagingAndSortingRepository<
 
 	@Override
 	public Page<T> findAll(Pageable pageable) {
-		List<T> allResult = this.neo4jOperations.toExecutableQuery(entityInformation.getJavaType(),
-				QueryFragmentsAndParameters.forPageableAndSort(entityMetaData, pageable, null))
-				.getResults();
 
-		LongSupplier totalCountSupplier = this::count;
+		QueryFragmentsAndParameters queryFragmentsAndParameters = QueryFragmentsAndParameters.forPageableAndSort(entityMetaData, pageable, null, conversionService);
+		queryFragmentsAndParameters.getQueryFragments().setIncludeTotalCount(pageable.isPaged());
+		Neo4jOperations.ExecutableQuery<T> executableQuery = this.neo4jOperations.toExecutableQuery(entityInformation.getJavaType(), queryFragmentsAndParameters);
+		List<T> allResult = executableQuery.getResults();
+
+		LongSupplier totalCountSupplier = () -> executableQuery.getTotalCount().orElseGet(this::count);
+		if (pageable instanceof KeysetPageRequest keysetPageRequest && !allResult.isEmpty()) {
+			if (queryFragmentsAndParameters.getQueryFragments().isRequiresReverseSort()) {
+				allResult = new ArrayList<>(allResult);
+				Collections.reverse(allResult);
+			}
+			pageable = keysetPageRequest.withKeys(
+					CypherAdapterUtils.getKeys(entityMetaData, pageable.getSort(), allResult.get(0)),
+					CypherAdapterUtils.getKeys(entityMetaData, pageable.getSort(), allResult.get(allResult.size() - 1)));
+		}
 		return PageableExecutionUtils.getPage(allResult, pageable, totalCountSupplier);
 	}
 
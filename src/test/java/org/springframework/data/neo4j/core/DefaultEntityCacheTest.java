@@ -0,0 +1,130 @@
+/*
+ * Copyright 2011-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.driver.Bookmark;
+import org.springframework.data.neo4j.core.transaction.Neo4jBookmarksUpdatedEvent;
+
+/**
+ * @author agent
+ */
+class DefaultEntityCacheTest {
+
+	static class Animal {
+	}
+
+	static class Dog extends Animal {
+	}
+
+	@Test
+	void instancesShouldExpire() {
+
+		AtomicLong now = new AtomicLong();
+		DefaultEntityCache cache = new DefaultEntityCache(List.of(Animal.class), 10, Duration.ofNanos(10), now::get);
+		Dog dog = new Dog();
+
+		cache.put(1L, dog, cache.currentGeneration());
+		assertThat(cache.get(Animal.class, 1L)).isSameAs(dog);
+		assertThat(cache.get(Dog.class, 1L)).isSameAs(dog);
+
+		now.set(10);
+		assertThat(cache.get(Dog.class, 1L)).isNull();
+		assertThat(cache.size()).isZero();
+	}
+
+	@Test
+	void loadsStartedBeforeAnEvictionShouldNotBeCached() {
+
+		DefaultEntityCache cache = new DefaultEntityCache(List.of(Animal.class), 10, Duration.ofMinutes(1));
+
+		long generation = cache.currentGeneration();
+		cache.evict(Dog.class, List.of(1L));
+		cache.put(1L, new Dog(), generation);
+		assertThat(cache.get(Dog.class, 1L)).isNull();
+
+		generation = cache.currentGeneration();
+		cache.put(1L, new Dog(), generation);
+		assertThat(cache.get(Dog.class, 1L)).isNotNull();
+
+		cache.evict(Animal.class, null);
+		assertThat(cache.size()).isZero();
+	}
+
+	@Test
+	void entriesShouldBecomeStaleWhenBookmarksChange() {
+
+		DefaultEntityCache cache = new DefaultEntityCache(List.of(Animal.class), 10, Duration.ofMinutes(1));
+		Set<Bookmark> bookmarks = Set.of(mock(Bookmark.class));
+
+		cache.onApplicationEvent(bookmarksUpdated(bookmarks));
+		long generation = cache.currentGeneration();
+		cache.put(1L, new Dog(), generation);
+
+		// A read-only transaction does not change the bookmarks
+		cache.onApplicationEvent(bookmarksUpdated(bookmarks));
+		assertThat(cache.currentGeneration()).isEqualTo(generation);
+		assertThat(cache.get(Dog.class, 1L)).isNotNull();
+
+		cache.onApplicationEvent(bookmarksUpdated(Set.of(mock(Bookmark.class))));
+		assertThat(cache.currentGeneration()).isGreaterThan(generation);
+		assertThat(cache.get(Dog.class, 1L)).isNull();
+		assertThat(cache.size()).isZero();
+
+		// Loads that started before the bookmarks changed are not cached at all
+		cache.put(1L, new Dog(), generation);
+		assertThat(cache.size()).isZero();
+	}
+
+	@Test
+	void onlyConfiguredTypesShouldBeCached() {
+
+		DefaultEntityCache cache = new DefaultEntityCache(List.of(Dog.class), 10, Duration.ofMinutes(1));
+
+		assertThat(cache.supports(Animal.class)).isTrue();
+		assertThat(cache.supports(String.class)).isFalse();
+
+		cache.put(1L, new Animal(), cache.currentGeneration());
+		cache.put(1L, "x", cache.currentGeneration());
+		assertThat(cache.size()).isZero();
+	}
+
+	private static Neo4jBookmarksUpdatedEvent bookmarksUpdated(Set<Bookmark> bookmarks) {
+
+		Neo4jBookmarksUpdatedEvent event = mock(Neo4jBookmarksUpdatedEvent.class);
+		when(event.getBookmarks()).thenReturn(bookmarks);
+		return event;
+	}
+
+	@Test
+	void sizeShouldBeBounded() {
+
+		DefaultEntityCache cache = new DefaultEntityCache(List.of(Animal.class), 2, Duration.ofMinutes(1));
+		for (long i = 0; i < 5; ++i) {
+			cache.put(i, new Animal(), cache.currentGeneration());
+		}
+		assertThat(cache.size()).isEqualTo(2);
+	}
+}
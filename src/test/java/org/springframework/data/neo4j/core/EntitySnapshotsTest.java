@@ -0,0 +1,197 @@
+/*
+ * Copyright 2011-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.neo4j.core.mapping.Constants;
+import org.springframework.data.neo4j.core.mapping.Neo4jMappingContext;
+import org.springframework.data.neo4j.core.mapping.Neo4jPersistentEntity;
+import org.springframework.data.neo4j.core.mapping.RelationshipDescription;
+import org.springframework.data.neo4j.core.schema.Id;
+import org.springframework.data.neo4j.core.schema.Node;
+import org.springframework.data.neo4j.core.schema.Relationship;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * @author agent
+ */
+class EntitySnapshotsTest {
+
+	private final Neo4jMappingContext mappingContext = new Neo4jMappingContext();
+
+	private final EntitySnapshots entitySnapshots = new EntitySnapshots(mappingContext);
+
+	@AfterEach
+	void clearSynchronization() {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+	@Test
+	void shouldOnlyBindChangedPropertiesAndTheId() {
+
+		Person person = new Person("1", "Alice", 42);
+		entitySnapshots.takeFrom(person);
+
+		person.age = 43;
+		assertThat(bind(person)).containsOnlyKeys("id", "age");
+	}
+
+	@Test
+	void shouldBindAllPropertiesWithoutSnapshot() {
+
+		assertThat(bind(new Person("1", "Alice", 42))).containsOnlyKeys("id", "name", "age");
+	}
+
+	@Test
+	void shouldTakeSnapshotsOfRelatedEntities() {
+
+		Person friend = new Person("2", "Bob", 23);
+		Person person = new Person("1", "Alice", 42);
+		person.friends.add(friend);
+		entitySnapshots.takeFrom(person);
+
+		friend.name = "Robert";
+		assertThat(bind(friend)).containsOnlyKeys("id", "name");
+	}
+
+	@Test
+	void shouldDetectChangedRelationships() {
+
+		Neo4jPersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(Person.class);
+		RelationshipDescription friends = entity.getRelationships().iterator().next();
+
+		Person person = new Person("1", "Alice", 42);
+		person.friends.add(new Person("2", "Bob", 23));
+		entitySnapshots.takeFrom(person);
+
+		assertThat(entitySnapshots.isUnchanged(entity, person, friends, person.friends)).isTrue();
+
+		person.friends.add(new Person("3", "Carol", 31));
+		assertThat(entitySnapshots.isUnchanged(entity, person, friends, person.friends)).isFalse();
+
+		person.friends.remove(1);
+		person.friends.add(new Person(null, "Unsaved", 1));
+		assertThat(entitySnapshots.isUnchanged(entity, person, friends, person.friends)).isFalse();
+	}
+
+	@Test
+	void shouldKeepSnapshotsPerInstance() {
+
+		Person first = new Person("1", "Alice", 42);
+		entitySnapshots.takeFrom(first);
+		Person second = new Person("1", "Alice", 42);
+		entitySnapshots.takeFrom(second);
+
+		first.name = "Alicia";
+		entitySnapshots.refresh(mappingContext.getRequiredPersistentEntity(Person.class), first);
+
+		second.name = "Alice";
+		second.age = 43;
+		assertThat(bind(second)).containsOnlyKeys("id", "age");
+		assertThat(bind(new Person("1", "Alicia", 42))).containsOnlyKeys("id", "name", "age");
+	}
+
+	@Test
+	void shouldNotUseSnapshotsOfInstancesWhoseIdChanged() {
+
+		Person person = new Person("1", "Alice", 42);
+		entitySnapshots.takeFrom(person);
+
+		person.id = "2";
+		assertThat(bind(person)).containsOnlyKeys("id", "name", "age");
+	}
+
+	@Test
+	void shouldEvictByInstance() {
+
+		Person first = new Person("1", "Alice", 42);
+		Person second = new Person("1", "Alice", 42);
+		entitySnapshots.takeFrom(first);
+		entitySnapshots.takeFrom(second);
+		entitySnapshots.evict(first);
+
+		assertThat(bind(first)).containsOnlyKeys("id", "name", "age");
+		assertThat(bind(second)).containsOnlyKeys("id");
+	}
+
+	@Test
+	void shouldEvictByTypeAndId() {
+
+		Person first = new Person("1", "Alice", 42);
+		Person second = new Person("1", "Alice", 42);
+		entitySnapshots.takeFrom(first);
+		entitySnapshots.takeFrom(second);
+		entitySnapshots.evict(Person.class, List.of("1"));
+
+		assertThat(bind(first)).containsOnlyKeys("id", "name", "age");
+		assertThat(bind(second)).containsOnlyKeys("id", "name", "age");
+	}
+
+	@Test
+	void shouldDiscardSnapshotsOfTransactionsThatDidNotCommit() {
+
+		TransactionSynchronizationManager.initSynchronization();
+		Person person = new Person("1", "Alice", 42);
+		entitySnapshots.takeFrom(person);
+		assertThat(bind(person)).containsOnlyKeys("id");
+
+		TransactionSynchronizationManager.getSynchronizations()
+				.forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+		assertThat(bind(person)).containsOnlyKeys("id", "name", "age");
+		assertThat(TransactionSynchronizationManager.hasResource(entitySnapshots)).isFalse();
+	}
+
+	@SuppressWarnings("unchecked")
+	private Map<String, Object> bind(Person person) {
+
+		Function<Person, Map<String, Object>> binderFunction = entitySnapshots.removeUnchangedProperties(
+				mappingContext.getRequiredPersistentEntity(Person.class),
+				mappingContext.getRequiredBinderFunctionFor(Person.class));
+		return (Map<String, Object>) binderFunction.apply(person).get(Constants.NAME_OF_PROPERTIES_PARAM);
+	}
+
+	@Node
+	static class Person {
+
+		@Id
+		String id;
+
+		String name;
+
+		int age;
+
+		@Relationship("KNOWS")
+		List<Person> friends = new ArrayList<>();
+
+		Person(String id, String name, int age) {
+			this.id = id;
+			this.name = name;
+			this.age = age;
+		}
+	}
+}
@@ -17,15 +17,22 @@ package org.springframework.data.neo4j.core;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assumptions.assumeThat;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.anyMap;
 import static org.mockito.Mockito.anyString;
 import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import io.micrometer.observation.ObservationRegistry;
+
 import java.lang.reflect.Method;
 import java.time.LocalDate;
 import java.util.ArrayList;
@@ -52,17 +59,22 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.hamcrest.MockitoHamcrest;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.neo4j.driver.AccessMode;
 import org.neo4j.driver.Bookmark;
 import org.neo4j.driver.Driver;
 import org.neo4j.driver.Record;
 import org.neo4j.driver.Result;
 import org.neo4j.driver.Session;
 import org.neo4j.driver.SessionConfig;
+import org.neo4j.driver.TransactionConfig;
 import org.neo4j.driver.Values;
+import org.neo4j.driver.exceptions.ServiceUnavailableException;
 import org.neo4j.driver.summary.ResultSummary;
 import org.neo4j.driver.types.TypeSystem;
+import org.springframework.data.neo4j.core.observation.QueryObservationContext;
 import org.springframework.data.neo4j.core.transaction.Neo4jTransactionUtils;
 import org.springframework.lang.Nullable;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.ReflectionUtils;
 
 /**
@@ -258,6 +270,77 @@ class Neo4jClientTest {
 		verify(session).close();
 	}
 
+	@Test
+	void streamShouldPullRecordsLazilyAndCloseSessionWithStream() {
+
+		prepareMocks();
+
+		when(session.run(anyString(), anyMap())).thenReturn(result);
+		when(result.hasNext()).thenReturn(true, true, false);
+		when(result.next()).thenReturn(record1, record2);
+		when(result.consume()).thenReturn(resultSummary);
+
+		Neo4jClient client = Neo4jClient.create(driver);
+
+		String cypher = "MATCH (b:Bike) RETURN b";
+		try (Stream<Map<String, Object>> bikes = client.query(cypher).fetch().stream()) {
+
+			verify(result, never()).hasNext();
+			verify(session, never()).close();
+
+			assertThat(bikes).hasSize(2);
+		}
+
+		verifyDatabaseSelection(null);
+
+		verify(session).run(eq(cypher), anyMap());
+		verify(result, times(3)).hasNext();
+		verify(result, times(2)).next();
+		verify(result).consume();
+		verify(resultSummary).notifications();
+		verify(resultSummary).hasPlan();
+		verify(record1).asMap();
+		verify(record2).asMap();
+		verify(session).close();
+	}
+
+	@Test
+	void streamShouldStopTheObservationWhenTheSessionCannotBeOpened() {
+
+		when(driver.session(any(SessionConfig.class))).thenThrow(new ServiceUnavailableException("Nope"));
+
+		List<String> events = new ArrayList<>();
+		ObservationRegistry observationRegistry = ObservationRegistry.create();
+		observationRegistry.observationConfig().observationHandler(new ObservationHandler<>() {
+			@Override
+			public void onStart(Observation.Context context) {
+				events.add("start");
+			}
+
+			@Override
+			public void onError(Observation.Context context) {
+				events.add("error");
+			}
+
+			@Override
+			public void onStop(Observation.Context context) {
+				events.add("stop");
+			}
+
+			@Override
+			public boolean supportsContext(Observation.Context context) {
+				return context instanceof QueryObservationContext;
+			}
+		});
+
+		Neo4jClient client = Neo4jClient.with(driver).withObservationRegistry(observationRegistry).build();
+		assertThatThrownBy(() -> client.query("MATCH (b:Bike) RETURN b").fetch().stream())
+				.isInstanceOf(RuntimeException.class);
+
+		assertThat(events).containsExactly("start", "error", "stop");
+		verify(driver).session(any(SessionConfig.class));
+	}
+
 	@Test
 	void databaseSelectionShouldBePossibleOnlyOnce() {
 
@@ -336,6 +419,82 @@ class Neo4jClientTest {
 
 	}
 
+	@Test
+	void accessModeHintShouldBeUsedForNewSessions() {
+
+		prepareMocks();
+		when(session.run(anyString(), anyMap())).thenReturn(result);
+		when(result.stream()).thenReturn(Stream.of(record1, record2));
+		when(result.consume()).thenReturn(resultSummary);
+
+		Neo4jClient client = Neo4jClient.create(driver);
+
+		String query = "MATCH (n) RETURN n";
+		client.query(query).withAccessMode(AccessMode.READ).fetch().first();
+
+		verify(driver).session(configArgumentCaptor.capture());
+		assertThat(configArgumentCaptor.getValue().defaultAccessMode()).isEqualTo(AccessMode.READ);
+
+		verify(session).run(eq(query), anyMap());
+		verify(result).stream();
+		verify(result).consume();
+		verify(resultSummary).notifications();
+		verify(resultSummary).hasPlan();
+		verify(record1).asMap();
+		verify(session).close();
+	}
+
+	@Test
+	void fetchSizeShouldBeUsedForNewSessions() {
+
+		prepareMocks();
+		when(session.run(anyString(), anyMap())).thenReturn(result);
+		when(result.stream()).thenReturn(Stream.of(record1, record2));
+		when(result.consume()).thenReturn(resultSummary);
+
+		Neo4jClient client = Neo4jClient.create(driver);
+
+		String query = "MATCH (n) RETURN n";
+		client.query(query).withFetchSize(23).fetch().first();
+
+		verify(driver).session(configArgumentCaptor.capture());
+		assertThat(configArgumentCaptor.getValue().fetchSize()).hasValue(23L);
+
+		verify(session).run(eq(query), anyMap());
+		verify(result).stream();
+		verify(result).consume();
+		verify(resultSummary).notifications();
+		verify(resultSummary).hasPlan();
+		verify(record1).asMap();
+		verify(session).close();
+	}
+
+	@Test
+	void implicitTransactionsShouldNotTakePartInSynchronizedTransactions() {
+
+		prepareMocks();
+		when(session.run(anyString(), anyMap())).thenReturn(result);
+		when(result.consume()).thenReturn(resultSummary);
+
+		Neo4jClient client = Neo4jClient.create(driver);
+
+		String query = "MATCH (n) CALL { WITH n DETACH DELETE n } IN TRANSACTIONS OF 10 ROWS";
+		TransactionSynchronizationManager.initSynchronization();
+		try {
+			client.query(query).inImplicitTransaction().run();
+		} finally {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+
+		verify(driver).session(any(SessionConfig.class));
+		verify(session).run(eq(query), anyMap());
+		verify(session, never()).beginTransaction(any(TransactionConfig.class));
+		verify(result).consume();
+		verify(resultSummary).notifications();
+		verify(resultSummary).hasPlan();
+		verify(session).close();
+	}
+
 	@Nested
 	@DisplayName("Callback handling should feel good")
 	class CallbackHandlingShouldFeelGood {
@@ -46,9 +46,11 @@ import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
@@ -355,6 +357,37 @@ class ReactiveNeo4jClientTest {
 		verify(session).close();
 	}
 
+	@Test
+	void fetchSizeShouldBeUsedForNewSessionsAndLimitTheDemand() {
+
+		prepareMocks();
+
+		List<Long> requests = new CopyOnWriteArrayList<>();
+		when(session.run(anyString(), anyMap())).thenReturn(Mono.just(result));
+		when(result.records()).thenReturn(Flux.just(record1, record2).doOnRequest(requests::add));
+		when(result.consume()).thenReturn(Mono.just(resultSummary));
+
+		ReactiveNeo4jClient client = ReactiveNeo4jClient.create(driver);
+
+		String query = "MATCH (n) RETURN n";
+		StepVerifier.create(client.query(query).withFetchSize(1).fetch().all())
+				.expectNextCount(2L)
+				.verifyComplete();
+
+		verify(driver).session(eq(ReactiveSession.class), configArgumentCaptor.capture());
+		assertThat(configArgumentCaptor.getValue().fetchSize()).hasValue(1L);
+		assertThat(requests).isNotEmpty().allMatch(n -> n == 1L);
+
+		verify(session).run(eq(query), anyMap());
+		verify(result).records();
+		verify(result).consume();
+		verify(resultSummary).notifications();
+		verify(resultSummary).hasPlan();
+		verify(record1).asMap();
+		verify(record2).asMap();
+		verify(session).close();
+	}
+
 	@Nested
 	@DisplayName("Callback handling should feel good")
 	class CallbackHandlingShouldFeelGood {
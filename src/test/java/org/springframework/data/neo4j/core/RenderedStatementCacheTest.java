@@ -0,0 +1,137 @@
+/*
+ * Copyright 2011-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.cypherdsl.core.Cypher;
+import org.neo4j.cypherdsl.core.Statement;
+import org.neo4j.cypherdsl.core.renderer.Configuration;
+import org.neo4j.cypherdsl.core.renderer.Dialect;
+import org.neo4j.cypherdsl.core.renderer.Renderer;
+import org.springframework.data.neo4j.core.RenderedStatementCache.Key;
+import org.springframework.data.neo4j.core.RenderedStatementCache.Operation;
+import org.springframework.data.neo4j.core.mapping.NodeDescription;
+
+/**
+ * @author agent
+ */
+class RenderedStatementCacheTest {
+
+	private final AtomicInteger builtStatements = new AtomicInteger();
+
+	private final Supplier<Statement> statementSupplier = () -> {
+		builtStatements.incrementAndGet();
+		return Cypher.match(Cypher.node("Test").named("n")).returning("n").build();
+	};
+
+	@Test
+	void shouldRenderStatementsOnlyOnce() {
+
+		RenderedStatementCache cache = new RenderedStatementCache(Renderer.getDefaultRenderer());
+		NodeDescription<?> nodeDescription = mock(NodeDescription.class);
+
+		String first = cache.getOrRender(Key.of(Operation.SAVE, nodeDescription, true), statementSupplier);
+		String second = cache.getOrRender(Key.of(Operation.SAVE, nodeDescription, true), statementSupplier);
+
+		assertThat(first).isEqualTo("MATCH (n:`Test`) RETURN n").isSameAs(second);
+		assertThat(builtStatements).hasValue(1);
+		assertThat(cache.getHitCount()).isOne();
+		assertThat(cache.getMissCount()).isOne();
+		assertThat(cache.getSize()).isOne();
+	}
+
+	@Test
+	void shouldDistinguishOperationsAndEntities() {
+
+		RenderedStatementCache cache = new RenderedStatementCache(Renderer.getDefaultRenderer());
+		NodeDescription<?> nodeDescription1 = mock(NodeDescription.class);
+		NodeDescription<?> nodeDescription2 = mock(NodeDescription.class);
+
+		cache.getOrRender(Key.of(Operation.SAVE, nodeDescription1, true), statementSupplier);
+		cache.getOrRender(Key.of(Operation.SAVE, nodeDescription1, false), statementSupplier);
+		cache.getOrRender(Key.of(Operation.DELETE_ALL, nodeDescription1), statementSupplier);
+		cache.getOrRender(Key.of(Operation.DELETE_ALL, nodeDescription2), statementSupplier);
+
+		assertThat(builtStatements).hasValue(4);
+		assertThat(cache.getHitCount()).isZero();
+		assertThat(cache.getMissCount()).isEqualTo(4);
+	}
+
+	@Test
+	void shouldNotCacheWithoutKey() {
+
+		RenderedStatementCache cache = new RenderedStatementCache(Renderer.getDefaultRenderer());
+
+		cache.getOrRender(null, statementSupplier);
+		cache.getOrRender(null, statementSupplier);
+
+		assertThat(builtStatements).hasValue(2);
+		assertThat(cache.getHitCount()).isZero();
+		assertThat(cache.getMissCount()).isZero();
+		assertThat(cache.getSize()).isZero();
+	}
+
+	@Test
+	void shouldBeBounded() {
+
+		RenderedStatementCache cache = new RenderedStatementCache(Renderer.getDefaultRenderer(), 2);
+
+		for (int i = 0; i < 5; ++i) {
+			cache.getOrRender(Key.of(Operation.LOAD_ALL, mock(NodeDescription.class)), statementSupplier);
+		}
+
+		assertThat(builtStatements).hasValue(5);
+		assertThat(cache.getSize()).isEqualTo(2);
+		assertThat(cache.getMaximumSize()).isEqualTo(2);
+	}
+
+	@Test
+	void shouldEvictTheLeastRecentlyUsedStatement() {
+
+		RenderedStatementCache cache = new RenderedStatementCache(Renderer.getDefaultRenderer(), 2);
+		Key first = Key.of(Operation.LOAD_ALL, mock(NodeDescription.class));
+		Key second = Key.of(Operation.LOAD_ALL, mock(NodeDescription.class));
+		Key third = Key.of(Operation.LOAD_ALL, mock(NodeDescription.class));
+
+		cache.getOrRender(first, statementSupplier);
+		cache.getOrRender(second, statementSupplier);
+		cache.getOrRender(first, statementSupplier);
+		cache.getOrRender(third, statementSupplier);
+		assertThat(builtStatements).hasValue(3);
+
+		cache.getOrRender(first, statementSupplier);
+		assertThat(builtStatements).hasValue(3);
+
+		cache.getOrRender(second, statementSupplier);
+		assertThat(builtStatements).hasValue(4);
+		assertThat(cache.getSize()).isEqualTo(2);
+	}
+
+	@Test
+	void shouldDetectElementIdSupport() {
+
+		assertThat(new RenderedStatementCache(Renderer.getDefaultRenderer()).rendersElementId()).isTrue();
+
+		Renderer neo4j4Renderer = Renderer.getRenderer(Configuration.newConfig().withDialect(Dialect.NEO4J_4).build());
+		assertThat(new RenderedStatementCache(neo4j4Renderer).rendersElementId()).isFalse();
+	}
+}
@@ -18,9 +18,21 @@ package org.springframework.data.neo4j.core;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 
+import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.neo4j.cypherdsl.core.renderer.Renderer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.neo4j.core.mapping.Neo4jMappingContext;
+import org.springframework.data.neo4j.core.mapping.Neo4jPersistentEntity;
+import org.springframework.data.neo4j.core.mapping.PropertyFilter;
+import org.springframework.data.neo4j.core.schema.Id;
+import org.springframework.data.neo4j.core.schema.Node;
+import org.springframework.data.neo4j.repository.query.QueryFragmentsAndParameters;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 
 /**
  * @author Michael J. Simons
@@ -134,4 +146,82 @@ class TemplateSupportTest {
 		type = TemplateSupport.findCommonElementType(Arrays.asList(new B(), new A(), new A()));
 		assertThat(type).isNull();
 	}
+
+	@Nested
+	class ProjectedPaths {
+
+		private final Neo4jMappingContext mappingContext = new Neo4jMappingContext();
+
+		private final ProjectionFactory projectionFactory = new SpelAwareProxyProjectionFactory();
+
+		@Test
+		void shouldOnlyReturnPropertiesOfClosedProjections() {
+
+			String cypher = renderFindAll(TemplateSupport.computeProjectedPaths(mappingContext, projectionFactory,
+					WideEntity.class, ClosedProjection.class));
+
+			assertThat(cypher).contains(".a").doesNotContain(".b").doesNotContain(".c");
+		}
+
+		@Test
+		void shouldOnlyReturnPropertiesOfDtoProjections() {
+
+			String cypher = renderFindAll(TemplateSupport.computeProjectedPaths(mappingContext, projectionFactory,
+					WideEntity.class, DtoProjection.class));
+
+			assertThat(cypher).contains(".a").contains(".b").doesNotContain(".c");
+		}
+
+		@Test
+		void shouldReturnWholeEntitiesForOpenProjections() {
+
+			Collection<PropertyFilter.ProjectedPath> projectedPaths = TemplateSupport.computeProjectedPaths(
+					mappingContext, projectionFactory, WideEntity.class, OpenProjection.class);
+
+			assertThat(projectedPaths).isEmpty();
+			assertThat(renderFindAll(projectedPaths)).contains(".a").contains(".b").contains(".c");
+		}
+
+		@Test
+		void shouldReturnWholeEntitiesWithoutProjection() {
+
+			assertThat(TemplateSupport.computeProjectedPaths(mappingContext, projectionFactory, WideEntity.class, null)).isEmpty();
+			assertThat(TemplateSupport.computeProjectedPaths(mappingContext, projectionFactory, WideEntity.class, WideEntity.class)).isEmpty();
+			assertThat(TemplateSupport.computeProjectedPaths(mappingContext, null, WideEntity.class, ClosedProjection.class)).isEmpty();
+		}
+
+		private String renderFindAll(Collection<PropertyFilter.ProjectedPath> projectedPaths) {
+
+			Neo4jPersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(WideEntity.class);
+			return Renderer.getDefaultRenderer().render(
+					QueryFragmentsAndParameters.forFindAll(entity, projectedPaths).getQueryFragments().toStatement());
+		}
+	}
+
+	@Node
+	static class WideEntity {
+
+		@Id
+		String id;
+
+		String a;
+
+		String b;
+
+		String c;
+	}
+
+	interface ClosedProjection {
+
+		String getA();
+	}
+
+	interface OpenProjection {
+
+		@Value("#{target.a + target.b}")
+		String getAB();
+	}
+
+	record DtoProjection(String a, String b) {
+	}
 }
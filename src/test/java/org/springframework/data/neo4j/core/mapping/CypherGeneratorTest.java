@@ -21,8 +21,10 @@ import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.when;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.UnaryOperator;
 import java.util.regex.Pattern;
 import java.util.stream.Stream;
 
@@ -38,9 +40,11 @@ import org.neo4j.cypherdsl.core.Statement;
 import org.neo4j.cypherdsl.core.renderer.Configuration;
 import org.neo4j.cypherdsl.core.renderer.Dialect;
 import org.neo4j.cypherdsl.core.renderer.Renderer;
+import org.springframework.data.annotation.Version;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.neo4j.core.schema.Id;
 import org.springframework.data.neo4j.core.schema.Node;
+import org.springframework.util.StringUtils;
 
 /**
  * @author Davide Fantuzzi
@@ -149,6 +153,67 @@ class CypherGeneratorTest {
 		Assertions.assertEquals(expectedQuery, Renderer.getRenderer(Configuration.newConfig().withDialect(Dialect.NEO4J_5).build()).render(statement));
 	}
 
+	@Test
+	void shouldCreateLookupOfMultipleInstances() {
+
+		Neo4jPersistentEntity<?> persistentEntity = new Neo4jMappingContext().getPersistentEntity(Entity2.class);
+
+		Statement statement = CypherGenerator.INSTANCE.prepareLoadOfMultipleInstancesOf(persistentEntity);
+
+		String expectedQuery = "MATCH (entity2:`Entity2`) WHERE entity2.id IN $__ids__ RETURN elementId(entity2) AS __elementId__, entity2.id AS __id__";
+		Assertions.assertEquals(expectedQuery, Renderer.getRenderer(Configuration.newConfig().withDialect(Dialect.NEO4J_5).build()).render(statement));
+	}
+
+	@Test
+	void shouldCreateBulkSaveOfMultipleInstances() {
+
+		Neo4jPersistentEntity<?> persistentEntity = new Neo4jMappingContext().getPersistentEntity(Entity2.class);
+
+		Statement statement = CypherGenerator.INSTANCE.prepareBulkSaveOfMultipleInstancesOf(persistentEntity, UnaryOperator.identity());
+
+		String expectedQuery = "UNWIND $__entities__ AS entity MERGE (entity2:`Entity2` {id: entity.__id__}) SET entity2 += entity.__properties__ RETURN elementId(entity2) AS __elementId__, entity2.id AS __id__";
+		Assertions.assertEquals(expectedQuery, Renderer.getRenderer(Configuration.newConfig().withDialect(Dialect.NEO4J_5).build()).render(statement));
+	}
+
+	@Test
+	void shouldCreateLookupOfDynamicLabelsOfMultipleInstances() {
+
+		Neo4jPersistentEntity<?> persistentEntity = new Neo4jMappingContext().getPersistentEntity(Entity2.class);
+
+		Statement statement = CypherGenerator.INSTANCE.createStatementReturningDynamicLabelsOfMultipleInstances(persistentEntity);
+
+		String expectedQuery = "MATCH (entity2:`Entity2`) WHERE entity2.id IN $__ids__ UNWIND labels(entity2) AS label WITH entity2, label WHERE NOT (label IN $__staticLabels__) RETURN entity2.id AS __id__, collect(label) AS __nodeLabels__";
+		Assertions.assertEquals(expectedQuery, Renderer.getRenderer(Configuration.newConfig().withDialect(Dialect.NEO4J_5).build()).render(statement));
+	}
+
+	@Test
+	void shouldCreateMatchOfReachableSubgraph() {
+
+		Neo4jPersistentEntity<?> persistentEntity = new Neo4jMappingContext().getPersistentEntity(Entity2.class);
+
+		Statement statement = CypherGenerator.INSTANCE
+				.prepareMatchOfReachableSubgraph(persistentEntity, List.of("A", "B"), 3, null, null)
+				.returning(Constants.NAME_OF_ROOT_NODE).build();
+
+		String cypher = Renderer.getRenderer(Configuration.newConfig().withDialect(Dialect.NEO4J_5).build()).render(statement);
+		assertThat(cypher)
+				.startsWith("MATCH (entity2:`Entity2`) WITH collect(entity2) AS n WITH n, n AS __visited__, n AS __frontier__, [] AS __sr__, [] AS __srn__ UNWIND CASE ")
+				.doesNotContain("*")
+				.endsWith("WITH n, __sr__, __srn__ RETURN n");
+		// One expansion per level, each starting only from the nodes first reached on the level before
+		assertThat(StringUtils.countOccurrencesOf(cypher, "OPTIONAL MATCH (__start__)-[__relationship__:`A`|`B`]-(__related__)"))
+				.isEqualTo(3);
+	}
+
+	@Test
+	void shouldNotCreateMatchOfReachableSubgraphWithoutDepth() {
+
+		Neo4jPersistentEntity<?> persistentEntity = new Neo4jMappingContext().getPersistentEntity(Entity2.class);
+
+		assertThatIllegalArgumentException().isThrownBy(() -> CypherGenerator.INSTANCE
+				.prepareMatchOfReachableSubgraph(persistentEntity, List.of(), 0, null, null));
+	}
+
 	private static Stream<Arguments> pageables() {
 		return Stream.of(
 				Arguments.of(Sort.by("a", "b").and(
@@ -255,6 +320,47 @@ class CypherGeneratorTest {
 		assertThat(renderedStatement).doesNotContainPattern(typedRelationshipsPattern);
 	}
 
+	@Test
+	void saveShouldOnlyReturnTheIdentityOfTheNode() {
+
+		Neo4jPersistentEntity<?> persistentEntity = new Neo4jMappingContext().getPersistentEntity(Entity1.class);
+		Statement statement = CypherGenerator.INSTANCE.prepareSaveOf(persistentEntity, UnaryOperator.identity(), true);
+
+		String cypher = Renderer.getRenderer(Configuration.newConfig().withDialect(Dialect.NEO4J_5).build()).render(statement);
+		assertThat(Pattern.compile("RETURN elementId\\(\\w+\\) AS __elementId__").matcher(cypher).results()).hasSize(2);
+		assertThat(cypher).doesNotContain("__internalNeo4jId__", "__version__");
+	}
+
+	@Test
+	void saveShouldReturnTheVersionOfVersionedNodes() {
+
+		Neo4jPersistentEntity<?> persistentEntity = new Neo4jMappingContext().getPersistentEntity(VersionedEntity.class);
+		Statement statement = CypherGenerator.INSTANCE.prepareSaveOf(persistentEntity, UnaryOperator.identity(), true);
+
+		String cypher = Renderer.getRenderer(Configuration.newConfig().withDialect(Dialect.NEO4J_5).build()).render(statement);
+		assertThat(Pattern.compile("RETURN elementId\\(\\w+\\) AS __elementId__, \\w+\\.version AS __version__").matcher(cypher).results()).hasSize(2);
+	}
+
+	@Test
+	void saveShouldReturnInternalIdsWhenElementIdsCannotBeUsed() {
+
+		Neo4jPersistentEntity<?> persistentEntity = new Neo4jMappingContext().getPersistentEntity(Entity1.class);
+		Statement statement = CypherGenerator.INSTANCE.prepareSaveOf(persistentEntity, UnaryOperator.identity(), false);
+
+		String cypher = Renderer.getRenderer(Configuration.newConfig().withDialect(Dialect.NEO4J_5).build()).render(statement);
+		assertThat(Pattern.compile("RETURN elementId\\(\\w+\\) AS __elementId__, id\\(\\w+\\) AS __internalNeo4jId__").matcher(cypher).results()).hasSize(2);
+	}
+
+	@Node
+	private static class VersionedEntity {
+
+		@Id private Long id;
+
+		@Version private Long version;
+
+		private String name;
+	}
+
 	@Node
 	private static class Entity1 {
 
@@ -24,6 +24,8 @@ import java.time.Period;
 import java.time.format.DateTimeParseException;
 import java.time.temporal.TemporalAmount;
 import java.util.Date;
+import java.util.List;
+import java.util.Locale;
 
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -32,7 +34,9 @@ import org.neo4j.driver.Values;
 import org.neo4j.driver.exceptions.value.Uncoercible;
 import org.springframework.core.convert.ConversionFailedException;
 import org.springframework.core.convert.ConverterNotFoundException;
+import org.springframework.core.convert.converter.Converter;
 import org.springframework.dao.TypeMismatchDataAccessException;
+import org.springframework.data.convert.ReadingConverter;
 import org.springframework.data.neo4j.core.ReactiveNeo4jClient;
 import org.springframework.data.neo4j.core.convert.Neo4jConversions;
 import org.springframework.data.util.TypeInformation;
@@ -108,4 +112,59 @@ class DefaultNeo4jConversionServiceTest {
 					.withRootCauseInstanceOf(ConverterNotFoundException.class);
 		}
 	}
+
+	@Nested
+	class Codecs {
+
+		@Test
+		void nativeCodecsShouldReadAndWriteLikeTheConversionService() {
+
+			PropertyCodec codec = defaultNeo4jEntityAccessor.compileCodec(TypeInformation.of(long.class), null);
+
+			assertThat(codec.read(Values.value(42L))).isEqualTo(42L);
+			assertThat(codec.read(Values.NULL)).isNull();
+			assertThat(codec.read(null)).isNull();
+			assertThat(codec.write(42L)).isEqualTo(defaultNeo4jEntityAccessor.writeValue(42L, TypeInformation.of(long.class), null));
+			assertThat(codec.write(null)).isNull();
+		}
+
+		@Test
+		void nativeCodecsShouldCatchUncoercibleErrors() {
+
+			PropertyCodec codec = defaultNeo4jEntityAccessor.compileCodec(TypeInformation.of(LocalDate.class), null);
+			Value value = Values.value("Das funktioniert nicht.");
+
+			assertThatExceptionOfType(TypeMismatchDataAccessException.class)
+					.isThrownBy(() -> codec.read(value))
+					.withMessageStartingWith("Could not convert \"Das funktioniert nicht.\" into java.time.LocalDate")
+					.withRootCauseInstanceOf(Uncoercible.class);
+		}
+
+		@Test
+		void codecsShouldUseConvertersProvidedByTheUser() {
+
+			DefaultNeo4jConversionService conversionService = new DefaultNeo4jConversionService(
+					new Neo4jConversions(List.of(new ShoutingConverter())));
+			PropertyCodec codec = conversionService.compileCodec(TypeInformation.of(String.class), null);
+
+			assertThat(codec.read(Values.value("hello"))).isEqualTo("HELLO");
+		}
+
+		@Test
+		void codecsShouldFallBackToTheConversionService() {
+
+			PropertyCodec codec = defaultNeo4jEntityAccessor.compileCodec(TypeInformation.of(Period.class), null);
+
+			assertThat(codec.read(Values.isoDuration(0, 0, 0, 0))).isEqualTo(Period.ZERO);
+		}
+	}
+
+	@ReadingConverter
+	static class ShoutingConverter implements Converter<Value, String> {
+
+		@Override
+		public String convert(Value source) {
+			return source.asString().toUpperCase(Locale.ROOT);
+		}
+	}
 }
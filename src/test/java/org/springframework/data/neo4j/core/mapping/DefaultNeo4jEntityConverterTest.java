@@ -19,8 +19,11 @@ import org.junit.jupiter.api.Test;
 import org.neo4j.driver.Value;
 import org.neo4j.driver.Values;
 import org.neo4j.driver.internal.InternalNode;
+import org.neo4j.driver.internal.InternalRecord;
+import org.neo4j.driver.internal.InternalRelationship;
 import org.neo4j.driver.internal.types.InternalTypeSystem;
 import org.neo4j.driver.internal.value.NodeValue;
+import org.neo4j.driver.internal.value.RelationshipValue;
 import org.neo4j.driver.types.TypeSystem;
 import org.springframework.data.mapping.callback.EntityCallbacks;
 import org.springframework.data.mapping.model.EntityInstantiators;
@@ -29,10 +32,12 @@ import org.springframework.data.neo4j.core.mapping.callback.EventSupport;
 import org.springframework.data.neo4j.core.schema.GeneratedValue;
 import org.springframework.data.neo4j.core.schema.Id;
 import org.springframework.data.neo4j.core.schema.Node;
+import org.springframework.data.neo4j.core.schema.Relationship;
 import org.springframework.data.util.TypeInformation;
 
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -84,6 +89,69 @@ class DefaultNeo4jEntityConverterTest {
 		assertThat(readNode.defaultValue).isEqualTo("valueFromDatabase2");
 	}
 
+	@Test
+	void copiesShouldNotShareMappingState() {
+		NodeValue mapAccessor = new NodeValue(
+				new InternalNode(1L, Collections.singleton("EntityWithDefaultValues"), Map.of("defaultValue", Values.value("v")))
+		);
+
+		EntityWithDefaultValues first = entityConverter.read(EntityWithDefaultValues.class, mapAccessor);
+		EntityWithDefaultValues sameResult = entityConverter.read(EntityWithDefaultValues.class, mapAccessor);
+		EntityWithDefaultValues otherResult = entityConverter.withNewMappingState().read(EntityWithDefaultValues.class, mapAccessor);
+
+		assertThat(first).isNotNull().isSameAs(sameResult);
+		assertThat(otherResult).isNotNull().isNotSameAs(first);
+		assertThat(otherResult.defaultValue).isEqualTo("v");
+	}
+
+	@Test
+	void readRelationshipsOnlyFromMatchingStartNodeAndType() {
+		Neo4jMappingContext context = new Neo4jMappingContext();
+		NodeDescriptionStore nodeDescriptionStore = new NodeDescriptionStore();
+		for (Class<?> type : List.of(PersonWithFriends.class, Friend.class)) {
+			DefaultNeo4jPersistentEntity<?> entity = (DefaultNeo4jPersistentEntity<?>) context.getPersistentEntity(type);
+			nodeDescriptionStore.put(entity.getPrimaryLabel(), entity);
+		}
+		DefaultNeo4jEntityConverter converter = new DefaultNeo4jEntityConverter(new EntityInstantiators(), nodeDescriptionStore,
+				new DefaultNeo4jConversionService(new Neo4jConversions()), EventSupport.useExistingCallbacks(context, EntityCallbacks.create()),
+				InternalTypeSystem.TYPE_SYSTEM);
+
+		Value person = new NodeValue(new InternalNode(1L, Collections.singleton("PersonWithFriends"), Map.of("name", Values.value("P1"))));
+		Value otherPerson = new NodeValue(new InternalNode(5L, Collections.singleton("Stranger"), Map.of("name", Values.value("P2"))));
+		Value friends = Values.value(
+				new NodeValue(new InternalNode(2L, Collections.singleton("Friend"), Map.of("name", Values.value("F2")))),
+				new NodeValue(new InternalNode(3L, Collections.singleton("Friend"), Map.of("name", Values.value("F3")))),
+				new NodeValue(new InternalNode(4L, Collections.singleton("Friend"), Map.of("name", Values.value("F4")))),
+				new NodeValue(new InternalNode(6L, Collections.singleton("Friend"), Map.of("name", Values.value("F6"))))
+		);
+		Value relationships = Values.value(
+				new RelationshipValue(new InternalRelationship(10L, 1L, 2L, "KNOWS")),
+				new RelationshipValue(new InternalRelationship(11L, 1L, 3L, "KNOWS")),
+				new RelationshipValue(new InternalRelationship(12L, 1L, 4L, "LIKES")),
+				new RelationshipValue(new InternalRelationship(13L, 5L, 6L, "KNOWS"))
+		);
+		InternalRecord record = new InternalRecord(List.of("n", "otherPerson", "nodes", "relationships"),
+				new Value[] {person, otherPerson, friends, relationships});
+
+		PersonWithFriends readNode = converter.read(PersonWithFriends.class, record);
+		assertThat(readNode).isNotNull();
+		assertThat(readNode.friends).extracting(f -> f.name).containsExactly("F2", "F3");
+	}
+
+	@Node
+	static class PersonWithFriends {
+		@Id @GeneratedValue Long id;
+		public String name;
+		@Relationship("KNOWS")
+		public List<Friend> friends;
+	}
+
+	@Node
+	static class Friend {
+		@Id @GeneratedValue Long id;
+		public String name;
+	}
+
 	@Node
 	static class EntityWithDefaultValues {
 		@Id @GeneratedValue Long id;
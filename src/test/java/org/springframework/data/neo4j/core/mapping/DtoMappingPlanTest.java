@@ -0,0 +1,133 @@
+/*
+ * Copyright 2011-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.core.mapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.driver.Value;
+import org.neo4j.driver.Values;
+import org.neo4j.driver.internal.InternalNode;
+import org.neo4j.driver.internal.InternalRecord;
+import org.neo4j.driver.internal.types.InternalTypeSystem;
+import org.neo4j.driver.internal.value.NodeValue;
+import org.springframework.data.neo4j.core.schema.Id;
+import org.springframework.data.neo4j.core.schema.Node;
+import org.springframework.data.neo4j.core.schema.Relationship;
+
+/**
+ * @author agent
+ */
+class DtoMappingPlanTest {
+
+	private final Neo4jMappingContext context = new Neo4jMappingContext();
+
+	@Test
+	void plansShouldBeComputedOnlyOnce() {
+
+		assertThat(context.getDtoMappingPlan(Person.class, PersonSummary.class))
+				.isSameAs(context.getDtoMappingPlan(Person.class, PersonSummary.class));
+	}
+
+	@Test
+	void shouldReadDtosDirectlyFromRecords() {
+
+		DtoMappingPlan plan = context.getDtoMappingPlan(Person.class, PersonSummary.class);
+		assertThat(plan.canReadDirectly()).isTrue();
+
+		Value person = new NodeValue(new InternalNode(1L, Set.of("Person"),
+				Map.of("id", Values.value("p1"), "name", Values.value("Alice"))));
+		InternalRecord record = new InternalRecord(List.of("n", "numberOfFriends"),
+				new Value[] {person, Values.value(2L)});
+
+		Object dto = plan.read(InternalTypeSystem.TYPE_SYSTEM, record);
+		assertThat(dto).isEqualTo(new PersonSummary("Alice", 2L));
+	}
+
+	@Test
+	void additionalColumnsShouldTakePrecedence() {
+
+		DtoMappingPlan plan = context.getDtoMappingPlan(Person.class, PersonSummary.class);
+
+		Value person = new NodeValue(new InternalNode(1L, Set.of("Person"),
+				Map.of("id", Values.value("p1"), "name", Values.value("Alice"))));
+		InternalRecord record = new InternalRecord(List.of("n", "name", "numberOfFriends"),
+				new Value[] {person, Values.value("Alice Cooper"), Values.value(2L)});
+
+		assertThat(plan.read(InternalTypeSystem.TYPE_SYSTEM, record)).isEqualTo(new PersonSummary("Alice Cooper", 2L));
+	}
+
+	@Test
+	void shouldNotReadDirectlyWhenValuesAreMissingOrAmbiguous() {
+
+		DtoMappingPlan plan = context.getDtoMappingPlan(Person.class, PersonSummary.class);
+
+		Value withoutName = new NodeValue(new InternalNode(1L, Set.of("Person"), Map.of("id", Values.value("p1"))));
+		assertThat(plan.read(InternalTypeSystem.TYPE_SYSTEM, new InternalRecord(List.of("n"), new Value[] {withoutName})))
+				.isNull();
+
+		Value alice = new NodeValue(new InternalNode(1L, Set.of("Person"), Map.of("name", Values.value("Alice"))));
+		Value bob = new NodeValue(new InternalNode(2L, Set.of("Person"), Map.of("name", Values.value("Bob"))));
+		assertThat(plan.read(InternalTypeSystem.TYPE_SYSTEM, new InternalRecord(List.of("a", "b"), new Value[] {alice, bob})))
+				.isNull();
+	}
+
+	@Test
+	void shouldNotReadDtosWithRelatedObjectsDirectly() {
+
+		assertThat(context.getDtoMappingPlan(Person.class, PersonWithBestFriend.class).canReadDirectly()).isFalse();
+	}
+
+	@Test
+	void shouldConvertDomainObjects() {
+
+		Person person = new Person("p1", "Alice");
+		person.bestFriend = new Person("p2", "Bob");
+
+		Object dto = context.getDtoMappingPlan(Person.class, PersonWithBestFriend.class).convertDirectly(person);
+		assertThat(dto).isInstanceOfSatisfying(PersonWithBestFriend.class, v -> {
+			assertThat(v.name()).isEqualTo("Alice");
+			assertThat(v.bestFriend()).isEqualTo(new PersonSummary("Bob", null));
+		});
+	}
+
+	@Node
+	static class Person {
+
+		@Id
+		String id;
+
+		String name;
+
+		@Relationship("BEST_FRIEND")
+		Person bestFriend;
+
+		Person(String id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	record PersonSummary(String name, Long numberOfFriends) {
+	}
+
+	record PersonWithBestFriend(String name, PersonSummary bestFriend) {
+	}
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2011-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.core.observation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.observation.tck.TestObservationRegistry;
+import io.micrometer.observation.tck.TestObservationRegistryAssert;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.driver.summary.DatabaseInfo;
+import org.neo4j.driver.summary.QueryType;
+import org.neo4j.driver.summary.ResultSummary;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * @author agent
+ */
+class DefaultQueryObservationConventionTest {
+
+	private final QueryObservationConvention convention = DefaultQueryObservationConvention.INSTANCE;
+
+	@Test
+	void shouldUseDefaultsWithoutSummaryAndRepositoryMethod() {
+
+		QueryObservationContext context = new QueryObservationContext();
+		context.setCypher("MATCH (n) RETURN n");
+
+		assertThat(convention.getLowCardinalityKeyValues(context)).containsExactlyInAnyOrder(
+				KeyValue.of("db.system", "neo4j"),
+				KeyValue.of("db.name", "default"),
+				KeyValue.of("db.operation", "none"),
+				KeyValue.of("spring.data.repository.method", "none"),
+				KeyValue.of("spring.data.neo4j.query.type", "none")
+		);
+		assertThat(convention.getHighCardinalityKeyValues(context)).containsExactlyInAnyOrder(
+				KeyValue.of("db.statement", "MATCH (n) RETURN n"),
+				KeyValue.of("spring.data.neo4j.records", "0"),
+				KeyValue.of("spring.data.neo4j.client.mapping.time", "0.0")
+		);
+	}
+
+	@Test
+	void shouldPreferValuesReportedByTheServer() {
+
+		DatabaseInfo databaseInfo = mock(DatabaseInfo.class);
+		when(databaseInfo.name()).thenReturn("movies");
+		ResultSummary resultSummary = mock(ResultSummary.class);
+		when(resultSummary.database()).thenReturn(databaseInfo);
+		when(resultSummary.queryType()).thenReturn(QueryType.READ_ONLY);
+		when(resultSummary.resultAvailableAfter(TimeUnit.MILLISECONDS)).thenReturn(23L);
+		when(resultSummary.resultConsumedAfter(TimeUnit.MILLISECONDS)).thenReturn(42L);
+
+		QueryObservationContext context = new QueryObservationContext();
+		context.setDatabaseName("selected");
+		context.setResultSummary(resultSummary);
+		context.recordMapping(1_500_000L);
+		context.recordMapping(500_000L);
+
+		assertThat(convention.getLowCardinalityKeyValues(context)).contains(
+				KeyValue.of("db.name", "movies"),
+				KeyValue.of("db.operation", "read_only")
+		);
+		assertThat(convention.getHighCardinalityKeyValues(context)).contains(
+				KeyValue.of("spring.data.neo4j.records", "2"),
+				KeyValue.of("spring.data.neo4j.client.mapping.time", "2.0"),
+				KeyValue.of("spring.data.neo4j.server.result.available.after", "23"),
+				KeyValue.of("spring.data.neo4j.server.result.consumed.after", "42")
+		);
+	}
+
+	@Test
+	void shouldTagQueriesWithTheSurroundingRepositoryMethod() {
+
+		TestObservationRegistry registry = TestObservationRegistry.create();
+		RepositoryMethodObservationContext repositoryMethodContext = new RepositoryMethodObservationContext(
+				SomeRepository.class, ReflectionUtils.findMethod(SomeRepository.class, "findAllByName", String.class),
+				RepositoryMethodObservationContext.QUERY_TYPE_DERIVED);
+
+		Neo4jObservation.REPOSITORY_METHOD
+				.observation(null, DefaultRepositoryMethodObservationConvention.INSTANCE, () -> repositoryMethodContext, registry)
+				.observe(() -> Neo4jObservation.QUERY
+						.observation(null, DefaultQueryObservationConvention.INSTANCE, QueryObservationContext::new, registry)
+						.observe(() -> {
+						}));
+
+		TestObservationRegistryAssert.assertThat(registry)
+				.hasObservationWithNameEqualTo("spring.data.neo4j.repository.method")
+				.that()
+				.hasLowCardinalityKeyValue("spring.data.repository.method", "SomeRepository#findAllByName")
+				.hasLowCardinalityKeyValue("spring.data.neo4j.query.type", "derived");
+		TestObservationRegistryAssert.assertThat(registry)
+				.hasObservationWithNameEqualTo("spring.data.neo4j.query")
+				.that()
+				.hasContextualNameEqualTo("neo4j query SomeRepository#findAllByName")
+				.hasLowCardinalityKeyValue("spring.data.repository.method", "SomeRepository#findAllByName")
+				.hasLowCardinalityKeyValue("spring.data.neo4j.query.type", "derived");
+	}
+
+	interface SomeRepository {
+
+		void findAllByName(String name);
+	}
+}
@@ -27,6 +27,7 @@ import java.util.function.Supplier;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.neo4j.driver.Bookmark;
+import org.springframework.data.neo4j.core.DatabaseSelection;
 
 /**
  * @author Dmitriy Tverdiakov
@@ -66,6 +67,67 @@ class BookmarkManagerTest {
 				.isThrownBy(bookmarks::clear);
 	}
 
+	@ParameterizedTest
+	@ValueSource(classes = {DefaultBookmarkManager.class, ReactiveDefaultBookmarkManager.class})
+	void shouldPartitionBookmarksByDatabase(Class<? extends Neo4jBookmarkManager> bookmarkManagerType) throws Exception {
+
+		var manager = newBookmarkManager(bookmarkManagerType);
+		var movies = DatabaseSelection.byName("movies");
+		var bm1 = Bookmark.from("bookmark 1");
+		var bm2 = Bookmark.from("bookmark 2");
+		manager.updateBookmarks(DatabaseSelection.undecided(), Collections.emptyList(), Set.of(bm1));
+		manager.updateBookmarks(movies, Collections.emptyList(), Set.of(bm2));
+
+		assertThat(manager.getBookmarks(movies)).containsExactlyInAnyOrder(bm1, bm2);
+		assertThat(manager.getBookmarks(DatabaseSelection.byName("other"))).containsExactly(bm1);
+		assertThat(manager.getBookmarks()).containsExactlyInAnyOrder(bm1, bm2);
+
+		var bm3 = Bookmark.from("bookmark 3");
+		manager.updateBookmarks(movies, manager.getBookmarks(movies), Set.of(bm3));
+		assertThat(manager.getBookmarks(movies)).containsExactly(bm3);
+		assertThat(manager.getBookmarks(DatabaseSelection.byName("other"))).isEmpty();
+		assertThat(manager.getBookmarks()).containsExactly(bm3);
+	}
+
+	@ParameterizedTest
+	@ValueSource(classes = {DefaultBookmarkManager.class, ReactiveDefaultBookmarkManager.class})
+	void shouldOnlyPruneUsedBookmarksOfTheUndecidedDatabase(Class<? extends Neo4jBookmarkManager> bookmarkManagerType) throws Exception {
+
+		var manager = newBookmarkManager(bookmarkManagerType);
+		var movies = DatabaseSelection.byName("movies");
+		var bm1 = Bookmark.from("bookmark 1");
+		manager.updateBookmarks(DatabaseSelection.undecided(), Collections.emptyList(), Set.of(bm1));
+		var usedBookmarks = manager.getBookmarks(movies);
+
+		// Received by another transaction in the meantime
+		var bm2 = Bookmark.from("bookmark 2");
+		manager.updateBookmarks(DatabaseSelection.undecided(), Collections.emptyList(), Set.of(bm2));
+
+		var bm3 = Bookmark.from("bookmark 3");
+		manager.updateBookmarks(movies, usedBookmarks, Set.of(bm3));
+		assertThat(manager.getBookmarks(movies)).containsExactlyInAnyOrder(bm2, bm3);
+		assertThat(manager.getBookmarks(DatabaseSelection.byName("other"))).containsExactly(bm2);
+	}
+
+	@ParameterizedTest
+	@ValueSource(classes = {DefaultBookmarkManager.class, ReactiveDefaultBookmarkManager.class})
+	void undecidedDatabaseShouldSeeBookmarksOfAllDatabases(Class<? extends Neo4jBookmarkManager> bookmarkManagerType) throws Exception {
+
+		// The undecided database might be the same as an explicitly named one
+		var manager = newBookmarkManager(bookmarkManagerType);
+		var bm1 = Bookmark.from("bookmark 1");
+		var bm2 = Bookmark.from("bookmark 2");
+		manager.updateBookmarks(DatabaseSelection.byName("neo4j"), Collections.emptyList(), Set.of(bm1));
+		manager.updateBookmarks(DatabaseSelection.byName("movies"), Collections.emptyList(), Set.of(bm2));
+
+		assertThat(manager.getBookmarks(DatabaseSelection.undecided())).containsExactlyInAnyOrder(bm1, bm2);
+
+		var bm3 = Bookmark.from("bookmark 3");
+		manager.updateBookmarks(DatabaseSelection.undecided(), manager.getBookmarks(DatabaseSelection.undecided()), Set.of(bm3));
+		assertThat(manager.getBookmarks(DatabaseSelection.undecided())).containsExactlyInAnyOrder(bm1, bm2, bm3);
+		assertThat(manager.getBookmarks(DatabaseSelection.byName("neo4j"))).containsExactlyInAnyOrder(bm1, bm3);
+	}
+
 	static Neo4jBookmarkManager newBookmarkManager(Class<? extends Neo4jBookmarkManager> type) throws Exception {
 		return type.getDeclaredConstructor(Supplier.class).newInstance((Supplier<?>) null);
 	}
@@ -18,10 +18,16 @@ package org.springframework.data.neo4j.core.transaction;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.junit.jupiter.api.Nested;
@@ -71,6 +77,38 @@ class Neo4jBookmarkManagerTest {
 		assertThat(asserted).isTrue();
 	}
 
+	@Test
+	void updatesShouldReturnOnlyAfterTheirBookmarksHaveBeenPublished() throws Exception {
+
+		Set<Bookmark> published = ConcurrentHashMap.newKeySet();
+		final Neo4jBookmarkManager bookmarkManager = Neo4jBookmarkManager.create();
+		bookmarkManager.setApplicationEventPublisher(event -> {
+			try {
+				Thread.sleep(1);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			published.addAll(((Neo4jBookmarksUpdatedEvent) event).getBookmarks());
+		});
+
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<Boolean>> results = new ArrayList<>();
+			for (int i = 0; i < 64; ++i) {
+				BookmarkForTesting bookmark = new BookmarkForTesting("b" + i);
+				results.add(executor.submit(() -> {
+					bookmarkManager.updateBookmarks(Set.of(), List.of(bookmark));
+					return published.contains(bookmark);
+				}));
+			}
+			for (Future<Boolean> result : results) {
+				assertThat(result.get()).isTrue();
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+
 	@Test
 	void updatesPreviouslyEmptyBookmarks() {
 
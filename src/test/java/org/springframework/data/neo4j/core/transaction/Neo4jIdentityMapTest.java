@@ -0,0 +1,70 @@
+/*
+ * Copyright 2011-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.core.transaction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author agent
+ */
+class Neo4jIdentityMapTest {
+
+	static class Animal {
+	}
+
+	static class Dog extends Animal {
+	}
+
+	@Test
+	void putShouldReplaceInstancesOfRelatedTypes() {
+
+		Neo4jIdentityMap identityMap = new Neo4jIdentityMap();
+		Animal animal = new Animal();
+		Dog dog = new Dog();
+
+		identityMap.put(Animal.class, 1L, animal);
+		identityMap.put(Dog.class, 1L, dog);
+
+		assertThat(identityMap.size()).isOne();
+		assertThat(identityMap.get(Animal.class, 1L)).isNull();
+		assertThat(identityMap.get(Dog.class, 1L)).isSameAs(dog);
+	}
+
+	@Test
+	void evictionShouldIncludeSubtypes() {
+
+		Neo4jIdentityMap identityMap = new Neo4jIdentityMap();
+		identityMap.put(Dog.class, 1L, new Dog());
+		identityMap.put(Dog.class, 2L, new Dog());
+		identityMap.put(Dog.class, 3L, new Dog());
+		identityMap.put(String.class, 1L, "x");
+
+		identityMap.evict(Animal.class, 1L);
+		assertThat(identityMap.get(Dog.class, 1L)).isNull();
+		assertThat(identityMap.get(String.class, 1L)).isEqualTo("x");
+
+		identityMap.evictAll(Animal.class, List.of(2L));
+		assertThat(identityMap.get(Dog.class, 2L)).isNull();
+		assertThat(identityMap.get(Dog.class, 3L)).isNotNull();
+
+		identityMap.evictAll(Animal.class, null);
+		assertThat(identityMap.size()).isOne();
+	}
+}
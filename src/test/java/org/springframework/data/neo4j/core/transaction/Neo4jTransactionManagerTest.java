@@ -195,6 +195,48 @@ class Neo4jTransactionManagerTest {
 		@Nested
 		class BasedOnNeo4jTransactions {
 
+			@Test
+			void identityMapShouldBeScopedToTheTransaction() {
+
+				Neo4jTransactionManager txManager = Neo4jTransactionManager.with(driver)
+						.withDatabaseSelectionProvider(() -> databaseSelection)
+						.withIdentityMap(true)
+						.build();
+				TransactionTemplate txTemplate = new TransactionTemplate(txManager);
+
+				assertThat(txManager.getCurrentIdentityMap()).isNull();
+				txTemplate.executeWithoutResult(outerStatus -> {
+
+					Neo4jIdentityMap identityMap = txManager.getCurrentIdentityMap();
+					assertThat(identityMap).isNotNull();
+					identityMap.put(String.class, 1L, "an entity");
+
+					txTemplate.executeWithoutResult(innerStatus -> {
+						assertThat(txManager.getCurrentIdentityMap()).isSameAs(identityMap);
+						assertThat(identityMap.get(String.class, 1L)).isEqualTo("an entity");
+						assertThat(identityMap.get(CharSequence.class, 1L)).isNull();
+						assertThat(identityMap.get(String.class, 2L)).isNull();
+					});
+
+					outerStatus.setRollbackOnly();
+				});
+				assertThat(txManager.getCurrentIdentityMap()).isNull();
+			}
+
+			@Test
+			void identityMapShouldBeOptIn() {
+
+				Neo4jTransactionManager txManager = Neo4jTransactionManager.with(driver)
+						.withDatabaseSelectionProvider(() -> databaseSelection)
+						.build();
+				TransactionTemplate txTemplate = new TransactionTemplate(txManager);
+
+				txTemplate.executeWithoutResult(status -> {
+					assertThat(txManager.getCurrentIdentityMap()).isNull();
+					status.setRollbackOnly();
+				});
+			}
+
 			@Test
 			void shouldUseTxFromNeo4jTxManager() {
 
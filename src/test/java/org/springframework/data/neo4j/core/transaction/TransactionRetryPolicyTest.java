@@ -0,0 +1,126 @@
+/*
+ * Copyright 2011-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.core.transaction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import io.micrometer.observation.tck.TestObservationRegistry;
+import io.micrometer.observation.tck.TestObservationRegistryAssert;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.driver.exceptions.ClientException;
+import org.neo4j.driver.exceptions.TransientException;
+
+/**
+ * @author agent
+ */
+class TransactionRetryPolicyTest {
+
+	private final TransactionRetryPolicy retryPolicy = TransactionRetryPolicy.defaults()
+			.withMaxAttempts(3)
+			.withBackoff(Duration.ofMillis(1), Duration.ofMillis(4));
+
+	@Test
+	void backoffShouldGrowExponentiallyWithinBounds() {
+
+		TransactionRetryPolicy policy = TransactionRetryPolicy.defaults()
+				.withBackoff(Duration.ofMillis(100), Duration.ofMillis(500))
+				.withJitter(0.5);
+
+		assertThat(policy.backoff(1)).isBetween(Duration.ofMillis(100), Duration.ofMillis(150));
+		assertThat(policy.backoff(2)).isBetween(Duration.ofMillis(100), Duration.ofMillis(300));
+		assertThat(policy.backoff(10)).isBetween(Duration.ofMillis(250), Duration.ofMillis(500));
+		assertThat(policy.withJitter(0).backoff(3)).isEqualTo(Duration.ofMillis(400));
+	}
+
+	@Test
+	void shouldRetryRetryableExceptions() throws Throwable {
+
+		AtomicInteger attempts = new AtomicInteger();
+		String result = retryPolicy.execute(() -> {
+			if (attempts.incrementAndGet() < 3) {
+				throw new TransientException("Neo.TransientError.Transaction.DeadlockDetected", "Deadlock");
+			}
+			return "done";
+		});
+
+		assertThat(result).isEqualTo("done");
+		assertThat(attempts).hasValue(3);
+	}
+
+	@Test
+	void shouldGiveUpAfterMaxAttempts() {
+
+		AtomicInteger attempts = new AtomicInteger();
+		assertThatExceptionOfType(TransientException.class).isThrownBy(() -> retryPolicy.execute(() -> {
+			attempts.incrementAndGet();
+			throw new TransientException("Neo.TransientError.Transaction.DeadlockDetected", "Deadlock");
+		}));
+		assertThat(attempts).hasValue(3);
+	}
+
+	@Test
+	void shouldNotRetryOtherExceptions() {
+
+		AtomicInteger attempts = new AtomicInteger();
+		assertThatExceptionOfType(ClientException.class).isThrownBy(() -> retryPolicy.execute(() -> {
+			attempts.incrementAndGet();
+			throw new ClientException("Neo.ClientError.Statement.SyntaxError", "Invalid input");
+		}));
+		assertThat(attempts).hasValue(1);
+	}
+
+	@Test
+	void shouldResubscribeReactiveSources() {
+
+		AtomicInteger attempts = new AtomicInteger();
+		Mono<String> source = Mono.fromCallable(() -> {
+			if (attempts.incrementAndGet() < 2) {
+				throw new TransientException("Neo.TransientError.Transaction.DeadlockDetected", "Deadlock");
+			}
+			return "done";
+		});
+
+		StepVerifier.create(retryPolicy.retry(source))
+				.expectNext("done")
+				.verifyComplete();
+		assertThat(attempts).hasValue(2);
+	}
+
+	@Test
+	void shouldObserveEachAttempt() throws Throwable {
+
+		TestObservationRegistry registry = TestObservationRegistry.create();
+		AtomicInteger attempts = new AtomicInteger();
+		retryPolicy.withObservationRegistry(registry).execute(() -> {
+			if (attempts.incrementAndGet() < 2) {
+				throw new TransientException("Neo.TransientError.Transaction.DeadlockDetected", "Deadlock");
+			}
+			return "done";
+		});
+
+		TestObservationRegistryAssert.assertThat(registry)
+				.hasNumberOfObservationsWithNameEqualTo("spring.data.neo4j.transaction.attempt", 2)
+				.hasAnObservationWithAKeyValue("spring.data.neo4j.transaction.attempt", "1")
+				.hasAnObservationWithAKeyValue("spring.data.neo4j.transaction.attempt", "2");
+	}
+}
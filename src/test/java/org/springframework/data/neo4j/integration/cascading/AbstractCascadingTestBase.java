@@ -23,6 +23,7 @@ import java.util.Map;
 
 import org.junit.jupiter.api.BeforeAll;
 import org.neo4j.driver.Driver;
+import org.neo4j.driver.Value;
 import org.neo4j.driver.types.TypeSystem;
 import org.springframework.beans.factory.annotation.Autowired;
 
@@ -77,6 +78,47 @@ abstract class AbstractCascadingTestBase {
 	}
 
 
+	/**
+	 * Describes every path starting at the given parent by the types of its relationships and the labels, relative
+	 * names and versions of its end node, so that the subgraphs of parents with different names can be compared.
+	 */
+	List<String> describeSubgraph(Parent instance) {
+
+		try (var session = driver.session()) {
+			return session.run("""
+							MATCH (p:%s WHERE %s) -[rels*]-> (c)
+							RETURN [r IN rels | type(r)] AS types, labels(c) AS labels, substring(c.name, size(p.name)) AS name, c.version AS version
+							""".formatted(instance.getClass().getSimpleName(), instance instanceof ExternalId ? "p.id = $id" : "elementId(p) = $id"), Map.of("id", instance.getId()))
+					.list(r -> "%s %s %s %s".formatted(r.get("types").asList(Value::asString), r.get("labels").asList(Value::asString), r.get("name").asString(), r.get("version")))
+					.stream()
+					.sorted()
+					.toList();
+		}
+	}
+
+	void assertIdsAndVersionsHaveBeenPopulated(Parent instance) {
+
+		assertThat(instance.getId()).isNotNull();
+		assertThat(instance.getSingleCUI().getId()).isNotNull();
+		assertThat(instance.getManyCUI()).allSatisfy(cui -> {
+			assertThat(cui.getId()).isNotNull();
+			assertThat(cui.getNested()).extracting(CUI::getId).doesNotContainNull();
+		});
+		assertThat(instance.getSingleCVI().getVersion()).isZero();
+		assertThat(instance.getSingleCVE().getVersion()).isZero();
+		assertThat(instance.getManyCVI()).allSatisfy(cvi -> {
+			assertThat(cvi.getId()).isNotNull();
+			assertThat(cvi.getVersion()).isZero();
+		});
+
+		try (var session = driver.session()) {
+			var sCUE = session.run("MATCH (n:CUE {id: $id}) RETURN count(n)", Map.of("id", instance.getSingleCUE().getId())).single().get(0).asLong();
+			assertThat(sCUE).isOne();
+			var sCVE = session.run("MATCH (n:CVE {id: $id}) RETURN n.version", Map.of("id", instance.getSingleCVE().getId())).single().get(0).asLong();
+			assertThat(sCVE).isZero();
+		}
+	}
+
 	<T extends Parent> void assertAllRelationshipsHaveBeenCreated(T instance) {
 
 		var type = instance.getClass();
@@ -105,4 +105,42 @@ class CascadingIT extends AbstractCascadingTestBase {
 
 		assertAllRelationshipsHaveBeenCreated(instance);
 	}
+
+	@CartesianTest
+	<T extends Parent> void batchedCascadingSavesShouldCreateTheSameGraph(
+			@Values(classes = {PUI.class, PUE.class, PVI.class, PVE.class}) Class<T> type) throws Exception {
+
+		T expected = this.template.save(type.getDeclaredConstructor(String.class).newInstance("Unbatched"));
+		T actual;
+		this.template.setBatchCascadingSaves(true);
+		try {
+			actual = this.template.save(type.getDeclaredConstructor(String.class).newInstance("Parent"));
+		} finally {
+			this.template.setBatchCascadingSaves(false);
+		}
+
+		assertAllRelationshipsHaveBeenCreated(actual);
+		assertIdsAndVersionsHaveBeenPopulated(actual);
+		assertThat(describeSubgraph(actual)).isNotEmpty().isEqualTo(describeSubgraph(expected));
+	}
+
+	@CartesianTest
+	<T extends Parent> void batchedCascadingSavesShouldNotDuplicateExistingNodes(
+			@Values(classes = {PUI.class, PUE.class, PVI.class, PVE.class}) Class<T> type) throws Exception {
+
+		this.template.setBatchCascadingSaves(true);
+		try {
+			T instance = this.template.save(type.getDeclaredConstructor(String.class).newInstance("Parent"));
+			var subgraph = describeSubgraph(instance);
+
+			T savedAgain = this.template.save(instance);
+			assertThat(savedAgain.getId()).isEqualTo(instance.getId());
+			assertThat(savedAgain.getSingleCUE().getId()).isEqualTo(instance.getSingleCUE().getId());
+			assertThat(savedAgain.getManyCUI()).extracting(CUI::getId)
+					.containsExactlyElementsOf(instance.getManyCUI().stream().map(CUI::getId).toList());
+			assertThat(describeSubgraph(savedAgain)).isEqualTo(subgraph);
+		} finally {
+			this.template.setBatchCascadingSaves(false);
+		}
+	}
 }
@@ -0,0 +1,234 @@
+/*
+ * Copyright 2011-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.integration.imperative;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import io.micrometer.observation.ObservationRegistry;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.driver.Driver;
+import org.neo4j.driver.Session;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.neo4j.core.DatabaseSelectionProvider;
+import org.springframework.data.neo4j.core.Neo4jClient;
+import org.springframework.data.neo4j.core.Neo4jTemplate;
+import org.springframework.data.neo4j.core.convert.Neo4jConversions;
+import org.springframework.data.neo4j.core.mapping.Constants;
+import org.springframework.data.neo4j.core.mapping.Neo4jMappingContext;
+import org.springframework.data.neo4j.core.observation.QueryObservationContext;
+import org.springframework.data.neo4j.core.schema.Id;
+import org.springframework.data.neo4j.core.schema.Node;
+import org.springframework.data.neo4j.core.schema.Relationship;
+import org.springframework.data.neo4j.core.transaction.Neo4jBookmarkManager;
+import org.springframework.data.neo4j.core.transaction.Neo4jTransactionManager;
+import org.springframework.data.neo4j.test.BookmarkCapture;
+import org.springframework.data.neo4j.test.Neo4jExtension;
+import org.springframework.data.neo4j.test.Neo4jImperativeTestConfiguration;
+import org.springframework.data.neo4j.test.Neo4jIntegrationTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+
+/**
+ * Batched cascading saves must write all related nodes of one level with one statement per target entity, regardless
+ * how many parents that level has.
+ *
+ * @author agent
+ */
+@Neo4jIntegrationTest
+class BatchedCascadingSavesIT {
+
+	protected static Neo4jExtension.Neo4jConnectionSupport neo4jConnectionSupport;
+
+	private final Driver driver;
+
+	private final BookmarkCapture bookmarkCapture;
+
+	private final List<String> executedStatements = new CopyOnWriteArrayList<>();
+
+	private final Neo4jTemplate template;
+
+	@Autowired
+	BatchedCascadingSavesIT(Driver driver, BookmarkCapture bookmarkCapture, Neo4jMappingContext mappingContext,
+			PlatformTransactionManager transactionManager) {
+
+		this.driver = driver;
+		this.bookmarkCapture = bookmarkCapture;
+
+		ObservationRegistry observationRegistry = ObservationRegistry.create();
+		observationRegistry.observationConfig().observationHandler(new ObservationHandler<QueryObservationContext>() {
+			@Override
+			public void onStop(QueryObservationContext context) {
+				executedStatements.add(context.getCypher());
+			}
+
+			@Override
+			public boolean supportsContext(Observation.Context context) {
+				return context instanceof QueryObservationContext;
+			}
+		});
+		Neo4jClient neo4jClient = Neo4jClient.with(driver).withObservationRegistry(observationRegistry).build();
+
+		this.template = new Neo4jTemplate(neo4jClient, mappingContext, transactionManager);
+		this.template.setBatchCascadingSaves(true);
+	}
+
+	@BeforeEach
+	void setupData() {
+
+		try (Session session = driver.session(bookmarkCapture.createSessionConfig())) {
+			session.run("MATCH (n) DETACH DELETE n").consume();
+			bookmarkCapture.seedWith(session.lastBookmarks());
+		}
+		executedStatements.clear();
+	}
+
+	@Test
+	void shouldSaveEachLevelWithOneStatementPerTargetEntity() {
+
+		template.save(newCompany("c1", 3, 4));
+
+		assertThat(executedStatements)
+				.filteredOn(statement -> statement.contains("$" + Constants.NAME_OF_ENTITY_LIST_PARAM))
+				.hasSize(2);
+		assertThat(countNodes("c1")).containsExactly(3L, 12L);
+	}
+
+	@Test
+	void numberOfStatementsShouldNotDependOnTheNumberOfRelatedNodesPerLevel() {
+
+		template.save(newCompany("c1", 3, 2));
+		int statementsForTwoEmployeesEach = executedStatements.size();
+		executedStatements.clear();
+
+		template.save(newCompany("c2", 3, 5));
+		int statementsForFiveEmployeesEach = executedStatements.size();
+
+		assertThat(statementsForFiveEmployeesEach).isEqualTo(statementsForTwoEmployeesEach);
+		assertThat(countNodes("c1")).containsExactly(3L, 6L);
+		assertThat(countNodes("c2")).containsExactly(3L, 15L);
+	}
+
+	private static Company newCompany(String name, int numberOfDepartments, int numberOfEmployees) {
+
+		Company company = new Company(name);
+		IntStream.range(0, numberOfDepartments).forEach(i -> {
+			Department department = new Department(name + ".d" + i);
+			IntStream.range(0, numberOfEmployees)
+					.forEach(j -> department.employees.add(new Employee(department.name + ".e" + j)));
+			company.departments.add(department);
+		});
+		return company;
+	}
+
+	private List<Long> countNodes(String companyName) {
+
+		try (Session session = driver.session(bookmarkCapture.createSessionConfig())) {
+			var record = session.run("""
+					MATCH (c:Company {name: $name})-[:HAS]->(d:Department)
+					OPTIONAL MATCH (d)-[:EMPLOYS]->(e:Employee)
+					RETURN count(DISTINCT d) AS departments, count(DISTINCT e) AS employees
+					""", Map.of("name", companyName)).single();
+			return List.of(record.get("departments").asLong(), record.get("employees").asLong());
+		}
+	}
+
+	@Node
+	static class Company {
+
+		@Id
+		final String name;
+
+		@Relationship("HAS")
+		List<Department> departments = new ArrayList<>();
+
+		Company(String name) {
+			this.name = name;
+		}
+	}
+
+	@Node
+	static class Department {
+
+		@Id
+		final String name;
+
+		@Relationship("EMPLOYS")
+		List<Employee> employees = new ArrayList<>();
+
+		Department(String name) {
+			this.name = name;
+		}
+	}
+
+	@Node
+	static class Employee {
+
+		@Id
+		final String name;
+
+		Employee(String name) {
+			this.name = name;
+		}
+	}
+
+	@Configuration
+	@EnableTransactionManagement
+	static class Config extends Neo4jImperativeTestConfiguration {
+
+		@Bean
+		public Driver driver() {
+			return neo4jConnectionSupport.getDriver();
+		}
+
+		@Override
+		public Neo4jMappingContext neo4jMappingContext(Neo4jConversions neo4JConversions) throws ClassNotFoundException {
+
+			Neo4jMappingContext ctx = new Neo4jMappingContext(neo4JConversions);
+			ctx.setInitialEntitySet(Set.of(Company.class, Department.class, Employee.class));
+			return ctx;
+		}
+
+		@Bean
+		public BookmarkCapture bookmarkCapture() {
+			return new BookmarkCapture();
+		}
+
+		@Override
+		public PlatformTransactionManager transactionManager(Driver driver, DatabaseSelectionProvider databaseNameProvider) {
+
+			BookmarkCapture bookmarkCapture = bookmarkCapture();
+			return new Neo4jTransactionManager(driver, databaseNameProvider, Neo4jBookmarkManager.create(bookmarkCapture));
+		}
+
+		@Override
+		public boolean isCypher5Compatible() {
+			return neo4jConnectionSupport.isCypher5SyntaxCompatible();
+		}
+	}
+}
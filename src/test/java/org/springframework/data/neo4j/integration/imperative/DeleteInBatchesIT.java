@@ -0,0 +1,186 @@
+/*
+ * Copyright 2011-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.integration.imperative;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.driver.Driver;
+import org.neo4j.driver.Session;
+import org.neo4j.driver.Values;
+import org.neo4j.driver.summary.SummaryCounters;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.neo4j.core.BulkDeleteOptions;
+import org.springframework.data.neo4j.core.DatabaseSelectionProvider;
+import org.springframework.data.neo4j.core.Neo4jTemplate;
+import org.springframework.data.neo4j.core.transaction.Neo4jBookmarkManager;
+import org.springframework.data.neo4j.core.transaction.Neo4jTransactionManager;
+import org.springframework.data.neo4j.integration.shared.common.SimplePerson;
+import org.springframework.data.neo4j.repository.Neo4jRepository;
+import org.springframework.data.neo4j.repository.config.EnableNeo4jRepositories;
+import org.springframework.data.neo4j.repository.query.DeleteInTransactions;
+import org.springframework.data.neo4j.test.BookmarkCapture;
+import org.springframework.data.neo4j.test.Neo4jExtension;
+import org.springframework.data.neo4j.test.Neo4jImperativeTestConfiguration;
+import org.springframework.data.neo4j.test.Neo4jIntegrationTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Batched deletes use {@code CALL { } IN TRANSACTIONS} and must work when called from within an ongoing transaction.
+ *
+ * @author agent
+ */
+@Neo4jIntegrationTest
+class DeleteInBatchesIT {
+
+	protected static Neo4jExtension.Neo4jConnectionSupport neo4jConnectionSupport;
+
+	private final Driver driver;
+
+	private final BookmarkCapture bookmarkCapture;
+
+	private final TransactionTemplate transactionTemplate;
+
+	private List<Long> idsOfB;
+
+	@Autowired
+	DeleteInBatchesIT(Driver driver, BookmarkCapture bookmarkCapture, PlatformTransactionManager transactionManager) {
+		this.driver = driver;
+		this.bookmarkCapture = bookmarkCapture;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+	}
+
+	@BeforeEach
+	void setupData() {
+
+		try (Session session = driver.session(bookmarkCapture.createSessionConfig())) {
+			session.run("MATCH (n) DETACH DELETE n").consume();
+			session.run("UNWIND range(1, 25) AS i CREATE (:SimplePerson {name: 'a'})").consume();
+			idsOfB = session.run("UNWIND range(1, 5) AS i CREATE (n:SimplePerson {name: 'b'}) RETURN id(n)")
+					.list(r -> r.get(0).asLong());
+			bookmarkCapture.seedWith(session.lastBookmarks());
+		}
+	}
+
+	@Test
+	void deleteAllInBatchesShouldWorkWithinAnOuterTransaction(@Autowired Neo4jTemplate template) {
+
+		SummaryCounters counters = transactionTemplate.execute(tx -> {
+			assertThat(template.count(SimplePerson.class)).isEqualTo(30L);
+
+			SummaryCounters result = template.deleteAllInBatches(SimplePerson.class, BulkDeleteOptions.ofRowsPerTransaction(10));
+
+			// The outer transaction has been resumed and is still usable
+			assertThat(TransactionSynchronizationManager.isActualTransactionActive()).isTrue();
+			assertThat(template.count(SimplePerson.class)).isZero();
+			return result;
+		});
+
+		assertThat(counters.nodesDeleted()).isEqualTo(30);
+		assertThat(countPersons(null)).isZero();
+	}
+
+	@Test
+	void deleteAllByIdInBatchesShouldWorkWithinAnOuterTransaction(@Autowired Neo4jTemplate template) {
+
+		SummaryCounters counters = transactionTemplate.execute(tx -> {
+			assertThat(template.count(SimplePerson.class)).isEqualTo(30L);
+			return template.deleteAllByIdInBatches(idsOfB, SimplePerson.class, BulkDeleteOptions.ofRowsPerTransaction(2));
+		});
+
+		assertThat(counters.nodesDeleted()).isEqualTo(5);
+		assertThat(countPersons("a")).isEqualTo(25L);
+		assertThat(countPersons("b")).isZero();
+	}
+
+	@Test
+	void derivedDeletesInTransactionsShouldWorkWithinAnOuterTransaction(@Autowired SimplePersonRepository repository) {
+
+		Long deleted = transactionTemplate.execute(tx -> {
+			long result = repository.deleteAllByName("a");
+
+			assertThat(TransactionSynchronizationManager.isActualTransactionActive()).isTrue();
+			assertThat(repository.count()).isEqualTo(5L);
+			return result;
+		});
+
+		assertThat(deleted).isEqualTo(25L);
+		assertThat(countPersons("a")).isZero();
+		assertThat(countPersons("b")).isEqualTo(5L);
+	}
+
+	@Test
+	void batchedDeletesShouldNotBeRolledBackWithTheOuterTransaction(@Autowired SimplePersonRepository repository) {
+
+		transactionTemplate.executeWithoutResult(tx -> {
+			repository.deleteAllByName("a");
+			tx.setRollbackOnly();
+		});
+
+		assertThat(countPersons("a")).isZero();
+		assertThat(countPersons("b")).isEqualTo(5L);
+	}
+
+	private long countPersons(String name) {
+
+		try (Session session = driver.session(bookmarkCapture.createSessionConfig())) {
+			return session.run("MATCH (n:SimplePerson) WHERE $name IS NULL OR n.name = $name RETURN count(n)",
+					Values.parameters("name", name)).single().get(0).asLong();
+		}
+	}
+
+	interface SimplePersonRepository extends Neo4jRepository<SimplePerson, Long> {
+
+		@DeleteInTransactions(rowsPerTransaction = 10)
+		long deleteAllByName(String name);
+	}
+
+	@Configuration
+	@EnableTransactionManagement
+	@EnableNeo4jRepositories(considerNestedRepositories = true)
+	static class Config extends Neo4jImperativeTestConfiguration {
+
+		@Bean
+		public Driver driver() {
+			return neo4jConnectionSupport.getDriver();
+		}
+
+		@Bean
+		public BookmarkCapture bookmarkCapture() {
+			return new BookmarkCapture();
+		}
+
+		@Override
+		public PlatformTransactionManager transactionManager(Driver driver, DatabaseSelectionProvider databaseNameProvider) {
+
+			BookmarkCapture bookmarkCapture = bookmarkCapture();
+			return new Neo4jTransactionManager(driver, databaseNameProvider, Neo4jBookmarkManager.create(bookmarkCapture));
+		}
+
+		@Override
+		public boolean isCypher5Compatible() {
+			return neo4jConnectionSupport.isCypher5SyntaxCompatible();
+		}
+	}
+}
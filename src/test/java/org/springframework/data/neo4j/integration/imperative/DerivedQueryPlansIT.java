@@ -0,0 +1,258 @@
+/*
+ * Copyright 2011-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.integration.imperative;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import io.micrometer.observation.ObservationRegistry;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.driver.Driver;
+import org.neo4j.driver.Session;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Range;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.neo4j.core.DatabaseSelectionProvider;
+import org.springframework.data.neo4j.core.convert.Neo4jConversions;
+import org.springframework.data.neo4j.core.mapping.Neo4jMappingContext;
+import org.springframework.data.neo4j.core.observation.QueryObservationContext;
+import org.springframework.data.neo4j.core.schema.GeneratedValue;
+import org.springframework.data.neo4j.core.schema.Id;
+import org.springframework.data.neo4j.core.schema.Node;
+import org.springframework.data.neo4j.core.transaction.Neo4jBookmarkManager;
+import org.springframework.data.neo4j.core.transaction.Neo4jTransactionManager;
+import org.springframework.data.neo4j.repository.Neo4jRepository;
+import org.springframework.data.neo4j.repository.config.EnableNeo4jRepositories;
+import org.springframework.data.neo4j.test.BookmarkCapture;
+import org.springframework.data.neo4j.test.Neo4jExtension;
+import org.springframework.data.neo4j.test.Neo4jImperativeTestConfiguration;
+import org.springframework.data.neo4j.test.Neo4jIntegrationTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+
+/**
+ * Derived queries reuse the statement created for the first invocation with the same shape. Invocations that only
+ * differ in their parameter values must share the statement but return results for their own values, invocations with
+ * a different sort, page or kind of range must not reuse a statement created for another shape.
+ *
+ * @author agent
+ */
+@Neo4jIntegrationTest
+class DerivedQueryPlansIT {
+
+	protected static Neo4jExtension.Neo4jConnectionSupport neo4jConnectionSupport;
+
+	private final Driver driver;
+
+	private final BookmarkCapture bookmarkCapture;
+
+	private final ExecutedStatements executedStatements;
+
+	@Autowired
+	DerivedQueryPlansIT(Driver driver, BookmarkCapture bookmarkCapture, ExecutedStatements executedStatements) {
+
+		this.driver = driver;
+		this.bookmarkCapture = bookmarkCapture;
+		this.executedStatements = executedStatements;
+	}
+
+	@BeforeEach
+	void setupData() {
+
+		try (Session session = driver.session(bookmarkCapture.createSessionConfig())) {
+			session.run("MATCH (n) DETACH DELETE n").consume();
+			session.run("""
+					UNWIND [['A', 'x', 10], ['B', 'x', 20], ['C', 'x', 30], ['D', 'y', 40], ['E', 'y', 50], ['F', 'y', 60]] AS person
+					CREATE (:Person {name: person[0], team: person[1], age: person[2]})
+					""").consume();
+			bookmarkCapture.seedWith(session.lastBookmarks());
+		}
+		executedStatements.clear();
+	}
+
+	@Test
+	void shouldBindTheValuesOfEachInvocation(@Autowired PersonRepository repository) {
+
+		assertThat(repository.findAllByTeam("x", Sort.by("name"))).extracting(p -> p.name).containsExactly("A", "B", "C");
+		assertThat(repository.findAllByTeam("y", Sort.by("name"))).extracting(p -> p.name).containsExactly("D", "E", "F");
+
+		List<String> statements = executedStatements.get();
+		assertThat(statements).hasSize(2);
+		assertThat(statements.get(1)).isEqualTo(statements.get(0));
+	}
+
+	@Test
+	void shouldNotReuseStatementsForADifferentSort(@Autowired PersonRepository repository) {
+
+		assertThat(repository.findAllByTeam("x", Sort.by("name"))).extracting(p -> p.name).containsExactly("A", "B", "C");
+		assertThat(repository.findAllByTeam("x", Sort.by("name").descending())).extracting(p -> p.name).containsExactly("C", "B", "A");
+		assertThat(repository.findAllByTeam("x", Sort.by("age").descending())).extracting(p -> p.name).containsExactly("C", "B", "A");
+		assertThat(repository.findAllByTeam("x", Sort.by("name"))).extracting(p -> p.name).containsExactly("A", "B", "C");
+
+		List<String> statements = executedStatements.get();
+		assertThat(statements).hasSize(4);
+		assertThat(Set.copyOf(statements)).hasSize(3);
+		assertThat(statements.get(3)).isEqualTo(statements.get(0));
+	}
+
+	@Test
+	void shouldBindTheOffsetAndSizeOfEachPage(@Autowired PersonRepository repository) {
+
+		Page<Person> first = repository.findAllByAgeGreaterThan(10, PageRequest.of(0, 2, Sort.by("name")));
+		Page<Person> second = repository.findAllByAgeGreaterThan(10, PageRequest.of(1, 2, Sort.by("name")));
+		Page<Person> larger = repository.findAllByAgeGreaterThan(20, PageRequest.of(0, 3, Sort.by("name")));
+		Page<Person> otherSort = repository.findAllByAgeGreaterThan(20, PageRequest.of(0, 3, Sort.by("name").descending()));
+
+		assertThat(first.getContent()).extracting(p -> p.name).containsExactly("B", "C");
+		assertThat(first.getTotalElements()).isEqualTo(5L);
+		assertThat(second.getContent()).extracting(p -> p.name).containsExactly("D", "E");
+		assertThat(second.getTotalElements()).isEqualTo(5L);
+		assertThat(larger.getContent()).extracting(p -> p.name).containsExactly("C", "D", "E");
+		assertThat(larger.getTotalElements()).isEqualTo(4L);
+		assertThat(otherSort.getContent()).extracting(p -> p.name).containsExactly("F", "E", "D");
+		assertThat(otherSort.getTotalElements()).isEqualTo(4L);
+	}
+
+	@Test
+	void shouldNotReuseStatementsForDifferentKindsOfRanges(@Autowired PersonRepository repository) {
+
+		assertThat(repository.findAllByAgeBetween(Range.closed(20, 40), Sort.by("name")))
+				.extracting(p -> p.name).containsExactly("B", "C", "D");
+		assertThat(repository.findAllByAgeBetween(Range.rightOpen(20, 40), Sort.by("name")))
+				.extracting(p -> p.name).containsExactly("B", "C");
+		assertThat(repository.findAllByAgeBetween(Range.rightUnbounded(Range.Bound.inclusive(40)), Sort.by("name")))
+				.extracting(p -> p.name).containsExactly("D", "E", "F");
+		assertThat(repository.findAllByAgeBetween(Range.closed(50, 60), Sort.by("name")))
+				.extracting(p -> p.name).containsExactly("E", "F");
+	}
+
+	@Test
+	void shouldBindCollectionsOfDifferentSizes(@Autowired PersonRepository repository) {
+
+		assertThat(repository.findAllByNameIn(List.of("A"), Sort.by("name"))).extracting(p -> p.name).containsExactly("A");
+		assertThat(repository.findAllByNameIn(List.of("B", "E", "F"), Sort.by("name"))).extracting(p -> p.name).containsExactly("B", "E", "F");
+		assertThat(repository.findAllByNameIn(List.of(), Sort.by("name"))).isEmpty();
+	}
+
+	interface PersonRepository extends Neo4jRepository<Person, Long> {
+
+		List<Person> findAllByTeam(String team, Sort sort);
+
+		Page<Person> findAllByAgeGreaterThan(int age, Pageable pageable);
+
+		List<Person> findAllByAgeBetween(Range<Integer> range, Sort sort);
+
+		List<Person> findAllByNameIn(List<String> names, Sort sort);
+	}
+
+	@Node
+	static class Person {
+
+		@Id
+		@GeneratedValue
+		Long id;
+
+		String name;
+
+		String team;
+
+		int age;
+	}
+
+	static class ExecutedStatements implements ObservationHandler<QueryObservationContext> {
+
+		private final List<String> statements = new CopyOnWriteArrayList<>();
+
+		@Override
+		public void onStop(QueryObservationContext context) {
+			statements.add(context.getCypher());
+		}
+
+		@Override
+		public boolean supportsContext(Observation.Context context) {
+			return context instanceof QueryObservationContext;
+		}
+
+		List<String> get() {
+			return List.copyOf(statements);
+		}
+
+		void clear() {
+			statements.clear();
+		}
+	}
+
+	@Configuration
+	@EnableTransactionManagement
+	@EnableNeo4jRepositories(considerNestedRepositories = true)
+	static class Config extends Neo4jImperativeTestConfiguration {
+
+		@Bean
+		public Driver driver() {
+			return neo4jConnectionSupport.getDriver();
+		}
+
+		@Bean
+		public ExecutedStatements executedStatements() {
+			return new ExecutedStatements();
+		}
+
+		@Bean
+		public ObservationRegistry observationRegistry(ExecutedStatements executedStatements) {
+
+			ObservationRegistry observationRegistry = ObservationRegistry.create();
+			observationRegistry.observationConfig().observationHandler(executedStatements);
+			return observationRegistry;
+		}
+
+		@Override
+		public Neo4jMappingContext neo4jMappingContext(Neo4jConversions neo4JConversions) throws ClassNotFoundException {
+
+			Neo4jMappingContext ctx = new Neo4jMappingContext(neo4JConversions);
+			ctx.setInitialEntitySet(Set.of(Person.class));
+			return ctx;
+		}
+
+		@Bean
+		public BookmarkCapture bookmarkCapture() {
+			return new BookmarkCapture();
+		}
+
+		@Override
+		public PlatformTransactionManager transactionManager(Driver driver, DatabaseSelectionProvider databaseNameProvider) {
+
+			BookmarkCapture bookmarkCapture = bookmarkCapture();
+			return new Neo4jTransactionManager(driver, databaseNameProvider, Neo4jBookmarkManager.create(bookmarkCapture));
+		}
+
+		@Override
+		public boolean isCypher5Compatible() {
+			return neo4jConnectionSupport.isCypher5SyntaxCompatible();
+		}
+	}
+}
@@ -0,0 +1,225 @@
+/*
+ * Copyright 2011-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.integration.imperative;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.driver.Driver;
+import org.neo4j.driver.Record;
+import org.neo4j.driver.Session;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.neo4j.core.DatabaseSelectionProvider;
+import org.springframework.data.neo4j.core.Neo4jClient;
+import org.springframework.data.neo4j.core.Neo4jTemplate;
+import org.springframework.data.neo4j.core.convert.Neo4jConversions;
+import org.springframework.data.neo4j.core.mapping.Neo4jMappingContext;
+import org.springframework.data.neo4j.core.schema.GeneratedValue;
+import org.springframework.data.neo4j.core.schema.Id;
+import org.springframework.data.neo4j.core.schema.Node;
+import org.springframework.data.neo4j.core.schema.Relationship;
+import org.springframework.data.neo4j.core.transaction.Neo4jBookmarkManager;
+import org.springframework.data.neo4j.core.transaction.Neo4jTransactionManager;
+import org.springframework.data.neo4j.test.BookmarkCapture;
+import org.springframework.data.neo4j.test.Neo4jExtension;
+import org.springframework.data.neo4j.test.Neo4jImperativeTestConfiguration;
+import org.springframework.data.neo4j.test.Neo4jIntegrationTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+
+/**
+ * Saving with dirty checking enabled must always leave the database in the state of the saved instance.
+ *
+ * @author agent
+ */
+@Neo4jIntegrationTest
+class DirtyCheckingIT {
+
+	protected static Neo4jExtension.Neo4jConnectionSupport neo4jConnectionSupport;
+
+	private final Driver driver;
+
+	private final BookmarkCapture bookmarkCapture;
+
+	private final Neo4jTemplate template;
+
+	private long itemId;
+
+	@Autowired
+	DirtyCheckingIT(Driver driver, BookmarkCapture bookmarkCapture, Neo4jClient neo4jClient,
+			Neo4jMappingContext mappingContext, PlatformTransactionManager transactionManager) {
+
+		this.driver = driver;
+		this.bookmarkCapture = bookmarkCapture;
+		this.template = new Neo4jTemplate(neo4jClient, mappingContext, transactionManager);
+		this.template.setDirtyChecking(true);
+	}
+
+	@BeforeEach
+	void setupData() {
+
+		try (Session session = driver.session(bookmarkCapture.createSessionConfig())) {
+			session.run("MATCH (n) DETACH DELETE n").consume();
+			itemId = session.run("""
+					CREATE (i:Item {name: 'Item', description: 'Old description'})
+					CREATE (i)-[:TAGGED]->(:Tag {name: 't1'}), (i)-[:TAGGED]->(:Tag {name: 't2'})
+					RETURN id(i)
+					""").single().get(0).asLong();
+			bookmarkCapture.seedWith(session.lastBookmarks());
+		}
+	}
+
+	@Test
+	void shouldWritePropertiesSetToNull() {
+
+		Item item = template.findById(itemId, Item.class).orElseThrow();
+		item.description = null;
+		template.save(item);
+
+		Record record = loadItem();
+		assertThat(record.get("name").asString()).isEqualTo("Item");
+		assertThat(record.get("description").isNull()).isTrue();
+	}
+
+	@Test
+	void shouldDeleteClearedRelationships() {
+
+		Item item = template.findById(itemId, Item.class).orElseThrow();
+		item.tags.clear();
+		template.save(item);
+
+		assertThat(loadItem().get("tags").asList()).isEmpty();
+	}
+
+	@Test
+	void shouldCompareEachInstanceWithItsOwnState() {
+
+		Item first = template.findById(itemId, Item.class).orElseThrow();
+		Item second = template.findById(itemId, Item.class).orElseThrow();
+
+		first.description = "New description";
+		first.tags.removeIf(tag -> tag.name.equals("t2"));
+		template.save(first);
+
+		second.name = null;
+		template.save(second);
+
+		Record record = loadItem();
+		assertThat(record.get("name").isNull()).isTrue();
+		assertThat(record.get("description").asString()).isEqualTo("New description");
+		assertThat(record.get("tags").asList()).containsExactly("t1");
+
+		second.tags.clear();
+		template.save(second);
+
+		assertThat(loadItem().get("tags").asList()).isEmpty();
+	}
+
+	@Test
+	void shouldNotCompareWithPartiallyLoadedState() {
+
+		Item item = template.findOne("MATCH (i:Item) WHERE id(i) = $id RETURN i", Map.of("id", itemId), Item.class)
+				.orElseThrow();
+		assertThat(item.tags).isEmpty();
+
+		item.name = "Renamed";
+		template.save(item);
+
+		Record record = loadItem();
+		assertThat(record.get("name").asString()).isEqualTo("Renamed");
+		assertThat(record.get("tags").asList()).isEmpty();
+	}
+
+	private Record loadItem() {
+
+		try (Session session = driver.session(bookmarkCapture.createSessionConfig())) {
+			return session.run("""
+					MATCH (i:Item) WHERE id(i) = $id
+					OPTIONAL MATCH (i)-[:TAGGED]->(t:Tag)
+					WITH i, t ORDER BY t.name
+					RETURN i.name AS name, i.description AS description, collect(t.name) AS tags
+					""", Map.of("id", itemId)).single();
+		}
+	}
+
+	@Node
+	static class Item {
+
+		@Id
+		@GeneratedValue
+		Long id;
+
+		String name;
+
+		String description;
+
+		@Relationship("TAGGED")
+		List<Tag> tags = new ArrayList<>();
+	}
+
+	@Node
+	static class Tag {
+
+		@Id
+		@GeneratedValue
+		Long id;
+
+		String name;
+	}
+
+	@Configuration
+	@EnableTransactionManagement
+	static class Config extends Neo4jImperativeTestConfiguration {
+
+		@Bean
+		public Driver driver() {
+			return neo4jConnectionSupport.getDriver();
+		}
+
+		@Override
+		public Neo4jMappingContext neo4jMappingContext(Neo4jConversions neo4JConversions) throws ClassNotFoundException {
+
+			Neo4jMappingContext ctx = new Neo4jMappingContext(neo4JConversions);
+			ctx.setInitialEntitySet(Set.of(Item.class, Tag.class));
+			return ctx;
+		}
+
+		@Bean
+		public BookmarkCapture bookmarkCapture() {
+			return new BookmarkCapture();
+		}
+
+		@Override
+		public PlatformTransactionManager transactionManager(Driver driver, DatabaseSelectionProvider databaseNameProvider) {
+
+			BookmarkCapture bookmarkCapture = bookmarkCapture();
+			return new Neo4jTransactionManager(driver, databaseNameProvider, Neo4jBookmarkManager.create(bookmarkCapture));
+		}
+
+		@Override
+		public boolean isCypher5Compatible() {
+			return neo4jConnectionSupport.isCypher5SyntaxCompatible();
+		}
+	}
+}
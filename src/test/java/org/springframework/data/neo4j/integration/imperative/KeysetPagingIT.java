@@ -0,0 +1,200 @@
+/*
+ * Copyright 2011-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.integration.imperative;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.driver.Driver;
+import org.neo4j.driver.Session;
+import org.neo4j.driver.Value;
+import org.neo4j.driver.Values;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.convert.ReadingConverter;
+import org.springframework.data.convert.WritingConverter;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.neo4j.core.DatabaseSelectionProvider;
+import org.springframework.data.neo4j.core.convert.Neo4jConversions;
+import org.springframework.data.neo4j.core.mapping.Neo4jMappingContext;
+import org.springframework.data.neo4j.core.schema.GeneratedValue;
+import org.springframework.data.neo4j.core.schema.Id;
+import org.springframework.data.neo4j.core.schema.Node;
+import org.springframework.data.neo4j.core.transaction.Neo4jBookmarkManager;
+import org.springframework.data.neo4j.core.transaction.Neo4jTransactionManager;
+import org.springframework.data.neo4j.repository.Neo4jRepository;
+import org.springframework.data.neo4j.repository.config.EnableNeo4jRepositories;
+import org.springframework.data.neo4j.repository.query.KeysetPageRequest;
+import org.springframework.data.neo4j.test.BookmarkCapture;
+import org.springframework.data.neo4j.test.Neo4jExtension;
+import org.springframework.data.neo4j.test.Neo4jImperativeTestConfiguration;
+import org.springframework.data.neo4j.test.Neo4jIntegrationTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+
+/**
+ * Keyset based pages must contain the same elements regardless of the direction in which they are navigated, even if
+ * the sort key has ties and is stored via a custom conversion.
+ *
+ * @author agent
+ */
+@Neo4jIntegrationTest
+class KeysetPagingIT {
+
+	protected static Neo4jExtension.Neo4jConnectionSupport neo4jConnectionSupport;
+
+	private final Driver driver;
+
+	private final BookmarkCapture bookmarkCapture;
+
+	private List<String> expectedOrder;
+
+	@Autowired
+	KeysetPagingIT(Driver driver, BookmarkCapture bookmarkCapture) {
+
+		this.driver = driver;
+		this.bookmarkCapture = bookmarkCapture;
+	}
+
+	@BeforeEach
+	void setupData() {
+
+		try (Session session = driver.session(bookmarkCapture.createSessionConfig())) {
+			session.run("MATCH (n) DETACH DELETE n").consume();
+			session.run("""
+					UNWIND [['t1', 2], ['t2', 1], ['t3', 3], ['t4', 1], ['t5', 2], ['t6', 1], ['t7', 3], ['t8', 2]] AS ticket
+					CREATE (:Ticket {name: ticket[0], priority: ticket[1]})
+					""").consume();
+			expectedOrder = session.run("MATCH (t:Ticket) RETURN t.name AS name ORDER BY t.priority, id(t)")
+					.list(r -> r.get("name").asString());
+			bookmarkCapture.seedWith(session.lastBookmarks());
+		}
+	}
+
+	@Test
+	void shouldPageForwardAndBackwardOverTies(@Autowired TicketRepository repository) {
+
+		List<List<String>> forward = new ArrayList<>();
+		Page<Ticket> page = repository.findAll(KeysetPageRequest.ofSize(3, Sort.by("priority")));
+		forward.add(names(page));
+		while (page.hasNext()) {
+			page = repository.findAll(page.nextPageable());
+			forward.add(names(page));
+		}
+
+		assertThat(forward).hasSize(3);
+		assertThat(forward.stream().flatMap(List::stream).toList()).isEqualTo(expectedOrder);
+		assertThat(page.getTotalElements()).isEqualTo(8L);
+
+		List<List<String>> backward = new ArrayList<>();
+		backward.add(0, names(page));
+		while (page.hasPrevious()) {
+			page = repository.findAll(page.previousPageable());
+			backward.add(0, names(page));
+		}
+
+		assertThat(backward).isEqualTo(forward);
+	}
+
+	private static List<String> names(Page<Ticket> page) {
+		return page.getContent().stream().map(ticket -> ticket.name).toList();
+	}
+
+	interface TicketRepository extends Neo4jRepository<Ticket, Long> {
+	}
+
+	@Node
+	static class Ticket {
+
+		@Id
+		@GeneratedValue
+		Long id;
+
+		String name;
+
+		Priority priority;
+	}
+
+	record Priority(int level) {
+	}
+
+	@WritingConverter
+	static class PriorityToValueConverter implements Converter<Priority, Value> {
+
+		@Override
+		public Value convert(Priority source) {
+			return Values.value(source.level());
+		}
+	}
+
+	@ReadingConverter
+	static class ValueToPriorityConverter implements Converter<Value, Priority> {
+
+		@Override
+		public Priority convert(Value source) {
+			return new Priority(source.asInt());
+		}
+	}
+
+	@Configuration
+	@EnableTransactionManagement
+	@EnableNeo4jRepositories(considerNestedRepositories = true)
+	static class Config extends Neo4jImperativeTestConfiguration {
+
+		@Bean
+		public Driver driver() {
+			return neo4jConnectionSupport.getDriver();
+		}
+
+		@Override
+		public Neo4jConversions neo4jConversions() {
+			return new Neo4jConversions(List.of(new PriorityToValueConverter(), new ValueToPriorityConverter()));
+		}
+
+		@Override
+		public Neo4jMappingContext neo4jMappingContext(Neo4jConversions neo4JConversions) throws ClassNotFoundException {
+
+			Neo4jMappingContext ctx = new Neo4jMappingContext(neo4JConversions);
+			ctx.setInitialEntitySet(Set.of(Ticket.class));
+			return ctx;
+		}
+
+		@Bean
+		public BookmarkCapture bookmarkCapture() {
+			return new BookmarkCapture();
+		}
+
+		@Override
+		public PlatformTransactionManager transactionManager(Driver driver, DatabaseSelectionProvider databaseNameProvider) {
+
+			BookmarkCapture bookmarkCapture = bookmarkCapture();
+			return new Neo4jTransactionManager(driver, databaseNameProvider, Neo4jBookmarkManager.create(bookmarkCapture));
+		}
+
+		@Override
+		public boolean isCypher5Compatible() {
+			return neo4jConnectionSupport.isCypher5SyntaxCompatible();
+		}
+	}
+}
@@ -42,6 +42,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.neo4j.test.Neo4jImperativeTestConfiguration;
+import org.springframework.data.neo4j.core.BulkSaveOptions;
 import org.springframework.data.neo4j.core.DatabaseSelectionProvider;
 import org.springframework.data.neo4j.core.Neo4jTemplate;
 import org.springframework.data.neo4j.core.transaction.Neo4jBookmarkManager;
@@ -227,6 +228,67 @@ class OptimisticLockingIT {
 
 	}
 
+	@Test
+	void shouldIncrementVersionsInBatches(@Autowired Neo4jTemplate neo4jTemplate) {
+		List<VersionedThingWithAssignedId> thingsToSave = new ArrayList<>();
+		for (long i = 0; i < 5; ++i) {
+			thingsToSave.add(new VersionedThingWithAssignedId(i, "Thing" + i));
+		}
+
+		BulkSaveOptions options = BulkSaveOptions.ofBatchSize(2);
+		List<VersionedThingWithAssignedId> versionedThings = neo4jTemplate.saveAllInBatches(thingsToSave, options);
+
+		assertThat(versionedThings).hasSize(5).allMatch(versionedThing -> versionedThing.getMyVersion().equals(0L));
+
+		versionedThings = neo4jTemplate.saveAllInBatches(versionedThings, options);
+
+		assertThat(versionedThings).hasSize(5).allMatch(versionedThing -> versionedThing.getMyVersion().equals(1L));
+		try (Session session = driver.session(bookmarkCapture.createSessionConfig())) {
+			long count = session.run("MATCH (v:VersionedThingWithAssignedId {myVersion: 1}) return count(v) as vCount").single()
+					.get("vCount").asLong();
+			assertThat(count).isEqualTo(5);
+		}
+	}
+
+	@Test
+	void shouldFailIncrementVersionsInBatches(@Autowired Neo4jTemplate neo4jTemplate) {
+		List<VersionedThingWithAssignedId> versionedThings = neo4jTemplate.saveAllInBatches(Arrays.asList(
+				new VersionedThingWithAssignedId(4711L, "Thing1"), new VersionedThingWithAssignedId(42L, "Thing2")),
+				BulkSaveOptions.defaults());
+
+		versionedThings.get(1).setMyVersion(1L); // Version in DB is 0
+
+		assertThatExceptionOfType(OptimisticLockingFailureException.class)
+				.isThrownBy(() -> neo4jTemplate.saveAllInBatches(versionedThings, BulkSaveOptions.defaults()));
+		try (Session session = driver.session(bookmarkCapture.createSessionConfig())) {
+			long count = session.run("MATCH (v:VersionedThingWithAssignedId {myVersion: 0}) return count(v) as vCount").single()
+					.get("vCount").asLong();
+			assertThat(count).isEqualTo(2);
+		}
+	}
+
+	@Test
+	void shouldCommitPerBatch(@Autowired Neo4jTemplate neo4jTemplate) {
+		List<VersionedThingWithAssignedId> thingsToSave = new ArrayList<>();
+		for (long i = 0; i < 4; ++i) {
+			thingsToSave.add(new VersionedThingWithAssignedId(i, "Thing" + i));
+		}
+		VersionedThingWithAssignedId outdatedThing = new VersionedThingWithAssignedId(3L, "Thing3");
+		outdatedThing.setMyVersion(23L);
+		thingsToSave.set(3, outdatedThing);
+
+		BulkSaveOptions options = BulkSaveOptions.ofBatchSize(2).withCommitPerBatch(true);
+		neo4jTemplate.saveAll(List.of(new VersionedThingWithAssignedId(3L, "Thing3")));
+
+		assertThatExceptionOfType(OptimisticLockingFailureException.class)
+				.isThrownBy(() -> neo4jTemplate.saveAllInBatches(thingsToSave, options));
+		try (Session session = driver.session(bookmarkCapture.createSessionConfig())) {
+			long count = session.run("MATCH (v:VersionedThingWithAssignedId) return count(v) as vCount").single()
+					.get("vCount").asLong();
+			assertThat(count).isEqualTo(3);
+		}
+	}
+
 	@Test
 	void shouldNotFailOnDeleteByIdWithNullVersion(@Autowired VersionedThingWithAssignedIdRepository repository) {
 		try (Session session = driver.session(bookmarkCapture.createSessionConfig())) {
@@ -0,0 +1,257 @@
+/*
+ * Copyright 2011-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.integration.imperative;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import io.micrometer.observation.ObservationRegistry;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.driver.Driver;
+import org.neo4j.driver.Session;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.neo4j.core.DatabaseSelectionProvider;
+import org.springframework.data.neo4j.core.convert.Neo4jConversions;
+import org.springframework.data.neo4j.core.mapping.Constants;
+import org.springframework.data.neo4j.core.mapping.Neo4jMappingContext;
+import org.springframework.data.neo4j.core.observation.QueryObservationContext;
+import org.springframework.data.neo4j.core.schema.GeneratedValue;
+import org.springframework.data.neo4j.core.schema.Id;
+import org.springframework.data.neo4j.core.schema.Node;
+import org.springframework.data.neo4j.core.transaction.Neo4jBookmarkManager;
+import org.springframework.data.neo4j.core.transaction.Neo4jTransactionManager;
+import org.springframework.data.neo4j.repository.Neo4jRepository;
+import org.springframework.data.neo4j.repository.config.EnableNeo4jRepositories;
+import org.springframework.data.neo4j.test.BookmarkCapture;
+import org.springframework.data.neo4j.test.Neo4jExtension;
+import org.springframework.data.neo4j.test.Neo4jImperativeTestConfiguration;
+import org.springframework.data.neo4j.test.Neo4jIntegrationTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+
+/**
+ * Paged derived queries retrieve their content and the total number of elements with one statement. The additional
+ * column carrying the total must not affect the mapping of the content.
+ *
+ * @author agent
+ */
+@Neo4jIntegrationTest
+class PagedDerivedQueriesIT {
+
+	protected static Neo4jExtension.Neo4jConnectionSupport neo4jConnectionSupport;
+
+	private static final Pageable SECOND_PAGE_OF_TWO = PageRequest.of(1, 2, Sort.by("name"));
+
+	private final Driver driver;
+
+	private final BookmarkCapture bookmarkCapture;
+
+	private final ExecutedStatements executedStatements;
+
+	@Autowired
+	PagedDerivedQueriesIT(Driver driver, BookmarkCapture bookmarkCapture, ExecutedStatements executedStatements) {
+
+		this.driver = driver;
+		this.bookmarkCapture = bookmarkCapture;
+		this.executedStatements = executedStatements;
+	}
+
+	@BeforeEach
+	void setupData() {
+
+		try (Session session = driver.session(bookmarkCapture.createSessionConfig())) {
+			session.run("MATCH (n) DETACH DELETE n").consume();
+			session.run("""
+					UNWIND [['A', 10], ['B', 20], ['C', 30], ['D', 40], ['E', 50], ['F', 60], ['G', 70]] AS person
+					CREATE (:Person {name: person[0], age: person[1]})
+					""").consume();
+			bookmarkCapture.seedWith(session.lastBookmarks());
+		}
+		executedStatements.clear();
+	}
+
+	@Test
+	void shouldRetrieveTheTotalTogetherWithThePage(@Autowired PersonRepository repository) {
+
+		Page<Person> page = repository.findAllByAgeGreaterThan(20, SECOND_PAGE_OF_TWO);
+
+		assertThat(page.getContent()).extracting(person -> person.name).containsExactly("E", "F");
+		assertThat(page.getContent()).extracting(person -> person.age).containsExactly(50, 60);
+		assertThat(page.getTotalElements()).isEqualTo(5L);
+		assertThat(page.getTotalPages()).isEqualTo(3);
+		assertThat(executedStatements.get()).singleElement().satisfies(statement -> assertThat(statement)
+				.startsWith("CALL {")
+				.contains(Constants.NAME_OF_TOTAL_COUNT));
+	}
+
+	@Test
+	void shouldMapInterfaceProjectionsOfPagesWithTheirTotal(@Autowired PersonRepository repository) {
+
+		Page<NameOnly> page = repository.findAllByAgeLessThan(70, SECOND_PAGE_OF_TWO);
+
+		assertThat(page.getContent()).extracting(NameOnly::getName).containsExactly("C", "D");
+		assertThat(page.getTotalElements()).isEqualTo(6L);
+		assertThat(executedStatements.get()).singleElement().satisfies(statement -> assertThat(statement)
+				.contains(Constants.NAME_OF_TOTAL_COUNT));
+	}
+
+	@Test
+	void shouldMapDtoProjectionsOfPagesWithTheirTotal(@Autowired PersonRepository repository) {
+
+		Page<PersonSummary> page = repository.findAllByAgeBetween(10, 60, SECOND_PAGE_OF_TWO);
+
+		assertThat(page.getContent()).containsExactly(new PersonSummary("C", 30), new PersonSummary("D", 40));
+		assertThat(page.getTotalElements()).isEqualTo(6L);
+		assertThat(executedStatements.get()).singleElement().satisfies(statement -> assertThat(statement)
+				.contains(Constants.NAME_OF_TOTAL_COUNT));
+	}
+
+	@Test
+	void shouldFallBackToACountQueryForEmptyPages(@Autowired PersonRepository repository) {
+
+		Page<Person> page = repository.findAllByAgeGreaterThan(20, PageRequest.of(5, 2, Sort.by("name")));
+
+		assertThat(page.getContent()).isEmpty();
+		assertThat(page.getTotalElements()).isEqualTo(5L);
+		assertThat(executedStatements.get()).hasSize(2);
+	}
+
+	@Test
+	void shouldNotAddTheTotalToScalarResults(@Autowired PersonRepository repository) {
+
+		assertThat(repository.countByAgeGreaterThan(20)).isEqualTo(5L);
+		assertThat(repository.existsByName("A")).isTrue();
+		assertThat(executedStatements.get()).hasSize(2).noneMatch(statement -> statement.contains(Constants.NAME_OF_TOTAL_COUNT));
+	}
+
+	interface PersonRepository extends Neo4jRepository<Person, Long> {
+
+		Page<Person> findAllByAgeGreaterThan(int age, Pageable pageable);
+
+		Page<NameOnly> findAllByAgeLessThan(int age, Pageable pageable);
+
+		Page<PersonSummary> findAllByAgeBetween(int from, int to, Pageable pageable);
+
+		long countByAgeGreaterThan(int age);
+
+		boolean existsByName(String name);
+	}
+
+	interface NameOnly {
+
+		String getName();
+	}
+
+	record PersonSummary(String name, int age) {
+	}
+
+	@Node
+	static class Person {
+
+		@Id
+		@GeneratedValue
+		Long id;
+
+		String name;
+
+		int age;
+	}
+
+	static class ExecutedStatements implements ObservationHandler<QueryObservationContext> {
+
+		private final List<String> statements = new CopyOnWriteArrayList<>();
+
+		@Override
+		public void onStop(QueryObservationContext context) {
+			statements.add(context.getCypher());
+		}
+
+		@Override
+		public boolean supportsContext(Observation.Context context) {
+			return context instanceof QueryObservationContext;
+		}
+
+		List<String> get() {
+			return List.copyOf(statements);
+		}
+
+		void clear() {
+			statements.clear();
+		}
+	}
+
+	@Configuration
+	@EnableTransactionManagement
+	@EnableNeo4jRepositories(considerNestedRepositories = true)
+	static class Config extends Neo4jImperativeTestConfiguration {
+
+		@Bean
+		public Driver driver() {
+			return neo4jConnectionSupport.getDriver();
+		}
+
+		@Bean
+		public ExecutedStatements executedStatements() {
+			return new ExecutedStatements();
+		}
+
+		@Bean
+		public ObservationRegistry observationRegistry(ExecutedStatements executedStatements) {
+
+			ObservationRegistry observationRegistry = ObservationRegistry.create();
+			observationRegistry.observationConfig().observationHandler(executedStatements);
+			return observationRegistry;
+		}
+
+		@Override
+		public Neo4jMappingContext neo4jMappingContext(Neo4jConversions neo4JConversions) throws ClassNotFoundException {
+
+			Neo4jMappingContext ctx = new Neo4jMappingContext(neo4JConversions);
+			ctx.setInitialEntitySet(Set.of(Person.class));
+			return ctx;
+		}
+
+		@Bean
+		public BookmarkCapture bookmarkCapture() {
+			return new BookmarkCapture();
+		}
+
+		@Override
+		public PlatformTransactionManager transactionManager(Driver driver, DatabaseSelectionProvider databaseNameProvider) {
+
+			BookmarkCapture bookmarkCapture = bookmarkCapture();
+			return new Neo4jTransactionManager(driver, databaseNameProvider, Neo4jBookmarkManager.create(bookmarkCapture));
+		}
+
+		@Override
+		public boolean isCypher5Compatible() {
+			return neo4jConnectionSupport.isCypher5SyntaxCompatible();
+		}
+	}
+}
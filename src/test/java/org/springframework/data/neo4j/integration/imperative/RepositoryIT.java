@@ -3808,7 +3808,19 @@ class RepositoryIT {
 
 		@Test
 		void streamMethodsShouldWork(@Autowired PersonRepository repository) {
-			assertThat(repository.findAllByNameLike(TEST_PERSON1_NAME)).hasSize(2);
+			try (Stream<PersonWithAllConstructor> people = repository.findAllByNameLike(TEST_PERSON1_NAME)) {
+				assertThat(people).hasSize(2);
+			}
+		}
+
+		@Test
+		void streamMethodsShouldWorkInsideTransactions(@Autowired PersonRepository repository, @Autowired PlatformTransactionManager transactionManager) {
+			List<String> names = new TransactionTemplate(transactionManager).execute(tx -> {
+				try (Stream<PersonWithAllConstructor> people = repository.findAllByNameLike(TEST_PERSON1_NAME)) {
+					return people.map(PersonWithAllConstructor::getName).toList();
+				}
+			});
+			assertThat(names).hasSize(2);
 		}
 	}
 
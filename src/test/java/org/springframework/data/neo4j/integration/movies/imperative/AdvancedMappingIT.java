@@ -53,6 +53,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -152,6 +153,9 @@ class AdvancedMappingIT {
 		@Query("MATCH p=(movie:Movie)<-[r:ACTED_IN]-(n:Person) WHERE movie.title=$title RETURN collect(p)")
 		List<Movie> customPathQueryMoviesFind(@Param("title") String title);
 
+		@Query("MATCH p=(movie:Movie)<-[r:ACTED_IN]-(n:Person) WHERE movie.title=$title RETURN collect(p)")
+		Stream<Movie> customPathQueryMoviesStream(@Param("title") String title);
+
 		MovieWithSequelProjection findProjectionByTitleAndDescription(String title, String description);
 
 		MovieWithSequelEntity findByTitleAndDescription(String title, String description);
@@ -452,6 +456,16 @@ class AdvancedMappingIT {
 		assertThat(movies.get(0).getActors()).hasSize(5);
 	}
 
+	@Test
+	void customPathMappingStreamResultsInHydratedEntities(@Autowired MovieRepository movieRepository) {
+		try (Stream<Movie> movies = movieRepository.customPathQueryMoviesStream("The Matrix Revolutions")) {
+			List<Movie> result = movies.toList();
+
+			assertThat(result).hasSize(1);
+			assertThat(result.get(0).getActors()).hasSize(5);
+		}
+	}
+
 	@Test // GH-2320
 	void projectDirectCycleProjectionReference(@Autowired MovieRepository movieRepository) {
 		MovieWithSequelProjection movie = movieRepository.findProjectionByTitleAndDescription("The Matrix",
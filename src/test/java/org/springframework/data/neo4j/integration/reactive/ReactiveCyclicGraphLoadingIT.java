@@ -0,0 +1,236 @@
+/*
+ * Copyright 2011-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.integration.reactive;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import reactor.test.StepVerifier;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.neo4j.driver.Driver;
+import org.neo4j.driver.Session;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.neo4j.core.ReactiveDatabaseSelectionProvider;
+import org.springframework.data.neo4j.core.ReactiveNeo4jClient;
+import org.springframework.data.neo4j.core.ReactiveNeo4jTemplate;
+import org.springframework.data.neo4j.core.convert.Neo4jConversions;
+import org.springframework.data.neo4j.core.mapping.Neo4jMappingContext;
+import org.springframework.data.neo4j.core.schema.GeneratedValue;
+import org.springframework.data.neo4j.core.schema.Id;
+import org.springframework.data.neo4j.core.schema.Node;
+import org.springframework.data.neo4j.core.schema.Relationship;
+import org.springframework.data.neo4j.core.transaction.Neo4jBookmarkManager;
+import org.springframework.data.neo4j.core.transaction.ReactiveNeo4jTransactionManager;
+import org.springframework.data.neo4j.test.BookmarkCapture;
+import org.springframework.data.neo4j.test.Neo4jExtension;
+import org.springframework.data.neo4j.test.Neo4jIntegrationTest;
+import org.springframework.data.neo4j.test.Neo4jReactiveTestConfiguration;
+import org.springframework.transaction.ReactiveTransactionManager;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+
+/**
+ * Domain models containing cycles loaded with a single subgraph query must map the same way as when loaded level by
+ * level, on the reactive side, too.
+ *
+ * @author agent
+ */
+@Neo4jIntegrationTest
+@Tag(Neo4jExtension.NEEDS_REACTIVE_SUPPORT)
+class ReactiveCyclicGraphLoadingIT {
+
+	protected static Neo4jExtension.Neo4jConnectionSupport neo4jConnectionSupport;
+
+	private final Driver driver;
+
+	private final BookmarkCapture bookmarkCapture;
+
+	private final ReactiveNeo4jTemplate levelByLevel;
+
+	private final ReactiveNeo4jTemplate subgraph;
+
+	private long idOfB3;
+
+	@Autowired
+	ReactiveCyclicGraphLoadingIT(Driver driver, BookmarkCapture bookmarkCapture, ReactiveNeo4jClient neo4jClient,
+			Neo4jMappingContext mappingContext, ReactiveTransactionManager transactionManager) {
+
+		this.driver = driver;
+		this.bookmarkCapture = bookmarkCapture;
+		this.levelByLevel = new ReactiveNeo4jTemplate(neo4jClient, mappingContext, transactionManager);
+		this.subgraph = new ReactiveNeo4jTemplate(neo4jClient, mappingContext, transactionManager);
+		this.subgraph.setCyclicGraphLoadingMaxDepth(10);
+	}
+
+	@BeforeEach
+	void setupData() {
+
+		try (Session session = driver.session(bookmarkCapture.createSessionConfig())) {
+			session.run("MATCH (n) DETACH DELETE n").consume();
+			session.run("""
+					UNWIND ['a', 'b'] AS ring
+					CREATE (m1:RingMember {name: ring + '1'}), (m2:RingMember {name: ring + '2'}),
+					       (m3:RingMember {name: ring + '3'}), (m4:RingMember {name: ring + '4'})
+					CREATE (m1)-[:NEXT]->(m2), (m2)-[:NEXT]->(m3), (m3)-[:NEXT]->(m4), (m4)-[:NEXT]->(m1)
+					""").consume();
+			session.run("""
+					UNWIND range(0, 9) AS i
+					CREATE (:Peer {name: 'p' + i})
+					WITH count(*) AS ignored
+					MATCH (p1:Peer), (p2:Peer) WHERE p1.name < p2.name
+					CREATE (p1)-[:KNOWS]->(p2)
+					""").consume();
+			idOfB3 = session.run("MATCH (n:RingMember {name: 'b3'}) RETURN id(n)").single().get(0).asLong();
+			bookmarkCapture.seedWith(session.lastBookmarks());
+		}
+	}
+
+	@Test
+	void shouldLoadOnlyTheSubgraphReachableFromTheRootNodes() {
+
+		subgraph.findById(idOfB3, RingMember.class)
+				.as(StepVerifier::create)
+				.assertNext(member -> {
+					assertThat(walkRing(member)).containsExactly("b3", "b4", "b1", "b2");
+					assertThat(member.next.next.next.next).isSameAs(member);
+				})
+				.verifyComplete();
+	}
+
+	@Test
+	void shouldMapTheSameAsLevelByLevelLoading() {
+
+		Comparator<RingMember> byName = Comparator.comparing(m -> m.name);
+		List<RingMember> expected = new ArrayList<>(levelByLevel.findAll(RingMember.class).collectList().block());
+		List<RingMember> actual = new ArrayList<>(subgraph.findAll(RingMember.class).collectList().block());
+		expected.sort(byName);
+		actual.sort(byName);
+
+		assertThat(actual).hasSize(8).hasSameSizeAs(expected);
+		for (int i = 0; i < expected.size(); ++i) {
+			assertThat(actual.get(i).id).isEqualTo(expected.get(i).id);
+			assertThat(walkRing(actual.get(i))).isEqualTo(walkRing(expected.get(i)));
+		}
+	}
+
+	@Test
+	void shouldLoadDenselyConnectedGraphs() {
+
+		subgraph.findAll(Peer.class)
+				.collectList()
+				.as(StepVerifier::create)
+				.assertNext(peers -> {
+					assertThat(peers).hasSize(10);
+					List<String> names = peers.stream().map(peer -> peer.name).toList();
+					for (Peer peer : peers) {
+						assertThat(peer.knows)
+								.extracting(known -> known.name)
+								.containsExactlyInAnyOrderElementsOf(names.stream().filter(name -> name.compareTo(peer.name) > 0).toList());
+					}
+				})
+				.verifyComplete();
+	}
+
+	private static List<String> walkRing(RingMember start) {
+
+		List<String> names = new ArrayList<>();
+		Set<RingMember> visited = new HashSet<>();
+		RingMember current = start;
+		while (current != null && visited.add(current)) {
+			names.add(current.name);
+			current = current.next;
+		}
+		return names;
+	}
+
+	@Node
+	static class RingMember {
+
+		@Id
+		@GeneratedValue
+		Long id;
+
+		final String name;
+
+		@Relationship("NEXT")
+		RingMember next;
+
+		RingMember(String name) {
+			this.name = name;
+		}
+	}
+
+	@Node
+	static class Peer {
+
+		@Id
+		@GeneratedValue
+		Long id;
+
+		final String name;
+
+		@Relationship("KNOWS")
+		List<Peer> knows = new ArrayList<>();
+
+		Peer(String name) {
+			this.name = name;
+		}
+	}
+
+	@Configuration
+	@EnableTransactionManagement
+	static class Config extends Neo4jReactiveTestConfiguration {
+
+		@Bean
+		public Driver driver() {
+			return neo4jConnectionSupport.getDriver();
+		}
+
+		@Override
+		public Neo4jMappingContext neo4jMappingContext(Neo4jConversions neo4JConversions) throws ClassNotFoundException {
+
+			Neo4jMappingContext ctx = new Neo4jMappingContext(neo4JConversions);
+			ctx.setInitialEntitySet(Set.of(RingMember.class, Peer.class));
+			return ctx;
+		}
+
+		@Bean
+		public BookmarkCapture bookmarkCapture() {
+			return new BookmarkCapture();
+		}
+
+		@Override
+		public ReactiveTransactionManager reactiveTransactionManager(Driver driver, ReactiveDatabaseSelectionProvider databaseSelectionProvider) {
+
+			BookmarkCapture bookmarkCapture = bookmarkCapture();
+			return new ReactiveNeo4jTransactionManager(driver, databaseSelectionProvider, Neo4jBookmarkManager.createReactive(bookmarkCapture));
+		}
+
+		@Override
+		public boolean isCypher5Compatible() {
+			return neo4jConnectionSupport.isCypher5SyntaxCompatible();
+		}
+	}
+}
@@ -225,6 +225,37 @@ class Neo4jSpelSupportTest {
 				"MATCH (user:User) WHERE user.name = 'x0' OR user.name = 'x1' OR user.name = 'x2' OR user.name = 'x3' OR user.name = 'x4' OR user.name = 'x5' OR user.name = 'x6' OR user.name = 'x7' OR user.name = 'x8' OR user.name = 'x9' OR user.name = 'x10' OR user.name = 'x11' OR user.name = 'x12' OR user.name = 'x13' OR user.name = 'x14' OR user.name = 'x15' OR user.name = 'x16' OR user.name = 'x17' OR user.name = 'x18' OR user.name = 'x19' OR user.name = 'x20'");
 	}
 
+	@Test
+	void compiledTemplatesShouldRenderLiteralsInOnePassAndCacheVariants() {
+
+		CypherTemplate cypherTemplate = CypherTemplate.compile(StringBasedNeo4jQuery.SPEL_QUERY_CONTEXT
+				.parse("MATCH (n:#{literal(#label)}) WHERE n.name = :#{#name} RETURN n :#{orderBy(#sort)}"));
+		assertThat(cypherTemplate.getQueryString())
+				.isEqualTo("MATCH (n:$__SpEL__0) WHERE n.name = $__SpEL__1 RETURN n $__SpEL__2");
+
+		Map<String, Object> parameters = new HashMap<>();
+		parameters.put("__SpEL__0", Neo4jSpelSupport.literal("Person"));
+		parameters.put("__SpEL__1", "Foo");
+		parameters.put("__SpEL__2", Neo4jSpelSupport.orderBy(Sort.by("name")));
+
+		CypherTemplate.Rendered rendered = cypherTemplate.render(parameters);
+		assertThat(rendered.query()).isEqualTo("MATCH (n:Person) WHERE n.name = $__SpEL__1 RETURN n ORDER BY name ASC");
+		assertThat(rendered.hasLiteralReplacementForSort()).isTrue();
+		assertThat(parameters).containsOnlyKeys("__SpEL__1");
+		assertThat(cypherTemplate.size()).isOne();
+
+		parameters.put("__SpEL__0", Neo4jSpelSupport.literal("Person"));
+		parameters.put("__SpEL__2", Neo4jSpelSupport.orderBy(Sort.by("name")));
+		assertThat(cypherTemplate.render(parameters).query()).isEqualTo(rendered.query());
+		assertThat(cypherTemplate.size()).isOne();
+
+		parameters.put("__SpEL__0", Neo4jSpelSupport.literal("Person"));
+		parameters.put("__SpEL__2", Neo4jSpelSupport.orderBy(null));
+		rendered = cypherTemplate.render(parameters);
+		assertThat(rendered.query()).isEqualTo("MATCH (n:Person) WHERE n.name = $__SpEL__1 RETURN n ");
+		assertThat(cypherTemplate.size()).isEqualTo(2);
+	}
+
 	@Test // GH-2279
 	void shouldQuoteParameterExpressionsCorrectly() {
 
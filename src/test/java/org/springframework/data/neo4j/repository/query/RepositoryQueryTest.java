@@ -46,6 +46,7 @@ import org.mockito.Answers;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.neo4j.cypherdsl.core.renderer.Configuration;
+import org.neo4j.cypherdsl.core.renderer.Renderer;
 import org.neo4j.driver.Values;
 import org.neo4j.driver.types.Point;
 import org.springframework.context.ConfigurableApplicationContext;
@@ -60,6 +61,7 @@ import org.springframework.data.domain.Sort;
 import org.springframework.data.mapping.MappingException;
 import org.springframework.data.neo4j.core.Neo4jOperations;
 import org.springframework.data.neo4j.core.PreparedQuery;
+import org.springframework.data.neo4j.core.mapping.Constants;
 import org.springframework.data.neo4j.core.mapping.Neo4jMappingContext;
 import org.springframework.data.neo4j.core.schema.GeneratedValue;
 import org.springframework.data.neo4j.repository.support.Neo4jEvaluationContextExtension;
@@ -77,6 +79,7 @@ import org.springframework.data.repository.query.QueryMethodEvaluationContextPro
 import org.springframework.data.repository.query.RepositoryQuery;
 import org.springframework.data.repository.query.ReturnedType;
 import org.springframework.data.repository.query.SpelQueryContext;
+import org.springframework.data.repository.query.parser.PartTree;
 import org.springframework.util.ReflectionUtils;
 
 /**
@@ -525,6 +528,148 @@ final class RepositoryQueryTest {
 		}
 	}
 
+	@Nested
+	class DerivedQueryPlansTest {
+
+		private final Neo4jMappingContext mappingContext = new Neo4jMappingContext();
+
+		private DerivedQueryPlans plansFor(Neo4jQueryMethod queryMethod) {
+
+			mappingContext.getPersistentEntity(TestEntity.class);
+			return new DerivedQueryPlans(mappingContext, queryMethod, TestEntity.class,
+					new PartTree(queryMethod.getName(), TestEntity.class), Renderer.getDefaultRenderer()::render,
+					(value, conversionOverride) -> value);
+		}
+
+		private QueryFragmentsAndParameters createQuery(DerivedQueryPlans plans, Neo4jQueryMethod queryMethod, Object... parameters) {
+
+			return plans.createQuery(TestEntity.class, Neo4jQueryType.DEFAULT,
+					new Neo4jParameterAccessor((Neo4jQueryMethod.Neo4jParameters) queryMethod.getParameters(), parameters),
+					Collections.emptySet(), UnaryOperator.identity());
+		}
+
+		@Test
+		void shouldReusePlansForQueriesOfTheSameShape() {
+
+			Neo4jQueryMethod queryMethod = neo4jQueryMethod("findAllByIdGreaterThan", long.class);
+			DerivedQueryPlans plans = plansFor(queryMethod);
+
+			QueryFragmentsAndParameters first = createQuery(plans, queryMethod, 1L);
+			QueryFragmentsAndParameters second = createQuery(plans, queryMethod, 2L);
+
+			assertThat(first.getCypherQuery()).isNotNull().isSameAs(second.getCypherQuery());
+			assertThat(first.getParameters()).containsValue(1L);
+			assertThat(second.getParameters()).containsValue(2L);
+			assertThat(plans.size()).isOne();
+		}
+
+		@Test
+		void shouldCreateNewPlansForDifferentSorting() {
+
+			Neo4jQueryMethod queryMethod = neo4jQueryMethod("findAllByName", String.class, Sort.class);
+			DerivedQueryPlans plans = plansFor(queryMethod);
+
+			QueryFragmentsAndParameters byName = createQuery(plans, queryMethod, "a", Sort.by("name"));
+			QueryFragmentsAndParameters byId = createQuery(plans, queryMethod, "a", Sort.by("id"));
+			createQuery(plans, queryMethod, "b", Sort.by("id"));
+
+			assertThat(byName.getCypherQuery()).isNotEqualTo(byId.getCypherQuery());
+			assertThat(plans.size()).isEqualTo(2);
+		}
+
+		@Test
+		void shouldBindSkipAndLimitOfPages() {
+
+			Neo4jQueryMethod queryMethod = neo4jQueryMethod("findPageByName", String.class, Pageable.class);
+			DerivedQueryPlans plans = plansFor(queryMethod);
+
+			QueryFragmentsAndParameters first = createQuery(plans, queryMethod, "a", PageRequest.of(0, 10));
+			QueryFragmentsAndParameters second = createQuery(plans, queryMethod, "a", PageRequest.of(3, 20));
+
+			assertThat(first.getCypherQuery())
+					.isEqualTo(second.getCypherQuery())
+					.endsWith("SKIP $" + Constants.NAME_OF_SKIP + " LIMIT $" + Constants.NAME_OF_LIMIT);
+			assertThat(first.getParameters())
+					.containsEntry(Constants.NAME_OF_SKIP, 0L)
+					.containsEntry(Constants.NAME_OF_LIMIT, 10);
+			assertThat(second.getParameters())
+					.containsEntry(Constants.NAME_OF_SKIP, 60L)
+					.containsEntry(Constants.NAME_OF_LIMIT, 20);
+			assertThat(plans.size()).isEqualTo(1);
+		}
+
+		@Test
+		void pagesShouldBeRetrievedTogetherWithTheirTotal() {
+
+			Neo4jQueryMethod queryMethod = neo4jQueryMethod("findPageByName", String.class, Pageable.class);
+			DerivedQueryPlans plans = plansFor(queryMethod);
+
+			QueryFragmentsAndParameters page = createQuery(plans, queryMethod, "a", PageRequest.of(1, 10));
+			assertThat(page.getCypherQuery())
+					.startsWith("CALL {")
+					.contains("count(*) AS " + Constants.NAME_OF_TOTAL_COUNT)
+					.contains(", " + Constants.NAME_OF_TOTAL_COUNT);
+
+			QueryFragmentsAndParameters count = plans.createQuery(Long.class, Neo4jQueryType.COUNT,
+					new Neo4jParameterAccessor((Neo4jQueryMethod.Neo4jParameters) queryMethod.getParameters(), new Object[] {"a", PageRequest.of(1, 10)}),
+					Collections.emptySet(), UnaryOperator.identity());
+			assertThat(count.getCypherQuery()).doesNotContain(Constants.NAME_OF_TOTAL_COUNT);
+		}
+
+		@Test
+		void keysetPagesShouldSeekInsteadOfSkipping() {
+
+			Neo4jQueryMethod queryMethod = neo4jQueryMethod("findPageByName", String.class, Pageable.class);
+			DerivedQueryPlans plans = plansFor(queryMethod);
+
+			KeysetPageRequest first = KeysetPageRequest.ofSize(10, Sort.by("name"));
+			assertThat(first.isSeeking()).isFalse();
+			assertThat(createQuery(plans, queryMethod, "a", first).getQueryFragments().getSkip()).isNull();
+
+			KeysetPageRequest second = first
+					.withKeys(Map.of("name", "a", Constants.NAME_OF_ADDITIONAL_SORT, 1L), Map.of("name", "b", Constants.NAME_OF_ADDITIONAL_SORT, 10L))
+					.next();
+			assertThat(second.isSeeking()).isTrue();
+			assertThat(second.getOffset()).isEqualTo(10L);
+			QueryFragments secondPage = createQuery(plans, queryMethod, "a", second).getQueryFragments();
+			assertThat(secondPage.getSkip()).isNull();
+			assertThat(secondPage.isRequiresReverseSort()).isFalse();
+
+			KeysetPageRequest previous = second
+					.withKeys(Map.of("name", "c", Constants.NAME_OF_ADDITIONAL_SORT, 11L), Map.of("name", "d", Constants.NAME_OF_ADDITIONAL_SORT, 20L))
+					.previous();
+			assertThat(previous.getPageNumber()).isZero();
+			QueryFragments previousPage = createQuery(plans, queryMethod, "a", previous).getQueryFragments();
+			assertThat(previousPage.isRequiresReverseSort()).isTrue();
+			// The first element of the current page must not be part of the previous one
+			assertThat(Renderer.getDefaultRenderer().render(previousPage.toStatement()))
+					.contains("testEntity.name < $")
+					.contains("id(testEntity) < $")
+					.doesNotContain("<=")
+					.doesNotContain(">=");
+
+			// Arbitrary pages cannot seek
+			QueryFragments arbitraryPage = createQuery(plans, queryMethod, "a", second.withPage(3)).getQueryFragments();
+			assertThat(arbitraryPage.getSkip()).isEqualTo(30L);
+			assertThat(plans.size()).isZero();
+		}
+
+		@Test
+		void deletesShouldBeDoneInTransactionsIfConfigured() {
+
+			Neo4jQueryMethod queryMethod = neo4jQueryMethod("deleteAllByName", String.class);
+			assertThat(queryMethod.getRowsPerTransaction()).isEqualTo(500);
+
+			QueryFragmentsAndParameters delete = plansFor(queryMethod).createQuery(Long.class, Neo4jQueryType.DELETE,
+					new Neo4jParameterAccessor((Neo4jQueryMethod.Neo4jParameters) queryMethod.getParameters(), new Object[] {"a"}),
+					Collections.emptySet(), UnaryOperator.identity());
+			assertThat(delete.getQueryFragments().getRowsPerTransaction()).isEqualTo(500);
+			assertThat(delete.getCypherQuery())
+					.contains("IN TRANSACTIONS OF 500 ROWS")
+					.endsWith("RETURN count(*)");
+		}
+	}
+
 	private static Method queryMethod(String name, Class<?>... parameters) {
 
 		return ReflectionUtils.findMethod(TestRepository.class, name, parameters);
@@ -601,6 +746,13 @@ final class RepositoryQueryTest {
 
 		Mono<Page<TestEntity>> findAllByName(String name, Pageable pageable);
 
+		List<TestEntity> findAllByName(String name, Sort sort);
+
+		Page<TestEntity> findPageByName(String name, Pageable pageable);
+
+		@DeleteInTransactions(rowsPerTransaction = 500)
+		long deleteAllByName(String name);
+
 		Mono<Slice<TestEntity>> findAllByNameStartingWith(String name, Pageable pageable);
 
 		List<TestEntityInterfaceProjection> findAllInterfaceProjectionsBy();